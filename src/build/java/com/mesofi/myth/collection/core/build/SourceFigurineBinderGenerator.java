@@ -0,0 +1,221 @@
+package com.mesofi.myth.collection.core.build;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.JavacTask;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates the accessors of SourceFigurineBinder from the {@code @CsvBindByName} annotations of
+ * SourceFigurine. The build runs it as a single-file program in the generate-sources phase, before
+ * the model is compiled, so the annotations are read from the syntax tree of the source file rather
+ * than by reflection. The generated class lists the columns in declaration order and binds them
+ * with a switch of direct setter and getter calls:
+ *
+ * <pre>
+ * java SourceFigurineBinderGenerator.java &lt;SourceFigurine.java&gt; &lt;output directory&gt;
+ * </pre>
+ *
+ * <p>The generation fails if an annotation argument is not a literal or a bound field is not a
+ * String, so the binder never silently differs from the annotations.
+ */
+public final class SourceFigurineBinderGenerator {
+
+  private static final String PACKAGE = "com.mesofi.myth.collection.core.csv";
+  private static final String CLASS = "SourceFigurineAccessors";
+  private static final String ANNOTATION = "CsvBindByName";
+
+  private SourceFigurineBinderGenerator() {}
+
+  /**
+   * Generates the accessors.
+   *
+   * @param args the path of SourceFigurine.java and the root directory of the generated sources
+   * @throws IOException if the source cannot be read or the generated class cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: <SourceFigurine.java> <output directory>");
+    }
+    Path source = Path.of(args[0]);
+    Path target = Path.of(args[1], PACKAGE.replace('.', '/'), CLASS + ".java");
+    String generated = generate(columns(source));
+    if (Files.exists(target) && Files.readString(target).equals(generated)) {
+      return;
+    }
+    Files.createDirectories(target.getParent());
+    Files.writeString(target, generated, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Parses the source file and returns its bound fields in declaration order.
+   *
+   * @param source the path of SourceFigurine.java
+   * @return the bound fields
+   * @throws IOException if the source cannot be read
+   */
+  private static List<BoundField> columns(Path source) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    List<BoundField> columns = new ArrayList<>();
+    try (StandardJavaFileManager files =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      JavacTask task =
+          (JavacTask)
+              compiler.getTask(
+                  null, files, null, List.of("-proc:none"), null, files.getJavaFileObjects(source));
+      for (CompilationUnitTree unit : task.parse()) {
+        for (Tree type : unit.getTypeDecls()) {
+          if (type instanceof ClassTree declaration) {
+            for (Tree member : declaration.getMembers()) {
+              if (member instanceof VariableTree field) {
+                BoundField column = toColumn(field);
+                if (Objects.nonNull(column)) {
+                  columns.add(column);
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+    if (columns.isEmpty()) {
+      throw new IllegalStateException("No @" + ANNOTATION + " field found in " + source);
+    }
+    return columns;
+  }
+
+  /**
+   * Returns the column bound to a field, or null if the field is not annotated.
+   *
+   * @param field the field declaration
+   * @return the bound field, or null
+   */
+  private static BoundField toColumn(VariableTree field) {
+    for (AnnotationTree annotation : field.getModifiers().getAnnotations()) {
+      if (!annotation.getAnnotationType().toString().endsWith(ANNOTATION)) {
+        continue;
+      }
+      String name = field.getName().toString();
+      if (!field.getType().toString().equals("String")) {
+        throw new IllegalStateException("Bound field " + name + " is not a String");
+      }
+      String column = null;
+      boolean required = false;
+      for (ExpressionTree argument : annotation.getArguments()) {
+        if (!(argument instanceof AssignmentTree assignment)
+            || !(assignment.getVariable() instanceof IdentifierTree key)
+            || !(assignment.getExpression() instanceof LiteralTree value)) {
+          throw new IllegalStateException("Unsupported argument " + argument + " on " + name);
+        }
+        switch (key.getName().toString()) {
+          case "column" -> column = (String) value.getValue();
+          case "required" -> required = (Boolean) value.getValue();
+          default -> throw new IllegalStateException(
+              "Unsupported argument " + argument + " on " + name);
+        }
+      }
+      return new BoundField(Objects.isNull(column) ? name : column, name, required);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the source of the accessors class.
+   *
+   * @param columns the bound fields
+   * @return the Java source
+   */
+  private static String generate(List<BoundField> columns) {
+    StringBuilder out = new StringBuilder();
+    out.append("package ")
+        .append(PACKAGE)
+        .append(";\n\n")
+        .append("import com.mesofi.myth.collection.core.model.SourceFigurine;\n\n")
+        .append(
+            "/** Generated by SourceFigurineBinderGenerator from SourceFigurine; do not edit. */\n")
+        .append("final class ")
+        .append(CLASS)
+        .append(" {\n\n")
+        .append("  /** The headers of the columns, in declaration order. */\n")
+        .append("  static final String[] names = {\n");
+    for (BoundField column : columns) {
+      out.append("    ").append(quote(column.column)).append(",\n");
+    }
+    out.append(
+        "  };\n\n  /** The names of the bound fields. */\n  static final String[] fields = {\n");
+    for (BoundField column : columns) {
+      out.append("    ").append(quote(column.field)).append(",\n");
+    }
+    out.append("  };\n\n  /** Whether each column must be present and non-blank. */\n")
+        .append("  static final boolean[] required = {\n");
+    for (BoundField column : columns) {
+      out.append("    ").append(column.required).append(",\n");
+    }
+    out.append("  };\n\n  private ")
+        .append(CLASS)
+        .append("() {}\n\n")
+        .append("  static void set(int column, SourceFigurine figurine, String value) {\n")
+        .append("    switch (column) {\n");
+    for (int i = 0; i < columns.size(); i++) {
+      out.append("      case ")
+          .append(i)
+          .append(" -> figurine.set")
+          .append(capitalize(columns.get(i).field))
+          .append("(value);\n");
+    }
+    out.append(
+            "      default -> throw new IllegalArgumentException(\"Unknown column \" + column);\n")
+        .append("    }\n  }\n\n")
+        .append("  static String get(int column, SourceFigurine figurine) {\n")
+        .append("    return switch (column) {\n");
+    for (int i = 0; i < columns.size(); i++) {
+      out.append("      case ")
+          .append(i)
+          .append(" -> figurine.get")
+          .append(capitalize(columns.get(i).field))
+          .append("();\n");
+    }
+    out.append(
+            "      default -> throw new IllegalArgumentException(\"Unknown column \" + column);\n")
+        .append("    };\n  }\n}\n");
+    return out.toString();
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String quote(String text) {
+    return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  /** A field bound to a column. */
+  private static final class BoundField {
+
+    private final String column;
+    private final String field;
+    private final boolean required;
+
+    BoundField(String column, String field, boolean required) {
+      this.column = column;
+      this.field = field;
+      this.required = required;
+    }
+  }
+}
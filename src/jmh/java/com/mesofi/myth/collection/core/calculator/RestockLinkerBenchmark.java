@@ -0,0 +1,104 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Restock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures linking one restock for every second figurine with RestockLinker and with a nested loop
+ * comparing every restock with every figurine, keeping the last figurine with the same base name
+ * released on or before the restock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestockLinkerBenchmark {
+
+  @Param({"2000", "10000"})
+  private int size;
+
+  private final RestockLinker linker = new RestockLinker();
+
+  private List<Figurine> figurines;
+  private List<Restock> restocks;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    Random random = new Random(42);
+    restocks = new ArrayList<>(size / 2);
+    for (int i = 0; i < size / 2; i++) {
+      Figurine figurine = figurines.get(random.nextInt(size));
+      Restock restock = new Restock();
+      restock.setBaseName(figurine.getBaseName());
+      LocalDate releaseDate = releaseDate(figurine);
+      if (Objects.nonNull(releaseDate)) {
+        Distribution distribution = new Distribution();
+        distribution.setReleaseDate(releaseDate.plusMonths(random.nextInt(36)));
+        restock.setDistributionJPY(distribution);
+      }
+      restocks.add(restock);
+    }
+  }
+
+  @Benchmark
+  public RestockLinker.Linkage hashJoin() {
+    return linker.link(figurines, restocks);
+  }
+
+  @Benchmark
+  public Map<Figurine, List<Restock>> nestedLoop() {
+    Map<Figurine, List<Restock>> linked = new IdentityHashMap<>();
+    for (Restock restock : restocks) {
+      LocalDate restockDate = releaseDate(restock.getDistributionJPY());
+      Figurine match = null;
+      for (Figurine figurine : figurines) {
+        LocalDate releaseDate = releaseDate(figurine);
+        if (figurine.getBaseName().equalsIgnoreCase(restock.getBaseName().trim())
+            && Objects.nonNull(restockDate)
+            && Objects.nonNull(releaseDate)
+            && !releaseDate.isAfter(restockDate)
+            && (Objects.isNull(match) || releaseDate.isAfter(releaseDate(match)))) {
+          match = figurine;
+        }
+      }
+      if (Objects.nonNull(match)) {
+        linked.computeIfAbsent(match, k -> new ArrayList<>()).add(restock);
+      }
+    }
+    return linked;
+  }
+
+  private static LocalDate releaseDate(Figurine figurine) {
+    return releaseDate(figurine.getDistributionJPY());
+  }
+
+  private static LocalDate releaseDate(Distribution distribution) {
+    return Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+  }
+}
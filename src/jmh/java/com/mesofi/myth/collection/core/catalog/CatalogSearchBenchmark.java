@@ -0,0 +1,70 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a name search for the ten best matches of "Shun V2", answered by the full-text index of
+ * a FigurineCatalog, and by a case-insensitive contains scan over the names and remarks of the same
+ * figurines, which finds neither misspellings nor the words in another order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogSearchBenchmark {
+
+  @Param({"10000", "100000"})
+  private int size;
+
+  @Param({"Shun V2", "Andromdea Shun"})
+  private String query;
+
+  private List<Figurine> figurines;
+  private FigurineCatalog catalog;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    catalog = new FigurineCatalog(figurines);
+  }
+
+  @Benchmark
+  public List<SearchHit> textIndex() {
+    return catalog.search(query, CatalogFilter.ALL, 10);
+  }
+
+  @Benchmark
+  public List<Figurine> containsScan() {
+    String needle = query.toLowerCase(Locale.ROOT);
+    return figurines.stream()
+        .filter(
+            figurine ->
+                contains(figurine.getBaseName(), needle) || contains(figurine.getRemarks(), needle))
+        .limit(10)
+        .toList();
+  }
+
+  private static boolean contains(String text, String needle) {
+    return Objects.nonNull(text) && text.toLowerCase(Locale.ROOT).contains(needle);
+  }
+}
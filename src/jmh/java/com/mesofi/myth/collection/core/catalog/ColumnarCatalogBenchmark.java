@@ -0,0 +1,72 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a reporting aggregation, JPY base price statistics per category, computed by walking the
+ * Figurine and Distribution objects and by scanning a ColumnarCatalog snapshot of the same
+ * figurines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarCatalogBenchmark {
+
+  @Param({"100000", "1000000"})
+  private int size;
+
+  private List<Figurine> figurines;
+  private ColumnarCatalog columnar;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    columnar = new ColumnarCatalog(figurines);
+  }
+
+  @Benchmark
+  public Map<Category, BigDecimal> objectGraph() {
+    Map<Category, BigDecimal> totals = new EnumMap<>(Category.class);
+    for (Figurine figurine : figurines) {
+      Distribution distribution = figurine.getDistributionJPY();
+      if (Objects.nonNull(figurine.getCategory())
+          && Objects.nonNull(distribution)
+          && Objects.nonNull(distribution.getBasePrice())) {
+        totals.merge(figurine.getCategory(), distribution.getBasePrice(), BigDecimal::add);
+      }
+    }
+    return totals;
+  }
+
+  @Benchmark
+  public Map<Category, LongSummaryStatistics> columnar() {
+    return columnar.basePriceStatisticsBy(Market.JPY, columnar.getCategory());
+  }
+}
@@ -0,0 +1,89 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a storefront style filter, Gold Saints of the Myth Cloth EX line-up sold through the
+ * Tamashii Web Shop, answered by FigurineCatalog bitmap intersections and by a linear scan over the
+ * same figurines, and a flag query, metal revivals that are not Hong Kong versions, answered by
+ * mask comparisons and by the individual getters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FigurineCatalogBenchmark {
+
+  @Param({"10000", "100000"})
+  private int size;
+
+  private final CatalogFilter filter =
+      CatalogFilter.builder()
+          .category(Category.GOLD)
+          .lineUp(LineUp.MYTH_CLOTH_EX)
+          .distributionChannel(DistributionChannel.WS)
+          .build();
+
+  private final CatalogFilter flagFilter =
+      CatalogFilter.builder()
+          .withFlags(FigurineFlag.METAL, FigurineFlag.REVIVAL)
+          .withoutFlags(FigurineFlag.HK)
+          .build();
+
+  private List<Figurine> figurines;
+  private FigurineCatalog catalog;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    catalog = new FigurineCatalog(figurines);
+  }
+
+  @Benchmark
+  public List<Figurine> indexedFilter() {
+    return catalog.find(filter);
+  }
+
+  @Benchmark
+  public List<Figurine> linearScan() {
+    return figurines.stream()
+        .filter(figurine -> figurine.getCategory() == Category.GOLD)
+        .filter(figurine -> figurine.getLineUp() == LineUp.MYTH_CLOTH_EX)
+        .filter(figurine -> figurine.getDistributionChannel() == DistributionChannel.WS)
+        .toList();
+  }
+
+  @Benchmark
+  public int flagMask() {
+    return catalog.count(flagFilter);
+  }
+
+  @Benchmark
+  public long flagGetters() {
+    return figurines.stream()
+        .filter(figurine -> figurine.isMetal() && figurine.isRevival() && !figurine.isHk())
+        .count();
+  }
+}
@@ -0,0 +1,100 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an ad-hoc query, Gold Saints released in Japan in 2015 whose name matches a regular
+ * expression, written with the expensive predicate first. It is answered by chained stream filters
+ * in the written order, and by a FigurineQuery on a FigurineCatalog, sequentially and in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FigurineQueryBenchmark {
+
+  private static final Pattern name = Pattern.compile(".*\\b(Saga|Aiolia|Shaka)\\b.*");
+  private static final LocalDate from = LocalDate.of(2015, 1, 1);
+  private static final LocalDate to = LocalDate.of(2015, 12, 31);
+
+  @Param({"100000"})
+  private int size;
+
+  private List<Figurine> figurines;
+  private FigurineCatalog catalog;
+  private FigurineQuery query;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    catalog = new FigurineCatalog(figurines);
+    query =
+        FigurineQuery.builder()
+            .where("name matches " + name, nameMatches())
+            .releasedBetween(Market.JPY, from, to)
+            .category(Category.GOLD)
+            .build();
+  }
+
+  @Benchmark
+  public List<Figurine> chainedFilters() {
+    return figurines.stream()
+        .filter(nameMatches())
+        .filter(
+            figurine -> {
+              Distribution distribution = figurine.getDistributionJPY();
+              return Objects.nonNull(distribution)
+                  && Objects.nonNull(distribution.getReleaseDate())
+                  && !distribution.getReleaseDate().isBefore(from)
+                  && !distribution.getReleaseDate().isAfter(to);
+            })
+        .filter(figurine -> figurine.getCategory() == Category.GOLD)
+        .toList();
+  }
+
+  @Benchmark
+  public List<Figurine> plannedQuery() {
+    return catalog.find(query);
+  }
+
+  @Benchmark
+  public List<Figurine> plannedQueryParallel() {
+    return catalog.find(query, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public int plannedCount() {
+    return catalog.count(query);
+  }
+
+  private static Predicate<Figurine> nameMatches() {
+    return figurine ->
+        Objects.nonNull(figurine.getBaseName()) && name.matcher(figurine.getBaseName()).matches();
+  }
+}
@@ -0,0 +1,95 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.bean.CsvToBeanBuilder;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading a synthetic catalog from in-memory CSV text: OpenCSV reflective binding of
+ * SourceFigurine rows, binding through the generated SourceFigurineBinder, and the full
+ * read-bind-map pipeline of FigurineCsvReader, compared with MappedFigurineReader mapping the same
+ * catalog straight from a memory-mapped file. Scores are reported per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(CsvBindingBenchmark.ROWS)
+public class CsvBindingBenchmark {
+
+  static final int ROWS = 10_000;
+
+  private final FigurineCsvReader reader = new FigurineCsvReader();
+
+  private final MappedFigurineReader mappedReader = new MappedFigurineReader();
+
+  private String csv;
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    csv = CatalogGenerator.toCsv(new CatalogGenerator(42).generate(ROWS));
+    file = Files.createTempFile("catalog", ".csv");
+    Files.writeString(file, csv);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public void openCsvBinding(Blackhole blackhole) {
+    Iterator<SourceFigurine> rows =
+        new CsvToBeanBuilder<SourceFigurine>(new StringReader(csv))
+            .withType(SourceFigurine.class)
+            .build()
+            .iterator();
+    while (rows.hasNext()) {
+      blackhole.consume(rows.next());
+    }
+  }
+
+  @Benchmark
+  public void generatedBinding(Blackhole blackhole) {
+    try (Stream<?> rows = reader.readSource(new StringReader(csv))) {
+      rows.forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public void readAndMap(Blackhole blackhole) {
+    try (Stream<?> figurines = reader.read(new StringReader(csv))) {
+      figurines.forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public void mappedReadAndMap(Blackhole blackhole) throws IOException {
+    try (Stream<?> figurines = mappedReader.read(file)) {
+      figurines.forEach(blackhole::consume);
+    }
+  }
+}
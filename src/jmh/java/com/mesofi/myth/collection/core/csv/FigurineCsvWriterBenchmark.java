@@ -0,0 +1,63 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineFormatter;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting a mapped synthetic catalog as CSV to a discarding writer: converting every
+ * figurine back to a SourceFigurine and writing the rows with OpenCSV reflective bean writing,
+ * compared with FigurineCsvWriter formatting the rows straight into its buffer. Scores are reported
+ * per row; run with the gc profiler to compare allocations per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(FigurineCsvWriterBenchmark.ROWS)
+public class FigurineCsvWriterBenchmark {
+
+  static final int ROWS = 10_000;
+
+  private final FigurineCsvWriter writer = new FigurineCsvWriter();
+
+  private List<Figurine> figurines;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(ROWS).stream().map(mapper::toFigure).toList();
+  }
+
+  @Benchmark
+  public void openCsvWriter() throws CsvException {
+    List<SourceFigurine> rows = figurines.stream().map(FigurineFormatter::toSource).toList();
+    new StatefulBeanToCsvBuilder<SourceFigurine>(Writer.nullWriter()).build().write(rows);
+  }
+
+  @Benchmark
+  public long streamingWriter() throws IOException {
+    return writer.write(Writer.nullWriter(), figurines.stream());
+  }
+}
@@ -0,0 +1,94 @@
+package com.mesofi.myth.collection.core.json;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.csv.FigurineCsvReader;
+import com.mesofi.myth.collection.core.csv.FigurineCsvWriter;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting a mapped synthetic catalog as JSON to a discarding stream, with and without
+ * null fields, and reading it back, compared with exporting and reading the same catalog as CSV.
+ * Scores are reported per figurine; run with the gc profiler to compare allocations per figurine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(FigurineJsonBenchmark.ROWS)
+public class FigurineJsonBenchmark {
+
+  static final int ROWS = 10_000;
+
+  private final FigurineJsonWriter writer = new FigurineJsonWriter();
+  private final FigurineJsonWriter compactWriter = new FigurineJsonWriter(true);
+  private final FigurineJsonReader reader = new FigurineJsonReader();
+
+  private List<Figurine> figurines;
+  private byte[] json;
+  private String csv;
+
+  @Setup
+  public void setUp() throws IOException {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(ROWS).stream().map(mapper::toFigure).toList();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(out, figurines.stream());
+    json = out.toByteArray();
+    StringWriter text = new StringWriter();
+    new FigurineCsvWriter().write(text, figurines.stream());
+    csv = text.toString();
+  }
+
+  @Benchmark
+  public long jsonWriter() throws IOException {
+    return writer.write(OutputStream.nullOutputStream(), figurines.stream());
+  }
+
+  @Benchmark
+  public long jsonWriterOmittingNulls() throws IOException {
+    return compactWriter.write(OutputStream.nullOutputStream(), figurines.stream());
+  }
+
+  @Benchmark
+  public long csvWriter() throws IOException {
+    return new FigurineCsvWriter().write(Writer.nullWriter(), figurines.stream());
+  }
+
+  @Benchmark
+  public long jsonReader() {
+    try (Stream<Figurine> stream = reader.read(new ByteArrayInputStream(json))) {
+      return stream.count();
+    }
+  }
+
+  @Benchmark
+  public long csvReader() {
+    try (Stream<Figurine> stream = new FigurineCsvReader().read(new StringReader(csv))) {
+      return stream.count();
+    }
+  }
+}
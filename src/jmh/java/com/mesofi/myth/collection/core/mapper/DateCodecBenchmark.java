@@ -0,0 +1,108 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.mapper.DateCodec.ParsedDate;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the DateCodec against the DateTimeFormatter based parsing previously used by
+ * FigurineMapper, which tried the full date format first, fell back to the year-month format on
+ * failure and then checked the length of the text to tell whether the date was confirmed.
+ *
+ * <p>Each invocation decodes a whole column of sample dates, mixing full and partial dates in the
+ * proportion given by {@code partialRatio}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateCodecBenchmark {
+
+  private static final DateTimeFormatter formatterMDY =
+      new DateTimeFormatterBuilder().appendPattern("M/d/yyyy").toFormatter();
+
+  private static final DateTimeFormatter formatterMY =
+      new DateTimeFormatterBuilder().appendPattern("M/yyyy").toFormatter();
+
+  private static final int SAMPLES = 1024;
+
+  @Param({"0.0", "0.3"})
+  private double partialRatio;
+
+  private String[] dates;
+  private DateCodec cachedCodec;
+  private DateCodec uncachedCodec;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    dates = new String[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      int month = 1 + random.nextInt(12);
+      int year = 2003 + random.nextInt(23);
+      dates[i] =
+          random.nextDouble() < partialRatio
+              ? month + "/" + year
+              : month + "/" + (1 + random.nextInt(28)) + "/" + year;
+    }
+    cachedCodec = new DateCodec();
+    uncachedCodec = new DateCodec(0);
+  }
+
+  @Benchmark
+  public void formatter(Blackhole blackhole) {
+    for (String date : dates) {
+      blackhole.consume(legacyParse(date));
+      blackhole.consume(!(date.length() == 6 || date.length() == 7));
+    }
+  }
+
+  @Benchmark
+  public void codec(Blackhole blackhole) {
+    for (String date : dates) {
+      ParsedDate parsed = cachedCodec.parse(date);
+      blackhole.consume(parsed.getDate());
+      blackhole.consume(parsed.isConfirmed());
+    }
+  }
+
+  @Benchmark
+  public void codecWithoutCache(Blackhole blackhole) {
+    for (String date : dates) {
+      ParsedDate parsed = uncachedCodec.parse(date);
+      blackhole.consume(parsed.getDate());
+      blackhole.consume(parsed.isConfirmed());
+    }
+  }
+
+  private static LocalDate legacyParse(String input) {
+    try {
+      return LocalDate.parse(input, formatterMDY);
+    } catch (DateTimeParseException e1) {
+      try {
+        return YearMonth.parse(input, formatterMY).atDay(1);
+      } catch (DateTimeParseException e2) {
+        throw new IllegalArgumentException("Invalid date format: " + input);
+      }
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.metrics.MappingMetrics;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures FigurineMapper on a synthetic catalog, end to end through {@code toFigure} and for each
+ * field converter on its own. Every invocation processes the whole generated catalog and scores are
+ * reported per row, so the converter numbers add up to a rough breakdown of the end to end cost.
+ *
+ * <p>Run with the gc profiler (enabled by default in the benchmark profile) to get allocation rates
+ * per row alongside throughput. {@code toFigureMeasured} maps the same rows reporting to a
+ * MappingMetrics sink, to be compared with {@code toFigure} and its default no-op sink.
+ *
+ * <p>{@code dirtyStrict} and {@code dirtyLenient} map a copy of the catalog in which one row in
+ * {@value #DIRTY_EVERY} has an invalid release date and an unknown group, strictly, catching the
+ * exception of every failed row, and leniently, collecting diagnostics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(FigurineMapperBenchmark.ROWS)
+public class FigurineMapperBenchmark {
+
+  static final int ROWS = 10_000;
+  static final int DIRTY_EVERY = 10;
+
+  private final FigurineMapper mapper = new FigurineMapper();
+
+  private final FigurineMapper measuredMapper =
+      new FigurineMapper(new ImageStore(), new MappingMetrics());
+
+  private List<SourceFigurine> catalog;
+  private List<SourceFigurine> dirty;
+
+  @Setup
+  public void setUp() {
+    catalog = new CatalogGenerator(42).generate(ROWS);
+    dirty = new CatalogGenerator(42).generate(ROWS);
+    for (int i = 0; i < dirty.size(); i += DIRTY_EVERY) {
+      dirty.get(i).setReleaseJPY("31/31/2024");
+      dirty.get(i).setGroup("Gold Saints");
+    }
+  }
+
+  @Benchmark
+  public void toFigure(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(mapper.toFigure(row));
+    }
+  }
+
+  @Benchmark
+  public void toFigureMeasured(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(measuredMapper.toFigure(row));
+    }
+  }
+
+  @Benchmark
+  public void dirtyStrict(Blackhole blackhole) {
+    for (SourceFigurine row : dirty) {
+      try {
+        blackhole.consume(mapper.toFigure(row));
+      } catch (IllegalArgumentException e) {
+        blackhole.consume(e);
+      }
+    }
+  }
+
+  @Benchmark
+  public void dirtyLenient(Blackhole blackhole) {
+    List<Diagnostic> diagnostics = new ArrayList<>();
+    for (SourceFigurine row : dirty) {
+      blackhole.consume(mapper.toFigure(row, diagnostics));
+    }
+    blackhole.consume(diagnostics);
+  }
+
+  @Benchmark
+  public void toMoney(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(mapper.toMoney(row.getPriceJPY(), Market.JPY, null));
+      blackhole.consume(mapper.toMoney(row.getPriceMXN(), Market.MXN, null));
+    }
+  }
+
+  @Benchmark
+  public void toLocalDate(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(mapper.toLocalDate(row.getAnnJPY()));
+      blackhole.consume(mapper.toLocalDate(row.getPreorderJPY()));
+      blackhole.consume(mapper.toLocalDate(row.getReleaseJPY()));
+      blackhole.consume(mapper.toLocalDate(row.getPreorderMXN()));
+      blackhole.consume(mapper.toLocalDate(row.getReleaseMXN()));
+    }
+  }
+
+  @Benchmark
+  public void enumLookups(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(mapper.toDistributor(row.getDistributorMXN(), null));
+      blackhole.consume(mapper.toDistributionChannel(row.getDist(), null));
+      blackhole.consume(mapper.toLineUp(row.getLineUp(), null));
+      blackhole.consume(mapper.toSeries(row.getSeries(), null));
+      blackhole.consume(mapper.toCategory(row.getGroup(), null));
+      blackhole.consume(mapper.toAnniversary(row.getAnniversary(), null));
+    }
+  }
+
+  @Benchmark
+  public void toImages(Blackhole blackhole) {
+    for (SourceFigurine row : catalog) {
+      blackhole.consume(mapper.toImages(row.getOfficialImages()));
+      blackhole.consume(mapper.toImages(row.getOtherImages()));
+    }
+  }
+}
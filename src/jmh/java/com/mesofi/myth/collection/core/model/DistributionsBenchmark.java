@@ -0,0 +1,98 @@
+package com.mesofi.myth.collection.core.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filling and reading the distributions of figurines sold in one or two markets, as most
+ * are, with a Distributions container compared with an EnumMap, which sizes its table to every
+ * market. Scores are reported per figurine; run with the gc profiler to compare allocations per
+ * figurine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(DistributionsBenchmark.FIGURINES)
+public class DistributionsBenchmark {
+
+  static final int FIGURINES = 10_000;
+
+  private static final Market[] markets = Market.values();
+
+  private final Distribution distribution = new Distribution();
+
+  /** The markets of each figurine, as a bit per ordinal. */
+  private int[] present;
+
+  /** The containers of the figurines, kept as a figurine keeps its own. */
+  private final Object[] retained = new Object[FIGURINES];
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    present = new int[FIGURINES];
+    for (int i = 0; i < FIGURINES; i++) {
+      // every figurine is sold in Japan, a third of them in Mexico as well
+      present[i] =
+          1 << Market.JPY.ordinal() | (random.nextInt(3) == 0 ? 1 << Market.MXN.ordinal() : 0);
+    }
+  }
+
+  @Benchmark
+  public int enumMap() {
+    int found = 0;
+    for (int i = 0; i < FIGURINES; i++) {
+      Map<Market, Distribution> distributions = new EnumMap<>(Market.class);
+      fill(distributions, present[i]);
+      retained[i] = distributions;
+      found += count(distributions);
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int distributions() {
+    int found = 0;
+    for (int i = 0; i < FIGURINES; i++) {
+      Distributions distributions = new Distributions();
+      fill(distributions, present[i]);
+      retained[i] = distributions;
+      found += count(distributions);
+    }
+    return found;
+  }
+
+  private void fill(Map<Market, Distribution> distributions, int mask) {
+    for (Market market : markets) {
+      if ((mask & 1 << market.ordinal()) != 0) {
+        distributions.put(market, distribution);
+      }
+    }
+  }
+
+  private static int count(Map<Market, Distribution> distributions) {
+    int found = 0;
+    for (Market market : markets) {
+      if (distributions.get(market) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+}
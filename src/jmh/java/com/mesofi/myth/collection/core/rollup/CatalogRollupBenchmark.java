@@ -0,0 +1,83 @@
+package com.mesofi.myth.collection.core.rollup;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures keeping "releases per month per category" current after one figurine changed category:
+ * by rescanning every figurine into grouped counts, by building a CatalogRollup from scratch, and
+ * by updating the single figurine in a maintained CatalogRollup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogRollupBenchmark {
+
+  private static final Function<Figurine, List<Object>> key =
+      CatalogRollup.by(CatalogRollup.releaseMonth(Market.JPY), Figurine::getCategory);
+
+  @Param({"100000"})
+  private int size;
+
+  private List<Figurine> figurines;
+  private CatalogRollup<List<Object>> rollup;
+  private int changes;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(size).stream().map(mapper::toFigure).toList();
+    rollup = new CatalogRollup<>(key, Market.JPY);
+    rollup.addAll(figurines);
+  }
+
+  @Benchmark
+  public Map<List<Object>, Long> rescan() {
+    change();
+    return figurines.stream().collect(Collectors.groupingBy(key, Collectors.counting()));
+  }
+
+  @Benchmark
+  public Map<List<Object>, RollupStatistics> rebuild() {
+    change();
+    CatalogRollup<List<Object>> rebuilt = new CatalogRollup<>(key, Market.JPY);
+    rebuilt.addAll(figurines);
+    return rebuilt.snapshot();
+  }
+
+  @Benchmark
+  public RollupStatistics incremental() {
+    Figurine figurine = change();
+    rollup.update(figurine);
+    return rollup.get(key.apply(figurine));
+  }
+
+  private Figurine change() {
+    Figurine figurine = figurines.get(changes++ % figurines.size());
+    Category[] categories = Category.values();
+    figurine.setCategory(categories[changes % categories.length]);
+    return figurine;
+  }
+}
@@ -0,0 +1,55 @@
+package com.mesofi.myth.collection.core.validation;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures validating a generated catalog of 100,000 figurines one figurine at a time and as a
+ * parallel batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FigurineValidatorBenchmark {
+
+  private static final int ROWS = 100_000;
+
+  private final FigurineValidator validator = new FigurineValidator();
+
+  private List<Figurine> figurines;
+
+  @Setup
+  public void setUp() {
+    FigurineMapper mapper = new FigurineMapper();
+    figurines = new CatalogGenerator(42).generate(ROWS).stream().map(mapper::toFigure).toList();
+  }
+
+  @Benchmark
+  public void validate(Blackhole blackhole) {
+    for (Figurine figurine : figurines) {
+      blackhole.consume(validator.validate(figurine));
+    }
+  }
+
+  @Benchmark
+  public List<ValidationResult> validateAll() {
+    return validator.validateAll(figurines);
+  }
+}
@@ -0,0 +1,458 @@
+package com.mesofi.myth.collection.core.archive;
+
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Distributions;
+import com.mesofi.myth.collection.core.model.Distributor;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Restock;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Versioned binary snapshot of a mapped catalog. An archive is written once after the catalog has
+ * been imported and loaded at startup instead of reading and mapping the CSV again: loading maps
+ * the file into memory and decodes fixed-size numbers, epoch days and enum ordinals directly, so no
+ * price, date or enum description is parsed.
+ *
+ * <p>The archive starts with a magic number and a format version and ends with a CRC32 of
+ * everything before it. The names of the constants of every stored enum are written in a dictionary
+ * after the header, and stored ordinals are resolved through it, so an archive remains readable
+ * when enum constants are reordered or added. Loading an archive with a different magic number or
+ * version, a checksum mismatch, a constant that no longer exists or truncated content fails with a
+ * {@link CatalogFormatException}, telling the caller to rebuild the archive from the CSV.
+ *
+ * <p>Archives store every attribute of Figurine, including its Distribution objects, flags, image
+ * lists and Restock entries. Distributions are stored with their market, only for the markets a
+ * figurine is distributed in. Archives are written to a temporary file that is moved in place, so a
+ * reader never sees a partially written archive. The image URLs of loaded figurines are kept in an
+ * ImageStore, shared with a FigurineMapper when both are given the same store.
+ */
+public class CatalogArchive {
+
+  /** The magic number at the start of every archive, "MCAT" in ASCII. */
+  static final int MAGIC = 0x4D434154;
+
+  /** The format version written by this class and the only version it reads. */
+  static final short VERSION = 4;
+
+  private static final int NULL = -1;
+  private static final int NULL_DATE = Integer.MIN_VALUE;
+  private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+  private static final int TRAILER_SIZE = Integer.BYTES;
+
+  private static final int CATEGORY = 0;
+  private static final int SERIES = 1;
+  private static final int LINE_UP = 2;
+  private static final int DISTRIBUTION_CHANNEL = 3;
+  private static final int ANNIVERSARY = 4;
+  private static final int STATUS = 5;
+  private static final int DISTRIBUTOR = 6;
+  private static final int MARKET = 7;
+
+  /** The enums stored by ordinal, in dictionary order. */
+  private static final List<Class<? extends Enum<?>>> dictionary =
+      List.of(
+          Category.class,
+          Series.class,
+          LineUp.class,
+          DistributionChannel.class,
+          Anniversary.class,
+          Status.class,
+          Distributor.class,
+          Market.class);
+
+  private final ImageStore imageStore;
+
+  /** Creates an archive that loads image URLs into a new ImageStore. */
+  public CatalogArchive() {
+    this(new ImageStore());
+  }
+
+  /**
+   * Creates an archive that loads image URLs into the given store.
+   *
+   * @param imageStore the store of the image URLs of loaded figurines
+   */
+  public CatalogArchive(ImageStore imageStore) {
+    this.imageStore = Objects.requireNonNull(imageStore, "imageStore");
+  }
+
+  /**
+   * Writes the given figurines to an archive, replacing any existing file.
+   *
+   * @param figurines the figurines to store
+   * @param path the archive file
+   * @throws IOException if the archive cannot be written
+   */
+  public void write(Collection<Figurine> figurines, Path path) throws IOException {
+    Path target = path.toAbsolutePath();
+    Path temporary =
+        Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+    try {
+      CRC32 crc = new CRC32();
+      try (CheckedOutputStream checked =
+              new CheckedOutputStream(
+                  new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), crc);
+          DataOutputStream output = new DataOutputStream(checked)) {
+        new Encoder(output).catalog(figurines);
+        output.flush();
+        output.writeInt((int) crc.getValue());
+      }
+      Files.move(
+          temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Loads the figurines stored in an archive.
+   *
+   * @param path the archive file
+   * @return the stored figurines, in the order they were written
+   * @throws CatalogFormatException if the file is not a valid archive of the current version
+   * @throws IOException if the file cannot be read
+   */
+  public List<Figurine> read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE + TRAILER_SIZE) {
+        throw new CatalogFormatException("Catalog archive is truncated: " + path);
+      }
+      if (size > Integer.MAX_VALUE) {
+        throw new CatalogFormatException("Catalog archive is too large to map: " + path);
+      }
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      int magic = buffer.getInt();
+      if (magic != MAGIC) {
+        throw new CatalogFormatException("Not a catalog archive: " + path);
+      }
+      short version = buffer.getShort();
+      if (version != VERSION) {
+        throw new CatalogFormatException(
+            "Unsupported catalog archive version " + version + ", expected " + VERSION);
+      }
+      int content = (int) size - TRAILER_SIZE;
+      CRC32 crc = new CRC32();
+      crc.update(buffer.duplicate().position(0).limit(content));
+      if ((int) crc.getValue() != buffer.getInt(content)) {
+        throw new CatalogFormatException("Catalog archive checksum mismatch: " + path);
+      }
+      buffer.limit(content);
+      try {
+        List<Figurine> figurines = new Decoder(buffer, imageStore).catalog();
+        if (buffer.hasRemaining()) {
+          throw new CatalogFormatException("Unexpected data at the end of " + path);
+        }
+        return figurines;
+      } catch (BufferUnderflowException | IllegalArgumentException e) {
+        throw new CatalogFormatException("Malformed catalog archive: " + path, e);
+      }
+    }
+  }
+
+  /** Writes the archive content following the format version. */
+  private static final class Encoder {
+
+    private final DataOutputStream output;
+
+    Encoder(DataOutputStream output) {
+      this.output = output;
+    }
+
+    void catalog(Collection<Figurine> figurines) throws IOException {
+      output.writeInt(MAGIC);
+      output.writeShort(VERSION);
+      for (Class<? extends Enum<?>> type : dictionary) {
+        Enum<?>[] constants = type.getEnumConstants();
+        output.writeByte(constants.length);
+        for (Enum<?> constant : constants) {
+          string(constant.name());
+        }
+      }
+      output.writeInt(figurines.size());
+      for (Figurine figurine : figurines) {
+        figurine(figurine);
+      }
+    }
+
+    private void figurine(Figurine figurine) throws IOException {
+      string(figurine.getBaseName());
+      string(figurine.getDisplayableName());
+      constant(figurine.getLineUp());
+      constant(figurine.getSeries());
+      constant(figurine.getCategory());
+      constant(figurine.getStatus());
+      output.writeShort(figurine.getFlags());
+      constant(figurine.getAnniversary());
+      base(figurine);
+      List<Restock> restocks = figurine.getRestocks();
+      output.writeInt(Objects.isNull(restocks) ? NULL : restocks.size());
+      if (Objects.nonNull(restocks)) {
+        for (Restock restock : restocks) {
+          string(restock.getBaseName());
+          base(restock);
+        }
+      }
+    }
+
+    private void base(BaseFigurine figurine) throws IOException {
+      Distributions distributions = figurine.getDistributions();
+      output.writeByte(distributions.size());
+      for (Map.Entry<Market, Distribution> entry : distributions.entrySet()) {
+        constant(entry.getKey());
+        distribution(entry.getValue());
+      }
+      string(figurine.getTamashiiUrl());
+      constant(figurine.getDistributionChannel());
+      strings(figurine.getOfficialImages());
+      strings(figurine.getOtherImages());
+      string(figurine.getRemarks());
+    }
+
+    private void distribution(Distribution distribution) throws IOException {
+      constant(distribution.getDistributor());
+      money(distribution.getBaseMoney());
+      money(distribution.getFinalMoney());
+      date(distribution.getFirstAnnouncementDate());
+      date(distribution.getPreOrderDate());
+      date(distribution.getReleaseDate());
+      Boolean confirmed = distribution.getReleaseDateConfirmed();
+      output.writeByte(Objects.isNull(confirmed) ? NULL : confirmed ? 1 : 0);
+    }
+
+    private void constant(Enum<?> value) throws IOException {
+      output.writeByte(Objects.isNull(value) ? NULL : value.ordinal());
+    }
+
+    private void money(Money value) throws IOException {
+      output.writeByte(Objects.isNull(value) ? NULL : value.getScale());
+      if (Objects.nonNull(value)) {
+        output.writeLong(value.getUnscaledAmount());
+        Currency currency = value.getCurrency();
+        string(Objects.isNull(currency) ? null : currency.getCurrencyCode());
+      }
+    }
+
+    private void date(LocalDate value) throws IOException {
+      output.writeInt(Objects.isNull(value) ? NULL_DATE : Math.toIntExact(value.toEpochDay()));
+    }
+
+    private void strings(List<String> values) throws IOException {
+      output.writeInt(Objects.isNull(values) ? NULL : values.size());
+      if (Objects.nonNull(values)) {
+        for (String value : values) {
+          string(value);
+        }
+      }
+    }
+
+    private void string(String value) throws IOException {
+      if (Objects.isNull(value)) {
+        output.writeInt(NULL);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      output.writeInt(bytes.length);
+      output.write(bytes);
+    }
+  }
+
+  /** Reads the archive content from the mapped file, positioned after the header. */
+  private static final class Decoder {
+
+    private final ByteBuffer buffer;
+    private final ImageStore imageStore;
+    private final Enum<?>[][] constants = new Enum<?>[dictionary.size()][];
+
+    Decoder(ByteBuffer buffer, ImageStore imageStore) {
+      this.buffer = buffer;
+      this.imageStore = imageStore;
+    }
+
+    List<Figurine> catalog() throws CatalogFormatException {
+      for (int d = 0; d < dictionary.size(); d++) {
+        constants[d] = resolve(dictionary.get(d));
+      }
+      int count = length();
+      List<Figurine> figurines = new ArrayList<>(Math.max(count, 0));
+      for (int i = 0; i < count; i++) {
+        figurines.add(figurine());
+      }
+      return figurines;
+    }
+
+    /**
+     * Reads the names stored for an enum and resolves them to the current constants.
+     *
+     * @param type the enum type
+     * @return the current constants, indexed by stored ordinal
+     * @throws CatalogFormatException if a stored name is not a constant of the enum
+     */
+    private Enum<?>[] resolve(Class<? extends Enum<?>> type) throws CatalogFormatException {
+      Enum<?>[] current = type.getEnumConstants();
+      Enum<?>[] resolved = new Enum<?>[buffer.get() & 0xFF];
+      for (int ordinal = 0; ordinal < resolved.length; ordinal++) {
+        String name = string();
+        for (Enum<?> constant : current) {
+          if (constant.name().equals(name)) {
+            resolved[ordinal] = constant;
+          }
+        }
+        if (Objects.isNull(resolved[ordinal])) {
+          throw new CatalogFormatException(
+              "Unknown " + type.getSimpleName() + " constant in catalog archive: " + name);
+        }
+      }
+      return resolved;
+    }
+
+    private Figurine figurine() {
+      Figurine figurine = new Figurine();
+      figurine.setBaseName(string());
+      figurine.setDisplayableName(string());
+      figurine.setLineUp(constant(LINE_UP));
+      figurine.setSeries(constant(SERIES));
+      figurine.setCategory(constant(CATEGORY));
+      figurine.setStatus(constant(STATUS));
+      figurine.setFlags(buffer.getShort());
+      figurine.setAnniversary(constant(ANNIVERSARY));
+      base(figurine);
+      int restocks = buffer.getInt();
+      if (restocks != NULL) {
+        List<Restock> values = new ArrayList<>(restocks);
+        for (int i = 0; i < restocks; i++) {
+          Restock restock = new Restock();
+          restock.setBaseName(string());
+          base(restock);
+          values.add(restock);
+        }
+        figurine.setRestocks(values);
+      }
+      return figurine;
+    }
+
+    private void base(BaseFigurine figurine) {
+      int distributions = buffer.get();
+      for (int i = 0; i < distributions; i++) {
+        Market market = constant(MARKET);
+        if (Objects.isNull(market)) {
+          throw new IllegalArgumentException("Distribution without a market");
+        }
+        figurine.setDistribution(market, distribution());
+      }
+      figurine.setTamashiiUrl(string());
+      figurine.setDistributionChannel(constant(DISTRIBUTION_CHANNEL));
+      figurine.setOfficialImages(images());
+      figurine.setOtherImages(images());
+      figurine.setRemarks(string());
+    }
+
+    private Distribution distribution() {
+      Distribution distribution = new Distribution();
+      distribution.setDistributor(constant(DISTRIBUTOR));
+      distribution.setBaseMoney(money());
+      distribution.setFinalMoney(money());
+      distribution.setFirstAnnouncementDate(date());
+      distribution.setPreOrderDate(date());
+      distribution.setReleaseDate(date());
+      byte confirmed = buffer.get();
+      distribution.setReleaseDateConfirmed(confirmed == NULL ? null : confirmed == 1);
+      return distribution;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Enum<E>> E constant(int slot) {
+      byte ordinal = buffer.get();
+      if (ordinal == NULL) {
+        return null;
+      }
+      Enum<?>[] values = constants[slot];
+      if (ordinal < 0 || ordinal >= values.length) {
+        throw new IllegalArgumentException("Invalid ordinal " + ordinal);
+      }
+      return (E) values[ordinal];
+    }
+
+    private Money money() {
+      byte scale = buffer.get();
+      if (scale == NULL) {
+        return null;
+      }
+      long unscaled = buffer.getLong();
+      String currency = string();
+      return Money.of(
+          unscaled, scale, Objects.isNull(currency) ? null : Currency.getInstance(currency));
+    }
+
+    private LocalDate date() {
+      int day = buffer.getInt();
+      return day == NULL_DATE ? null : LocalDate.ofEpochDay(day);
+    }
+
+    private List<String> images() {
+      int count = buffer.getInt();
+      if (count == NULL) {
+        return null;
+      }
+      List<String> values = new ArrayList<>(checkLength(count));
+      for (int i = 0; i < count; i++) {
+        String value = string();
+        if (Objects.isNull(value)) {
+          throw new IllegalArgumentException("Missing image URL");
+        }
+        values.add(value);
+      }
+      return imageStore.intern(values);
+    }
+
+    private String string() {
+      int length = buffer.getInt();
+      if (length == NULL) {
+        return null;
+      }
+      byte[] bytes = new byte[checkLength(length)];
+      buffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int length() {
+      return checkLength(buffer.getInt());
+    }
+
+    private int checkLength(int length) {
+      if (length < 0 || length > buffer.remaining()) {
+        throw new IllegalArgumentException("Invalid length " + length);
+      }
+      return length;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.mesofi.myth.collection.core.archive;
+
+import java.io.IOException;
+
+/**
+ * Signals that a catalog archive cannot be loaded because it is not an archive, was written with an
+ * unsupported format version, fails its checksum, or is otherwise malformed. Callers should treat
+ * the archive as stale and rebuild it from the source catalog.
+ */
+public class CatalogFormatException extends IOException {
+
+  /**
+   * Creates an exception with the given message.
+   *
+   * @param message the description of the problem
+   */
+  public CatalogFormatException(String message) {
+    super(message);
+  }
+
+  /**
+   * Creates an exception with the given message and cause.
+   *
+   * @param message the description of the problem
+   * @param cause the underlying failure
+   */
+  public CatalogFormatException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,36 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Schedule of the Japanese consumption tax rates, used to turn the tax-exclusive JPY base prices
+ * into the prices paid at release. The standard rate was introduced at 3% in April 1989 and raised
+ * to 5% in April 1997, 8% in April 2014 and 10% in October 2019.
+ */
+final class ConsumptionTax {
+
+  private static final TreeMap<LocalDate, BigDecimal> rates =
+      new TreeMap<>(
+          Map.of(
+              LocalDate.of(1989, 4, 1), new BigDecimal("0.03"),
+              LocalDate.of(1997, 4, 1), new BigDecimal("0.05"),
+              LocalDate.of(2014, 4, 1), new BigDecimal("0.08"),
+              LocalDate.of(2019, 10, 1), new BigDecimal("0.10")));
+
+  private ConsumptionTax() {}
+
+  /**
+   * Returns the multiplier turning a tax-exclusive price into a tax-inclusive one on a given date.
+   *
+   * @param date the date of the sale
+   * @return one plus the tax rate in effect on the date
+   */
+  static BigDecimal multiplierAt(LocalDate date) {
+    Map.Entry<LocalDate, BigDecimal> rate = rates.floorEntry(date);
+    return Objects.isNull(rate) ? BigDecimal.ONE : BigDecimal.ONE.add(rate.getValue());
+  }
+}
@@ -0,0 +1,326 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import com.mesofi.myth.collection.core.catalog.ChangeSet;
+import com.mesofi.myth.collection.core.catalog.ChangeSet.Modification;
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Restock;
+import com.mesofi.myth.collection.core.model.Status;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Derives the calculated fields of figurines: the status, the displayable name, the final price of
+ * every distribution and the order of the restocks. All the fields of a figurine are derived in a
+ * single pass from its base name, flags, anniversary, distributions and restocks, and from a
+ * reference day used to tell released figurines from upcoming ones.
+ *
+ * <p>The calculator remembers, for every figurine of the last catalog it calculated, the reference
+ * day and the inputs the derivation was based on. A figurine is derived again only when one of
+ * those inputs or the reference day changes, so calculating a whole catalog once per day costs a
+ * comparison per figurine after the first pass. Each catalog calculation replaces what was
+ * remembered, so the calculator never holds more than the figurines of the last catalog, and
+ * figurines replaced or removed by an import can be forgotten earlier with {@link
+ * #apply(ChangeSet)}. Figurines calculated one at a time are only remembered if they are part of
+ * the last catalog.
+ *
+ * <p>The fields are derived as follows:
+ *
+ * <ul>
+ *   <li>status: from the distribution of the first market the figurine was distributed in, in the
+ *       order of {@link Market}: the JPY one, or the MXN one when it was not distributed in Japan.
+ *       A figurine without dates is a prototype, and one announced without a release date is
+ *       unreleased. A confirmed release date makes the figurine released once the day is reached,
+ *       and a future release before. An unconfirmed release date only gives the month, so the
+ *       figurine is released once that month is over, and its release is to be determined until
+ *       then.
+ *   <li>displayable name: the base name followed by the descriptions of its flags and its
+ *       anniversary between parentheses, as in "Pegasus Seiya (Revival, OCE)". Metal parts are not
+ *       part of the name.
+ *   <li>final price: the JPY base price plus the consumption tax in effect on the release date, or
+ *       the pre-order or announcement date when the release date is unknown, truncated to the yen.
+ *       MXN, USD and EUR base prices are final as they are.
+ *   <li>restocks: the final prices of the restocks are derived the same way, and the restocks are
+ *       ordered by release date in each market in turn, restocks without a release date last.
+ * </ul>
+ *
+ * <p>A calculator is safe for concurrent use; calculations are serialized.
+ */
+public class FigurineCalculator {
+
+  private static final Comparator<LocalDate> dateOrder =
+      Comparator.nullsLast(Comparator.naturalOrder());
+
+  /**
+   * Orders restocks by JPY, then MXN, USD and EUR release date, restocks without a release date
+   * last.
+   */
+  static final Comparator<Restock> restockOrder = restockOrder();
+
+  private Map<Figurine, Memo> memos = new IdentityHashMap<>();
+
+  /**
+   * Derives the calculated fields of every figurine whose inputs changed since it was last derived,
+   * or that was derived for a different reference day. Only the figurines of this catalog are
+   * remembered afterwards.
+   *
+   * @param figurines the figurines to derive
+   * @param today the reference day
+   * @return the number of figurines that were derived again
+   */
+  public synchronized int calculate(Collection<Figurine> figurines, LocalDate today) {
+    Objects.requireNonNull(today, "today");
+    Map<Figurine, Memo> retained = new IdentityHashMap<>(figurines.size());
+    int calculated = 0;
+    for (Figurine figurine : figurines) {
+      Memo previous = memos.get(figurine);
+      Memo memo = derive(figurine, today, previous);
+      if (memo != previous) {
+        calculated++;
+      }
+      retained.put(figurine, memo);
+    }
+    memos = retained;
+    return calculated;
+  }
+
+  /**
+   * Derives the calculated fields of a figurine if its inputs changed since it was last derived, or
+   * if it was derived for a different reference day. A figurine that is not part of the last
+   * catalog calculated is derived every time.
+   *
+   * @param figurine the figurine to derive
+   * @param today the reference day
+   * @return true if the figurine was derived again
+   */
+  public synchronized boolean calculate(Figurine figurine, LocalDate today) {
+    Objects.requireNonNull(today, "today");
+    Memo previous = memos.get(figurine);
+    Memo memo = derive(figurine, today, previous);
+    if (Objects.nonNull(previous)) {
+      memos.put(figurine, memo);
+    }
+    return memo != previous;
+  }
+
+  /**
+   * Forgets the figurines that an import replaced or removed. The figurines it added or replaced
+   * them with are derived by the next calculation.
+   *
+   * @param changes the changes of an import
+   */
+  public synchronized void apply(ChangeSet changes) {
+    for (Modification modification : changes.getModified()) {
+      memos.remove(modification.getPrevious());
+    }
+    for (Figurine figurine : changes.getRemoved()) {
+      memos.remove(figurine);
+    }
+  }
+
+  /** Forgets every derived figurine, so the next calculation derives them all again. */
+  public synchronized void clear() {
+    memos.clear();
+  }
+
+  /**
+   * Derives the calculated fields of a figurine unless its memo shows they are up to date.
+   *
+   * @return the given memo if nothing was derived, or the memo of the new derivation
+   */
+  private static Memo derive(Figurine figurine, LocalDate today, Memo memo) {
+    if (Objects.nonNull(memo) && memo.today.equals(today) && memo.inputs.equals(inputs(figurine))) {
+      return memo;
+    }
+    figurine.setStatus(status(figurine, today));
+    figurine.setDisplayableName(displayableName(figurine));
+    finalPrices(figurine, today);
+    if (Objects.nonNull(figurine.getRestocks())) {
+      List<Restock> restocks = new ArrayList<>(figurine.getRestocks());
+      for (Restock restock : restocks) {
+        finalPrices(restock, today);
+      }
+      restocks.sort(restockOrder);
+      figurine.setRestocks(restocks);
+    }
+    // taken after the restocks are ordered, so that ordering them is not seen as a change
+    return new Memo(today, inputs(figurine));
+  }
+
+  /**
+   * Derives the status of a figurine on a given day.
+   *
+   * @param figurine the figurine
+   * @param today the reference day
+   * @return the status of the figurine
+   */
+  static Status status(Figurine figurine, LocalDate today) {
+    Distribution distribution = null;
+    for (Market market : Market.values()) {
+      distribution = figurine.getDistribution(market);
+      if (Objects.nonNull(distribution)) {
+        break;
+      }
+    }
+    if (Objects.isNull(distribution)
+        || Objects.isNull(distribution.getFirstAnnouncementDate())
+            && Objects.isNull(distribution.getPreOrderDate())
+            && Objects.isNull(distribution.getReleaseDate())) {
+      return Status.PROTOTYPE;
+    }
+    LocalDate releaseDate = distribution.getReleaseDate();
+    if (Objects.isNull(releaseDate)) {
+      return Status.UNRELEASED;
+    }
+    if (Boolean.TRUE.equals(distribution.getReleaseDateConfirmed())) {
+      return releaseDate.isAfter(today) ? Status.FUTURE_RELEASE : Status.RELEASED;
+    }
+    return YearMonth.from(releaseDate).isBefore(YearMonth.from(today))
+        ? Status.RELEASED
+        : Status.RELEASE_TBD;
+  }
+
+  /**
+   * Derives the displayable name of a figurine.
+   *
+   * @param figurine the figurine
+   * @return the displayable name, or null if the figurine has no base name
+   */
+  static String displayableName(Figurine figurine) {
+    if (Objects.isNull(figurine.getBaseName())) {
+      return null;
+    }
+    StringJoiner qualifiers = new StringJoiner(", ", figurine.getBaseName() + " (", ")");
+    qualifiers.setEmptyValue(figurine.getBaseName());
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      if (flag != FigurineFlag.METAL && figurine.is(flag)) {
+        qualifiers.add(flag.getDescription());
+      }
+    }
+    if (Objects.nonNull(figurine.getAnniversary())) {
+      qualifiers.add(figurine.getAnniversary().getDescription() + "th Anniversary");
+    }
+    return qualifiers.toString();
+  }
+
+  private static void finalPrices(BaseFigurine figurine, LocalDate today) {
+    for (Market market : Market.values()) {
+      Distribution distribution = figurine.getDistribution(market);
+      if (Objects.nonNull(distribution)) {
+        distribution.setFinalMoney(finalPrice(market, distribution, today));
+      }
+    }
+  }
+
+  /**
+   * Derives the final price of a distribution.
+   *
+   * @param market the market of the distribution
+   * @param distribution the distribution
+   * @param today the reference day, used as the date of sale when the distribution has no dates
+   * @return the final price, or null if the distribution has no base price
+   */
+  static Money finalPrice(Market market, Distribution distribution, LocalDate today) {
+    Money basePrice = distribution.getBaseMoney();
+    if (Objects.isNull(basePrice)) {
+      return null;
+    }
+    return switch (market) {
+      case JPY -> Money.of(
+          basePrice
+              .toBigDecimal()
+              .multiply(ConsumptionTax.multiplierAt(saleDate(distribution, today)))
+              .setScale(0, RoundingMode.DOWN),
+          basePrice.getCurrency());
+      case MXN, USD, EUR -> basePrice;
+    };
+  }
+
+  private static LocalDate saleDate(Distribution distribution, LocalDate today) {
+    if (Objects.nonNull(distribution.getReleaseDate())) {
+      return distribution.getReleaseDate();
+    }
+    if (Objects.nonNull(distribution.getPreOrderDate())) {
+      return distribution.getPreOrderDate();
+    }
+    if (Objects.nonNull(distribution.getFirstAnnouncementDate())) {
+      return distribution.getFirstAnnouncementDate();
+    }
+    return today;
+  }
+
+  private static Comparator<Restock> restockOrder() {
+    Comparator<Restock> order = null;
+    for (Market market : Market.values()) {
+      Comparator<Restock> byMarket =
+          Comparator.comparing(
+              (Restock restock) -> releaseDate(restock.getDistribution(market)), dateOrder);
+      order = Objects.isNull(order) ? byMarket : order.thenComparing(byMarket);
+    }
+    return order;
+  }
+
+  private static LocalDate releaseDate(Distribution distribution) {
+    return Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+  }
+
+  /**
+   * Collects the values the calculated fields of a figurine are derived from. The inputs of a
+   * distribution are collected on their own since it is updated in place; the distribution itself
+   * is collected so that replacing it with one lacking a final price is seen as a change.
+   */
+  private static List<Object> inputs(Figurine figurine) {
+    List<Object> inputs = new ArrayList<>();
+    inputs.add(figurine.getBaseName());
+    inputs.add(figurine.getFlags());
+    inputs.add(figurine.getAnniversary());
+    inputs(figurine, inputs);
+    List<Restock> restocks = figurine.getRestocks();
+    inputs.add(Objects.isNull(restocks) ? -1 : restocks.size());
+    if (Objects.nonNull(restocks)) {
+      for (Restock restock : restocks) {
+        inputs(restock, inputs);
+      }
+    }
+    return inputs;
+  }
+
+  private static void inputs(BaseFigurine figurine, List<Object> inputs) {
+    for (Market market : Market.values()) {
+      Distribution distribution = figurine.getDistribution(market);
+      inputs.add(distribution);
+      if (Objects.nonNull(distribution)) {
+        inputs.add(distribution.getBaseMoney());
+        inputs.add(distribution.getFirstAnnouncementDate());
+        inputs.add(distribution.getPreOrderDate());
+        inputs.add(distribution.getReleaseDate());
+        inputs.add(distribution.getReleaseDateConfirmed());
+      }
+    }
+  }
+
+  /** The reference day and the inputs a figurine was last derived from. */
+  private static final class Memo {
+
+    private final LocalDate today;
+    private final List<Object> inputs;
+
+    Memo(LocalDate today, List<Object> inputs) {
+      this.today = today;
+      this.inputs = inputs;
+    }
+  }
+}
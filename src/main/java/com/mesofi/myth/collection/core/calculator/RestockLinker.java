@@ -0,0 +1,193 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Restock;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Links restocks to the figurines they restock, filling the restocks of every figurine. The
+ * figurines are indexed once in a hash map keyed by their normalized base name, and each restock is
+ * then resolved with a single lookup, so linking grows linearly with the size of the catalog. Base
+ * names are normalized with NFKC, so full-width and half-width characters are equivalent, and by
+ * ignoring case and leading, trailing and repeated whitespace.
+ *
+ * <p>Several figurines can share a base name, as versions, revivals and special editions of the
+ * same character do. A restock is then linked to the one released last on or before the restock
+ * release date. A restock that matches no figurine, or several figurines that cannot be told apart
+ * by release date, is not linked and is reported in the returned {@link Linkage}. Figurines and
+ * restocks without a base name are never linked.
+ *
+ * <p>The restocks of every given figurine are replaced by the restocks linked to it, ordered by
+ * release date.
+ */
+public class RestockLinker {
+
+  private static final Comparator<Figurine> releaseOrder =
+      Comparator.comparing(
+          RestockLinker::releaseDate, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  /**
+   * Links the restocks to the figurines.
+   *
+   * @param figurines the figurines, whose restocks are replaced
+   * @param restocks the restocks to link
+   * @return the number of linked restocks and the restocks that could not be linked
+   */
+  public Linkage link(Collection<Figurine> figurines, Collection<Restock> restocks) {
+    Map<String, List<Figurine>> byKey = new HashMap<>();
+    for (Figurine figurine : figurines) {
+      String key = key(figurine.getBaseName());
+      if (!key.isEmpty()) {
+        byKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(figurine);
+      }
+    }
+    for (List<Figurine> candidates : byKey.values()) {
+      candidates.sort(releaseOrder);
+    }
+
+    Map<Figurine, List<Restock>> linked = new IdentityHashMap<>();
+    List<Restock> unmatched = new ArrayList<>();
+    List<Restock> ambiguous = new ArrayList<>();
+    for (Restock restock : restocks) {
+      List<Figurine> candidates = byKey.get(key(restock.getBaseName()));
+      if (Objects.isNull(candidates)) {
+        unmatched.add(restock);
+        continue;
+      }
+      Figurine figurine = resolve(candidates, releaseDate(restock));
+      if (Objects.isNull(figurine)) {
+        ambiguous.add(restock);
+      } else {
+        linked.computeIfAbsent(figurine, k -> new ArrayList<>(1)).add(restock);
+      }
+    }
+
+    for (Figurine figurine : figurines) {
+      List<Restock> values = linked.getOrDefault(figurine, new ArrayList<>(0));
+      values.sort(FigurineCalculator.restockOrder);
+      figurine.setRestocks(values);
+    }
+    return new Linkage(restocks.size() - unmatched.size() - ambiguous.size(), unmatched, ambiguous);
+  }
+
+  /**
+   * Normalizes a base name into a join key.
+   *
+   * @param baseName the base name
+   * @return the key of the base name, empty if it is null or blank
+   */
+  static String key(String baseName) {
+    if (Objects.isNull(baseName)) {
+      return "";
+    }
+    String normalized =
+        isAscii(baseName) ? baseName : Normalizer.normalize(baseName, Normalizer.Form.NFKC);
+    StringBuilder key = new StringBuilder(normalized.length());
+    boolean space = false;
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = !key.isEmpty();
+      } else {
+        if (space) {
+          key.append(' ');
+          space = false;
+        }
+        key.append(c);
+      }
+    }
+    return key.toString().toLowerCase(Locale.ROOT);
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Picks the figurine a restock belongs to among the figurines sharing its key, ordered by release
+   * date, with a binary search for the last one released on or before the restock. Returns null if
+   * there is none, or if the figurine before it in the order was released on the same date, as the
+   * restock cannot be told to belong to either.
+   */
+  private static Figurine resolve(List<Figurine> candidates, LocalDate restockDate) {
+    if (candidates.size() == 1) {
+      return candidates.getFirst();
+    }
+    if (Objects.isNull(restockDate)) {
+      return null;
+    }
+    int low = 0;
+    int high = candidates.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      LocalDate releaseDate = releaseDate(candidates.get(middle));
+      if (Objects.isNull(releaseDate) || !releaseDate.isAfter(restockDate)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    if (low == 0) {
+      return null;
+    }
+    LocalDate releaseDate = releaseDate(candidates.get(low - 1));
+    if (Objects.isNull(releaseDate)
+        || (low > 1 && releaseDate.equals(releaseDate(candidates.get(low - 2))))) {
+      return null;
+    }
+    return candidates.get(low - 1);
+  }
+
+  private static LocalDate releaseDate(BaseFigurine figurine) {
+    for (Market market : Market.values()) {
+      LocalDate releaseDate = releaseDate(figurine.getDistribution(market));
+      if (Objects.nonNull(releaseDate)) {
+        return releaseDate;
+      }
+    }
+    return null;
+  }
+
+  private static LocalDate releaseDate(Distribution distribution) {
+    return Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+  }
+
+  /** The outcome of linking restocks to figurines. */
+  @Getter
+  public static final class Linkage {
+
+    /** The number of restocks linked to a figurine. */
+    private final int linked;
+
+    /** The restocks whose base name matches no figurine. */
+    private final List<Restock> unmatched;
+
+    /** The restocks matching several figurines that their release date does not tell apart. */
+    private final List<Restock> ambiguous;
+
+    Linkage(int linked, List<Restock> unmatched, List<Restock> ambiguous) {
+      this.linked = linked;
+      this.unmatched = List.copyOf(unmatched);
+      this.ambiguous = List.copyOf(ambiguous);
+    }
+  }
+}
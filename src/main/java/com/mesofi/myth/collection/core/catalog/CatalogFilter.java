@@ -0,0 +1,218 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Immutable filter over the indexed attributes of a FigurineCatalog. Values given for the same
+ * attribute are alternatives, while different attributes must all match, so a filter on categories
+ * {@code GOLD} and {@code SILVER} and series {@code SAINTIA_SHO} selects the Gold or Silver Saints
+ * of Saintia Sho. Attributes without values are not constrained. Flags are tested as masks: a
+ * figurine matches if it has every flag given to {@link Builder#withFlags} and none of the flags
+ * given to {@link Builder#withoutFlags}.
+ *
+ * <p>Filters are created with {@link #builder()}:
+ *
+ * <pre>{@code
+ * CatalogFilter filter =
+ *     CatalogFilter.builder()
+ *         .category(Category.GOLD)
+ *         .lineUp(LineUp.MYTH_CLOTH_EX)
+ *         .distributionChannel(DistributionChannel.WS)
+ *         .build();
+ * }</pre>
+ */
+@Getter
+public final class CatalogFilter {
+
+  /** A filter without constraints, matching every figurine in the catalog. */
+  public static final CatalogFilter ALL = builder().build();
+
+  /** The accepted categories, or null if the category is not constrained. */
+  private final Set<Category> categories;
+
+  /** The accepted series, or null if the series is not constrained. */
+  private final Set<Series> series;
+
+  /** The accepted line-ups, or null if the line-up is not constrained. */
+  private final Set<LineUp> lineUps;
+
+  /** The accepted distribution channels, or null if the channel is not constrained. */
+  private final Set<DistributionChannel> distributionChannels;
+
+  /** The accepted anniversaries, or null if the anniversary is not constrained. */
+  private final Set<Anniversary> anniversaries;
+
+  /** The accepted statuses, or null if the status is not constrained. */
+  private final Set<Status> statuses;
+
+  /** The flags a figurine must have, as a mask of {@link FigurineFlag} bits. */
+  private final short requiredFlags;
+
+  /** The flags a figurine must not have, as a mask of {@link FigurineFlag} bits. */
+  private final short forbiddenFlags;
+
+  private CatalogFilter(Builder builder) {
+    this.categories = freeze(builder.categories);
+    this.series = freeze(builder.series);
+    this.lineUps = freeze(builder.lineUps);
+    this.distributionChannels = freeze(builder.distributionChannels);
+    this.anniversaries = freeze(builder.anniversaries);
+    this.statuses = freeze(builder.statuses);
+    this.requiredFlags = builder.requiredFlags;
+    this.forbiddenFlags = builder.forbiddenFlags;
+  }
+
+  /**
+   * Indicates whether this filter constrains the flags of the figurines.
+   *
+   * @return true if any flag is required or forbidden
+   */
+  public boolean hasFlagConstraints() {
+    return (requiredFlags | forbiddenFlags) != 0;
+  }
+
+  /**
+   * Creates a builder for a new filter.
+   *
+   * @return an empty builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private static <E extends Enum<E>> Set<E> freeze(EnumSet<E> values) {
+    return Objects.isNull(values) ? null : Collections.unmodifiableSet(EnumSet.copyOf(values));
+  }
+
+  /** Fluent builder of CatalogFilter instances. */
+  public static final class Builder {
+
+    private EnumSet<Category> categories;
+    private EnumSet<Series> series;
+    private EnumSet<LineUp> lineUps;
+    private EnumSet<DistributionChannel> distributionChannels;
+    private EnumSet<Anniversary> anniversaries;
+    private EnumSet<Status> statuses;
+    private short requiredFlags;
+    private short forbiddenFlags;
+
+    private Builder() {}
+
+    /**
+     * Accepts figurines of any of the given categories.
+     *
+     * @param values the accepted categories
+     * @return this builder
+     */
+    public Builder category(Category... values) {
+      categories = accept(categories, Category.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines of any of the given series.
+     *
+     * @param values the accepted series
+     * @return this builder
+     */
+    public Builder series(Series... values) {
+      series = accept(series, Series.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines of any of the given line-ups.
+     *
+     * @param values the accepted line-ups
+     * @return this builder
+     */
+    public Builder lineUp(LineUp... values) {
+      lineUps = accept(lineUps, LineUp.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines sold through any of the given distribution channels.
+     *
+     * @param values the accepted distribution channels
+     * @return this builder
+     */
+    public Builder distributionChannel(DistributionChannel... values) {
+      distributionChannels = accept(distributionChannels, DistributionChannel.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines released for any of the given anniversaries.
+     *
+     * @param values the accepted anniversaries
+     * @return this builder
+     */
+    public Builder anniversary(Anniversary... values) {
+      anniversaries = accept(anniversaries, Anniversary.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines in any of the given statuses.
+     *
+     * @param values the accepted statuses
+     * @return this builder
+     */
+    public Builder status(Status... values) {
+      statuses = accept(statuses, Status.class, values);
+      return this;
+    }
+
+    /**
+     * Accepts only figurines having all of the given flags.
+     *
+     * @param flags the required flags
+     * @return this builder
+     */
+    public Builder withFlags(FigurineFlag... flags) {
+      requiredFlags = (short) (requiredFlags | FigurineFlag.mask(flags));
+      return this;
+    }
+
+    /**
+     * Accepts only figurines having none of the given flags.
+     *
+     * @param flags the forbidden flags
+     * @return this builder
+     */
+    public Builder withoutFlags(FigurineFlag... flags) {
+      forbiddenFlags = (short) (forbiddenFlags | FigurineFlag.mask(flags));
+      return this;
+    }
+
+    /**
+     * Creates the filter.
+     *
+     * @return a new immutable filter
+     */
+    public CatalogFilter build() {
+      return new CatalogFilter(this);
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> accept(
+        EnumSet<E> accepted, Class<E> type, E[] values) {
+      EnumSet<E> result = Objects.isNull(accepted) ? EnumSet.noneOf(type) : accepted;
+      for (E value : values) {
+        result.add(Objects.requireNonNull(value, "value"));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.mapper.MappingResult;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Differences between two imports of the source catalog, as produced by an IncrementalImporter. A
+ * change set lists the figurines of new rows, the previous and current figurine of every changed
+ * row, and the figurines of rows that disappeared, so indexes and caches can be updated with {@link
+ * FigurineCatalog#apply(ChangeSet)} or similar instead of being rebuilt. Changed rows are mapped to
+ * new Figurine instances; the previous instances are left untouched.
+ *
+ * <p>Rows that could not be mapped are reported as failures and do not appear in the other lists;
+ * the previous figurine of a changed row that failed is kept, and the row is mapped again on the
+ * next import.
+ */
+@Getter
+public final class ChangeSet {
+
+  /** The figurines of the rows that were not present in the previous import. */
+  private final List<Figurine> added;
+
+  /** The rows whose content changed since the previous import. */
+  private final List<Modification> modified;
+
+  /** The figurines of the rows that are no longer present. */
+  private final List<Figurine> removed;
+
+  /** The rows that could not be mapped. */
+  private final List<MappingResult> failures;
+
+  ChangeSet(
+      List<Figurine> added,
+      List<Modification> modified,
+      List<Figurine> removed,
+      List<MappingResult> failures) {
+    this.added = List.copyOf(added);
+    this.modified = List.copyOf(modified);
+    this.removed = List.copyOf(removed);
+    this.failures = List.copyOf(failures);
+  }
+
+  /**
+   * Indicates whether the import changed no figurine.
+   *
+   * @return true if nothing was added, modified or removed
+   */
+  public boolean isEmpty() {
+    return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+  }
+
+  /**
+   * Returns the number of figurines added, modified or removed.
+   *
+   * @return the number of changes
+   */
+  public int size() {
+    return added.size() + modified.size() + removed.size();
+  }
+
+  /** A changed row, with the figurine mapped by the previous import and the one replacing it. */
+  @Getter
+  public static final class Modification {
+
+    /** The figurine mapped by the previous import. */
+    private final Figurine previous;
+
+    /** The figurine mapped from the changed row. */
+    private final Figurine current;
+
+    Modification(Figurine previous, Figurine current) {
+      this.previous = previous;
+      this.current = current;
+    }
+  }
+}
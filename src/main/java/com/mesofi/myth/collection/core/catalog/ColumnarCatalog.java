@@ -0,0 +1,656 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Distributor;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable column-oriented snapshot of a set of figurines for analytics scans. Each attribute is
+ * stored in its own primitive array indexed by row: enum attributes as byte ordinals, dates as
+ * epoch days, prices as longs scaled to {@value #PRICE_SCALE} decimal places, and flags as one
+ * bitmap per {@link FigurineFlag}. Nullable columns carry a bitmap of the rows holding a value. The
+ * distributions of each market are stored as a separate group of columns, see {@link
+ * MarketColumns}.
+ *
+ * <p>Aggregations walk these arrays in plain loops instead of following references from figurines
+ * to distributions to prices and dates. {@link #aggregate} splits the rows into ranges processed in
+ * parallel on a fork-join pool and combines the partial results:
+ *
+ * <pre>{@code
+ * PriceColumn prices = columnar.getMarket(Market.JPY).getBasePrice();
+ * long total =
+ *     columnar.aggregate(
+ *         () -> new long[1],
+ *         (sum, from, to) -> {
+ *           for (int row = from; row < to; row++) {
+ *             if (prices.isPresent(row)) {
+ *               sum[0] += prices.get(row);
+ *             }
+ *           }
+ *         },
+ *         (left, right) -> new long[] {left[0] + right[0]})[0];
+ * }</pre>
+ *
+ * <p>Rows keep the order of the collection the snapshot was built from.
+ */
+@Getter
+public final class ColumnarCatalog {
+
+  /** Number of decimal places of the scaled prices. */
+  public static final int PRICE_SCALE = 2;
+
+  /**
+   * Rounding of prices with more than {@value #PRICE_SCALE} decimal places, such as a computed
+   * ¥1,234.567, to the scale of the price columns.
+   */
+  public static final RoundingMode priceRounding = RoundingMode.HALF_EVEN;
+
+  /** Number of rows below which aggregation ranges are not split further. */
+  static final int SPLIT_THRESHOLD = 8192;
+
+  /** The number of rows of the snapshot. */
+  private final int size;
+
+  private final EnumColumn<Category> category;
+  private final EnumColumn<Series> series;
+  private final EnumColumn<LineUp> lineUp;
+  private final EnumColumn<DistributionChannel> distributionChannel;
+  private final EnumColumn<Anniversary> anniversary;
+  private final EnumColumn<Status> status;
+
+  /** The distribution columns of every market, indexed by ordinal. */
+  @Getter(AccessLevel.NONE)
+  private final MarketColumns[] markets;
+
+  @Getter(AccessLevel.NONE)
+  private final BitSet[] flags;
+
+  @Getter(AccessLevel.NONE)
+  private final Figurine[] figurines;
+
+  /**
+   * Builds a snapshot of the given figurines, one row per figurine in iteration order.
+   *
+   * @param figurines the figurines to copy
+   * @throws IllegalArgumentException if a price does not fit in a long once scaled
+   */
+  public ColumnarCatalog(Collection<Figurine> figurines) {
+    this.figurines = figurines.toArray(new Figurine[0]);
+    this.size = this.figurines.length;
+    this.category = new EnumColumn<>(Category.class, size);
+    this.series = new EnumColumn<>(Series.class, size);
+    this.lineUp = new EnumColumn<>(LineUp.class, size);
+    this.distributionChannel = new EnumColumn<>(DistributionChannel.class, size);
+    this.anniversary = new EnumColumn<>(Anniversary.class, size);
+    this.status = new EnumColumn<>(Status.class, size);
+    this.markets = new MarketColumns[Market.values().length];
+    for (Market market : Market.values()) {
+      markets[market.ordinal()] = new MarketColumns(market, size);
+    }
+    this.flags = new BitSet[FigurineFlag.values().length];
+    for (int f = 0; f < flags.length; f++) {
+      flags[f] = new BitSet(size);
+    }
+    for (int row = 0; row < size; row++) {
+      Figurine figurine = Objects.requireNonNull(this.figurines[row], "figurine");
+      category.set(row, figurine.getCategory());
+      series.set(row, figurine.getSeries());
+      lineUp.set(row, figurine.getLineUp());
+      distributionChannel.set(row, figurine.getDistributionChannel());
+      anniversary.set(row, figurine.getAnniversary());
+      status.set(row, figurine.getStatus());
+      for (MarketColumns columns : markets) {
+        columns.set(row, figurine.getDistribution(columns.market));
+      }
+      short packed = figurine.getFlags();
+      for (FigurineFlag flag : FigurineFlag.values()) {
+        if ((packed & flag.getMask()) != 0) {
+          flags[flag.ordinal()].set(row);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the figurine a row was built from.
+   *
+   * @param row the row
+   * @return the figurine of the row
+   */
+  public Figurine getFigurine(int row) {
+    return figurines[row];
+  }
+
+  /**
+   * Returns the distribution columns of the given market.
+   *
+   * @param market the market
+   * @return the columns of the market
+   */
+  public MarketColumns getMarket(Market market) {
+    return markets[market.ordinal()];
+  }
+
+  /**
+   * Returns the distribution columns of the Japanese market.
+   *
+   * @return the columns of {@link Market#JPY}
+   */
+  public MarketColumns getDistributionJPY() {
+    return getMarket(Market.JPY);
+  }
+
+  /**
+   * Returns the distribution columns of the Mexican market.
+   *
+   * @return the columns of {@link Market#MXN}
+   */
+  public MarketColumns getDistributionMXN() {
+    return getMarket(Market.MXN);
+  }
+
+  /**
+   * Indicates whether the figurine of a row has the given flag.
+   *
+   * @param row the row
+   * @param flag the flag to test
+   * @return true if the flag is set
+   */
+  public boolean is(int row, FigurineFlag flag) {
+    return flags[flag.ordinal()].get(row);
+  }
+
+  /**
+   * Returns the rows whose figurine has the given flag.
+   *
+   * @param flag the flag
+   * @return a new bitmap of the rows having the flag
+   */
+  public BitSet withFlag(FigurineFlag flag) {
+    return (BitSet) flags[flag.ordinal()].clone();
+  }
+
+  /**
+   * Computes the rows matching the given filter.
+   *
+   * @param filter the filter to apply
+   * @return a new bitmap of the matching rows
+   */
+  public BitSet select(CatalogFilter filter) {
+    BitSet rows = new BitSet(size);
+    rows.set(0, size);
+    category.retain(filter.getCategories(), rows);
+    series.retain(filter.getSeries(), rows);
+    lineUp.retain(filter.getLineUps(), rows);
+    distributionChannel.retain(filter.getDistributionChannels(), rows);
+    anniversary.retain(filter.getAnniversaries(), rows);
+    status.retain(filter.getStatuses(), rows);
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      if ((filter.getRequiredFlags() & flag.getMask()) != 0) {
+        rows.and(flags[flag.ordinal()]);
+      }
+      if ((filter.getForbiddenFlags() & flag.getMask()) != 0) {
+        rows.andNot(flags[flag.ordinal()]);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Aggregates the rows in parallel on the common fork-join pool.
+   *
+   * @param supplier creates an empty partial result for each range
+   * @param accumulator folds a range of rows into a partial result
+   * @param combiner merges two partial results, the left one covering the lower rows
+   * @param <A> the type of the result
+   * @return the result covering every row
+   */
+  public <A> A aggregate(
+      Supplier<A> supplier, RangeAccumulator<A> accumulator, BinaryOperator<A> combiner) {
+    return aggregate(supplier, accumulator, combiner, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Aggregates the rows in parallel on the given fork-join pool. The rows are split into contiguous
+   * ranges, each range is folded into its own partial result, and the partial results are combined
+   * in row order.
+   *
+   * @param supplier creates an empty partial result for each range
+   * @param accumulator folds a range of rows into a partial result
+   * @param combiner merges two partial results, the left one covering the lower rows
+   * @param pool the pool running the aggregation
+   * @param <A> the type of the result
+   * @return the result covering every row
+   */
+  public <A> A aggregate(
+      Supplier<A> supplier,
+      RangeAccumulator<A> accumulator,
+      BinaryOperator<A> combiner,
+      ForkJoinPool pool) {
+    return pool.invoke(new AggregateTask<>(0, size, supplier, accumulator, combiner));
+  }
+
+  /**
+   * Computes statistics of the base prices of every row in the given market, in units of
+   * 10<sup>-{@value #PRICE_SCALE}</sup> of the currency. Rows without a base price are skipped.
+   *
+   * @param market the market
+   * @return the statistics of the scaled base prices
+   */
+  public LongSummaryStatistics basePriceStatistics(Market market) {
+    return basePriceStatistics(market, null);
+  }
+
+  /**
+   * Computes statistics of the base prices in the given market, in units of 10<sup>-{@value
+   * #PRICE_SCALE}</sup> of the currency. Rows without a base price are skipped.
+   *
+   * @param market the market
+   * @param rows the rows to include, or null to include every row
+   * @return the statistics of the scaled base prices
+   */
+  public LongSummaryStatistics basePriceStatistics(Market market, BitSet rows) {
+    PriceColumn prices = getMarket(market).getBasePrice();
+    return aggregate(
+        LongSummaryStatistics::new,
+        (statistics, from, to) -> {
+          for (int row = from; row < to; row++) {
+            if (prices.isPresent(row) && (Objects.isNull(rows) || rows.get(row))) {
+              statistics.accept(prices.get(row));
+            }
+          }
+        },
+        (left, right) -> {
+          left.combine(right);
+          return left;
+        });
+  }
+
+  /**
+   * Computes statistics of the base prices in the given market grouped by the value of an enum
+   * column, in units of 10<sup>-{@value #PRICE_SCALE}</sup> of the currency. Rows without a base
+   * price or without a value in the grouping column are skipped.
+   *
+   * @param market the market
+   * @param groupBy the column to group by, one of the enum columns of this snapshot
+   * @param <E> the type of the grouping column
+   * @return the statistics of every value having at least one price
+   */
+  public <E extends Enum<E>> Map<E, LongSummaryStatistics> basePriceStatisticsBy(
+      Market market, EnumColumn<E> groupBy) {
+    PriceColumn prices = getMarket(market).getBasePrice();
+    E[] values = groupBy.getType().getEnumConstants();
+    LongSummaryStatistics[] groups =
+        aggregate(
+            () -> newStatistics(values.length),
+            (statistics, from, to) -> {
+              for (int row = from; row < to; row++) {
+                int ordinal = groupBy.ordinal(row);
+                if (ordinal >= 0 && prices.isPresent(row)) {
+                  statistics[ordinal].accept(prices.get(row));
+                }
+              }
+            },
+            (left, right) -> {
+              for (int i = 0; i < left.length; i++) {
+                left[i].combine(right[i]);
+              }
+              return left;
+            });
+    Map<E, LongSummaryStatistics> result = new EnumMap<>(groupBy.getType());
+    for (E value : values) {
+      if (groups[value.ordinal()].getCount() > 0) {
+        result.put(value, groups[value.ordinal()]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Converts a scaled price back to its decimal value.
+   *
+   * @param scaled the price in units of 10<sup>-{@value #PRICE_SCALE}</sup>
+   * @return the decimal price
+   */
+  public static BigDecimal toDecimal(long scaled) {
+    return BigDecimal.valueOf(scaled, PRICE_SCALE);
+  }
+
+  private static LongSummaryStatistics[] newStatistics(int length) {
+    LongSummaryStatistics[] statistics = new LongSummaryStatistics[length];
+    for (int i = 0; i < length; i++) {
+      statistics[i] = new LongSummaryStatistics();
+    }
+    return statistics;
+  }
+
+  /**
+   * Folds a contiguous range of rows into a partial result.
+   *
+   * @param <A> the type of the partial result
+   */
+  @FunctionalInterface
+  public interface RangeAccumulator<A> {
+
+    /**
+     * Accumulates the given rows.
+     *
+     * @param result the partial result to update
+     * @param from the first row, inclusive
+     * @param to the last row, exclusive
+     */
+    void accumulate(A result, int from, int to);
+  }
+
+  /** Column of enum values stored as byte ordinals, -1 standing for null. */
+  public static final class EnumColumn<E extends Enum<E>> {
+
+    /** The type of the values of the column. */
+    @Getter private final Class<E> type;
+
+    private final E[] values;
+    private final byte[] ordinals;
+
+    private EnumColumn(Class<E> type, int size) {
+      this.type = type;
+      this.values = type.getEnumConstants();
+      if (values.length > Byte.MAX_VALUE) {
+        throw new IllegalArgumentException("Too many constants to store in " + type.getName());
+      }
+      this.ordinals = new byte[size];
+    }
+
+    private void set(int row, E value) {
+      ordinals[row] = Objects.isNull(value) ? -1 : (byte) value.ordinal();
+    }
+
+    /**
+     * Returns the ordinal of the value of a row.
+     *
+     * @param row the row
+     * @return the ordinal of the value, or -1 if the row has no value
+     */
+    public int ordinal(int row) {
+      return ordinals[row];
+    }
+
+    /**
+     * Returns the value of a row.
+     *
+     * @param row the row
+     * @return the value, or null if the row has no value
+     */
+    public E get(int row) {
+      int ordinal = ordinals[row];
+      return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Restricts the given rows to those holding any of the given values.
+     *
+     * @param accepted the accepted values, or null if the column is not constrained
+     * @param rows the candidate rows, modified in place
+     */
+    private void retain(Set<E> accepted, BitSet rows) {
+      if (Objects.isNull(accepted)) {
+        return;
+      }
+      boolean[] matches = new boolean[values.length];
+      for (E value : accepted) {
+        matches[value.ordinal()] = true;
+      }
+      for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+        int ordinal = ordinals[row];
+        if (ordinal < 0 || !matches[ordinal]) {
+          rows.clear(row);
+        }
+      }
+    }
+  }
+
+  /**
+   * Column of prices stored as longs scaled to {@value #PRICE_SCALE} decimal places. Prices with
+   * more decimal places are rounded with {@link #priceRounding}.
+   */
+  public static final class PriceColumn {
+
+    private final long[] values;
+    private final BitSet present;
+
+    private PriceColumn(int size) {
+      this.values = new long[size];
+      this.present = new BitSet(size);
+    }
+
+    private void set(int row, Money value) {
+      if (Objects.nonNull(value)) {
+        try {
+          values[row] = value.toUnscaled(PRICE_SCALE, priceRounding);
+        } catch (ArithmeticException e) {
+          throw new IllegalArgumentException("Invalid price for a scaled column: " + value, e);
+        }
+        present.set(row);
+      }
+    }
+
+    /**
+     * Indicates whether a row has a price.
+     *
+     * @param row the row
+     * @return true if the row has a price
+     */
+    public boolean isPresent(int row) {
+      return present.get(row);
+    }
+
+    /**
+     * Returns the scaled price of a row.
+     *
+     * @param row the row
+     * @return the price in units of 10<sup>-{@value #PRICE_SCALE}</sup>, or 0 if absent
+     */
+    public long get(int row) {
+      return values[row];
+    }
+
+    /**
+     * Returns the price of a row as a decimal.
+     *
+     * @param row the row
+     * @return the price, or null if absent
+     */
+    public BigDecimal getDecimal(int row) {
+      return present.get(row) ? toDecimal(values[row]) : null;
+    }
+  }
+
+  /** Column of dates stored as epoch days. */
+  public static final class DateColumn {
+
+    private final int[] days;
+    private final BitSet present;
+
+    private DateColumn(int size) {
+      this.days = new int[size];
+      this.present = new BitSet(size);
+    }
+
+    private void set(int row, LocalDate value) {
+      if (Objects.nonNull(value)) {
+        days[row] = Math.toIntExact(value.toEpochDay());
+        present.set(row);
+      }
+    }
+
+    /**
+     * Indicates whether a row has a date.
+     *
+     * @param row the row
+     * @return true if the row has a date
+     */
+    public boolean isPresent(int row) {
+      return present.get(row);
+    }
+
+    /**
+     * Returns the date of a row as an epoch day.
+     *
+     * @param row the row
+     * @return the number of days since 1970-01-01, or 0 if absent
+     */
+    public int getEpochDay(int row) {
+      return days[row];
+    }
+
+    /**
+     * Returns the date of a row.
+     *
+     * @param row the row
+     * @return the date, or null if absent
+     */
+    public LocalDate getDate(int row) {
+      return present.get(row) ? LocalDate.ofEpochDay(days[row]) : null;
+    }
+  }
+
+  /**
+   * Columns of the Distribution of every row in one market. Rows whose figurine has no distribution
+   * in the market have no value in any column.
+   */
+  @Getter
+  public static final class MarketColumns {
+
+    /** The market of the columns. */
+    private final Market market;
+
+    private final EnumColumn<Distributor> distributor;
+    private final PriceColumn basePrice;
+    private final PriceColumn finalPrice;
+    private final DateColumn firstAnnouncementDate;
+    private final DateColumn preOrderDate;
+    private final DateColumn releaseDate;
+
+    @Getter(AccessLevel.NONE)
+    private final BitSet present;
+
+    @Getter(AccessLevel.NONE)
+    private final BitSet releaseDateConfirmed;
+
+    @Getter(AccessLevel.NONE)
+    private final BitSet releaseDateConfirmedPresent;
+
+    private MarketColumns(Market market, int size) {
+      this.market = market;
+      this.distributor = new EnumColumn<>(Distributor.class, size);
+      this.basePrice = new PriceColumn(size);
+      this.finalPrice = new PriceColumn(size);
+      this.firstAnnouncementDate = new DateColumn(size);
+      this.preOrderDate = new DateColumn(size);
+      this.releaseDate = new DateColumn(size);
+      this.present = new BitSet(size);
+      this.releaseDateConfirmed = new BitSet(size);
+      this.releaseDateConfirmedPresent = new BitSet(size);
+    }
+
+    private void set(int row, Distribution distribution) {
+      distributor.set(row, null);
+      if (Objects.isNull(distribution)) {
+        return;
+      }
+      present.set(row);
+      distributor.set(row, distribution.getDistributor());
+      basePrice.set(row, distribution.getBaseMoney());
+      finalPrice.set(row, distribution.getFinalMoney());
+      firstAnnouncementDate.set(row, distribution.getFirstAnnouncementDate());
+      preOrderDate.set(row, distribution.getPreOrderDate());
+      releaseDate.set(row, distribution.getReleaseDate());
+      if (Objects.nonNull(distribution.getReleaseDateConfirmed())) {
+        releaseDateConfirmedPresent.set(row);
+        releaseDateConfirmed.set(row, distribution.getReleaseDateConfirmed());
+      }
+    }
+
+    /**
+     * Indicates whether the figurine of a row is distributed in the market.
+     *
+     * @param row the row
+     * @return true if the row has a distribution in the market
+     */
+    public boolean isPresent(int row) {
+      return present.get(row);
+    }
+
+    /**
+     * Indicates whether the release date of a row is confirmed.
+     *
+     * @param row the row
+     * @return the confirmation flag, or null if absent
+     */
+    public Boolean isReleaseDateConfirmed(int row) {
+      return releaseDateConfirmedPresent.get(row) ? releaseDateConfirmed.get(row) : null;
+    }
+  }
+
+  /** Fork-join task folding a range of rows, splitting it in halves while it is large. */
+  private static final class AggregateTask<A> extends RecursiveTask<A> {
+
+    private final int from;
+    private final int to;
+    private final Supplier<A> supplier;
+    private final RangeAccumulator<A> accumulator;
+    private final BinaryOperator<A> combiner;
+
+    AggregateTask(
+        int from,
+        int to,
+        Supplier<A> supplier,
+        RangeAccumulator<A> accumulator,
+        BinaryOperator<A> combiner) {
+      this.from = from;
+      this.to = to;
+      this.supplier = supplier;
+      this.accumulator = accumulator;
+      this.combiner = combiner;
+    }
+
+    @Override
+    protected A compute() {
+      if (to - from <= SPLIT_THRESHOLD) {
+        A result = supplier.get();
+        accumulator.accumulate(result, from, to);
+        return result;
+      }
+      int middle = (from + to) >>> 1;
+      AggregateTask<A> left = new AggregateTask<>(from, middle, supplier, accumulator, combiner);
+      AggregateTask<A> right = new AggregateTask<>(middle, to, supplier, accumulator, combiner);
+      right.fork();
+      A lower = left.compute();
+      return combiner.apply(lower, right.join());
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Secondary index of a FigurineCatalog on one enum attribute. Every value of the enum owns a bitmap
+ * with one bit per catalog id, so the figurines having any of a set of values are found by OR-ing a
+ * few bitmaps, and filters on several attributes are answered by AND-ing the per-attribute results.
+ *
+ * <p>The ordinal indexed for every id is remembered, so an entry is removed from the right bitmap
+ * even if the figurine has been modified since it was indexed. Figurines whose attribute is null
+ * are not present in any bitmap. The number of ids of every value is kept up to date, so the size
+ * of a selection is known before any bitmap is read. Instances are not thread-safe; the catalog
+ * guards them with its lock.
+ *
+ * @param <E> the type of the indexed attribute
+ */
+final class EnumBitmapIndex<E extends Enum<E>> {
+
+  private static final byte ABSENT = -1;
+
+  private final Function<Figurine, E> attribute;
+  private final E[] values;
+  private final EnumMap<E, BitSet> bitmaps;
+  private final int[] counts;
+  private byte[] ordinals = new byte[64];
+
+  /**
+   * Creates an empty index.
+   *
+   * @param type the type of the indexed attribute
+   * @param attribute the function reading the attribute from a figurine
+   */
+  EnumBitmapIndex(Class<E> type, Function<Figurine, E> attribute) {
+    this.attribute = attribute;
+    this.values = type.getEnumConstants();
+    if (values.length > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many constants to index in " + type.getName());
+    }
+    this.counts = new int[values.length];
+    this.bitmaps = new EnumMap<>(type);
+    for (E value : values) {
+      bitmaps.put(value, new BitSet());
+    }
+  }
+
+  /**
+   * Indexes the given figurine under the given id.
+   *
+   * @param id the catalog id of the figurine
+   * @param figurine the figurine to index
+   */
+  void add(int id, Figurine figurine) {
+    if (id >= ordinals.length) {
+      int length = ordinals.length;
+      ordinals = Arrays.copyOf(ordinals, Math.max(id + 1, length * 2));
+      Arrays.fill(ordinals, length, ordinals.length, ABSENT);
+    }
+    E value = attribute.apply(figurine);
+    if (Objects.isNull(value)) {
+      ordinals[id] = ABSENT;
+    } else {
+      ordinals[id] = (byte) value.ordinal();
+      counts[value.ordinal()]++;
+      bitmaps.get(value).set(id);
+    }
+  }
+
+  /**
+   * Removes the given id from the index.
+   *
+   * @param id the catalog id to remove
+   */
+  void remove(int id) {
+    if (id < ordinals.length && ordinals[id] != ABSENT) {
+      bitmaps.get(values[ordinals[id]]).clear(id);
+      counts[ordinals[id]]--;
+      ordinals[id] = ABSENT;
+    }
+  }
+
+  /** Removes every entry from the index. */
+  void clear() {
+    bitmaps.values().forEach(BitSet::clear);
+    Arrays.fill(counts, 0);
+    Arrays.fill(ordinals, ABSENT);
+  }
+
+  /**
+   * Counts the ids indexed under any of the given values, without reading the bitmaps.
+   *
+   * @param accepted the accepted values
+   * @return the number of ids having one of the values
+   */
+  int count(Set<E> accepted) {
+    int count = 0;
+    for (E value : accepted) {
+      count += counts[value.ordinal()];
+    }
+    return count;
+  }
+
+  /**
+   * Restricts the given ids to those indexed under any of the given values. A null set leaves the
+   * ids unchanged.
+   *
+   * @param accepted the accepted values, or null if the attribute is not constrained
+   * @param ids the candidate ids, modified in place
+   */
+  void retain(Set<E> accepted, BitSet ids) {
+    if (Objects.isNull(accepted)) {
+      return;
+    }
+    if (accepted.size() == 1) {
+      ids.and(bitmaps.get(accepted.iterator().next()));
+      return;
+    }
+    BitSet union = new BitSet();
+    for (E value : accepted) {
+      union.or(bitmaps.get(value));
+    }
+    ids.and(union);
+  }
+}
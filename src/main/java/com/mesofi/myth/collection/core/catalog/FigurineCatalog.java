@@ -0,0 +1,588 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory store of mapped figurines with secondary indexes on their category, series, line-up,
+ * distribution channel, anniversary and status, plus a packed copy of their flags. Every figurine
+ * is assigned a dense integer id, and every indexed attribute keeps one bitmap per enum value, so a
+ * {@link CatalogFilter} combining several attributes is answered with a handful of bitmap unions
+ * and intersections instead of a scan over the whole catalog. Flag constraints are then checked
+ * against the packed flags of the remaining candidates with one mask comparison each.
+ *
+ * <p>Figurines are tracked by identity. Indexes reflect the attributes a figurine had when it was
+ * added; after modifying an indexed attribute of a stored figurine, call {@link
+ * #reindex(Figurine)}. Results are returned in insertion order.
+ *
+ * <p>A {@link FigurineQuery} adds conditions on release dates, prices or arbitrary predicates to
+ * the indexed attributes. They are tested on the candidates left by the indexes, in an order
+ * planned from their cost and their selectivity on a sample of those candidates, optionally in
+ * parallel.
+ *
+ * <p>Names and remarks are also held in a full-text index under the same ids, so {@link
+ * #search(String, CatalogFilter, int)} tolerates partial words and misspellings and combines with
+ * the same filters, and it is kept up to date by the same additions, removals and reindexing.
+ *
+ * <p>The catalog is safe for concurrent use: queries share a read lock, while additions, removals
+ * and reindexing take the write lock.
+ */
+public class FigurineCatalog {
+
+  /** Flags are probed id by id when fewer than one id in this many is still a candidate. */
+  private static final int FLAG_PROBE_RATIO = 16;
+
+  /** The number of candidates below which a query is not split further across threads. */
+  private static final int QUERY_THRESHOLD = 4096;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final List<Figurine> figurines = new ArrayList<>();
+  private final Map<Figurine, Integer> ids = new IdentityHashMap<>();
+  private final BitSet live = new BitSet();
+  private short[] flags = new short[64];
+
+  private final EnumBitmapIndex<Category> categories =
+      new EnumBitmapIndex<>(Category.class, Figurine::getCategory);
+  private final EnumBitmapIndex<Series> series =
+      new EnumBitmapIndex<>(Series.class, Figurine::getSeries);
+  private final EnumBitmapIndex<LineUp> lineUps =
+      new EnumBitmapIndex<>(LineUp.class, Figurine::getLineUp);
+  private final EnumBitmapIndex<DistributionChannel> distributionChannels =
+      new EnumBitmapIndex<>(DistributionChannel.class, Figurine::getDistributionChannel);
+  private final EnumBitmapIndex<Anniversary> anniversaries =
+      new EnumBitmapIndex<>(Anniversary.class, Figurine::getAnniversary);
+  private final EnumBitmapIndex<Status> statuses =
+      new EnumBitmapIndex<>(Status.class, Figurine::getStatus);
+
+  private final List<EnumBitmapIndex<?>> indexes =
+      List.of(categories, series, lineUps, distributionChannels, anniversaries, statuses);
+
+  private final TextIndex text = new TextIndex();
+
+  /** Creates an empty catalog. */
+  public FigurineCatalog() {}
+
+  /**
+   * Creates a catalog holding the given figurines.
+   *
+   * @param figurines the initial figurines
+   */
+  public FigurineCatalog(Collection<Figurine> figurines) {
+    for (Figurine figurine : figurines) {
+      insert(Objects.requireNonNull(figurine, "figurine"));
+    }
+  }
+
+  /**
+   * Adds a figurine to the catalog.
+   *
+   * @param figurine the figurine to add
+   * @return true if the figurine was added, false if it was already in the catalog
+   */
+  public boolean add(Figurine figurine) {
+    Objects.requireNonNull(figurine, "figurine");
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      return insert(figurine);
+    } finally {
+      write.unlock();
+    }
+  }
+
+  /**
+   * Adds the given figurines to the catalog. Figurines already in the catalog are skipped.
+   *
+   * @param figurines the figurines to add
+   */
+  public void addAll(Collection<Figurine> figurines) {
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      for (Figurine figurine : figurines) {
+        insert(Objects.requireNonNull(figurine, "figurine"));
+      }
+    } finally {
+      write.unlock();
+    }
+  }
+
+  /**
+   * Removes a figurine from the catalog.
+   *
+   * @param figurine the figurine to remove
+   * @return true if the figurine was removed, false if it was not in the catalog
+   */
+  public boolean remove(Figurine figurine) {
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      return delete(figurine);
+    } finally {
+      write.unlock();
+    }
+  }
+
+  /**
+   * Applies the changes of an incremental import: removed figurines are dropped, modified ones are
+   * replaced in place, keeping their position in results, and added ones are appended. The whole
+   * change set is applied atomically with respect to queries.
+   *
+   * @param changes the changes to apply
+   */
+  public void apply(ChangeSet changes) {
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      for (ChangeSet.Modification modification : changes.getModified()) {
+        Integer id = ids.remove(modification.getPrevious());
+        if (Objects.isNull(id)) {
+          insert(modification.getCurrent());
+        } else {
+          figurines.set(id, modification.getCurrent());
+          ids.put(modification.getCurrent(), id);
+          index(id, modification.getCurrent());
+        }
+      }
+      changes.getAdded().forEach(this::insert);
+      for (Figurine figurine : changes.getRemoved()) {
+        delete(figurine);
+      }
+    } finally {
+      write.unlock();
+    }
+  }
+
+  /**
+   * Refreshes the indexes of a figurine whose indexed attributes have been modified.
+   *
+   * @param figurine the modified figurine
+   * @return true if the figurine was reindexed, false if it is not in the catalog
+   */
+  public boolean reindex(Figurine figurine) {
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      Integer id = ids.get(figurine);
+      if (Objects.isNull(id)) {
+        return false;
+      }
+      index(id, figurine);
+      return true;
+    } finally {
+      write.unlock();
+    }
+  }
+
+  /**
+   * Indicates whether the given figurine is in the catalog.
+   *
+   * @param figurine the figurine to look for
+   * @return true if this exact instance is in the catalog
+   */
+  public boolean contains(Figurine figurine) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      return ids.containsKey(figurine);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of figurines in the catalog.
+   *
+   * @return the number of figurines
+   */
+  public int size() {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      return ids.size();
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Finds the figurines matching the given filter.
+   *
+   * @param filter the filter to apply
+   * @return an unmodifiable list of the matching figurines, in insertion order
+   */
+  public List<Figurine> find(CatalogFilter filter) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      BitSet matches = select(filter);
+      List<Figurine> result = new ArrayList<>(matches.cardinality());
+      for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+        result.add(figurines.get(id));
+      }
+      return Collections.unmodifiableList(result);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Counts the figurines matching the given filter, without materializing them.
+   *
+   * @param filter the filter to apply
+   * @return the number of matching figurines
+   */
+  public int count(CatalogFilter filter) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      return select(filter).cardinality();
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Finds the figurines matching the given query.
+   *
+   * @param query the query to run
+   * @return an unmodifiable list of the matching figurines, in insertion order
+   */
+  public List<Figurine> find(FigurineQuery query) {
+    return find(query, null);
+  }
+
+  /**
+   * Finds the figurines matching the given query, testing the candidates in parallel on the given
+   * fork-join pool.
+   *
+   * @param query the query to run
+   * @param pool the pool testing the candidates, or null to test them on the calling thread
+   * @return an unmodifiable list of the matching figurines, in insertion order
+   */
+  public List<Figurine> find(FigurineQuery query, ForkJoinPool pool) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      int[] matches = evaluate(query, pool);
+      List<Figurine> result = new ArrayList<>(matches.length);
+      for (int id : matches) {
+        result.add(figurines.get(id));
+      }
+      return Collections.unmodifiableList(result);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Counts the figurines matching the given query, without materializing them.
+   *
+   * @param query the query to run
+   * @return the number of matching figurines
+   */
+  public int count(FigurineQuery query) {
+    return count(query, null);
+  }
+
+  /**
+   * Counts the figurines matching the given query, testing the candidates in parallel on the given
+   * fork-join pool.
+   *
+   * @param query the query to run
+   * @param pool the pool testing the candidates, or null to test them on the calling thread
+   * @return the number of matching figurines
+   */
+  public int count(FigurineQuery query, ForkJoinPool pool) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      if (query.getConditions().isEmpty()) {
+        return select(query.getFilter()).cardinality();
+      }
+      return evaluate(query, pool).length;
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Searches the figurines matching the given filter by name and remarks. Every word of the query
+   * must match a word of the name or remarks of a figurine, either exactly, as a prefix, or with a
+   * misspelling of one or two letters depending on its length; case and accents are ignored.
+   *
+   * @param query the words to look for, such as "Shun V2" or "Aiolia OCE"
+   * @param filter the filter the figurines found must also match
+   * @param limit the maximum number of hits to return
+   * @return an unmodifiable list of at most {@code limit} hits, best first, ties in insertion order
+   */
+  public List<SearchHit> search(String query, CatalogFilter filter, int limit) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      List<TextIndex.ScoredId> best = text.search(query, select(filter), limit);
+      List<SearchHit> result = new ArrayList<>(best.size());
+      for (TextIndex.ScoredId hit : best) {
+        result.add(new SearchHit(figurines.get(hit.id()), hit.score()));
+      }
+      return Collections.unmodifiableList(result);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Builds a columnar snapshot of the figurines currently in the catalog, for analytics scans.
+   *
+   * @return a snapshot with one row per figurine, in insertion order
+   */
+  public ColumnarCatalog toColumnar() {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      List<Figurine> current = new ArrayList<>(ids.size());
+      for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+        current.add(figurines.get(id));
+      }
+      return new ColumnarCatalog(current);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Computes the ids of the figurines matching the given filter. Must be called while holding the
+   * lock. The constrained indexes are intersected from the one selecting the fewest ids, known from
+   * their counts, and the intersection stops as soon as it is empty. Flags are then tested on every
+   * remaining candidate when there are few of them, or by a scan of the packed flags otherwise.
+   *
+   * @param filter the filter to apply
+   * @return a new bitmap of the matching ids
+   */
+  BitSet select(CatalogFilter filter) {
+    List<Restriction> restrictions = new ArrayList<>(indexes.size());
+    restrict(restrictions, categories, filter.getCategories());
+    restrict(restrictions, series, filter.getSeries());
+    restrict(restrictions, lineUps, filter.getLineUps());
+    restrict(restrictions, distributionChannels, filter.getDistributionChannels());
+    restrict(restrictions, anniversaries, filter.getAnniversaries());
+    restrict(restrictions, statuses, filter.getStatuses());
+    restrictions.sort(Comparator.comparingInt(restriction -> restriction.estimate));
+
+    BitSet matches = (BitSet) live.clone();
+    for (Restriction restriction : restrictions) {
+      if (matches.isEmpty()) {
+        return matches;
+      }
+      restriction.retain.accept(matches);
+    }
+    if (filter.hasFlagConstraints() && !matches.isEmpty()) {
+      short required = filter.getRequiredFlags();
+      short forbidden = filter.getForbiddenFlags();
+      if ((required & forbidden) != 0) {
+        matches.clear();
+      } else if (matches.cardinality() * FLAG_PROBE_RATIO < figurines.size()) {
+        int mask = required | forbidden;
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+          if ((flags[id] & mask) != required) {
+            matches.clear(id);
+          }
+        }
+      } else {
+        matches.and(withFlags(required, forbidden));
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Computes the ids of the figurines matching the given query. Must be called while holding the
+   * lock; the pool only reads the catalog while the calling thread holds it.
+   *
+   * @param query the query to run
+   * @param pool the pool testing the candidates, or null to test them on the calling thread
+   * @return the matching ids, in increasing order
+   */
+  private int[] evaluate(FigurineQuery query, ForkJoinPool pool) {
+    int[] candidates = select(query.getFilter()).stream().toArray();
+    if (query.getConditions().isEmpty() || candidates.length == 0) {
+      return candidates;
+    }
+    QueryPlan plan = new QueryPlan(query.getConditions(), figurines, candidates);
+    int count = 0;
+    if (Objects.isNull(pool)) {
+      for (int id : candidates) {
+        if (plan.test(figurines.get(id))) {
+          candidates[count++] = id;
+        }
+      }
+    } else {
+      boolean[] passed = new boolean[candidates.length];
+      pool.invoke(new FilterTask(plan, candidates, passed, 0, candidates.length));
+      for (int i = 0; i < candidates.length; i++) {
+        if (passed[i]) {
+          candidates[count++] = candidates[i];
+        }
+      }
+    }
+    return Arrays.copyOf(candidates, count);
+  }
+
+  /**
+   * Adds the restriction of an index to the given values, estimated by the number of ids having
+   * them, unless the attribute is not constrained.
+   */
+  private static <E extends Enum<E>> void restrict(
+      List<Restriction> restrictions, EnumBitmapIndex<E> index, Set<E> accepted) {
+    if (Objects.nonNull(accepted)) {
+      restrictions.add(new Restriction(index.count(accepted), ids -> index.retain(accepted, ids)));
+    }
+  }
+
+  /**
+   * Computes the ids whose packed flags match the given masks. The flags are scanned sequentially
+   * and every comparison is turned into a bit of the result without branching, which is cheaper
+   * than probing the candidates one by one.
+   *
+   * @param required the flags that must be set
+   * @param forbidden the flags that must be clear
+   * @return a new bitmap of the matching ids
+   */
+  private BitSet withFlags(short required, short forbidden) {
+    if ((required & forbidden) != 0) {
+      return new BitSet();
+    }
+    int size = figurines.size();
+    int mask = required | forbidden;
+    long[] words = new long[(size + 63) >>> 6];
+    for (int id = 0; id < size; id++) {
+      long hit = (flags[id] & mask) == required ? 1L : 0L;
+      words[id >>> 6] |= hit << id;
+    }
+    return BitSet.valueOf(words);
+  }
+
+  private boolean insert(Figurine figurine) {
+    if (ids.containsKey(figurine)) {
+      return false;
+    }
+    int id = figurines.size();
+    figurines.add(figurine);
+    ids.put(figurine, id);
+    live.set(id);
+    if (id == flags.length) {
+      flags = Arrays.copyOf(flags, id * 2);
+    }
+    index(id, figurine);
+    return true;
+  }
+
+  private boolean delete(Figurine figurine) {
+    Integer id = ids.remove(figurine);
+    if (Objects.isNull(id)) {
+      return false;
+    }
+    live.clear(id);
+    figurines.set(id, null);
+    indexes.forEach(index -> index.remove(id));
+    text.remove(id);
+    if (figurines.size() > 64 && ids.size() < figurines.size() / 2) {
+      compact();
+    }
+    return true;
+  }
+
+  /** Indexes the attributes of the figurine stored under the given id, replacing older entries. */
+  private void index(int id, Figurine figurine) {
+    for (EnumBitmapIndex<?> index : indexes) {
+      index.remove(id);
+      index.add(id, figurine);
+    }
+    text.add(id, figurine);
+    flags[id] = figurine.getFlags();
+  }
+
+  /**
+   * Renumbers the remaining figurines once more than half of the ids belong to removed entries,
+   * keeping the bitmaps dense. The figurines are indexed again from their current attributes.
+   */
+  private void compact() {
+    List<Figurine> remaining = new ArrayList<>(ids.size());
+    for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+      remaining.add(figurines.get(id));
+    }
+    figurines.clear();
+    ids.clear();
+    live.clear();
+    indexes.forEach(EnumBitmapIndex::clear);
+    text.clear();
+    remaining.forEach(this::insert);
+  }
+
+  /** The restriction of the candidates to the values of one index, with its size. */
+  private static final class Restriction {
+
+    private final int estimate;
+    private final Consumer<BitSet> retain;
+
+    Restriction(int estimate, Consumer<BitSet> retain) {
+      this.estimate = estimate;
+      this.retain = retain;
+    }
+  }
+
+  /** Fork-join task testing a range of candidates, splitting it in halves while it is large. */
+  private class FilterTask extends RecursiveAction {
+
+    private final QueryPlan plan;
+    private final int[] candidates;
+    private final boolean[] passed;
+    private final int from;
+    private final int to;
+
+    FilterTask(QueryPlan plan, int[] candidates, boolean[] passed, int from, int to) {
+      this.plan = plan;
+      this.candidates = candidates;
+      this.passed = passed;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= QUERY_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          passed[i] = plan.test(figurines.get(candidates[i]));
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new FilterTask(plan, candidates, passed, from, middle),
+            new FilterTask(plan, candidates, passed, middle, to));
+      }
+    }
+  }
+}
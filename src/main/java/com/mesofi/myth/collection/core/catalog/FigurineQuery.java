@@ -0,0 +1,306 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import lombok.Getter;
+
+/**
+ * Immutable query over a FigurineCatalog, combining constraints on the indexed attributes, as in a
+ * {@link CatalogFilter}, with conditions on the release dates and prices of the distributions and
+ * arbitrary predicates. All constraints and conditions must match.
+ *
+ * <p>The order in which they are written does not matter: {@link
+ * FigurineCatalog#find(FigurineQuery)} first intersects the indexes, the most selective attribute
+ * first, and then tests the remaining candidates against the conditions, cheapest and most
+ * selective first, stopping at the first condition that fails. Queries are created with {@link
+ * #builder()}:
+ *
+ * <pre>{@code
+ * FigurineQuery query =
+ *     FigurineQuery.builder()
+ *         .category(Category.GOLD)
+ *         .releasedBetween(Market.JPY, LocalDate.of(2020, 1, 1), null)
+ *         .basePriceBetween(Market.JPY, null, new BigDecimal("20000"))
+ *         .withoutFlags(FigurineFlag.HK)
+ *         .build();
+ * }</pre>
+ */
+@Getter
+public final class FigurineQuery {
+
+  /** The relative cost of testing a date of a distribution. */
+  static final int DATE_COST = 2;
+
+  /** The relative cost of testing a price of a distribution. */
+  static final int PRICE_COST = 3;
+
+  /** The relative cost assumed for an arbitrary predicate. */
+  static final int PREDICATE_COST = 10;
+
+  /** The constraints answered by the indexes of the catalog. */
+  private final CatalogFilter filter;
+
+  /** The conditions tested on every candidate, in the order they were given. */
+  private final List<Condition> conditions;
+
+  private FigurineQuery(Builder builder) {
+    this.filter = builder.filter.build();
+    this.conditions = List.copyOf(builder.conditions);
+  }
+
+  /**
+   * Creates a builder for a new query.
+   *
+   * @return an empty builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** A condition tested on every candidate, with the relative cost of testing it. */
+  @Getter
+  public static final class Condition {
+
+    /** A short description of the condition. */
+    private final String description;
+
+    /** The relative cost of testing the condition on one figurine. */
+    private final int cost;
+
+    private final Predicate<Figurine> predicate;
+
+    Condition(String description, int cost, Predicate<Figurine> predicate) {
+      this.description = description;
+      this.cost = cost;
+      this.predicate = predicate;
+    }
+
+    /**
+     * Tests the condition on a figurine.
+     *
+     * @param figurine the figurine to test
+     * @return true if the figurine matches
+     */
+    public boolean test(Figurine figurine) {
+      return predicate.test(figurine);
+    }
+
+    @Override
+    public String toString() {
+      return description;
+    }
+  }
+
+  /** Fluent builder of FigurineQuery instances. */
+  public static final class Builder {
+
+    private final CatalogFilter.Builder filter = CatalogFilter.builder();
+    private final List<Condition> conditions = new ArrayList<>();
+
+    private Builder() {}
+
+    /**
+     * Accepts figurines of any of the given categories.
+     *
+     * @param values the accepted categories
+     * @return this builder
+     */
+    public Builder category(Category... values) {
+      filter.category(values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines of any of the given series.
+     *
+     * @param values the accepted series
+     * @return this builder
+     */
+    public Builder series(Series... values) {
+      filter.series(values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines of any of the given line-ups.
+     *
+     * @param values the accepted line-ups
+     * @return this builder
+     */
+    public Builder lineUp(LineUp... values) {
+      filter.lineUp(values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines sold through any of the given distribution channels.
+     *
+     * @param values the accepted distribution channels
+     * @return this builder
+     */
+    public Builder distributionChannel(DistributionChannel... values) {
+      filter.distributionChannel(values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines released for any of the given anniversaries.
+     *
+     * @param values the accepted anniversaries
+     * @return this builder
+     */
+    public Builder anniversary(Anniversary... values) {
+      filter.anniversary(values);
+      return this;
+    }
+
+    /**
+     * Accepts figurines in any of the given statuses.
+     *
+     * @param values the accepted statuses
+     * @return this builder
+     */
+    public Builder status(Status... values) {
+      filter.status(values);
+      return this;
+    }
+
+    /**
+     * Accepts only figurines having all of the given flags.
+     *
+     * @param flags the required flags
+     * @return this builder
+     */
+    public Builder withFlags(FigurineFlag... flags) {
+      filter.withFlags(flags);
+      return this;
+    }
+
+    /**
+     * Accepts only figurines having none of the given flags.
+     *
+     * @param flags the forbidden flags
+     * @return this builder
+     */
+    public Builder withoutFlags(FigurineFlag... flags) {
+      filter.withoutFlags(flags);
+      return this;
+    }
+
+    /**
+     * Accepts only figurines released in the given market between two dates, both included.
+     * Figurines without a distribution or a release date in the market do not match.
+     *
+     * @param market the market of the distribution
+     * @param from the earliest release date, or null for no lower bound
+     * @param to the latest release date, or null for no upper bound
+     * @return this builder
+     */
+    public Builder releasedBetween(Market market, LocalDate from, LocalDate to) {
+      Objects.requireNonNull(market, "market");
+      conditions.add(
+          new Condition(
+              "released in " + market + " between " + from + " and " + to,
+              DATE_COST,
+              figurine -> {
+                Distribution distribution = figurine.getDistribution(market);
+                LocalDate date =
+                    Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+                return Objects.nonNull(date)
+                    && (Objects.isNull(from) || !date.isBefore(from))
+                    && (Objects.isNull(to) || !date.isAfter(to));
+              }));
+      return this;
+    }
+
+    /**
+     * Accepts only figurines whose base price in the given market lies between two amounts of the
+     * currency of the market, both included. Figurines without a distribution or a base price in
+     * the market do not match.
+     *
+     * @param market the market of the distribution
+     * @param min the lowest price, or null for no lower bound
+     * @param max the highest price, or null for no upper bound
+     * @return this builder
+     * @throws IllegalArgumentException if a bound has more digits than a Money holds
+     */
+    public Builder basePriceBetween(Market market, BigDecimal min, BigDecimal max) {
+      Objects.requireNonNull(market, "market");
+      conditions.add(
+          new Condition(
+              "base price in " + market + " between " + min + " and " + max,
+              PRICE_COST,
+              new PriceRange(market, min, max)));
+      return this;
+    }
+
+    /**
+     * Accepts only figurines matching an arbitrary predicate. Its cost is assumed to be higher than
+     * that of the other conditions.
+     *
+     * @param description a short description of the predicate
+     * @param predicate the predicate to test
+     * @return this builder
+     */
+    public Builder where(String description, Predicate<Figurine> predicate) {
+      conditions.add(
+          new Condition(
+              Objects.requireNonNull(description, "description"),
+              PREDICATE_COST,
+              Objects.requireNonNull(predicate, "predicate")));
+      return this;
+    }
+
+    /**
+     * Creates the query.
+     *
+     * @return a new immutable query
+     */
+    public FigurineQuery build() {
+      return new FigurineQuery(this);
+    }
+  }
+
+  /**
+   * Base price range of a market. The bounds are in the currency of the market, with which prices
+   * set without a currency also compare.
+   */
+  private static final class PriceRange implements Predicate<Figurine> {
+
+    private final Market market;
+    private final Money min;
+    private final Money max;
+
+    PriceRange(Market market, BigDecimal min, BigDecimal max) {
+      this.market = market;
+      this.min = Money.of(min, market.getCurrency());
+      this.max = Money.of(max, market.getCurrency());
+    }
+
+    @Override
+    public boolean test(Figurine figurine) {
+      Distribution distribution = figurine.getDistribution(market);
+      Money price = Objects.isNull(distribution) ? null : distribution.getBaseMoney();
+      if (Objects.isNull(price)) {
+        return false;
+      }
+      return (Objects.isNull(min) || price.compareTo(min) >= 0)
+          && (Objects.isNull(max) || price.compareTo(max) <= 0);
+    }
+  }
+}
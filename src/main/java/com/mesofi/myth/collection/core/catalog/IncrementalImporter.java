@@ -0,0 +1,189 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.catalog.ChangeSet.Modification;
+import com.mesofi.myth.collection.core.csv.SourceFigurineBinder;
+import com.mesofi.myth.collection.core.csv.SourceFigurineBinder.Column;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.mapper.MappingResult;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Re-imports the source catalog mapping only the rows that changed since the previous import. Every
+ * row is fingerprinted with a 64-bit hash of all of its columns, base name included. A row whose
+ * fingerprint matches a row of the previous import keeps its figurine, and only new or changed rows
+ * go through {@link FigurineMapper#toFigures(Collection)}. Each import returns a {@link ChangeSet}
+ * describing the figurines added, modified and removed, so the cost of an import and of the
+ * downstream updates grows with the number of changes rather than with the catalog.
+ *
+ * <p>A row without an identical counterpart is matched by base name: it replaces the first previous
+ * row with the same base name that has no identical counterpart either, and is reported as
+ * modified; otherwise it is added. Previous rows left unmatched are reported as removed. Rows
+ * sharing a base name are therefore matched correctly when rows are inserted, removed or reordered.
+ * The first import reports every row as added.
+ *
+ * <p>An importer keeps the state of the last import and is safe for concurrent use; imports are
+ * serialized.
+ */
+public class IncrementalImporter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final List<Column> columns = SourceFigurineBinder.columns();
+
+  private final FigurineMapper mapper;
+  private List<Entry> entries = List.of();
+
+  /** Creates an importer that maps rows with a default FigurineMapper. */
+  public IncrementalImporter() {
+    this(new FigurineMapper());
+  }
+
+  /**
+   * Creates an importer that maps rows with the given mapper.
+   *
+   * @param mapper the mapper used to convert new and changed rows
+   */
+  public IncrementalImporter(FigurineMapper mapper) {
+    this.mapper = Objects.requireNonNull(mapper, "mapper");
+  }
+
+  /**
+   * Imports the full content of the source catalog, comparing it with the previous import.
+   *
+   * @param rows every row of the source catalog, in source order
+   * @return the changes since the previous import
+   */
+  public synchronized ChangeSet importRows(Collection<SourceFigurine> rows) {
+    Map<Long, ArrayDeque<Entry>> byFingerprint = new HashMap<>();
+    Map<String, ArrayDeque<Entry>> byBaseName = new HashMap<>();
+    for (Entry entry : entries) {
+      byFingerprint.computeIfAbsent(entry.fingerprint, k -> new ArrayDeque<>()).add(entry);
+      byBaseName.computeIfAbsent(entry.baseName, k -> new ArrayDeque<>()).add(entry);
+    }
+    Set<Entry> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    List<SourceFigurine> sources = new ArrayList<>(rows);
+    Entry[] slots = new Entry[sources.size()];
+    long[] fingerprints = new long[sources.size()];
+    List<Integer> pending = new ArrayList<>();
+    for (int row = 0; row < sources.size(); row++) {
+      fingerprints[row] = fingerprint(sources.get(row));
+      ArrayDeque<Entry> identical = byFingerprint.get(fingerprints[row]);
+      Entry previous = Objects.isNull(identical) ? null : identical.poll();
+      if (Objects.isNull(previous)) {
+        pending.add(row);
+      } else {
+        slots[row] = previous;
+        matched.add(previous);
+      }
+    }
+
+    List<Entry> replaced = new ArrayList<>(pending.size());
+    List<SourceFigurine> changed = new ArrayList<>(pending.size());
+    for (int row : pending) {
+      ArrayDeque<Entry> sameName = byBaseName.get(baseName(sources.get(row)));
+      Entry previous = null;
+      while (Objects.nonNull(sameName) && !sameName.isEmpty() && Objects.isNull(previous)) {
+        Entry candidate = sameName.poll();
+        if (matched.add(candidate)) {
+          previous = candidate;
+        }
+      }
+      replaced.add(previous);
+      changed.add(sources.get(row));
+    }
+
+    List<Figurine> added = new ArrayList<>();
+    List<Modification> modified = new ArrayList<>();
+    List<MappingResult> failures = new ArrayList<>();
+    List<MappingResult> results = mapper.toFigures(changed);
+    for (int i = 0; i < results.size(); i++) {
+      int row = pending.get(i);
+      MappingResult result = results.get(i);
+      Entry previous = replaced.get(i);
+      if (result.isSuccess()) {
+        slots[row] = new Entry(baseName(sources.get(row)), fingerprints[row], result.getFigurine());
+        if (Objects.isNull(previous)) {
+          added.add(result.getFigurine());
+        } else {
+          modified.add(new Modification(previous.figurine, result.getFigurine()));
+        }
+      } else {
+        failures.add(MappingResult.failure(row, result.getSource(), result.getError()));
+        slots[row] = previous;
+      }
+    }
+
+    List<Figurine> removed = new ArrayList<>();
+    for (Entry entry : entries) {
+      if (!matched.contains(entry)) {
+        removed.add(entry.figurine);
+      }
+    }
+    entries = Arrays.stream(slots).filter(Objects::nonNull).toList();
+    return new ChangeSet(added, modified, removed, failures);
+  }
+
+  /**
+   * Returns the figurines of the last import.
+   *
+   * @return the current figurines, in source order
+   */
+  public synchronized List<Figurine> getFigurines() {
+    return entries.stream().map(entry -> entry.figurine).toList();
+  }
+
+  /**
+   * Computes the 64-bit FNV-1a hash of every column of a row, in column order. Absent values hash
+   * differently from empty ones.
+   *
+   * @param row the row to fingerprint
+   * @return the fingerprint of the row
+   */
+  static long fingerprint(SourceFigurine row) {
+    long hash = FNV_OFFSET_BASIS;
+    for (Column column : columns) {
+      String value = column.get(row);
+      if (Objects.isNull(value)) {
+        hash = (hash ^ 0xFFFF) * FNV_PRIME;
+      } else {
+        for (int i = 0; i < value.length(); i++) {
+          hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+      }
+      hash = (hash ^ 0xFFFE) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  private static String baseName(SourceFigurine row) {
+    return String.valueOf(row.getBaseName());
+  }
+
+  /** An imported row: its base name, its fingerprint and the figurine it was mapped to. */
+  private static final class Entry {
+
+    private final String baseName;
+    private final long fingerprint;
+    private final Figurine figurine;
+
+    Entry(String baseName, long fingerprint, Figurine figurine) {
+      this.baseName = baseName;
+      this.fingerprint = fingerprint;
+      this.figurine = figurine;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Evaluation order of the conditions of a FigurineQuery over a set of candidates. The selectivity
+ * of every condition is estimated on a sample of evenly spaced candidates, and the conditions are
+ * sorted by their cost divided by the fraction of candidates they reject, so a cheap condition
+ * rejecting most candidates is tested first and an expensive one rarely passing is tested before a
+ * cheap one that almost always passes. Testing a figurine stops at the first condition that fails.
+ */
+final class QueryPlan {
+
+  /** The number of candidates on which the selectivity of the conditions is estimated. */
+  static final int SAMPLE_SIZE = 64;
+
+  private final FigurineQuery.Condition[] conditions;
+
+  /**
+   * Plans the evaluation of conditions over candidates.
+   *
+   * @param conditions the conditions, in any order
+   * @param figurines the figurines of the catalog, by id
+   * @param candidates the ids of the candidates, in increasing order
+   */
+  QueryPlan(List<FigurineQuery.Condition> conditions, List<Figurine> figurines, int[] candidates) {
+    this.conditions = conditions.toArray(new FigurineQuery.Condition[0]);
+    if (this.conditions.length > 1 && candidates.length > 0) {
+      double[] ranks = new double[this.conditions.length];
+      int sampled = Math.min(SAMPLE_SIZE, candidates.length);
+      for (int c = 0; c < ranks.length; c++) {
+        int passed = 0;
+        for (int i = 0; i < sampled; i++) {
+          long position = (long) i * candidates.length / sampled;
+          if (this.conditions[c].test(figurines.get(candidates[(int) position]))) {
+            passed++;
+          }
+        }
+        // Laplace smoothing keeps a condition that passed every sample from dividing by zero
+        double selectivity = (passed + 1.0) / (sampled + 2.0);
+        ranks[c] = this.conditions[c].getCost() / (1 - selectivity);
+      }
+      Integer[] order = new Integer[ranks.length];
+      Arrays.setAll(order, c -> c);
+      Arrays.sort(order, Comparator.comparingDouble(c -> ranks[c]));
+      FigurineQuery.Condition[] sorted = new FigurineQuery.Condition[order.length];
+      Arrays.setAll(sorted, i -> this.conditions[order[i]]);
+      System.arraycopy(sorted, 0, this.conditions, 0, sorted.length);
+    }
+  }
+
+  /**
+   * Returns the conditions in evaluation order.
+   *
+   * @return an unmodifiable list of the conditions
+   */
+  List<FigurineQuery.Condition> getConditions() {
+    return List.of(conditions);
+  }
+
+  /**
+   * Tests a figurine against every condition, in evaluation order.
+   *
+   * @param figurine the figurine to test
+   * @return true if the figurine matches every condition
+   */
+  boolean test(Figurine figurine) {
+    for (FigurineQuery.Condition condition : conditions) {
+      if (!condition.test(figurine)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
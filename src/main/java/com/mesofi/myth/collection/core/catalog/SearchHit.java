@@ -0,0 +1,24 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import lombok.Getter;
+
+/**
+ * A figurine found by {@link FigurineCatalog#search(String, CatalogFilter, int)}, with the score of
+ * the match. Scores only compare hits of the same query: a hit whose name contains every word of
+ * the query scores higher than one matching a prefix or a misspelling, or matching the remarks.
+ */
+@Getter
+public final class SearchHit {
+
+  /** The figurine found. */
+  private final Figurine figurine;
+
+  /** The relevance of the figurine for the query, higher being better. */
+  private final float score;
+
+  SearchHit(Figurine figurine, float score) {
+    this.figurine = figurine;
+    this.score = score;
+  }
+}
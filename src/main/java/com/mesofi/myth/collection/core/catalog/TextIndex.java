@@ -0,0 +1,374 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Full-text index of a FigurineCatalog on the names and remarks of the figurines. Names are indexed
+ * with the descriptions of the flags of the figurine, such as "OCE" or "Revival", since they are
+ * part of the name users see. Text is normalized into tokens of lower case letters and digits, with
+ * accents removed, and every token owns a bitmap of the catalog ids whose name contains it and
+ * another for the remarks.
+ *
+ * <p>A query token matches a token of the index exactly, as a prefix of at least {@value
+ * #MIN_PREFIX} characters, or within a small edit distance: 1 for tokens of up to {@value
+ * #MAX_ONE_EDIT} characters, 2 for longer ones, none below {@value #MIN_FUZZY}. Prefixes are
+ * enumerated from a sorted vocabulary, and misspelled candidates are looked up by shared trigrams
+ * before their distance is computed with a bounded Levenshtein distance. Every edit changes at most
+ * three trigrams, so a query token is only sure to share a trigram with its misspellings when it
+ * has more than three trigrams per allowed edit; shorter query tokens are compared with every
+ * indexed token whose length is within the edit distance instead. A figurine matches a query when
+ * every query token matches one of its tokens, and its score adds, for every query token, the
+ * weight of its best match: exact above prefix above fuzzy, names above remarks.
+ *
+ * <p>The tokens indexed for every id are remembered so the id can be removed or reindexed after the
+ * figurine changed. Instances are not thread-safe; the catalog guards them with its lock.
+ */
+final class TextIndex {
+
+  private static final int MIN_PREFIX = 2;
+  private static final int MIN_FUZZY = 3;
+  private static final int MAX_ONE_EDIT = 5;
+
+  private static final float EXACT = 1.0f;
+  private static final float PREFIX = 0.6f;
+  private static final float FUZZY = 0.4f;
+  private static final float REMARKS = 0.3f;
+
+  private final NavigableMap<String, Posting> vocabulary = new TreeMap<>();
+  private final Map<String, Set<String>> trigrams = new HashMap<>();
+  private final List<Set<String>> termsByLength = new ArrayList<>();
+  private final List<Tokens> tokensById = new ArrayList<>();
+
+  /**
+   * Indexes the name and remarks of the given figurine under the given id, replacing older entries.
+   *
+   * @param id the catalog id of the figurine
+   * @param figurine the figurine to index
+   */
+  void add(int id, Figurine figurine) {
+    remove(id);
+    StringBuilder name = new StringBuilder(String.valueOf(figurine.getBaseName()));
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      if (figurine.is(flag)) {
+        name.append(' ').append(flag.getDescription());
+      }
+    }
+    Tokens tokens =
+        new Tokens(
+            tokenize(Objects.isNull(figurine.getBaseName()) ? null : name),
+            tokenize(figurine.getRemarks()));
+    while (tokensById.size() <= id) {
+      tokensById.add(null);
+    }
+    tokensById.set(id, tokens);
+    for (String token : tokens.name) {
+      posting(token).name.set(id);
+    }
+    for (String token : tokens.remarks) {
+      posting(token).remarks.set(id);
+    }
+  }
+
+  /**
+   * Removes the entries of the given id.
+   *
+   * @param id the catalog id to remove
+   */
+  void remove(int id) {
+    Tokens tokens = id < tokensById.size() ? tokensById.get(id) : null;
+    if (Objects.isNull(tokens)) {
+      return;
+    }
+    tokensById.set(id, null);
+    for (String token : tokens.name) {
+      vocabulary.get(token).name.clear(id);
+      release(token);
+    }
+    for (String token : tokens.remarks) {
+      vocabulary.get(token).remarks.clear(id);
+      release(token);
+    }
+  }
+
+  /** Removes every entry. */
+  void clear() {
+    vocabulary.clear();
+    trigrams.clear();
+    termsByLength.clear();
+    tokensById.clear();
+  }
+
+  /**
+   * Finds the best matches of a query among the given candidates.
+   *
+   * @param query the text to look for
+   * @param candidates the ids allowed in the result, typically those matching a filter
+   * @param limit the maximum number of ids to return
+   * @return the ids of the best matches with their score, best first, ties in id order
+   */
+  List<ScoredId> search(String query, BitSet candidates, int limit) {
+    List<String> tokens = tokenize(query);
+    if (tokens.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    List<List<Match>> matches = new ArrayList<>(tokens.size());
+    BitSet hits = (BitSet) candidates.clone();
+    for (String token : tokens) {
+      List<Match> tokenMatches = matches(token);
+      BitSet any = new BitSet();
+      for (Match match : tokenMatches) {
+        any.or(match.posting.name);
+        any.or(match.posting.remarks);
+      }
+      hits.and(any);
+      if (hits.isEmpty()) {
+        return List.of();
+      }
+      matches.add(tokenMatches);
+    }
+
+    PriorityQueue<ScoredId> best = new PriorityQueue<>(limit + 1, ScoredId::compareTo);
+    for (int id = hits.nextSetBit(0); id >= 0; id = hits.nextSetBit(id + 1)) {
+      float score = 0;
+      for (List<Match> tokenMatches : matches) {
+        score += score(id, tokenMatches);
+      }
+      best.add(new ScoredId(id, score));
+      if (best.size() > limit) {
+        best.poll();
+      }
+    }
+    ScoredId[] result = best.toArray(new ScoredId[0]);
+    Arrays.sort(result, (a, b) -> b.compareTo(a));
+    return List.of(result);
+  }
+
+  /** Returns the weight of the best match of a query token for an id. */
+  private static float score(int id, List<Match> tokenMatches) {
+    float best = 0;
+    for (Match match : tokenMatches) {
+      if (match.posting.name.get(id)) {
+        best = Math.max(best, match.weight);
+      } else if (match.posting.remarks.get(id)) {
+        best = Math.max(best, match.weight * REMARKS);
+      }
+    }
+    return best;
+  }
+
+  /** Collects the indexed tokens matching a query token, with the weight of each match. */
+  private List<Match> matches(String token) {
+    List<Match> matches = new ArrayList<>();
+    Posting exact = vocabulary.get(token);
+    if (Objects.nonNull(exact)) {
+      matches.add(new Match(exact, EXACT));
+    }
+    if (token.length() >= MIN_PREFIX) {
+      for (Map.Entry<String, Posting> entry :
+          vocabulary.subMap(token, false, token + Character.MAX_VALUE, false).entrySet()) {
+        matches.add(new Match(entry.getValue(), PREFIX));
+      }
+    }
+    if (token.length() >= MIN_FUZZY) {
+      int maxEdits = token.length() <= MAX_ONE_EDIT ? 1 : 2;
+      for (String term : fuzzyCandidates(token, maxEdits)) {
+        if (term.startsWith(token)) {
+          continue;
+        }
+        int distance = distance(token, term, maxEdits);
+        if (distance <= maxEdits) {
+          matches.add(new Match(vocabulary.get(term), FUZZY / distance));
+        }
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Collects the indexed tokens that may be within an edit distance of a query token: those sharing
+   * one of its trigrams when it has more than three trigrams per edit, since every edit changes at
+   * most three, or else every token whose length is within the distance.
+   */
+  private Set<String> fuzzyCandidates(String token, int maxEdits) {
+    Set<String> candidates = new HashSet<>();
+    if (token.length() - 2 > 3 * maxEdits) {
+      for (int i = 0; i + 3 <= token.length(); i++) {
+        candidates.addAll(trigrams.getOrDefault(token.substring(i, i + 3), Set.of()));
+      }
+    } else {
+      int longest = Math.min(token.length() + maxEdits, termsByLength.size() - 1);
+      for (int length = Math.max(token.length() - maxEdits, 1); length <= longest; length++) {
+        candidates.addAll(termsByLength.get(length));
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * Computes the Levenshtein distance between two tokens, giving up as soon as it exceeds a bound.
+   *
+   * @param a the first token
+   * @param b the second token
+   * @param max the largest distance of interest
+   * @return the distance, or {@code max + 1} if it is larger than {@code max}
+   */
+  static int distance(String a, String b, int max) {
+    if (Math.abs(a.length() - b.length()) > max) {
+      return max + 1;
+    }
+    int[] previous = new int[b.length() + 1];
+    int[] current = new int[b.length() + 1];
+    for (int j = 0; j <= b.length(); j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      current[0] = i;
+      int rowMin = i;
+      for (int j = 1; j <= b.length(); j++) {
+        int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        current[j] =
+            Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+        rowMin = Math.min(rowMin, current[j]);
+      }
+      if (rowMin > max) {
+        return max + 1;
+      }
+      int[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+    return Math.min(previous[b.length()], max + 1);
+  }
+
+  /**
+   * Splits text into normalized tokens: runs of letters and digits, lower case, without accents.
+   *
+   * @param text the text to split
+   * @return the distinct tokens of the text, in order of first appearance
+   */
+  static List<String> tokenize(CharSequence text) {
+    if (Objects.isNull(text) || text.isEmpty()) {
+      return List.of();
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKD);
+    Set<String> tokens = new LinkedHashSet<>();
+    StringBuilder token = new StringBuilder();
+    for (int i = 0; i <= normalized.length(); i++) {
+      char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+      if (Character.isLetterOrDigit(c)) {
+        token.append(c);
+      } else if (Character.getType(c) != Character.NON_SPACING_MARK && !token.isEmpty()) {
+        tokens.add(token.toString().toLowerCase(Locale.ROOT));
+        token.setLength(0);
+      }
+    }
+    return List.copyOf(tokens);
+  }
+
+  private Posting posting(String token) {
+    Posting posting = vocabulary.get(token);
+    if (Objects.isNull(posting)) {
+      posting = new Posting();
+      vocabulary.put(token, posting);
+      for (int i = 0; i + 3 <= token.length(); i++) {
+        trigrams.computeIfAbsent(token.substring(i, i + 3), k -> new HashSet<>()).add(token);
+      }
+      while (termsByLength.size() <= token.length()) {
+        termsByLength.add(new HashSet<>());
+      }
+      termsByLength.get(token.length()).add(token);
+    }
+    return posting;
+  }
+
+  /** Drops a token from the vocabulary once no id refers to it. */
+  private void release(String token) {
+    Posting posting = vocabulary.get(token);
+    if (Objects.isNull(posting) || !posting.name.isEmpty() || !posting.remarks.isEmpty()) {
+      return;
+    }
+    vocabulary.remove(token);
+    termsByLength.get(token.length()).remove(token);
+    for (int i = 0; i + 3 <= token.length(); i++) {
+      String trigram = token.substring(i, i + 3);
+      Set<String> terms = trigrams.get(trigram);
+      terms.remove(token);
+      if (terms.isEmpty()) {
+        trigrams.remove(trigram);
+      }
+    }
+  }
+
+  /** The ids whose name and whose remarks contain a token. */
+  private static final class Posting {
+
+    private final BitSet name = new BitSet();
+    private final BitSet remarks = new BitSet();
+  }
+
+  /** The tokens indexed for an id. */
+  private static final class Tokens {
+
+    private final List<String> name;
+    private final List<String> remarks;
+
+    Tokens(List<String> name, List<String> remarks) {
+      this.name = name;
+      this.remarks = remarks;
+    }
+  }
+
+  /** An indexed token matching a query token, with the weight of the match. */
+  private static final class Match {
+
+    private final Posting posting;
+    private final float weight;
+
+    Match(Posting posting, float weight) {
+      this.posting = posting;
+      this.weight = weight;
+    }
+  }
+
+  /** A catalog id with its score; higher scores, then lower ids, compare greater. */
+  static final class ScoredId implements Comparable<ScoredId> {
+
+    private final int id;
+    private final float score;
+
+    ScoredId(int id, float score) {
+      this.id = id;
+      this.score = score;
+    }
+
+    int id() {
+      return id;
+    }
+
+    float score() {
+      return score;
+    }
+
+    @Override
+    public int compareTo(ScoredId other) {
+      int byScore = Float.compare(score, other.score);
+      return byScore != 0 ? byScore : Integer.compare(other.id, id);
+    }
+  }
+}
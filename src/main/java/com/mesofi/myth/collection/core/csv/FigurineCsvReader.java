@@ -0,0 +1,193 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming reader that turns a catalog CSV into Figurine objects one row at a time. Rows are read,
+ * bound to a SourceFigurine and mapped lazily as the returned stream is consumed, so memory usage
+ * stays constant regardless of the number of rows, and callers can stop early (for example with
+ * {@code limit} or {@code findFirst}) without reading the rest of the input. Rows are bound through
+ * a {@link SourceFigurineBinder}, which resolves the header once and fills each row with direct
+ * setter calls instead of OpenCSV's reflective bean binding.
+ *
+ * <p>The returned streams are sequential, ordered and hold the underlying reader open; they must be
+ * closed once consumed, preferably with a try-with-resources statement.
+ */
+public class FigurineCsvReader {
+
+  private static final String BOM = "\uFEFF";
+
+  private final FigurineMapper mapper;
+
+  /** Creates a reader that maps rows with a default FigurineMapper. */
+  public FigurineCsvReader() {
+    this(new FigurineMapper());
+  }
+
+  /**
+   * Creates a reader that maps rows with the given mapper.
+   *
+   * @param mapper the mapper used to convert each bound row
+   */
+  public FigurineCsvReader(FigurineMapper mapper) {
+    this.mapper = Objects.requireNonNull(mapper, "mapper");
+  }
+
+  /**
+   * Opens the given UTF-8 CSV file and returns a lazy stream of mapped figurines. Closing the
+   * stream closes the file.
+   *
+   * @param path the CSV file to read
+   * @return a lazy, ordered stream of figurines, one per data row
+   * @throws IOException if the file cannot be opened
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  public Stream<Figurine> read(Path path) throws IOException {
+    return read(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns a lazy stream of mapped figurines read from the given reader. Closing the stream closes
+   * the reader.
+   *
+   * @param reader the CSV source, starting with the header row
+   * @return a lazy, ordered stream of figurines, one per data row
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  public Stream<Figurine> read(Reader reader) {
+    return readSource(reader).map(mapper::toFigure);
+  }
+
+  /**
+   * Returns a lazy stream of bound, but not yet mapped, source rows read from the given reader.
+   * Closing the stream closes the reader. A byte order mark before the first header is skipped, as
+   * by MappedFigurineReader. If the header cannot be read or bound, the reader is closed before the
+   * exception is thrown.
+   *
+   * @param reader the CSV source, starting with the header row
+   * @return a lazy, ordered stream of source figurines, one per data row
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  public Stream<SourceFigurine> readSource(Reader reader) {
+    Objects.requireNonNull(reader, "reader");
+    Iterator<SourceFigurine> iterator;
+    try {
+      CSVReader csvReader = new CSVReader(reader);
+      String[] header = readLine(csvReader);
+      iterator =
+          Objects.isNull(header)
+              ? Collections.emptyIterator()
+              : new SourceIterator(csvReader, SourceFigurineBinder.forHeader(stripBom(header)));
+    } catch (RuntimeException e) {
+      try {
+        reader.close();
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      throw e;
+    }
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(() -> close(reader));
+  }
+
+  /**
+   * Removes the byte order mark a UTF-8 file may start with from the first header.
+   *
+   * @param header the header row
+   * @return the header row without the byte order mark
+   */
+  private static String[] stripBom(String[] header) {
+    if (header.length > 0 && header[0].startsWith(BOM)) {
+      header[0] = header[0].substring(BOM.length());
+    }
+    return header;
+  }
+
+  /**
+   * Reads the next line of the CSV source.
+   *
+   * @param csvReader the CSV source
+   * @return the fields of the line, or null at the end of the input
+   */
+  private static String[] readLine(CSVReader csvReader) {
+    try {
+      return csvReader.readNext();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (CsvValidationException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Closes the given reader, rethrowing any I/O failure as an unchecked exception so it can be used
+   * as a stream close handler.
+   *
+   * @param reader the reader to close
+   */
+  private void close(Reader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Iterator that reads and binds one line ahead of the consumer. */
+  private static final class SourceIterator implements Iterator<SourceFigurine> {
+
+    private final CSVReader csvReader;
+    private final SourceFigurineBinder binder;
+    private String[] line;
+
+    /** The physical line the read-ahead record starts at, as reported by MappedFigurineReader. */
+    private long lineNumber;
+
+    SourceIterator(CSVReader csvReader, SourceFigurineBinder binder) {
+      this.csvReader = csvReader;
+      this.binder = binder;
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return Objects.nonNull(line);
+    }
+
+    @Override
+    public SourceFigurine next() {
+      if (Objects.isNull(line)) {
+        throw new NoSuchElementException();
+      }
+      SourceFigurine figurine = binder.bind(line, lineNumber);
+      advance();
+      return figurine;
+    }
+
+    private void advance() {
+      lineNumber = csvReader.getLinesRead() + 1;
+      line = readLine(csvReader);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.mapper.FigurineFormatter;
+import com.mesofi.myth.collection.core.mapper.FigurineFormatter.Cell;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Streaming writer that exports figurines as a catalog CSV, the reverse of {@link
+ * FigurineCsvReader}. The columns are those of SourceFigurine, in the order and with the headers of
+ * {@link SourceFigurineBinder#columns()}, and each value is written by the {@link
+ * FigurineFormatter} cell of its column, so reading the file back with either reader gives
+ * figurines with the same attributes, except that both read CRLF and CR line breaks within values
+ * as LF.
+ *
+ * <p>Rows are formatted straight from the figurines into a single reused buffer, without building a
+ * SourceFigurine or a String per value, and the buffer is handed to the underlying writer in large
+ * chunks, so exports of millions of rows allocate little more than the encoder does and are bound
+ * by I/O. The output follows RFC 4180: fields holding commas, quotes or line breaks are enclosed in
+ * double quotes with embedded quotes doubled, records end with LF, and absent values are empty
+ * fields. Writers are stateless and safe for concurrent use.
+ */
+public class FigurineCsvWriter {
+
+  /** The number of buffered characters above which the buffer is written out. */
+  private static final int FLUSH_THRESHOLD = 1 << 14;
+
+  private final List<String> headers;
+  private final Cell[] cells;
+
+  /** Creates a writer of the SourceFigurine columns. */
+  public FigurineCsvWriter() {
+    List<SourceFigurineBinder.Column> columns = SourceFigurineBinder.columns();
+    this.headers = columns.stream().map(SourceFigurineBinder.Column::getName).toList();
+    this.cells =
+        columns.stream()
+            .map(column -> FigurineFormatter.cell(column.getField()))
+            .toArray(Cell[]::new);
+  }
+
+  /**
+   * Writes the header and one row per figurine to the given file as UTF-8, replacing its contents.
+   *
+   * @param path the CSV file to write
+   * @param figurines the figurines to export, consumed in encounter order
+   * @return the number of rows written
+   * @throws IOException if the file cannot be written
+   */
+  public long write(Path path, Stream<Figurine> figurines) throws IOException {
+    try (Writer writer =
+        new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)) {
+      return write(writer, figurines);
+    }
+  }
+
+  /**
+   * Writes the header and one row per figurine to the given writer, which is flushed but not
+   * closed. The writer does not need to be buffered.
+   *
+   * @param writer the destination of the CSV text
+   * @param figurines the figurines to export, consumed in encounter order
+   * @return the number of rows written
+   * @throws IOException if the writer fails
+   */
+  public long write(Writer writer, Stream<Figurine> figurines) throws IOException {
+    Objects.requireNonNull(writer, "writer");
+    Output out = new Output(writer);
+    for (int i = 0; i < headers.size(); i++) {
+      if (i > 0) {
+        out.buffer.append(',');
+      }
+      int start = out.buffer.length();
+      out.buffer.append(headers.get(i));
+      escape(out.buffer, start);
+    }
+    out.buffer.append('\n');
+    long rows = 0;
+    for (Iterator<Figurine> iterator = figurines.iterator(); iterator.hasNext(); rows++) {
+      append(iterator.next(), out.buffer);
+      if (out.buffer.length() >= FLUSH_THRESHOLD) {
+        out.drain();
+      }
+    }
+    out.drain();
+    writer.flush();
+    return rows;
+  }
+
+  /**
+   * Appends the row of a figurine, ending with a line break.
+   *
+   * @param figurine the figurine to write
+   * @param buffer the buffer to append to
+   */
+  private void append(Figurine figurine, StringBuilder buffer) {
+    for (int i = 0; i < cells.length; i++) {
+      if (i > 0) {
+        buffer.append(',');
+      }
+      int start = buffer.length();
+      if (cells[i].append(figurine, buffer)) {
+        escape(buffer, start);
+      }
+    }
+    buffer.append('\n');
+  }
+
+  /**
+   * Encloses the field ending the buffer in double quotes if it holds a separator, a quote or a
+   * line break, doubling its quotes.
+   *
+   * @param buffer the buffer holding the field
+   * @param start the index of the first character of the field
+   */
+  private static void escape(StringBuilder buffer, int start) {
+    boolean quoted = false;
+    for (int i = start; i < buffer.length(); i++) {
+      char c = buffer.charAt(i);
+      if (c == '"') {
+        buffer.insert(i++, '"');
+        quoted = true;
+      } else if (c == ',' || c == '\n' || c == '\r') {
+        quoted = true;
+      }
+    }
+    if (quoted) {
+      buffer.insert(start, '"').append('"');
+    }
+  }
+
+  /** The buffer of one export and the reused chunk it is copied to before being written out. */
+  private static final class Output {
+
+    private final Writer writer;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+    private char[] chunk = new char[FLUSH_THRESHOLD * 2];
+
+    Output(Writer writer) {
+      this.writer = writer;
+    }
+
+    void drain() throws IOException {
+      int length = buffer.length();
+      if (chunk.length < length) {
+        chunk = new char[length];
+      }
+      buffer.getChars(0, length, chunk, 0);
+      writer.write(chunk, 0, length);
+      buffer.setLength(0);
+    }
+  }
+}
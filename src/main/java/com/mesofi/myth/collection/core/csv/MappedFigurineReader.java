@@ -0,0 +1,571 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.csv.SourceFigurineBinder.Column;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceRow;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reader for very large catalog exports that memory-maps the CSV file and tokenizes it in place.
+ * Each record is described by the offsets of its fields in the mapped buffer, and columns are
+ * handed to FigurineMapper as reusable character views over those bytes, so prices, dates, flags
+ * and enum descriptions are converted without creating a String or a String array per line. Only
+ * the values the mapper keeps (base name, link, remarks and image URLs) become Strings.
+ *
+ * <p>The file must be UTF-8 encoded (a leading byte order mark is skipped; malformed sequences fail
+ * with the UncheckedIOException FigurineCsvReader throws for them) and follow RFC 4180: fields are
+ * separated by commas, records by LF or CRLF, and fields containing separators are enclosed in
+ * double quotes with embedded quotes doubled. Line breaks within quoted fields are read as LF
+ * whether written as LF, CRLF or CR, as FigurineCsvReader reads them. Headers are matched against
+ * the SourceFigurine columns exactly as by {@link SourceFigurineBinder}, and the resulting
+ * figurines are identical to those produced by {@link FigurineMapper#toFigure} from a bound
+ * SourceFigurine.
+ *
+ * <p>Files larger than the mapping window are mapped window by window; a record crossing the end of
+ * a window is re-read from a window starting at the record. Returned streams are sequential and
+ * hold the file open until closed.
+ */
+public class MappedFigurineReader {
+
+  /** Default size of the mapped region, large enough for any realistic record. */
+  public static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+  private final FigurineMapper mapper;
+  private final long windowSize;
+
+  /** Creates a reader that maps rows with a default FigurineMapper. */
+  public MappedFigurineReader() {
+    this(new FigurineMapper());
+  }
+
+  /**
+   * Creates a reader that maps rows with the given mapper.
+   *
+   * @param mapper the mapper used to convert each record
+   */
+  public MappedFigurineReader(FigurineMapper mapper) {
+    this(mapper, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a reader that maps rows with the given mapper and maps the file in windows of the given
+   * size.
+   *
+   * @param mapper the mapper used to convert each record
+   * @param windowSize the maximum number of bytes mapped at once
+   */
+  MappedFigurineReader(FigurineMapper mapper, long windowSize) {
+    if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid window size: " + windowSize);
+    }
+    this.mapper = Objects.requireNonNull(mapper, "mapper");
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Maps the given file and returns a lazy stream of figurines, one per data record. Closing the
+   * stream closes the file.
+   *
+   * @param path the UTF-8 CSV file to read
+   * @return a lazy, ordered stream of figurines
+   * @throws IOException if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  public Stream<Figurine> read(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      Cursor cursor = new Cursor(channel, windowSize);
+      Iterator<Figurine> iterator = new FigurineIterator(cursor);
+      return StreamSupport.stream(
+              Spliterators.spliteratorUnknownSize(
+                  iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+              false)
+          .onClose(() -> close(channel));
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static void close(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Iterator that advances the cursor only after the previous record has been mapped. */
+  private final class FigurineIterator implements Iterator<Figurine> {
+
+    private final Cursor cursor;
+    private boolean ready;
+    private boolean available;
+
+    FigurineIterator(Cursor cursor) {
+      this.cursor = cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!ready) {
+        available = cursor.next();
+        ready = true;
+      }
+      return available;
+    }
+
+    @Override
+    public Figurine next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      ready = false;
+      cursor.validate();
+      return mapper.toFigure(cursor);
+    }
+  }
+
+  /**
+   * Tokenizer over the mapped file that exposes the current record as a SourceRow. Field offsets
+   * are kept in parallel arrays that are reused for every record. Errors report the physical line a
+   * record starts at, which differs from its record number once a quoted field spans lines.
+   */
+  private static final class Cursor implements SourceRow {
+
+    private static final List<Column> columns = SourceFigurineBinder.columns();
+
+    private static final int BASE_NAME = indexOf("baseName");
+    private static final int PRICE_JPY = indexOf("priceJPY");
+    private static final int ANN_JPY = indexOf("annJPY");
+    private static final int PREORDER_JPY = indexOf("preorderJPY");
+    private static final int RELEASE_JPY = indexOf("releaseJPY");
+    private static final int DISTRIBUTOR_MXN = indexOf("distributorMXN");
+    private static final int PRICE_MXN = indexOf("priceMXN");
+    private static final int PREORDER_MXN = indexOf("preorderMXN");
+    private static final int RELEASE_MXN = indexOf("releaseMXN");
+    private static final int LINK = indexOf("link");
+    private static final int DIST = indexOf("dist");
+    private static final int LINE_UP = indexOf("lineUp");
+    private static final int SERIES = indexOf("series");
+    private static final int GROUP = indexOf("group");
+    private static final int METAL = indexOf("metal");
+    private static final int OCE = indexOf("oce");
+    private static final int REVIVAL = indexOf("revival");
+    private static final int PLAIN_CLOTH = indexOf("plainCloth");
+    private static final int BROKEN = indexOf("broken");
+    private static final int GOLDEN = indexOf("golden");
+    private static final int GOLD = indexOf("gold");
+    private static final int HK = indexOf("hk");
+    private static final int MANGA = indexOf("manga");
+    private static final int SET = indexOf("set");
+    private static final int ANNIVERSARY = indexOf("anniversary");
+    private static final int OFFICIAL_IMAGES = indexOf("officialImages");
+    private static final int OTHER_IMAGES = indexOf("otherImages");
+    private static final int REMARKS = indexOf("remarks");
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+
+    private MappedByteBuffer buffer;
+    private long base;
+    private int limit;
+    private int position;
+    private boolean lastWindow;
+
+    /** The physical line the current record starts at, counting from 1 for the header. */
+    private long line;
+
+    /** The physical line the next record starts at. */
+    private long nextLine = 1;
+
+    /** The line breaks of the record last tokenized, including those within quoted fields. */
+    private int lineBreaks;
+
+    private int count;
+    private int[] starts = new int[32];
+    private int[] ends = new int[32];
+
+    /** Whether each field holds doubled quotes or carriage returns that must be decoded. */
+    private boolean[] escaped = new boolean[32];
+
+    private final int headerLength;
+    private final int[] positions = new int[columns.size()];
+    private final Utf8Slice[] slices = new Utf8Slice[columns.size()];
+
+    Cursor(FileChannel channel, long windowSize) throws IOException {
+      this.channel = channel;
+      this.size = channel.size();
+      this.windowSize = windowSize;
+      map(0);
+      if (limit >= 3
+          && buffer.get(0) == (byte) 0xEF
+          && buffer.get(1) == (byte) 0xBB
+          && buffer.get(2) == (byte) 0xBF) {
+        position = 3;
+      }
+      Arrays.fill(positions, -1);
+      if (!next()) {
+        headerLength = 0;
+        return;
+      }
+      String[] header = new String[count];
+      Utf8Slice slice = new Utf8Slice();
+      for (int i = 0; i < count; i++) {
+        header[i] = slice.set(buffer, starts[i], ends[i], escaped[i]).toString();
+      }
+      SourceFigurineBinder.forHeader(header);
+      for (int i = header.length - 1; i >= 0; i--) {
+        Column column = SourceFigurineBinder.find(header[i]);
+        if (Objects.nonNull(column)) {
+          positions[columns.indexOf(column)] = i;
+        }
+      }
+      for (int i = 0; i < slices.length; i++) {
+        slices[i] = new Utf8Slice();
+      }
+      headerLength = count;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return true if a record was read, false at the end of the file
+     */
+    boolean next() {
+      while (position < limit || !lastWindow) {
+        int end = tokenize(position);
+        if (end >= 0) {
+          position = end;
+          line = nextLine;
+          nextLine += lineBreaks;
+          return true;
+        }
+        if (position == 0) {
+          throw new IllegalArgumentException(
+              "Record at line " + nextLine + " is larger than the mapping window");
+        }
+        map(base + position);
+      }
+      return false;
+    }
+
+    /**
+     * Checks the current record against the header, rejecting records with a different number of
+     * fields and blank values in required columns.
+     */
+    void validate() {
+      if (count != headerLength) {
+        throw new IllegalArgumentException(
+            "Number of data fields does not match number of headers at line " + line);
+      }
+      for (int i = 0; i < columns.size(); i++) {
+        if (columns.get(i).isRequired() && column(i).isBlank()) {
+          throw new IllegalArgumentException(
+              "Required field '" + columns.get(i).getName() + "' is empty at line " + line);
+        }
+      }
+    }
+
+    /**
+     * Maps the window of the file starting at the given offset.
+     *
+     * @param start the offset of the window in the file
+     */
+    private void map(long start) {
+      try {
+        long length = Math.min(size - start, windowSize);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        base = start;
+        limit = (int) length;
+        position = 0;
+        lastWindow = start + length == size;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Splits the record starting at the given index into fields.
+     *
+     * @param index the index of the first byte of the record
+     * @return the index after the record, or -1 if the record continues past the current window
+     */
+    private int tokenize(int index) {
+      count = 0;
+      lineBreaks = 0;
+      int i = index;
+      while (true) {
+        int start;
+        int end;
+        boolean escapes = false;
+        if (i < limit && buffer.get(i) == '"') {
+          int j = i + 1;
+          while (true) {
+            if (j >= limit) {
+              if (lastWindow) {
+                throw new IllegalArgumentException("Unterminated quoted field at line " + nextLine);
+              }
+              return -1;
+            }
+            if (buffer.get(j) == '\n') {
+              lineBreaks++;
+            } else if (buffer.get(j) == '\r') {
+              if (j + 1 >= limit && !lastWindow) {
+                return -1;
+              }
+              escapes = true;
+              if (j + 1 >= limit || buffer.get(j + 1) != '\n') {
+                lineBreaks++;
+              }
+            }
+            if (buffer.get(j) == '"') {
+              if (j + 1 >= limit && !lastWindow) {
+                return -1;
+              }
+              if (j + 1 < limit && buffer.get(j + 1) == '"') {
+                escapes = true;
+                j += 2;
+                continue;
+              }
+              break;
+            }
+            j++;
+          }
+          start = i + 1;
+          end = j;
+          i = j + 1;
+          if (i < limit && buffer.get(i) == '\r') {
+            if (i + 1 >= limit && !lastWindow) {
+              return -1;
+            }
+            i++;
+          }
+          if (i < limit && buffer.get(i) != ',' && buffer.get(i) != '\n') {
+            throw new IllegalArgumentException(
+                "Unexpected character after quoted field at line " + (nextLine + lineBreaks));
+          }
+        } else {
+          int j = i;
+          while (j < limit && buffer.get(j) != ',' && buffer.get(j) != '\n') {
+            j++;
+          }
+          if (j >= limit && !lastWindow) {
+            return -1;
+          }
+          start = i;
+          end = j;
+          if (end > start && buffer.get(end - 1) == '\r' && (j >= limit || buffer.get(j) == '\n')) {
+            end--;
+          }
+          i = j;
+        }
+        add(start, end, escapes);
+        if (i >= limit) {
+          return i;
+        }
+        if (buffer.get(i++) == '\n') {
+          lineBreaks++;
+          return i;
+        }
+        if (i >= limit) {
+          if (!lastWindow) {
+            return -1;
+          }
+          add(i, i, false);
+          return i;
+        }
+      }
+    }
+
+    private void add(int start, int end, boolean escapes) {
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, count * 2);
+        ends = Arrays.copyOf(ends, count * 2);
+        escaped = Arrays.copyOf(escaped, count * 2);
+      }
+      starts[count] = start;
+      ends[count] = end;
+      escaped[count] = escapes;
+      count++;
+    }
+
+    /**
+     * Returns a view of the given column of the current record.
+     *
+     * @param column the index of the column in {@link SourceFigurineBinder#columns()}
+     * @return a view of the column, or null if the column is not present in the file
+     */
+    private Utf8Slice column(int column) {
+      int field = positions[column];
+      return field < 0
+          ? null
+          : slices[column].set(buffer, starts[field], ends[field], escaped[field]);
+    }
+
+    private static int indexOf(String field) {
+      for (int i = 0; i < columns.size(); i++) {
+        if (columns.get(i).getField().equals(field)) {
+          return i;
+        }
+      }
+      throw new IllegalStateException("No column bound to field " + field);
+    }
+
+    @Override
+    public CharSequence getBaseName() {
+      return column(BASE_NAME);
+    }
+
+    @Override
+    public CharSequence getPriceJPY() {
+      return column(PRICE_JPY);
+    }
+
+    @Override
+    public CharSequence getAnnJPY() {
+      return column(ANN_JPY);
+    }
+
+    @Override
+    public CharSequence getPreorderJPY() {
+      return column(PREORDER_JPY);
+    }
+
+    @Override
+    public CharSequence getReleaseJPY() {
+      return column(RELEASE_JPY);
+    }
+
+    @Override
+    public CharSequence getDistributorMXN() {
+      return column(DISTRIBUTOR_MXN);
+    }
+
+    @Override
+    public CharSequence getPriceMXN() {
+      return column(PRICE_MXN);
+    }
+
+    @Override
+    public CharSequence getPreorderMXN() {
+      return column(PREORDER_MXN);
+    }
+
+    @Override
+    public CharSequence getReleaseMXN() {
+      return column(RELEASE_MXN);
+    }
+
+    @Override
+    public CharSequence getLink() {
+      return column(LINK);
+    }
+
+    @Override
+    public CharSequence getDist() {
+      return column(DIST);
+    }
+
+    @Override
+    public CharSequence getLineUp() {
+      return column(LINE_UP);
+    }
+
+    @Override
+    public CharSequence getSeries() {
+      return column(SERIES);
+    }
+
+    @Override
+    public CharSequence getGroup() {
+      return column(GROUP);
+    }
+
+    @Override
+    public CharSequence getMetal() {
+      return column(METAL);
+    }
+
+    @Override
+    public CharSequence getOce() {
+      return column(OCE);
+    }
+
+    @Override
+    public CharSequence getRevival() {
+      return column(REVIVAL);
+    }
+
+    @Override
+    public CharSequence getPlainCloth() {
+      return column(PLAIN_CLOTH);
+    }
+
+    @Override
+    public CharSequence getBroken() {
+      return column(BROKEN);
+    }
+
+    @Override
+    public CharSequence getGolden() {
+      return column(GOLDEN);
+    }
+
+    @Override
+    public CharSequence getGold() {
+      return column(GOLD);
+    }
+
+    @Override
+    public CharSequence getHk() {
+      return column(HK);
+    }
+
+    @Override
+    public CharSequence getManga() {
+      return column(MANGA);
+    }
+
+    @Override
+    public CharSequence getSet() {
+      return column(SET);
+    }
+
+    @Override
+    public CharSequence getAnniversary() {
+      return column(ANNIVERSARY);
+    }
+
+    @Override
+    public CharSequence getOfficialImages() {
+      return column(OFFICIAL_IMAGES);
+    }
+
+    @Override
+    public CharSequence getOtherImages() {
+      return column(OTHER_IMAGES);
+    }
+
+    @Override
+    public CharSequence getRemarks() {
+      return column(REMARKS);
+    }
+  }
+}
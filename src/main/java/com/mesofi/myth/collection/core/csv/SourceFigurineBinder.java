@@ -0,0 +1,179 @@
+package com.mesofi.myth.collection.core.csv;
+
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.bean.CsvBindByName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Binds CSV lines to SourceFigurine objects without reflection. The {@link CsvBindByName}
+ * annotations of SourceFigurine remain the single source of truth: the build reads them from the
+ * source of SourceFigurine in the generate-sources phase and generates SourceFigurineAccessors,
+ * which lists the columns and sets or gets each of them with a direct setter or getter call, so a
+ * renamed field or setter fails the build rather than the binding.
+ *
+ * <p>A binder is created for a given header row, resolving every header to its column once, so
+ * binding a line only walks the line and invokes the setter of each mapped position. As with
+ * OpenCSV, headers are matched ignoring case, unknown headers are ignored, missing headers leave
+ * their fields null, and a blank value in a required column is rejected.
+ */
+public final class SourceFigurineBinder {
+
+  private static final List<Column> columns = discoverColumns();
+
+  private final List<Column> required;
+  private final Column[] positions;
+  private final int[] requiredPositions;
+
+  private SourceFigurineBinder(Column[] positions) {
+    this.positions = positions;
+    this.required = columns.stream().filter(Column::isRequired).toList();
+    this.requiredPositions = new int[required.size()];
+    for (int r = 0; r < required.size(); r++) {
+      requiredPositions[r] = Arrays.asList(positions).indexOf(required.get(r));
+    }
+  }
+
+  /**
+   * Returns the columns declared on SourceFigurine, in declaration order.
+   *
+   * @return the immutable list of columns
+   */
+  public static List<Column> columns() {
+    return columns;
+  }
+
+  /**
+   * Creates a binder for the given header row, resolving every header to its column.
+   *
+   * @param header the header row of the CSV source
+   * @return a binder for lines following the header
+   * @throws IllegalArgumentException if a required column is missing from the header
+   */
+  public static SourceFigurineBinder forHeader(String[] header) {
+    Column[] positions = new Column[header.length];
+    for (int i = 0; i < header.length; i++) {
+      positions[i] = find(header[i]);
+    }
+    List<String> missing =
+        columns.stream()
+            .filter(Column::isRequired)
+            .filter(column -> !Arrays.asList(positions).contains(column))
+            .map(Column::getName)
+            .toList();
+    if (!missing.isEmpty()) {
+      throw new IllegalArgumentException("Header is missing required fields " + missing);
+    }
+    return new SourceFigurineBinder(positions);
+  }
+
+  /**
+   * Finds the column bound to the given header, ignoring case and surrounding whitespace.
+   *
+   * @param header the header to look up
+   * @return the matching column, or null if no field is bound to the header
+   */
+  public static Column find(String header) {
+    if (Objects.isNull(header)) {
+      return null;
+    }
+    String name = header.strip();
+    return columns.stream()
+        .filter(column -> column.getName().equalsIgnoreCase(name))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Binds a CSV line to a new SourceFigurine.
+   *
+   * @param line the fields of the line, in header order
+   * @param lineNumber the line number, used in error messages
+   * @return the bound source figurine
+   * @throws IllegalArgumentException if the number of fields does not match the header or a
+   *     required value is blank
+   */
+  public SourceFigurine bind(String[] line, long lineNumber) {
+    if (line.length != positions.length) {
+      throw new IllegalArgumentException(
+          "Number of data fields does not match number of headers at line " + lineNumber);
+    }
+    for (int r = 0; r < requiredPositions.length; r++) {
+      if (line[requiredPositions[r]].isBlank()) {
+        throw new IllegalArgumentException(
+            "Required field '" + required.get(r).getName() + "' is empty at line " + lineNumber);
+      }
+    }
+    SourceFigurine figurine = new SourceFigurine();
+    for (int i = 0; i < positions.length; i++) {
+      if (Objects.nonNull(positions[i])) {
+        positions[i].set(figurine, line[i]);
+      }
+    }
+    return figurine;
+  }
+
+  /**
+   * Builds one column per bound field of SourceFigurine from the generated accessors.
+   *
+   * @return the immutable list of columns in declaration order
+   */
+  private static List<Column> discoverColumns() {
+    List<Column> discovered = new ArrayList<>();
+    for (int i = 0; i < SourceFigurineAccessors.names.length; i++) {
+      discovered.add(
+          new Column(
+              i,
+              SourceFigurineAccessors.names[i],
+              SourceFigurineAccessors.fields[i],
+              SourceFigurineAccessors.required[i]));
+    }
+    return List.copyOf(discovered);
+  }
+
+  /** A CSV column bound to a field of SourceFigurine. */
+  public static final class Column {
+
+    /** The header of the column, as declared by {@link CsvBindByName#column()}. */
+    @Getter private final String name;
+
+    /** The name of the bound field. */
+    @Getter private final String field;
+
+    /** Whether the column must be present and non-blank. */
+    @Getter private final boolean required;
+
+    /** The position of the column in {@link #columns()}. */
+    private final int index;
+
+    private Column(int index, String name, String field, boolean required) {
+      this.index = index;
+      this.name = name;
+      this.field = field;
+      this.required = required;
+    }
+
+    /**
+     * Assigns the value of this column to the given source figurine.
+     *
+     * @param figurine the target source figurine
+     * @param value the value to assign
+     */
+    public void set(SourceFigurine figurine, String value) {
+      SourceFigurineAccessors.set(index, figurine, value);
+    }
+
+    /**
+     * Reads the value of this column from the given source figurine.
+     *
+     * @param figurine the source figurine to read
+     * @return the value of the column
+     */
+    public String get(SourceFigurine figurine) {
+      return SourceFigurineAccessors.get(index, figurine);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.mesofi.myth.collection.core.csv;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable character view over a range of UTF-8 bytes in a buffer. When the range is plain ASCII,
+ * which is the case for almost every catalog field, characters are read straight from the buffer;
+ * otherwise, or when the range is a quoted CSV field holding doubled quotes or carriage returns,
+ * the range is decoded once into a private character array that is reused across rows. A String is
+ * only created when {@link #toString()} is called. Malformed UTF-8 fails as it does when read
+ * through an InputStreamReader, rather than being decoded into made-up characters.
+ *
+ * <p>A slice is only valid until it is pointed at another range, and instances are not safe for
+ * concurrent use.
+ */
+final class Utf8Slice implements CharSequence {
+
+  private ByteBuffer buffer;
+  private int from;
+  private int length;
+  private char[] decoded = new char[64];
+  private boolean ascii;
+
+  /**
+   * Points this slice at the given range of the buffer.
+   *
+   * @param buffer the buffer holding the UTF-8 bytes
+   * @param from the index of the first byte, inclusive
+   * @param to the index after the last byte
+   * @param escaped whether the range is a quoted field whose doubled quotes must be collapsed and
+   *     whose CRLF and CR line breaks must be read as LF
+   * @return this slice
+   * @throws UncheckedIOException wrapping a MalformedInputException if the range is not valid UTF-8
+   */
+  Utf8Slice set(ByteBuffer buffer, int from, int to, boolean escaped) {
+    this.buffer = buffer;
+    this.from = from;
+    this.length = to - from;
+    this.ascii = !escaped && isAscii(buffer, from, to);
+    if (!ascii) {
+      decode(buffer, from, to, escaped);
+    }
+    return this;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return ascii ? (char) buffer.get(from + index) : decoded[index];
+  }
+
+  /**
+   * Returns the given range of this slice as a String, so splitting a field into items creates one
+   * String per item rather than one for the whole field.
+   */
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+    }
+    if (ascii) {
+      byte[] bytes = new byte[end - start];
+      buffer.get(from + start, bytes);
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+    return new String(decoded, start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return (String) subSequence(0, length);
+  }
+
+  /**
+   * Returns whether this slice is empty or contains only whitespace, without creating a String.
+   *
+   * @return true if the slice is blank
+   */
+  boolean isBlank() {
+    for (int i = 0; i < length; i++) {
+      if (!Character.isWhitespace(charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAscii(ByteBuffer buffer, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (buffer.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decodes the range into the character array, collapsing doubled quotes and turning CRLF and CR
+   * into LF when requested.
+   *
+   * @throws UncheckedIOException wrapping a MalformedInputException if the range holds a byte that
+   *     does not start a sequence, a truncated sequence, a sequence whose continuation bytes are
+   *     not of the form 10xxxxxx, or one encoding an overlong form, a surrogate or a code point
+   *     above U+10FFFF, as the UTF-8 decoder of FigurineCsvReader rejects them
+   */
+  private void decode(ByteBuffer buffer, int from, int to, boolean escaped) {
+    if (decoded.length < to - from) {
+      decoded = Arrays.copyOf(decoded, Math.max(to - from, decoded.length * 2));
+    }
+    int n = 0;
+    int i = from;
+    while (i < to) {
+      int b = buffer.get(i++);
+      if (b >= 0) {
+        if (escaped && b == '\r') {
+          decoded[n++] = '\n';
+          if (i < to && buffer.get(i) == '\n') {
+            i++;
+          }
+          continue;
+        }
+        decoded[n++] = (char) b;
+        if (escaped && b == '"' && i < to && buffer.get(i) == '"') {
+          i++;
+        }
+        continue;
+      }
+      int extra;
+      int codePoint;
+      int min;
+      if ((b & 0xE0) == 0xC0) {
+        extra = 1;
+        codePoint = b & 0x1F;
+        min = 0x80;
+      } else if ((b & 0xF0) == 0xE0) {
+        extra = 2;
+        codePoint = b & 0x0F;
+        min = 0x800;
+      } else if ((b & 0xF8) == 0xF0) {
+        extra = 3;
+        codePoint = b & 0x07;
+        min = 0x10000;
+      } else {
+        throw malformed(1);
+      }
+      for (int k = 0; k < extra; k++) {
+        if (i >= to || (buffer.get(i) & 0xC0) != 0x80) {
+          throw malformed(k + 1);
+        }
+        codePoint = (codePoint << 6) | (buffer.get(i++) & 0x3F);
+      }
+      if (codePoint < min
+          || codePoint > Character.MAX_CODE_POINT
+          || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+        throw malformed(extra + 1);
+      }
+      if (Character.isBmpCodePoint(codePoint)) {
+        decoded[n++] = (char) codePoint;
+      } else {
+        decoded[n++] = Character.highSurrogate(codePoint);
+        decoded[n++] = Character.lowSurrogate(codePoint);
+      }
+    }
+    length = n;
+  }
+
+  private static UncheckedIOException malformed(int length) {
+    return new UncheckedIOException(new MalformedInputException(length));
+  }
+}
@@ -0,0 +1,354 @@
+package com.mesofi.myth.collection.core.image;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact storage of the image URLs of a catalog. Every distinct URL is stored once and identified
+ * by an int, and figurines hold read-only list views over arrays of those ids instead of lists of
+ * strings. A URL is stored as the id of its prefix, the scheme, host and first path segment that
+ * image URLs of the same host share, such as {@code https://imagizer.imageshack.com/img922/}, and
+ * the UTF-8 bytes of the rest of the URL in a single shared array.
+ *
+ * <p>The same image listed by a figurine and by its restocks, or by several rows of the catalog, is
+ * therefore stored once, and a list of images costs an int per image. The strings are created when
+ * the elements of a list are read.
+ *
+ * <p>A store is safe for concurrent use and only grows; URLs are never removed.
+ */
+public class ImageStore {
+
+  private static final int NONE = -1;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final List<String> prefixes = new ArrayList<>();
+  private final Map<String, Integer> prefixIds = new HashMap<>();
+
+  /** The bytes of the URLs after their prefix, one after the other. */
+  private byte[] suffixes = new byte[1 << 12];
+
+  private int suffixesSize;
+
+  /** For each URL id, its prefix id, the start of its suffix and its hash code. */
+  private int[] prefixOf = new int[1 << 6];
+
+  private int[] suffixStart = new int[(1 << 6) + 1];
+  private int[] hashes = new int[1 << 6];
+  private int size;
+
+  /** Open addressing table of URL ids, NONE marking free slots. */
+  private int[] table = newTable(1 << 7);
+
+  /**
+   * Splits a comma-separated list of image URLs and stores them. URLs are trimmed, and blank items
+   * are skipped. The text is split without regular expressions, and URLs already stored are found
+   * without creating a String.
+   *
+   * @param commaSeparatedUrls the URLs separated by commas
+   * @return a read-only list of the URLs, or null if the input is null or empty
+   */
+  public List<String> split(CharSequence commaSeparatedUrls) {
+    if (Objects.isNull(commaSeparatedUrls) || commaSeparatedUrls.isEmpty()) {
+      return null;
+    }
+    int[] ids = new int[4];
+    int count = 0;
+    int length = commaSeparatedUrls.length();
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      int start = 0;
+      for (int i = 0; i <= length; i++) {
+        if (i == length || commaSeparatedUrls.charAt(i) == ',') {
+          int from = start;
+          int to = i;
+          while (from < to && Character.isWhitespace(commaSeparatedUrls.charAt(from))) {
+            from++;
+          }
+          while (to > from && Character.isWhitespace(commaSeparatedUrls.charAt(to - 1))) {
+            to--;
+          }
+          if (from < to) {
+            if (count == ids.length) {
+              ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = intern(commaSeparatedUrls, from, to);
+          }
+          start = i + 1;
+        }
+      }
+    } finally {
+      write.unlock();
+    }
+    return new ImageList(this, Arrays.copyOf(ids, count));
+  }
+
+  /**
+   * Stores image URLs.
+   *
+   * @param urls the URLs, none of them null
+   * @return a read-only list of the URLs, or null if the input is null
+   */
+  public List<String> intern(Collection<String> urls) {
+    if (Objects.isNull(urls)) {
+      return null;
+    }
+    int[] ids = new int[urls.size()];
+    int count = 0;
+    Lock write = lock.writeLock();
+    write.lock();
+    try {
+      for (String url : urls) {
+        ids[count++] = intern(Objects.requireNonNull(url, "url"), 0, url.length());
+      }
+    } finally {
+      write.unlock();
+    }
+    return new ImageList(this, ids);
+  }
+
+  /**
+   * Appends image URLs separated by commas, the reverse of {@link #split(CharSequence)}. The URLs
+   * of lists returned by a store are written from the stored bytes, without creating a String per
+   * URL.
+   *
+   * @param urls the URLs to append
+   * @param out the builder to append to
+   */
+  public static void join(List<String> urls, StringBuilder out) {
+    if (urls instanceof ImageList list) {
+      list.store.appendUrls(list.ids, out);
+      return;
+    }
+    for (int i = 0; i < urls.size(); i++) {
+      if (i > 0) {
+        out.append(',');
+      }
+      out.append(urls.get(i));
+    }
+  }
+
+  /**
+   * Returns the number of distinct URLs stored.
+   *
+   * @return the number of URLs
+   */
+  public int size() {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      return size;
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of distinct prefixes of the stored URLs.
+   *
+   * @return the number of prefixes
+   */
+  public int prefixCount() {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      return prefixes.size();
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /**
+   * Returns a stored URL.
+   *
+   * @param id the id of the URL
+   * @return the URL
+   */
+  String url(int id) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      int start = suffixStart[id];
+      return prefixes.get(prefixOf[id])
+          + new String(suffixes, start, suffixStart[id + 1] - start, StandardCharsets.UTF_8);
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /** Appends the URLs of the given ids separated by commas, decoding ASCII suffixes in place. */
+  private void appendUrls(int[] ids, StringBuilder out) {
+    Lock read = lock.readLock();
+    read.lock();
+    try {
+      for (int i = 0; i < ids.length; i++) {
+        if (i > 0) {
+          out.append(',');
+        }
+        int id = ids[i];
+        int start = suffixStart[id];
+        int end = suffixStart[id + 1];
+        out.append(prefixes.get(prefixOf[id]));
+        int mark = out.length();
+        for (int b = start; b < end; b++) {
+          if (suffixes[b] < 0) {
+            out.setLength(mark);
+            out.append(new String(suffixes, start, end - start, StandardCharsets.UTF_8));
+            break;
+          }
+          out.append((char) suffixes[b]);
+        }
+      }
+    } finally {
+      read.unlock();
+    }
+  }
+
+  /** Returns the id of a URL, storing it first if needed. Must be called with the write lock. */
+  private int intern(CharSequence text, int from, int to) {
+    int hash = 0;
+    for (int i = from; i < to; i++) {
+      hash = 31 * hash + text.charAt(i);
+    }
+    int mask = table.length - 1;
+    int slot = spread(hash) & mask;
+    for (int id = table[slot]; id != NONE; id = table[slot = (slot + 1) & mask]) {
+      if (hashes[id] == hash && matches(id, text, from, to)) {
+        return id;
+      }
+    }
+    int id = append(text, from, to, hash);
+    table[slot] = id;
+    if (size * 2 > table.length) {
+      rehash();
+    }
+    return id;
+  }
+
+  private boolean matches(int id, CharSequence text, int from, int to) {
+    String prefix = prefixes.get(prefixOf[id]);
+    int start = suffixStart[id];
+    int end = suffixStart[id + 1];
+    if (prefix.length() + end - start != to - from) {
+      return url(id).contentEquals(text.subSequence(from, to));
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (prefix.charAt(i) != text.charAt(from + i)) {
+        return false;
+      }
+    }
+    int offset = from + prefix.length() - start;
+    for (int i = start; i < end; i++) {
+      byte b = suffixes[i];
+      if (b < 0) {
+        return url(id).contentEquals(text.subSequence(from, to));
+      }
+      if (b != text.charAt(offset + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int append(CharSequence text, int from, int to, int hash) {
+    int split = prefixEnd(text, from, to);
+    String prefix = text.subSequence(from, split).toString();
+    Integer prefixId = prefixIds.get(prefix);
+    if (Objects.isNull(prefixId)) {
+      prefixId = prefixes.size();
+      prefixes.add(prefix);
+      prefixIds.put(prefix, prefixId);
+    }
+    byte[] suffix = text.subSequence(split, to).toString().getBytes(StandardCharsets.UTF_8);
+    if (suffixesSize + suffix.length > suffixes.length) {
+      suffixes =
+          Arrays.copyOf(suffixes, Math.max(suffixes.length * 2, suffixesSize + suffix.length));
+    }
+    System.arraycopy(suffix, 0, suffixes, suffixesSize, suffix.length);
+    if (size == prefixOf.length) {
+      prefixOf = Arrays.copyOf(prefixOf, size * 2);
+      hashes = Arrays.copyOf(hashes, size * 2);
+      suffixStart = Arrays.copyOf(suffixStart, size * 2 + 1);
+    }
+    int id = size++;
+    prefixOf[id] = prefixId;
+    hashes[id] = hash;
+    suffixStart[id] = suffixesSize;
+    suffixesSize += suffix.length;
+    suffixStart[id + 1] = suffixesSize;
+    return id;
+  }
+
+  /**
+   * Returns the end of the prefix of a URL: the slash after its first path segment, the slash after
+   * its host when it has a single segment, or the start of the URL when it has no scheme.
+   */
+  private static int prefixEnd(CharSequence text, int from, int to) {
+    int slashes = 0;
+    int end = from;
+    for (int i = from; i < to && slashes < 4; i++) {
+      if (text.charAt(i) == '/') {
+        slashes++;
+        end = i + 1;
+      }
+    }
+    // "scheme://host/" holds three slashes; anything less is not an absolute URL
+    return slashes >= 3 ? end : from;
+  }
+
+  private void rehash() {
+    table = newTable(table.length * 2);
+    int mask = table.length - 1;
+    for (int id = 0; id < size; id++) {
+      int slot = spread(hashes[id]) & mask;
+      while (table[slot] != NONE) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = id;
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int[] newTable(int capacity) {
+    int[] table = new int[capacity];
+    Arrays.fill(table, NONE);
+    return table;
+  }
+
+  /** Read-only list view of stored URLs. */
+  private static final class ImageList extends AbstractList<String> implements RandomAccess {
+
+    private final ImageStore store;
+    private final int[] ids;
+
+    ImageList(ImageStore store, int[] ids) {
+      this.store = store;
+      this.ids = ids;
+    }
+
+    @Override
+    public String get(int index) {
+      return store.url(ids[Objects.checkIndex(index, ids.length)]);
+    }
+
+    @Override
+    public int size() {
+      return ids.length;
+    }
+  }
+}
@@ -0,0 +1,371 @@
+package com.mesofi.myth.collection.core.json;
+
+import static com.mesofi.myth.collection.core.json.JsonFields.AMOUNT;
+import static com.mesofi.myth.collection.core.json.JsonFields.ANNIVERSARY;
+import static com.mesofi.myth.collection.core.json.JsonFields.BASE_NAME;
+import static com.mesofi.myth.collection.core.json.JsonFields.BASE_PRICE;
+import static com.mesofi.myth.collection.core.json.JsonFields.CATEGORY;
+import static com.mesofi.myth.collection.core.json.JsonFields.CURRENCY;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISPLAYABLE_NAME;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTIONS;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTION_CHANNEL;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTOR;
+import static com.mesofi.myth.collection.core.json.JsonFields.FINAL_PRICE;
+import static com.mesofi.myth.collection.core.json.JsonFields.FIRST_ANNOUNCEMENT_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.FLAGS;
+import static com.mesofi.myth.collection.core.json.JsonFields.LINE_UP;
+import static com.mesofi.myth.collection.core.json.JsonFields.OFFICIAL_IMAGES;
+import static com.mesofi.myth.collection.core.json.JsonFields.OTHER_IMAGES;
+import static com.mesofi.myth.collection.core.json.JsonFields.PRE_ORDER_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.RELEASE_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.RELEASE_DATE_CONFIRMED;
+import static com.mesofi.myth.collection.core.json.JsonFields.REMARKS;
+import static com.mesofi.myth.collection.core.json.JsonFields.RESTOCKS;
+import static com.mesofi.myth.collection.core.json.JsonFields.SERIES;
+import static com.mesofi.myth.collection.core.json.JsonFields.STATUS;
+import static com.mesofi.myth.collection.core.json.JsonFields.TAMASHII_URL;
+
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Restock;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming JSON reader of figurines, the reverse of {@link FigurineJsonWriter}. The input is
+ * tokenized straight from its UTF-8 bytes through a single reused buffer and each figurine is built
+ * as its object is read, by code written for the model classes rather than through reflection:
+ * field names and enum constants are matched against tables of their encoded bytes, and prices and
+ * dates are decoded from their digits. No tree of the document is built, so a catalog of any size
+ * is read in constant memory as the returned stream is consumed.
+ *
+ * <p>Fields may come in any order. Unknown fields are skipped, and missing or null fields leave the
+ * attribute unset, so the output of a writer that omits nulls reads back the same as its full
+ * output. Malformed JSON, unknown enum constants and invalid dates or currencies fail with an
+ * IllegalArgumentException giving the offset of the problem. The image URLs of read figurines are
+ * kept in an ImageStore, shared with a FigurineMapper when both are given the same store.
+ *
+ * <p>The returned streams are sequential, ordered and hold the underlying input open; they must be
+ * closed once consumed, preferably with a try-with-resources statement.
+ */
+public class FigurineJsonReader {
+
+  private final ImageStore imageStore;
+
+  /** Creates a reader that stores image URLs in a new ImageStore. */
+  public FigurineJsonReader() {
+    this(new ImageStore());
+  }
+
+  /**
+   * Creates a reader that stores image URLs in the given store.
+   *
+   * @param imageStore the store of the image URLs of read figurines
+   */
+  public FigurineJsonReader(ImageStore imageStore) {
+    this.imageStore = Objects.requireNonNull(imageStore, "imageStore");
+  }
+
+  /**
+   * Returns a lazy stream of the figurines of a JSON array read from the given stream. Closing the
+   * returned stream closes the input stream, which does not need to be buffered.
+   *
+   * @param in the source of the UTF-8 JSON bytes, holding an array of figurines
+   * @return a lazy, ordered stream of figurines, one per element of the array
+   */
+  public Stream<Figurine> read(InputStream in) {
+    Objects.requireNonNull(in, "in");
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new FigurineIterator(new Decoder(new JsonInput(in), imageStore)),
+                Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(() -> close(in));
+  }
+
+  /**
+   * Reads a single figurine written as a JSON object, the reverse of {@link
+   * FigurineJsonWriter#write(java.io.OutputStream, Figurine)}. The stream is not closed.
+   *
+   * @param in the source of the UTF-8 JSON bytes, holding one figurine
+   * @return the figurine
+   * @throws IOException if the stream fails
+   */
+  public Figurine readFigurine(InputStream in) throws IOException {
+    JsonInput input = new JsonInput(Objects.requireNonNull(in, "in"));
+    Figurine figurine = new Decoder(input, imageStore).figurine();
+    if (input.peek() >= 0) {
+      throw input.malformed("unexpected content after the figurine");
+    }
+    return figurine;
+  }
+
+  /**
+   * Closes the given stream, rethrowing any I/O failure as an unchecked exception so it can be used
+   * as a stream close handler.
+   *
+   * @param in the stream to close
+   */
+  private static void close(InputStream in) {
+    try {
+      in.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Iterator that reads the elements of the top-level array as they are requested. */
+  private static final class FigurineIterator implements Iterator<Figurine> {
+
+    private final Decoder decoder;
+    private Boolean more;
+
+    FigurineIterator(Decoder decoder) {
+      this.decoder = decoder;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (Objects.isNull(more)) {
+        // the opening bracket is only read once the stream is consumed
+        try {
+          decoder.in.expect('[');
+          more = !decoder.in.consume(']');
+          if (!more) {
+            end();
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return more;
+    }
+
+    @Override
+    public Figurine next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      try {
+        Figurine figurine = decoder.figurine();
+        if (!decoder.in.consume(',')) {
+          decoder.in.expect(']');
+          more = false;
+          end();
+        }
+        return figurine;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void end() throws IOException {
+      if (decoder.in.peek() >= 0) {
+        throw decoder.in.malformed("unexpected content after the array");
+      }
+    }
+  }
+
+  /** Builds the model objects from the values of one input. */
+  private static final class Decoder {
+
+    private final JsonInput in;
+    private final ImageStore imageStore;
+
+    Decoder(JsonInput in, ImageStore imageStore) {
+      this.in = in;
+      this.imageStore = imageStore;
+    }
+
+    Figurine figurine() throws IOException {
+      Figurine figurine = new Figurine();
+      in.expect('{');
+      if (in.consume('}')) {
+        return figurine;
+      }
+      do {
+        int field = in.field(JsonFields.figurineFields);
+        if (in.nextIsNull() || base(figurine, field)) {
+          continue;
+        }
+        switch (field) {
+          case BASE_NAME -> figurine.setBaseName(in.string());
+          case DISPLAYABLE_NAME -> figurine.setDisplayableName(in.string());
+          case LINE_UP -> figurine.setLineUp(
+              JsonFields.lineUps[in.constant(JsonFields.lineUpNames)]);
+          case SERIES -> figurine.setSeries(JsonFields.series[in.constant(JsonFields.seriesNames)]);
+          case CATEGORY -> figurine.setCategory(
+              JsonFields.categories[in.constant(JsonFields.categoryNames)]);
+          case STATUS -> figurine.setStatus(
+              JsonFields.statuses[in.constant(JsonFields.statusNames)]);
+          case ANNIVERSARY -> figurine.setAnniversary(
+              JsonFields.anniversaries[in.constant(JsonFields.anniversaryNames)]);
+          case RESTOCKS -> figurine.setRestocks(restocks());
+          default -> {
+            if (field >= FLAGS && field < FLAGS + JsonFields.flags.length) {
+              figurine.set(JsonFields.flags[field - FLAGS], in.bool());
+            } else {
+              in.skipValue();
+            }
+          }
+        }
+      } while (in.consume(','));
+      in.expect('}');
+      return figurine;
+    }
+
+    private List<Restock> restocks() throws IOException {
+      List<Restock> restocks = new ArrayList<>();
+      in.expect('[');
+      if (in.consume(']')) {
+        return restocks;
+      }
+      do {
+        restocks.add(restock());
+      } while (in.consume(','));
+      in.expect(']');
+      return restocks;
+    }
+
+    private Restock restock() throws IOException {
+      Restock restock = new Restock();
+      in.expect('{');
+      if (in.consume('}')) {
+        return restock;
+      }
+      do {
+        int field = in.field(JsonFields.figurineFields);
+        if (in.nextIsNull() || base(restock, field)) {
+          continue;
+        }
+        if (field == BASE_NAME) {
+          restock.setBaseName(in.string());
+        } else {
+          in.skipValue();
+        }
+      } while (in.consume(','));
+      in.expect('}');
+      return restock;
+    }
+
+    /**
+     * Reads the value of a field that figurines and restocks share.
+     *
+     * @return true if the field was one of them and its value was read
+     */
+    private boolean base(BaseFigurine figurine, int field) throws IOException {
+      if (field >= DISTRIBUTIONS && field < DISTRIBUTIONS + JsonFields.markets.length) {
+        figurine.setDistribution(JsonFields.markets[field - DISTRIBUTIONS], distribution());
+        return true;
+      }
+      switch (field) {
+        case TAMASHII_URL -> figurine.setTamashiiUrl(in.string());
+        case DISTRIBUTION_CHANNEL -> figurine.setDistributionChannel(
+            JsonFields.distributionChannels[in.constant(JsonFields.distributionChannelNames)]);
+        case OFFICIAL_IMAGES -> figurine.setOfficialImages(images());
+        case OTHER_IMAGES -> figurine.setOtherImages(images());
+        case REMARKS -> figurine.setRemarks(in.string());
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private Distribution distribution() throws IOException {
+      Distribution distribution = new Distribution();
+      in.expect('{');
+      if (in.consume('}')) {
+        return distribution;
+      }
+      do {
+        int field = in.field(JsonFields.distributionFields);
+        if (in.nextIsNull()) {
+          continue;
+        }
+        switch (field) {
+          case DISTRIBUTOR -> distribution.setDistributor(
+              JsonFields.distributors[in.constant(JsonFields.distributorNames)]);
+          case BASE_PRICE -> distribution.setBaseMoney(money());
+          case FINAL_PRICE -> distribution.setFinalMoney(money());
+          case FIRST_ANNOUNCEMENT_DATE -> distribution.setFirstAnnouncementDate(in.date());
+          case PRE_ORDER_DATE -> distribution.setPreOrderDate(in.date());
+          case RELEASE_DATE -> distribution.setReleaseDate(in.date());
+          case RELEASE_DATE_CONFIRMED -> distribution.setReleaseDateConfirmed(in.bool());
+          default -> in.skipValue();
+        }
+      } while (in.consume(','));
+      in.expect('}');
+      return distribution;
+    }
+
+    private Money money() throws IOException {
+      boolean amount = false;
+      long unscaled = 0;
+      int scale = 0;
+      Currency currency = null;
+      in.expect('{');
+      if (!in.consume('}')) {
+        do {
+          int field = in.field(JsonFields.priceFields);
+          if (in.nextIsNull()) {
+            continue;
+          }
+          if (field == AMOUNT) {
+            in.number();
+            amount = true;
+            unscaled = in.unscaled();
+            scale = in.scale();
+          } else if (field == CURRENCY) {
+            currency = currency();
+          } else {
+            in.skipValue();
+          }
+        } while (in.consume(','));
+        in.expect('}');
+      }
+      if (!amount) {
+        throw in.malformed("price without an amount");
+      }
+      return Money.of(unscaled, scale, currency);
+    }
+
+    private Currency currency() throws IOException {
+      int index = in.string(JsonFields.currencyNames);
+      if (index >= 0) {
+        return JsonFields.currencies[index];
+      }
+      try {
+        return Currency.getInstance(in.last());
+      } catch (IllegalArgumentException e) {
+        throw in.malformed("unknown currency " + in.last());
+      }
+    }
+
+    private List<String> images() throws IOException {
+      List<String> urls = new ArrayList<>();
+      in.expect('[');
+      if (!in.consume(']')) {
+        do {
+          urls.add(in.string());
+        } while (in.consume(','));
+        in.expect(']');
+      }
+      return imageStore.intern(urls);
+    }
+  }
+}
@@ -0,0 +1,329 @@
+package com.mesofi.myth.collection.core.json;
+
+import static com.mesofi.myth.collection.core.json.JsonFields.AMOUNT;
+import static com.mesofi.myth.collection.core.json.JsonFields.ANNIVERSARY;
+import static com.mesofi.myth.collection.core.json.JsonFields.BASE_NAME;
+import static com.mesofi.myth.collection.core.json.JsonFields.BASE_PRICE;
+import static com.mesofi.myth.collection.core.json.JsonFields.CATEGORY;
+import static com.mesofi.myth.collection.core.json.JsonFields.CURRENCY;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISPLAYABLE_NAME;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTIONS;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTION_CHANNEL;
+import static com.mesofi.myth.collection.core.json.JsonFields.DISTRIBUTOR;
+import static com.mesofi.myth.collection.core.json.JsonFields.FINAL_PRICE;
+import static com.mesofi.myth.collection.core.json.JsonFields.FIRST_ANNOUNCEMENT_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.FLAGS;
+import static com.mesofi.myth.collection.core.json.JsonFields.LINE_UP;
+import static com.mesofi.myth.collection.core.json.JsonFields.OFFICIAL_IMAGES;
+import static com.mesofi.myth.collection.core.json.JsonFields.OTHER_IMAGES;
+import static com.mesofi.myth.collection.core.json.JsonFields.PRE_ORDER_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.RELEASE_DATE;
+import static com.mesofi.myth.collection.core.json.JsonFields.RELEASE_DATE_CONFIRMED;
+import static com.mesofi.myth.collection.core.json.JsonFields.REMARKS;
+import static com.mesofi.myth.collection.core.json.JsonFields.RESTOCKS;
+import static com.mesofi.myth.collection.core.json.JsonFields.SERIES;
+import static com.mesofi.myth.collection.core.json.JsonFields.STATUS;
+import static com.mesofi.myth.collection.core.json.JsonFields.TAMASHII_URL;
+
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Restock;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Streaming JSON writer of figurines, the reverse of {@link FigurineJsonReader}. Every attribute of
+ * Figurine is written, including its Distribution objects, flags, image lists and Restock entries,
+ * by code written for the model classes rather than through reflection: field names and enum
+ * constants are copied from bytes encoded once, and prices, dates and strings are encoded straight
+ * into a single reused buffer that is written to the stream in large chunks. A catalog is written
+ * as a JSON array while its stream is consumed, so exporting it takes constant memory whatever its
+ * size.
+ *
+ * <p>Figurines are written as objects named after the bean properties of the model, such as {@code
+ * {"baseName":"Pegasus Seiya","lineUp":"MYTH_CLOTH_EX",...,"metal":true}}. Enum values are written
+ * as the names of their constants, dates as ISO-8601 strings such as {@code "2024-07-07"}, and
+ * prices as objects holding the exact decimal amount and the currency code, such as {@code
+ * {"amount":12100,"currency":"JPY"}}. Absent values are written as null, unless the writer omits
+ * them, in which case a figurine that is not distributed in a market has no field for that
+ * distribution at all.
+ *
+ * <p>Writers are stateless and safe for concurrent use.
+ */
+public class FigurineJsonWriter {
+
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+  private final boolean omitNulls;
+
+  /** Creates a writer that writes absent values as null. */
+  public FigurineJsonWriter() {
+    this(false);
+  }
+
+  /**
+   * Creates a writer.
+   *
+   * @param omitNulls true to leave out the fields without a value, such as the distribution of a
+   *     figurine in a market it is not sold in, false to write them as null
+   */
+  public FigurineJsonWriter(boolean omitNulls) {
+    this.omitNulls = omitNulls;
+  }
+
+  /**
+   * Writes the given figurines as a JSON array to the given stream, which is flushed but not
+   * closed. The stream does not need to be buffered.
+   *
+   * @param out the destination of the UTF-8 JSON bytes
+   * @param figurines the figurines to write, consumed in encounter order
+   * @return the number of figurines written
+   * @throws IOException if the stream fails
+   */
+  public long write(OutputStream out, Stream<Figurine> figurines) throws IOException {
+    Objects.requireNonNull(out, "out");
+    Encoder encoder = new Encoder(new JsonOutput(out), omitNulls);
+    long count = 0;
+    encoder.out.raw('[');
+    for (Iterator<Figurine> iterator = figurines.iterator(); iterator.hasNext(); count++) {
+      if (count > 0) {
+        encoder.out.raw(',');
+      }
+      encoder.figurine(Objects.requireNonNull(iterator.next(), "figurine"));
+    }
+    encoder.out.raw(']');
+    encoder.out.flush();
+    return count;
+  }
+
+  /**
+   * Writes a single figurine as a JSON object to the given stream, which is flushed but not closed.
+   *
+   * @param out the destination of the UTF-8 JSON bytes
+   * @param figurine the figurine to write
+   * @throws IOException if the stream fails
+   */
+  public void write(OutputStream out, Figurine figurine) throws IOException {
+    Objects.requireNonNull(out, "out");
+    Encoder encoder = new Encoder(new JsonOutput(out), omitNulls);
+    encoder.figurine(Objects.requireNonNull(figurine, "figurine"));
+    encoder.out.flush();
+  }
+
+  /**
+   * Writes the objects of one output. Every field method takes whether a field was already written
+   * to the enclosing object, and so needs a comma before the next one, and returns it updated.
+   */
+  private static final class Encoder {
+
+    private final JsonOutput out;
+    private final boolean omitNulls;
+
+    Encoder(JsonOutput out, boolean omitNulls) {
+      this.out = out;
+      this.omitNulls = omitNulls;
+    }
+
+    void figurine(Figurine figurine) throws IOException {
+      NameTable fields = JsonFields.figurineFields;
+      out.raw('{');
+      boolean comma = string(fields, BASE_NAME, figurine.getBaseName(), false);
+      comma = string(fields, DISPLAYABLE_NAME, figurine.getDisplayableName(), comma);
+      comma = constant(fields, LINE_UP, figurine.getLineUp(), JsonFields.lineUpNames, comma);
+      comma = constant(fields, SERIES, figurine.getSeries(), JsonFields.seriesNames, comma);
+      comma = constant(fields, CATEGORY, figurine.getCategory(), JsonFields.categoryNames, comma);
+      comma = constant(fields, STATUS, figurine.getStatus(), JsonFields.statusNames, comma);
+      comma =
+          constant(
+              fields, ANNIVERSARY, figurine.getAnniversary(), JsonFields.anniversaryNames, comma);
+      for (int i = 0; i < JsonFields.flags.length; i++) {
+        comma = field(fields, FLAGS + i, comma);
+        out.raw(figurine.is(JsonFields.flags[i]) ? TRUE : FALSE);
+      }
+      comma = base(figurine, comma);
+      List<Restock> restocks = figurine.getRestocks();
+      if (Objects.nonNull(restocks) || !omitNulls) {
+        field(fields, RESTOCKS, comma);
+        if (Objects.isNull(restocks)) {
+          out.raw(NULL);
+        } else {
+          out.raw('[');
+          for (int i = 0; i < restocks.size(); i++) {
+            if (i > 0) {
+              out.raw(',');
+            }
+            restock(restocks.get(i));
+          }
+          out.raw(']');
+        }
+      }
+      out.raw('}');
+    }
+
+    private void restock(Restock restock) throws IOException {
+      out.raw('{');
+      base(restock, string(JsonFields.figurineFields, BASE_NAME, restock.getBaseName(), false));
+      out.raw('}');
+    }
+
+    /** Writes the fields that figurines and restocks share. */
+    private boolean base(BaseFigurine figurine, boolean comma) throws IOException {
+      NameTable fields = JsonFields.figurineFields;
+      for (Market market : JsonFields.markets) {
+        comma =
+            distribution(DISTRIBUTIONS + market.ordinal(), figurine.getDistribution(market), comma);
+      }
+      comma = string(fields, TAMASHII_URL, figurine.getTamashiiUrl(), comma);
+      comma =
+          constant(
+              fields,
+              DISTRIBUTION_CHANNEL,
+              figurine.getDistributionChannel(),
+              JsonFields.distributionChannelNames,
+              comma);
+      comma = images(OFFICIAL_IMAGES, figurine.getOfficialImages(), comma);
+      comma = images(OTHER_IMAGES, figurine.getOtherImages(), comma);
+      return string(fields, REMARKS, figurine.getRemarks(), comma);
+    }
+
+    private boolean distribution(int field, Distribution distribution, boolean comma)
+        throws IOException {
+      if (Objects.isNull(distribution)) {
+        return absent(JsonFields.figurineFields, field, comma);
+      }
+      NameTable fields = JsonFields.distributionFields;
+      field(JsonFields.figurineFields, field, comma);
+      out.raw('{');
+      boolean inner =
+          constant(
+              fields,
+              DISTRIBUTOR,
+              distribution.getDistributor(),
+              JsonFields.distributorNames,
+              false);
+      inner = money(BASE_PRICE, distribution.getBaseMoney(), inner);
+      inner = money(FINAL_PRICE, distribution.getFinalMoney(), inner);
+      inner = date(FIRST_ANNOUNCEMENT_DATE, distribution.getFirstAnnouncementDate(), inner);
+      inner = date(PRE_ORDER_DATE, distribution.getPreOrderDate(), inner);
+      inner = date(RELEASE_DATE, distribution.getReleaseDate(), inner);
+      Boolean confirmed = distribution.getReleaseDateConfirmed();
+      if (Objects.isNull(confirmed)) {
+        absent(fields, RELEASE_DATE_CONFIRMED, inner);
+      } else {
+        field(fields, RELEASE_DATE_CONFIRMED, inner);
+        out.raw(confirmed ? TRUE : FALSE);
+      }
+      out.raw('}');
+      return true;
+    }
+
+    private boolean money(int field, Money money, boolean comma) throws IOException {
+      NameTable fields = JsonFields.distributionFields;
+      if (Objects.isNull(money)) {
+        return absent(fields, field, comma);
+      }
+      field(fields, field, comma);
+      out.raw('{');
+      out.raw(JsonFields.priceFields.field(AMOUNT));
+      out.decimal(money.getUnscaledAmount(), money.getScale());
+      Currency currency = money.getCurrency();
+      if (Objects.nonNull(currency)) {
+        out.raw(',');
+        out.raw(JsonFields.priceFields.field(CURRENCY));
+        currency(currency);
+      } else if (!omitNulls) {
+        out.raw(',');
+        out.raw(JsonFields.priceFields.field(CURRENCY));
+        out.raw(NULL);
+      }
+      out.raw('}');
+      return true;
+    }
+
+    private void currency(Currency currency) throws IOException {
+      for (int i = 0; i < JsonFields.currencies.length; i++) {
+        if (JsonFields.currencies[i] == currency) {
+          out.raw(JsonFields.currencyNames.value(i));
+          return;
+        }
+      }
+      out.string(currency.getCurrencyCode());
+    }
+
+    private boolean date(int field, LocalDate date, boolean comma) throws IOException {
+      if (Objects.isNull(date)) {
+        return absent(JsonFields.distributionFields, field, comma);
+      }
+      field(JsonFields.distributionFields, field, comma);
+      out.date(date);
+      return true;
+    }
+
+    private boolean images(int field, List<String> urls, boolean comma) throws IOException {
+      if (Objects.isNull(urls)) {
+        return absent(JsonFields.figurineFields, field, comma);
+      }
+      field(JsonFields.figurineFields, field, comma);
+      out.raw('[');
+      for (int i = 0; i < urls.size(); i++) {
+        if (i > 0) {
+          out.raw(',');
+        }
+        out.string(urls.get(i));
+      }
+      out.raw(']');
+      return true;
+    }
+
+    private boolean string(NameTable fields, int field, String value, boolean comma)
+        throws IOException {
+      if (Objects.isNull(value)) {
+        return absent(fields, field, comma);
+      }
+      field(fields, field, comma);
+      out.string(value);
+      return true;
+    }
+
+    private boolean constant(
+        NameTable fields, int field, Enum<?> value, NameTable names, boolean comma)
+        throws IOException {
+      if (Objects.isNull(value)) {
+        return absent(fields, field, comma);
+      }
+      field(fields, field, comma);
+      out.raw(names.value(value.ordinal()));
+      return true;
+    }
+
+    /** Writes a null field, or nothing if nulls are omitted. */
+    private boolean absent(NameTable fields, int field, boolean comma) throws IOException {
+      if (omitNulls) {
+        return comma;
+      }
+      field(fields, field, comma);
+      out.raw(NULL);
+      return true;
+    }
+
+    private boolean field(NameTable fields, int field, boolean comma) throws IOException {
+      if (comma) {
+        out.raw(',');
+      }
+      out.raw(fields.field(field));
+      return true;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.mesofi.myth.collection.core.json;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Distributor;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The JSON names of the model classes, shared by FigurineJsonWriter and FigurineJsonReader. Fields
+ * are named after the bean properties of the model, flags after their accessors, such as {@code
+ * "metal"}, distributions after their market, such as {@code "distributionJPY"}, and enum values
+ * are written as the names of their constants. Restocks use the fields of figurines they have.
+ */
+final class JsonFields {
+
+  static final int BASE_NAME = 0;
+  static final int DISPLAYABLE_NAME = 1;
+  static final int LINE_UP = 2;
+  static final int SERIES = 3;
+  static final int CATEGORY = 4;
+  static final int STATUS = 5;
+  static final int ANNIVERSARY = 6;
+  static final int TAMASHII_URL = 7;
+  static final int DISTRIBUTION_CHANNEL = 8;
+  static final int OFFICIAL_IMAGES = 9;
+  static final int OTHER_IMAGES = 10;
+  static final int REMARKS = 11;
+  static final int RESTOCKS = 12;
+
+  /**
+   * The index of the field of the distribution in the first market, such as {@code
+   * "distributionJPY"}; the other markets follow in ordinal order.
+   */
+  static final int DISTRIBUTIONS = 13;
+
+  static final Market[] markets = Market.values();
+
+  /** The index of the field of the first flag; the others follow in ordinal order. */
+  static final int FLAGS = DISTRIBUTIONS + markets.length;
+
+  static final int DISTRIBUTOR = 0;
+  static final int BASE_PRICE = 1;
+  static final int FINAL_PRICE = 2;
+  static final int FIRST_ANNOUNCEMENT_DATE = 3;
+  static final int PRE_ORDER_DATE = 4;
+  static final int RELEASE_DATE = 5;
+  static final int RELEASE_DATE_CONFIRMED = 6;
+
+  static final int AMOUNT = 0;
+  static final int CURRENCY = 1;
+
+  static final NameTable figurineFields = figurineFields();
+
+  static final NameTable distributionFields =
+      new NameTable(
+          "distributor",
+          "basePrice",
+          "finalPrice",
+          "firstAnnouncementDate",
+          "preOrderDate",
+          "releaseDate",
+          "releaseDateConfirmed");
+
+  static final NameTable priceFields = new NameTable("amount", "currency");
+
+  static final FigurineFlag[] flags = FigurineFlag.values();
+  static final LineUp[] lineUps = LineUp.values();
+  static final Series[] series = Series.values();
+  static final Category[] categories = Category.values();
+  static final Status[] statuses = Status.values();
+  static final Anniversary[] anniversaries = Anniversary.values();
+  static final DistributionChannel[] distributionChannels = DistributionChannel.values();
+  static final Distributor[] distributors = Distributor.values();
+
+  static final NameTable lineUpNames = NameTable.of(lineUps);
+  static final NameTable seriesNames = NameTable.of(series);
+  static final NameTable categoryNames = NameTable.of(categories);
+  static final NameTable statusNames = NameTable.of(statuses);
+  static final NameTable anniversaryNames = NameTable.of(anniversaries);
+  static final NameTable distributionChannelNames = NameTable.of(distributionChannels);
+  static final NameTable distributorNames = NameTable.of(distributors);
+
+  /** The currencies of the markets, looked up without decoding their codes. */
+  static final Currency[] currencies =
+      Arrays.stream(Market.values()).map(Market::getCurrency).distinct().toArray(Currency[]::new);
+
+  static final NameTable currencyNames =
+      new NameTable(
+          Arrays.stream(currencies).map(Currency::getCurrencyCode).toArray(String[]::new));
+
+  private JsonFields() {}
+
+  private static NameTable figurineFields() {
+    List<String> names =
+        new ArrayList<>(
+            List.of(
+                "baseName",
+                "displayableName",
+                "lineUp",
+                "series",
+                "category",
+                "status",
+                "anniversary",
+                "tamashiiUrl",
+                "distributionChannel",
+                "officialImages",
+                "otherImages",
+                "remarks",
+                "restocks"));
+    for (Market market : markets) {
+      names.add("distribution" + market.name());
+    }
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      names.add(flag.name().toLowerCase(Locale.ROOT));
+    }
+    return new NameTable(names.toArray(new String[0]));
+  }
+}
@@ -0,0 +1,495 @@
+package com.mesofi.myth.collection.core.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Pull tokenizer over UTF-8 JSON read from a stream through a single reused buffer. Callers walk
+ * the document value by value: field names and enum constants are matched against a {@link
+ * NameTable} from their bytes, numbers are read as an unscaled long and a scale, dates are decoded
+ * from their digits, and only the strings a caller keeps are decoded. No tree is built, and unknown
+ * fields are skipped.
+ *
+ * <p>Malformed input fails with an IllegalArgumentException giving the offset of the problem.
+ * Instances are not thread-safe.
+ */
+final class JsonInput {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /** The largest number of decimal places of a number, as for Money. */
+  private static final int MAX_SCALE = 18;
+
+  private final InputStream in;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private long offset;
+
+  /** The UTF-8 bytes of the last string read, with its escapes resolved. */
+  private byte[] scratch = new byte[256];
+
+  private int scratchLength;
+
+  /** The digits and decimal places of the last number read. */
+  private long unscaled;
+
+  private int scale;
+
+  /**
+   * Creates an input reading from the given stream.
+   *
+   * @param in the source of the JSON bytes
+   */
+  JsonInput(InputStream in) {
+    this.in = in;
+  }
+
+  /**
+   * Returns the next byte that is not white space, without consuming it.
+   *
+   * @return the next byte, or -1 at the end of the input
+   * @throws IOException if the stream fails
+   */
+  int peek() throws IOException {
+    while (true) {
+      if (position == limit && !fill()) {
+        return -1;
+      }
+      int b = buffer[position] & 0xFF;
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return b;
+      }
+      position++;
+    }
+  }
+
+  /**
+   * Consumes the next byte that is not white space if it is the given one.
+   *
+   * @param c the expected byte
+   * @return true if the byte was consumed, false if the next byte is another one
+   * @throws IOException if the stream fails
+   */
+  boolean consume(char c) throws IOException {
+    if (peek() == c) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Consumes the next byte that is not white space, which must be the given one.
+   *
+   * @param c the expected byte
+   * @throws IOException if the stream fails
+   * @throws IllegalArgumentException if the next byte is another one
+   */
+  void expect(char c) throws IOException {
+    if (!consume(c)) {
+      throw malformed("expected '" + c + "'");
+    }
+  }
+
+  /**
+   * Consumes a null literal if it is the next value.
+   *
+   * @return true if the next value was null and was consumed
+   * @throws IOException if the stream fails
+   */
+  boolean nextIsNull() throws IOException {
+    if (peek() != 'n') {
+      return false;
+    }
+    literal("null");
+    return true;
+  }
+
+  /**
+   * Reads the name of the next field of an object and its colon.
+   *
+   * @param names the known field names
+   * @return the index of the name in the table, or -1 if it is unknown
+   * @throws IOException if the stream fails
+   */
+  int field(NameTable names) throws IOException {
+    readString();
+    expect(':');
+    return names.find(scratch, 0, scratchLength);
+  }
+
+  /**
+   * Reads a string holding the name of a constant.
+   *
+   * @param names the names of the constants
+   * @return the index of the name in the table
+   * @throws IOException if the stream fails
+   * @throws IllegalArgumentException if the name is unknown
+   */
+  int constant(NameTable names) throws IOException {
+    readString();
+    int index = names.find(scratch, 0, scratchLength);
+    if (index < 0) {
+      throw malformed("unknown constant " + decode());
+    }
+    return index;
+  }
+
+  /**
+   * Reads a string that is usually one of a few known names, such as a currency code.
+   *
+   * @param names the known names
+   * @return the index of the string in the table, or -1 if it is unknown, in which case {@link
+   *     #last()} decodes it
+   * @throws IOException if the stream fails
+   */
+  int string(NameTable names) throws IOException {
+    readString();
+    return names.find(scratch, 0, scratchLength);
+  }
+
+  /**
+   * Decodes the last string read.
+   *
+   * @return the last string read
+   */
+  String last() {
+    return decode();
+  }
+
+  /**
+   * Reads a string.
+   *
+   * @return the decoded string
+   * @throws IOException if the stream fails
+   */
+  String string() throws IOException {
+    readString();
+    return decode();
+  }
+
+  /**
+   * Reads a boolean literal.
+   *
+   * @return the value of the literal
+   * @throws IOException if the stream fails
+   */
+  boolean bool() throws IOException {
+    int b = peek();
+    if (b == 't') {
+      literal("true");
+      return true;
+    }
+    if (b == 'f') {
+      literal("false");
+      return false;
+    }
+    throw malformed("expected a boolean");
+  }
+
+  /**
+   * Reads a number, available afterwards through {@link #unscaled()} and {@link #scale()}. Decimal
+   * places are kept as written, so 1234.50 has a scale of 2, and an exponent moves them.
+   *
+   * @throws IOException if the stream fails
+   * @throws IllegalArgumentException if the number does not fit a long or has more than 18 decimal
+   *     places
+   */
+  void number() throws IOException {
+    peek();
+    boolean negative = next('-');
+    // digits are accumulated as a negative value to include Long.MIN_VALUE
+    long value = 0;
+    int read = 0;
+    int decimals = -1;
+    for (int b = peekRaw(); (b >= '0' && b <= '9') || (b == '.' && decimals < 0); b = peekRaw()) {
+      position++;
+      if (b == '.') {
+        decimals = 0;
+        continue;
+      }
+      read++;
+      if (value < (Long.MIN_VALUE + (b - '0')) / 10) {
+        throw malformed("number out of range");
+      }
+      value = value * 10 - (b - '0');
+      decimals = decimals < 0 ? decimals : decimals + 1;
+    }
+    if (read == 0) {
+      throw malformed("expected a number");
+    }
+    int places = Math.max(decimals, 0);
+    if (next('e') || next('E')) {
+      boolean negativeExponent = next('-');
+      if (!negativeExponent) {
+        next('+');
+      }
+      int exponent = 0;
+      for (int b = peekRaw(); b >= '0' && b <= '9' && exponent < 1000; b = peekRaw()) {
+        position++;
+        exponent = exponent * 10 + (b - '0');
+      }
+      places += negativeExponent ? exponent : -exponent;
+    }
+    for (; places < 0; places++) {
+      if (value < Long.MIN_VALUE / 10) {
+        throw malformed("number out of range");
+      }
+      value *= 10;
+    }
+    if (places > MAX_SCALE || (!negative && value == Long.MIN_VALUE)) {
+      throw malformed("number out of range");
+    }
+    this.unscaled = negative ? value : -value;
+    this.scale = places;
+  }
+
+  /**
+   * Returns the digits of the last number read.
+   *
+   * @return the number times 10<sup>scale</sup>
+   */
+  long unscaled() {
+    return unscaled;
+  }
+
+  /**
+   * Returns the number of decimal places of the last number read.
+   *
+   * @return the scale of the number
+   */
+  int scale() {
+    return scale;
+  }
+
+  /**
+   * Reads a date written as an ISO-8601 string, such as "2024-07-07".
+   *
+   * @return the date
+   * @throws IOException if the stream fails
+   * @throws IllegalArgumentException if the string is not a date
+   */
+  LocalDate date() throws IOException {
+    readString();
+    byte[] s = scratch;
+    try {
+      if (scratchLength == 10 && s[4] == '-' && s[7] == '-') {
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        if (year >= 0 && month >= 0 && day >= 0) {
+          return LocalDate.of(year, month, day);
+        }
+      }
+      return LocalDate.parse(decode());
+    } catch (DateTimeException e) {
+      throw malformed("invalid date " + decode());
+    }
+  }
+
+  /**
+   * Skips the next value, whatever its type, including nested objects and arrays.
+   *
+   * @throws IOException if the stream fails
+   */
+  void skipValue() throws IOException {
+    int b = peek();
+    switch (b) {
+      case '"' -> readString();
+      case 't', 'f' -> bool();
+      case 'n' -> literal("null");
+      case '{' -> {
+        position++;
+        if (!consume('}')) {
+          do {
+            readString();
+            expect(':');
+            skipValue();
+          } while (consume(','));
+          expect('}');
+        }
+      }
+      case '[' -> {
+        position++;
+        if (!consume(']')) {
+          do {
+            skipValue();
+          } while (consume(','));
+          expect(']');
+        }
+      }
+      default -> {
+        if (b == '-' || (b >= '0' && b <= '9')) {
+          skipNumber();
+        } else {
+          throw malformed("expected a value");
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns an exception describing malformed input at the current offset.
+   *
+   * @param problem what was wrong
+   * @return the exception to throw
+   */
+  IllegalArgumentException malformed(String problem) {
+    return new IllegalArgumentException(
+        "Malformed JSON at offset " + (offset + position) + ": " + problem);
+  }
+
+  private void skipNumber() throws IOException {
+    for (int b = peekRaw();
+        (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+        b = peekRaw()) {
+      position++;
+    }
+  }
+
+  /** Reads a quoted string into the scratch buffer, resolving its escapes. */
+  private void readString() throws IOException {
+    expect('"');
+    scratchLength = 0;
+    while (true) {
+      int b = read();
+      if (b == '"') {
+        return;
+      }
+      if (b < 0) {
+        throw malformed("unterminated string");
+      }
+      if (b == '\\') {
+        escape();
+      } else {
+        put((byte) b);
+      }
+    }
+  }
+
+  /** Resolves the escape sequence following a backslash into the scratch buffer. */
+  private void escape() throws IOException {
+    int b = read();
+    switch (b) {
+      case '"', '\\', '/' -> put((byte) b);
+      case 'b' -> put((byte) '\b');
+      case 'f' -> put((byte) '\f');
+      case 'n' -> put((byte) '\n');
+      case 'r' -> put((byte) '\r');
+      case 't' -> put((byte) '\t');
+      case 'u' -> {
+        int unit = hex();
+        if (Character.isHighSurrogate((char) unit) && next('\\')) {
+          if (!next('u')) {
+            throw malformed("invalid escape");
+          }
+          int low = hex();
+          if (Character.isLowSurrogate((char) low)) {
+            putCodePoint(Character.toCodePoint((char) unit, (char) low));
+            return;
+          }
+          putCodePoint('?');
+          unit = low;
+        }
+        putCodePoint(Character.isSurrogate((char) unit) ? '?' : unit);
+      }
+      default -> throw malformed("invalid escape");
+    }
+  }
+
+  private int hex() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int b = read();
+      int digit = Character.digit(b, 16);
+      if (b < 0 || digit < 0) {
+        throw malformed("invalid escape");
+      }
+      value = value * 16 + digit;
+    }
+    return value;
+  }
+
+  private void putCodePoint(int codePoint) {
+    if (codePoint < 0x80) {
+      put((byte) codePoint);
+    } else if (codePoint < 0x800) {
+      put((byte) (0xC0 | codePoint >> 6));
+      put((byte) (0x80 | codePoint & 0x3F));
+    } else if (codePoint < 0x10000) {
+      put((byte) (0xE0 | codePoint >> 12));
+      put((byte) (0x80 | codePoint >> 6 & 0x3F));
+      put((byte) (0x80 | codePoint & 0x3F));
+    } else {
+      put((byte) (0xF0 | codePoint >> 18));
+      put((byte) (0x80 | codePoint >> 12 & 0x3F));
+      put((byte) (0x80 | codePoint >> 6 & 0x3F));
+      put((byte) (0x80 | codePoint & 0x3F));
+    }
+  }
+
+  private void put(byte b) {
+    if (scratchLength == scratch.length) {
+      scratch = Arrays.copyOf(scratch, scratch.length * 2);
+    }
+    scratch[scratchLength++] = b;
+  }
+
+  private String decode() {
+    return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+  }
+
+  private static int digits(byte[] bytes, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      if (bytes[i] < '0' || bytes[i] > '9') {
+        return -1;
+      }
+      value = value * 10 + (bytes[i] - '0');
+    }
+    return value;
+  }
+
+  private void literal(String literal) throws IOException {
+    for (int i = 0; i < literal.length(); i++) {
+      if (read() != literal.charAt(i)) {
+        throw malformed("expected " + literal);
+      }
+    }
+  }
+
+  /** Consumes the next byte, white space included, if it is the given one. */
+  private boolean next(char c) throws IOException {
+    if (peekRaw() == c) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  /** Returns the next byte, white space included, without consuming it, or -1 at the end. */
+  private int peekRaw() throws IOException {
+    return position < limit || fill() ? buffer[position] & 0xFF : -1;
+  }
+
+  private int read() throws IOException {
+    return position < limit || fill() ? buffer[position++] & 0xFF : -1;
+  }
+
+  private boolean fill() throws IOException {
+    offset += limit;
+    position = 0;
+    limit = 0;
+    int read = in.read(buffer);
+    if (read <= 0) {
+      return false;
+    }
+    limit = read;
+    return true;
+  }
+}
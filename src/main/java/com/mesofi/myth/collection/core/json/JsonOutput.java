@@ -0,0 +1,190 @@
+package com.mesofi.myth.collection.core.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * UTF-8 JSON output buffered in a single reused byte array. Field names are written from bytes
+ * encoded once, and numbers, dates and strings are encoded straight into the buffer, so writing a
+ * value allocates nothing. Separators are left to the caller. Instances are not thread-safe.
+ */
+final class JsonOutput {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private static final byte[] hexDigits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private final OutputStream out;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+
+  /**
+   * Creates an output writing to the given stream.
+   *
+   * @param out the destination of the JSON bytes
+   */
+  JsonOutput(OutputStream out) {
+    this.out = out;
+  }
+
+  /**
+   * Writes pre-encoded bytes, such as a quoted field name followed by its colon.
+   *
+   * @param bytes the bytes to write
+   * @throws IOException if the stream fails
+   */
+  void raw(byte[] bytes) throws IOException {
+    if (bytes.length > buffer.length - position) {
+      drain();
+      if (bytes.length > buffer.length) {
+        out.write(bytes);
+        return;
+      }
+    }
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  /**
+   * Writes an ASCII byte, such as a separator or a bracket.
+   *
+   * @param b the byte to write
+   * @throws IOException if the stream fails
+   */
+  void raw(char b) throws IOException {
+    ensure(1);
+    buffer[position++] = (byte) b;
+  }
+
+  /**
+   * Writes a JSON string, escaping quotes, backslashes and control characters.
+   *
+   * @param value the string to write
+   * @throws IOException if the stream fails
+   */
+  void string(String value) throws IOException {
+    raw('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+        ensure(1);
+        buffer[position++] = (byte) c;
+      } else if (c == '"' || c == '\\') {
+        ensure(2);
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) c;
+      } else if (c < 0x20) {
+        ensure(6);
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = '0';
+        buffer[position++] = '0';
+        buffer[position++] = hexDigits[c >> 4];
+        buffer[position++] = hexDigits[c & 0xF];
+      } else if (c < 0x800) {
+        ensure(2);
+        buffer[position++] = (byte) (0xC0 | c >> 6);
+        buffer[position++] = (byte) (0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        ensure(4);
+        buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+        buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+      } else {
+        // lone surrogates are replaced, as by String.getBytes
+        char unit = Character.isSurrogate(c) ? '?' : c;
+        ensure(3);
+        buffer[position++] = (byte) (0xE0 | unit >> 12);
+        buffer[position++] = (byte) (0x80 | unit >> 6 & 0x3F);
+        buffer[position++] = (byte) (0x80 | unit & 0x3F);
+      }
+    }
+    raw('"');
+  }
+
+  /**
+   * Writes a decimal number with the given number of decimal places, such as 1234.50 for 123450 at
+   * scale 2.
+   *
+   * @param unscaled the digits of the number
+   * @param scale the number of decimal places
+   * @throws IOException if the stream fails
+   */
+  void decimal(long unscaled, int scale) throws IOException {
+    ensure(21 + 1);
+    if (unscaled < 0) {
+      buffer[position++] = '-';
+    }
+    int start = position;
+    // digits are produced from the lowest one, as negative values to include Long.MIN_VALUE
+    long rest = unscaled < 0 ? unscaled : -unscaled;
+    int digits = 0;
+    do {
+      if (digits == scale && scale > 0) {
+        buffer[position++] = '.';
+      }
+      buffer[position++] = (byte) ('0' - rest % 10);
+      rest /= 10;
+      digits++;
+    } while (rest != 0 || digits <= scale);
+    for (int i = start, j = position - 1; i < j; i++, j--) {
+      byte swap = buffer[i];
+      buffer[i] = buffer[j];
+      buffer[j] = swap;
+    }
+  }
+
+  /**
+   * Writes a date as an ISO-8601 string, such as "2024-07-07".
+   *
+   * @param date the date to write
+   * @throws IOException if the stream fails
+   */
+  void date(LocalDate date) throws IOException {
+    int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      string(date.toString());
+      return;
+    }
+    ensure(12);
+    buffer[position++] = '"';
+    buffer[position++] = (byte) ('0' + year / 1000);
+    buffer[position++] = (byte) ('0' + year / 100 % 10);
+    buffer[position++] = (byte) ('0' + year / 10 % 10);
+    buffer[position++] = (byte) ('0' + year % 10);
+    buffer[position++] = '-';
+    buffer[position++] = (byte) ('0' + date.getMonthValue() / 10);
+    buffer[position++] = (byte) ('0' + date.getMonthValue() % 10);
+    buffer[position++] = '-';
+    buffer[position++] = (byte) ('0' + date.getDayOfMonth() / 10);
+    buffer[position++] = (byte) ('0' + date.getDayOfMonth() % 10);
+    buffer[position++] = '"';
+  }
+
+  /**
+   * Writes the buffered bytes to the stream and flushes it.
+   *
+   * @throws IOException if the stream fails
+   */
+  void flush() throws IOException {
+    drain();
+    out.flush();
+  }
+
+  private void ensure(int length) throws IOException {
+    if (buffer.length - position < length) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    out.write(buffer, 0, position);
+    position = 0;
+  }
+}
@@ -0,0 +1,106 @@
+package com.mesofi.myth.collection.core.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Fixed set of JSON names encoded once as UTF-8: the field names of an object, or the names of the
+ * constants of an enum. Writers copy the encoded {@code "name":} bytes of a field or the quoted
+ * {@code "NAME"} bytes of a constant, and readers find the index of a name straight from the bytes
+ * of the input in an open-addressing table, without decoding a String. Tables are immutable and
+ * safe for concurrent use.
+ */
+final class NameTable {
+
+  private static final int NONE = -1;
+
+  private final byte[][] names;
+  private final byte[][] fields;
+  private final byte[][] values;
+  private final int[] table;
+  private final int mask;
+
+  /**
+   * Creates a table of the given names, indexed in the order given.
+   *
+   * @param names the names, all distinct
+   */
+  NameTable(String... names) {
+    this.names = new byte[names.length][];
+    this.fields = new byte[names.length][];
+    this.values = new byte[names.length][];
+    this.table = new int[Integer.highestOneBit(Math.max(1, names.length) * 4 - 1)];
+    this.mask = table.length - 1;
+    Arrays.fill(table, NONE);
+    for (int i = 0; i < names.length; i++) {
+      this.names[i] = names[i].getBytes(StandardCharsets.UTF_8);
+      this.fields[i] = ("\"" + names[i] + "\":").getBytes(StandardCharsets.UTF_8);
+      this.values[i] = ("\"" + names[i] + "\"").getBytes(StandardCharsets.UTF_8);
+      if (find(this.names[i], 0, this.names[i].length) != NONE) {
+        throw new IllegalArgumentException("Duplicate name " + names[i]);
+      }
+      int slot = hash(this.names[i], 0, this.names[i].length) & mask;
+      while (table[slot] != NONE) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = i;
+    }
+  }
+
+  /**
+   * Creates a table of the names of the constants of an enum, indexed by ordinal.
+   *
+   * @param constants the constants of the enum, in ordinal order
+   * @return the table of their names
+   */
+  static NameTable of(Enum<?>[] constants) {
+    return new NameTable(Arrays.stream(constants).map(Enum::name).toArray(String[]::new));
+  }
+
+  /**
+   * Returns the encoded field prefix of a name: the quoted name followed by a colon.
+   *
+   * @param index the index of the name
+   * @return the bytes to write before the value of the field; must not be modified
+   */
+  byte[] field(int index) {
+    return fields[index];
+  }
+
+  /**
+   * Returns the encoded string value of a name, such as the name of an enum constant in quotes.
+   *
+   * @param index the index of the name
+   * @return the bytes of the quoted name; must not be modified
+   */
+  byte[] value(int index) {
+    return values[index];
+  }
+
+  /**
+   * Finds a name from its UTF-8 bytes.
+   *
+   * @param bytes the array holding the name
+   * @param from the index of the first byte of the name
+   * @param to the index after the last byte of the name
+   * @return the index of the name, or -1 if it is not in the table
+   */
+  int find(byte[] bytes, int from, int to) {
+    int length = to - from;
+    for (int slot = hash(bytes, from, to) & mask; table[slot] != NONE; slot = (slot + 1) & mask) {
+      byte[] name = names[table[slot]];
+      if (name.length == length && Arrays.equals(name, 0, length, bytes, from, to)) {
+        return table[slot];
+      }
+    }
+    return NONE;
+  }
+
+  private static int hash(byte[] bytes, int from, int to) {
+    int hash = 0;
+    for (int i = from; i < to; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,220 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Single-pass decoder for the date formats used by the catalog sheets: full dates written as {@code
+ * M/d/yyyy} and partial dates written as {@code M/yyyy}. Unlike a DateTimeFormatter based parse,
+ * the input is scanned once, the two formats are told apart without throwing, and the date is
+ * returned together with the flag telling whether the day was present (a confirmed date).
+ *
+ * <p>Month and day accept one or two digits and the year exactly four digits. Days that exceed the
+ * length of the month (for example {@code 2/30/2025}) are moved back to the last valid day of the
+ * month, matching the smart resolution of the formatters previously used by the mapper.
+ *
+ * <p>{@link #format(LocalDate, boolean, StringBuilder)} writes dates back in the same formats.
+ *
+ * <p>Decoded values are kept in a small direct-mapped cache keyed by the input text, so repeated
+ * dates, which are very common across a catalog, are resolved without allocating. The cache is
+ * lossy and lock-free; instances are safe for concurrent use.
+ */
+public class DateCodec {
+
+  /** Default number of cache slots. */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private final Entry[] cache;
+  private final int mask;
+
+  /** Creates a codec with the default cache size. */
+  public DateCodec() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Creates a codec with the given number of cache slots, rounded up to a power of two. A size of
+   * zero disables caching.
+   *
+   * @param cacheSize the number of cache slots
+   */
+  public DateCodec(int cacheSize) {
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException("Invalid cache size: " + cacheSize);
+    }
+    int size = cacheSize <= 1 ? cacheSize : Integer.highestOneBit(cacheSize - 1) << 1;
+    this.cache = new Entry[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Decodes a date written as {@code M/d/yyyy} or {@code M/yyyy}. Partial dates resolve to the
+   * first day of the month and are reported as not confirmed.
+   *
+   * @param text the text to decode
+   * @return the decoded date, or null if the text is null, empty or not in a supported format
+   */
+  public ParsedDate parse(CharSequence text) {
+    if (Objects.isNull(text) || text.isEmpty()) {
+      return null;
+    }
+    if (cache.length == 0) {
+      return decode(text);
+    }
+    int hash = hash(text);
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    Entry entry = cache[slot];
+    if (Objects.nonNull(entry) && entry.hash == hash && entry.key.contentEquals(text)) {
+      return entry.value;
+    }
+    ParsedDate parsed = decode(text);
+    if (Objects.nonNull(parsed)) {
+      cache[slot] = new Entry(hash, text.toString(), parsed);
+    }
+    return parsed;
+  }
+
+  /**
+   * Appends a date in the format decoded by {@link #parse(CharSequence)}: {@code M/d/yyyy} for a
+   * confirmed date and {@code M/yyyy} for one whose day is not known, without allocating.
+   *
+   * @param date the date to write
+   * @param confirmed whether the day of the date is known
+   * @param out the builder to append to
+   */
+  public static void format(LocalDate date, boolean confirmed, StringBuilder out) {
+    out.append(date.getMonthValue()).append('/');
+    if (confirmed) {
+      out.append(date.getDayOfMonth()).append('/');
+    }
+    int year = date.getYear();
+    for (int digits = year < 10 ? 3 : year < 100 ? 2 : year < 1000 ? 1 : 0; digits > 0; digits--) {
+      out.append('0');
+    }
+    out.append(year);
+  }
+
+  /**
+   * Locates the slashes of the text and decodes the numeric groups between them, telling full and
+   * partial dates apart by the number of groups.
+   *
+   * @param text the non-empty text to decode
+   * @return the decoded date, or null if the text is not in a supported format
+   */
+  private static ParsedDate decode(CharSequence text) {
+    int length = text.length();
+    int first = indexOfSlash(text, 0, Math.min(length, 3));
+    if (first < 1) {
+      return null;
+    }
+    int second = indexOfSlash(text, first + 1, Math.min(length, first + 4));
+    int yearStart = (second < 0 ? first : second) + 1;
+    if (length - yearStart != 4 || second == first + 1) {
+      return null;
+    }
+    int month = toNumber(text, 0, first);
+    int year = toNumber(text, yearStart, length);
+    return second < 0
+        ? toDate(month, 1, year, false)
+        : toDate(month, toNumber(text, first + 1, second), year, true);
+  }
+
+  /**
+   * Finds the first slash within the given range.
+   *
+   * @param text the text to search
+   * @param from the first index to check, inclusive
+   * @param to the last index to check, exclusive
+   * @return the index of the slash, or -1 if there is none in the range
+   */
+  private static int indexOfSlash(CharSequence text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (text.charAt(i) == '/') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Converts a run of decimal digits to its value.
+   *
+   * @param text the text holding the digits
+   * @param from the index of the first digit, inclusive
+   * @param to the index after the last digit
+   * @return the value of the digits, or -1 if the range holds anything other than digits
+   */
+  private static int toNumber(CharSequence text, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  /**
+   * Validates the decoded fields and builds the resulting date.
+   *
+   * @param month the month of year
+   * @param day the day of month
+   * @param year the year
+   * @param confirmed whether the day was present in the text
+   * @return the decoded date, or null if any field is out of range
+   */
+  private static ParsedDate toDate(int month, int day, int year, boolean confirmed) {
+    if (month < 1 || month > 12 || day < 1 || day > 31 || year < 1) {
+      return null;
+    }
+    int lengthOfMonth = YearMonth.of(year, month).lengthOfMonth();
+    return new ParsedDate(LocalDate.of(year, month, Math.min(day, lengthOfMonth)), confirmed);
+  }
+
+  /**
+   * Computes the same hash as {@link String#hashCode()} for any character sequence, so strings can
+   * use their cached hash code.
+   *
+   * @param text the text to hash
+   * @return the hash of the text
+   */
+  private static int hash(CharSequence text) {
+    if (text instanceof String string) {
+      return string.hashCode();
+    }
+    int hash = 0;
+    for (int i = 0; i < text.length(); i++) {
+      hash = 31 * hash + text.charAt(i);
+    }
+    return hash;
+  }
+
+  /** A decoded date together with the flag telling whether its day was present. */
+  @Getter
+  public static final class ParsedDate {
+    private final LocalDate date;
+    private final boolean confirmed;
+
+    ParsedDate(LocalDate date, boolean confirmed) {
+      this.date = date;
+      this.confirmed = confirmed;
+    }
+  }
+
+  /** Immutable cache slot; its final fields make it safe to publish through a plain array. */
+  private static final class Entry {
+    private final int hash;
+    private final String key;
+    private final ParsedDate value;
+
+    Entry(int hash, String key, ParsedDate value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
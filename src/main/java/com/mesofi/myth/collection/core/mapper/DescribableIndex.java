@@ -0,0 +1,223 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.model.Describable;
+import java.lang.reflect.Array;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precomputed reverse lookup from descriptions to the constants of a Describable enum. Every
+ * constant is indexed by its description, and additional aliases or the constant names can be
+ * registered through a {@link Builder}, so new constants are picked up without touching the code
+ * that resolves them.
+ *
+ * <p>Matching ignores case and whitespace: {@code "Myth Cloth EX"}, {@code "myth cloth ex"} and
+ * {@code "MythClothEx"} all resolve to the same constant. Keys are normalized once when the index
+ * is built and stored in an open-addressing table, so a lookup hashes the input on the fly and
+ * resolves in constant time without allocating. Indexes are immutable and safe for concurrent use.
+ *
+ * @param <E> the enum type being indexed
+ */
+public final class DescribableIndex<E extends Enum<E> & Describable> {
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final ClassValue<DescribableIndex<?>> descriptionIndexes =
+      new ClassValue<>() {
+        @Override
+        protected DescribableIndex<?> computeValue(Class<?> type) {
+          return new Builder((Class) type).build();
+        }
+      };
+
+  private final Class<E> type;
+  private final String[] keys;
+  private final int[] hashes;
+  private final E[] values;
+  private final int mask;
+
+  @SuppressWarnings("unchecked")
+  private DescribableIndex(Class<E> type, Map<String, E> entries) {
+    int size = Integer.highestOneBit(Math.max(1, entries.size()) * 4 - 1);
+    this.type = type;
+    this.keys = new String[size];
+    this.hashes = new int[size];
+    this.values = (E[]) Array.newInstance(type, size);
+    this.mask = size - 1;
+    entries.forEach(
+        (key, value) -> {
+          int hash = key.hashCode();
+          int slot = hash & mask;
+          while (Objects.nonNull(keys[slot])) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = key;
+          hashes[slot] = hash;
+          values[slot] = value;
+        });
+  }
+
+  /**
+   * Returns the shared index of the given enum type, keyed by the description of each constant. The
+   * index is built on first use and reused afterwards.
+   *
+   * @param type the enum type to index
+   * @param <E> the enum type being indexed
+   * @return the description index of the enum type
+   */
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E> & Describable> DescribableIndex<E> of(Class<E> type) {
+    return (DescribableIndex<E>) descriptionIndexes.get(type);
+  }
+
+  /**
+   * Starts building an index of the given enum type that can register aliases in addition to the
+   * descriptions of its constants.
+   *
+   * @param type the enum type to index
+   * @param <E> the enum type being indexed
+   * @return a builder for the index
+   */
+  public static <E extends Enum<E> & Describable> Builder<E> builder(Class<E> type) {
+    return new Builder<>(type);
+  }
+
+  /**
+   * Resolves the constant whose description or alias matches the given text, ignoring case and
+   * whitespace.
+   *
+   * @param text the text to resolve
+   * @return the matching constant, or null if the text is null, empty or does not match any key
+   */
+  public E find(CharSequence text) {
+    if (Objects.isNull(text) || text.isEmpty()) {
+      return null;
+    }
+    // same polynomial as String.hashCode() over the normalized characters
+    int hash = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        hash = 31 * hash + Character.toLowerCase(c);
+      }
+    }
+    for (int slot = hash & mask; Objects.nonNull(keys[slot]); slot = (slot + 1) & mask) {
+      if (hashes[slot] == hash && matches(keys[slot], text)) {
+        return values[slot];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the enum type of this index.
+   *
+   * @return the indexed enum type
+   */
+  public Class<E> getType() {
+    return type;
+  }
+
+  /**
+   * Compares a normalized key with raw text, skipping whitespace and ignoring case in the text.
+   *
+   * @param key the normalized key
+   * @param text the raw text
+   * @return true if the text normalizes to the key
+   */
+  private static boolean matches(String key, CharSequence text) {
+    int k = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        if (k == key.length() || key.charAt(k++) != Character.toLowerCase(c)) {
+          return false;
+        }
+      }
+    }
+    return k == key.length();
+  }
+
+  /**
+   * Normalizes a key by removing whitespace and lower-casing the remaining characters.
+   *
+   * @param text the text to normalize
+   * @return the normalized key
+   */
+  private static String normalize(String text) {
+    StringBuilder key = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        key.append(Character.toLowerCase(c));
+      }
+    }
+    return key.toString();
+  }
+
+  /**
+   * Builder of description indexes. Descriptions of all constants are registered up front; aliases
+   * and constant names can be added before building.
+   *
+   * @param <E> the enum type being indexed
+   */
+  public static final class Builder<E extends Enum<E> & Describable> {
+
+    private final Class<E> type;
+    private final Map<String, E> entries = new LinkedHashMap<>();
+
+    private Builder(Class<E> type) {
+      this.type = Objects.requireNonNull(type, "type");
+      for (E constant : type.getEnumConstants()) {
+        put(constant.getDescription(), constant);
+      }
+    }
+
+    /**
+     * Registers an alternative text that resolves to the given constant.
+     *
+     * @param alias the alternative text
+     * @param constant the constant the alias resolves to
+     * @return this builder
+     * @throws IllegalArgumentException if the alias already resolves to a different constant
+     */
+    public Builder<E> alias(String alias, E constant) {
+      put(alias, Objects.requireNonNull(constant, "constant"));
+      return this;
+    }
+
+    /**
+     * Registers the name of every constant as an alias of the constant itself.
+     *
+     * @return this builder
+     * @throws IllegalArgumentException if a name already resolves to a different constant
+     */
+    public Builder<E> names() {
+      for (E constant : type.getEnumConstants()) {
+        put(constant.name(), constant);
+      }
+      return this;
+    }
+
+    /**
+     * Builds the immutable index.
+     *
+     * @return the index with all registered keys
+     */
+    public DescribableIndex<E> build() {
+      return new DescribableIndex<>(type, entries);
+    }
+
+    private void put(String text, E constant) {
+      String key = normalize(Objects.requireNonNull(text, "text"));
+      if (key.isEmpty()) {
+        throw new IllegalArgumentException("Blank key for " + constant);
+      }
+      E previous = entries.putIfAbsent(key, constant);
+      if (Objects.nonNull(previous) && previous != constant) {
+        throw new IllegalArgumentException(
+            "Key '" + text + "' resolves to both " + previous + " and " + constant);
+      }
+    }
+  }
+}
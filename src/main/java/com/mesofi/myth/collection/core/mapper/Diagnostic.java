@@ -0,0 +1,58 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.model.Describable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * A value of a source row that lenient mapping could not convert and mapped to null instead: the
+ * column it was found in, the value as written, and the reason it was rejected.
+ */
+@Getter
+@EqualsAndHashCode
+public final class Diagnostic {
+
+  /** The name of the column in the source catalog, such as "Release (JPY)". */
+  private final String column;
+
+  /** The value found in the column. */
+  private final String rawValue;
+
+  /** Why the value was rejected. */
+  private final Reason reason;
+
+  Diagnostic(String column, CharSequence rawValue, Reason reason) {
+    this.column = column;
+    this.rawValue = rawValue.toString();
+    this.reason = reason;
+  }
+
+  @Override
+  public String toString() {
+    return column + " '" + rawValue + "': " + reason.getDescription();
+  }
+
+  /** The reasons a value is rejected. */
+  public enum Reason implements Describable {
+    /** The value is not a M/d/yyyy or M/yyyy date. */
+    INVALID_DATE("invalid date"),
+
+    /** The value is not a price, or has more digits than a Money holds. */
+    INVALID_PRICE("invalid price"),
+
+    /** The value matches no constant of an enum column, nor TRUE or FALSE in a flag column. */
+    UNKNOWN_VALUE("unknown value");
+
+    private final String description;
+
+    Reason(String description) {
+      this.description = description;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDescription() {
+      return description;
+    }
+  }
+}
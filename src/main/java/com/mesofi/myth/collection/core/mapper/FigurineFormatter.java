@@ -0,0 +1,282 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.model.Describable;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Reverse of FigurineMapper: writes the attributes of a Figurine back as the text of the columns of
+ * the catalog sheet. Prices are written with the symbol of their market and grouping separators,
+ * such as {@code ¥12,100}, release dates as {@code M/yyyy} when they are not confirmed and as
+ * {@code M/d/yyyy} otherwise, enum values as their descriptions, distributors as their codes, flags
+ * as TRUE or FALSE and image lists as comma-separated URLs.
+ *
+ * <p>Mapping the written columns with {@link FigurineMapper#toFigure} gives back the same
+ * attributes, so exporting a figurine mapped from the sheet loses nothing. The attributes the sheet
+ * has no column for, such as the status or the restocks, are not written.
+ *
+ * <p>Every column is a {@link Cell} that appends its text to a caller-supplied StringBuilder, so a
+ * writer can format a whole row into one reused buffer. Cells are identified by the name of the
+ * SourceFigurine field they fill. The formatter is stateless and safe for concurrent use.
+ */
+public final class FigurineFormatter {
+
+  private static final String TRUE = "TRUE";
+  private static final String FALSE = "FALSE";
+
+  private static final Map<String, Cell> cells = cells();
+
+  private FigurineFormatter() {}
+
+  /**
+   * Returns the cell filling the given field of SourceFigurine.
+   *
+   * @param field the name of the field, such as "priceJPY"
+   * @return the cell of the field
+   * @throws IllegalArgumentException if no cell fills the field
+   */
+  public static Cell cell(String field) {
+    Cell cell = cells.get(field);
+    if (Objects.isNull(cell)) {
+      throw new IllegalArgumentException("No column is written for field " + field);
+    }
+    return cell;
+  }
+
+  /**
+   * Converts a Figurine back to a source row, leaving the fields without a value null.
+   *
+   * @param figurine the figurine to convert
+   * @return the source row the figurine would be mapped from
+   */
+  public static SourceFigurine toSource(Figurine figurine) {
+    SourceFigurine source = new SourceFigurine();
+    StringBuilder text = new StringBuilder(64);
+    for (Cell cell : cells.values()) {
+      text.setLength(0);
+      if (cell.append(figurine, text)) {
+        cell.setter.accept(source, text.toString());
+      }
+    }
+    return source;
+  }
+
+  private static Map<String, Cell> cells() {
+    Map<String, Cell> cells = new LinkedHashMap<>();
+    put(cells, "baseName", SourceFigurine::setBaseName, (f, out) -> text(f.getBaseName(), out));
+    price(cells, "priceJPY", SourceFigurine::setPriceJPY, Market.JPY);
+    date(
+        cells,
+        "annJPY",
+        SourceFigurine::setAnnJPY,
+        Market.JPY,
+        Distribution::getFirstAnnouncementDate);
+    date(
+        cells,
+        "preorderJPY",
+        SourceFigurine::setPreorderJPY,
+        Market.JPY,
+        Distribution::getPreOrderDate);
+    release(cells, "releaseJPY", SourceFigurine::setReleaseJPY, Market.JPY);
+    put(
+        cells,
+        "distributorMXN",
+        SourceFigurine::setDistributorMXN,
+        (f, out) -> {
+          Distribution distribution = f.getDistribution(Market.MXN);
+          // the sheet uses the distributor codes rather than their descriptions
+          return Objects.nonNull(distribution)
+              && Objects.nonNull(distribution.getDistributor())
+              && text(distribution.getDistributor().name(), out);
+        });
+    price(cells, "priceMXN", SourceFigurine::setPriceMXN, Market.MXN);
+    date(
+        cells,
+        "preorderMXN",
+        SourceFigurine::setPreorderMXN,
+        Market.MXN,
+        Distribution::getPreOrderDate);
+    release(cells, "releaseMXN", SourceFigurine::setReleaseMXN, Market.MXN);
+    put(cells, "link", SourceFigurine::setLink, (f, out) -> text(f.getTamashiiUrl(), out));
+    put(
+        cells,
+        "dist",
+        SourceFigurine::setDist,
+        (f, out) -> description(f.getDistributionChannel(), out));
+    put(cells, "lineUp", SourceFigurine::setLineUp, (f, out) -> description(f.getLineUp(), out));
+    put(cells, "series", SourceFigurine::setSeries, (f, out) -> description(f.getSeries(), out));
+    put(cells, "group", SourceFigurine::setGroup, (f, out) -> description(f.getCategory(), out));
+    flag(cells, "metal", SourceFigurine::setMetal, FigurineFlag.METAL);
+    flag(cells, "oce", SourceFigurine::setOce, FigurineFlag.OCE);
+    flag(cells, "revival", SourceFigurine::setRevival, FigurineFlag.REVIVAL);
+    flag(cells, "plainCloth", SourceFigurine::setPlainCloth, FigurineFlag.PLAIN);
+    flag(cells, "broken", SourceFigurine::setBroken, FigurineFlag.BROKEN);
+    flag(cells, "golden", SourceFigurine::setGolden, FigurineFlag.GOLDEN);
+    flag(cells, "gold", SourceFigurine::setGold, FigurineFlag.GOLD);
+    flag(cells, "hk", SourceFigurine::setHk, FigurineFlag.HK);
+    flag(cells, "manga", SourceFigurine::setManga, FigurineFlag.COMIC);
+    flag(cells, "set", SourceFigurine::setSet, FigurineFlag.SET);
+    put(
+        cells,
+        "anniversary",
+        SourceFigurine::setAnniversary,
+        (f, out) -> description(f.getAnniversary(), out));
+    put(
+        cells,
+        "officialImages",
+        SourceFigurine::setOfficialImages,
+        (f, out) -> images(f.getOfficialImages(), out));
+    put(
+        cells,
+        "otherImages",
+        SourceFigurine::setOtherImages,
+        (f, out) -> images(f.getOtherImages(), out));
+    put(cells, "remarks", SourceFigurine::setRemarks, (f, out) -> text(f.getRemarks(), out));
+    return cells;
+  }
+
+  private static void put(
+      Map<String, Cell> cells,
+      String field,
+      BiConsumer<SourceFigurine, String> setter,
+      Appender appender) {
+    cells.put(field, new Cell(field, setter, appender));
+  }
+
+  private static void price(
+      Map<String, Cell> cells,
+      String field,
+      BiConsumer<SourceFigurine, String> setter,
+      Market market) {
+    put(
+        cells,
+        field,
+        setter,
+        (f, out) -> {
+          Distribution distribution = f.getDistribution(market);
+          Money price = Objects.isNull(distribution) ? null : distribution.getBaseMoney();
+          if (Objects.isNull(price)) {
+            return false;
+          }
+          price.formatTo(market.getSymbol(), out);
+          return true;
+        });
+  }
+
+  private static void date(
+      Map<String, Cell> cells,
+      String field,
+      BiConsumer<SourceFigurine, String> setter,
+      Market market,
+      Function<Distribution, LocalDate> date) {
+    put(
+        cells,
+        field,
+        setter,
+        (f, out) -> {
+          Distribution distribution = f.getDistribution(market);
+          LocalDate value = Objects.isNull(distribution) ? null : date.apply(distribution);
+          if (Objects.isNull(value)) {
+            return false;
+          }
+          DateCodec.format(value, true, out);
+          return true;
+        });
+  }
+
+  private static void release(
+      Map<String, Cell> cells,
+      String field,
+      BiConsumer<SourceFigurine, String> setter,
+      Market market) {
+    put(
+        cells,
+        field,
+        setter,
+        (f, out) -> {
+          Distribution distribution = f.getDistribution(market);
+          LocalDate value = Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+          if (Objects.isNull(value)) {
+            return false;
+          }
+          DateCodec.format(
+              value, !Boolean.FALSE.equals(distribution.getReleaseDateConfirmed()), out);
+          return true;
+        });
+  }
+
+  private static void flag(
+      Map<String, Cell> cells,
+      String field,
+      BiConsumer<SourceFigurine, String> setter,
+      FigurineFlag flag) {
+    put(cells, field, setter, (f, out) -> text(f.is(flag) ? TRUE : FALSE, out));
+  }
+
+  private static boolean text(String value, StringBuilder out) {
+    if (Objects.isNull(value)) {
+      return false;
+    }
+    out.append(value);
+    return true;
+  }
+
+  private static boolean description(Describable value, StringBuilder out) {
+    return Objects.nonNull(value) && text(value.getDescription(), out);
+  }
+
+  private static boolean images(List<String> urls, StringBuilder out) {
+    if (Objects.isNull(urls) || urls.isEmpty()) {
+      return false;
+    }
+    ImageStore.join(urls, out);
+    return true;
+  }
+
+  /** Appends the text of a column for a figurine. */
+  @FunctionalInterface
+  private interface Appender {
+
+    boolean append(Figurine figurine, StringBuilder out);
+  }
+
+  /** A column of the catalog sheet, identified by the SourceFigurine field it fills. */
+  public static final class Cell {
+
+    /** The name of the SourceFigurine field the column fills. */
+    @Getter private final String field;
+
+    private final BiConsumer<SourceFigurine, String> setter;
+    private final Appender appender;
+
+    private Cell(String field, BiConsumer<SourceFigurine, String> setter, Appender appender) {
+      this.field = field;
+      this.setter = setter;
+      this.appender = appender;
+    }
+
+    /**
+     * Appends the text of the column for a figurine.
+     *
+     * @param figurine the figurine to write
+     * @param out the builder to append to
+     * @return true if the figurine has a value for the column, false if nothing was appended
+     */
+    public boolean append(Figurine figurine, StringBuilder out) {
+      return appender.append(figurine, out);
+    }
+  }
+}
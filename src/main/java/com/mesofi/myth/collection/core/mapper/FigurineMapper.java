@@ -1,129 +1,426 @@
 package com.mesofi.myth.collection.core.mapper;
 
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.mapper.DateCodec.ParsedDate;
+import com.mesofi.myth.collection.core.metrics.Converter;
+import com.mesofi.myth.collection.core.metrics.MetricsSink;
 import com.mesofi.myth.collection.core.model.Anniversary;
 import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Describable;
 import com.mesofi.myth.collection.core.model.Distribution;
 import com.mesofi.myth.collection.core.model.DistributionChannel;
 import com.mesofi.myth.collection.core.model.Distributor;
 import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
 import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
 import com.mesofi.myth.collection.core.model.Series;
 import com.mesofi.myth.collection.core.model.SourceFigurine;
-import java.math.BigDecimal;
+import com.mesofi.myth.collection.core.model.SourceRow;
 import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Mapper class responsible for converting SourceFigurine objects to Figurine objects. This mapper
  * handles the transformation of raw figurine data including distribution information for different
  * markets (JPY and MXN), figurine properties, metadata, and various enumeration mappings. It also
  * provides date parsing capabilities and data validation to ensure clean object mapping.
+ *
+ * <p>The distribution columns of each market are listed in a table of {@link DistributionColumns},
+ * and a Distribution is only created for the markets whose columns hold a value, so supporting the
+ * columns of another market is a matter of adding its row to the table.
+ *
+ * <p>The individual field converters are package-private so they can be benchmarked in isolation.
+ *
+ * <p>A mapper created with a {@link MetricsSink} reports to it the latency of every date, price,
+ * enum and image list conversion, the non-blank enum values that matched no constant, and the rows
+ * mapped with the time spent. Batches are also recorded as Flight Recorder events, {@code
+ * com.mesofi.myth.MappingBatchStarted} and {@code com.mesofi.myth.MappingBatch}, together with a
+ * {@code com.mesofi.myth.RowMappingFailed} event per failed row. With the default {@link
+ * MetricsSink#NOOP} sink and no recording running, none of this reads the clock.
+ *
+ * <p>Rows are mapped strictly by default: an invalid date or price fails the row with an
+ * IllegalArgumentException, and an unknown enum value is mapped to null. Lenient mapping, with
+ * {@link #toFigure(SourceRow, List)} or {@link #toFiguresLeniently(Collection, int)}, maps every
+ * value that cannot be converted to null instead, without throwing, and reports it as a {@link
+ * Diagnostic}, as well as enum values matching no constant and flag values other than TRUE and
+ * FALSE.
  */
 public class FigurineMapper {
 
-  private static final DateTimeFormatter formatterMDY =
-      new DateTimeFormatterBuilder()
-          .appendPattern("M/d/yyyy") // Format: M/d/yyyy
-          .toFormatter();
+  /** Number of rows below which a batch task maps its rows directly instead of splitting. */
+  private static final int BATCH_THRESHOLD = 256;
 
-  private static final DateTimeFormatter formatterMY =
-      new DateTimeFormatterBuilder()
-          .appendPattern("M/yyyy") // Format: M/yyyy
-          .toFormatter();
+  private static final DateCodec dateCodec = new DateCodec();
+
+  private static final DescribableIndex<Anniversary> anniversaries =
+      DescribableIndex.of(Anniversary.class);
+
+  private static final DescribableIndex<Category> categories =
+      DescribableIndex.builder(Category.class).alias("Gold Saint", Category.GOLD).build();
+
+  private static final DescribableIndex<LineUp> lineUps =
+      DescribableIndex.builder(LineUp.class)
+          .alias("Figuarts Zero Metallic Touch", LineUp.FIGUARTS_ZERO)
+          .build();
+
+  private static final DescribableIndex<Series> seriesIndex = DescribableIndex.of(Series.class);
+
+  // the sheet uses the distributor codes rather than their descriptions
+  private static final DescribableIndex<Distributor> distributors =
+      DescribableIndex.builder(Distributor.class).names().build();
+
+  private static final DescribableIndex<DistributionChannel> distributionChannels =
+      DescribableIndex.of(DistributionChannel.class);
+
+  /** The distribution columns of the sheet, by market; markets without columns are not mapped. */
+  private static final List<DistributionColumns> distributionColumns =
+      List.of(
+          new DistributionColumns(
+              Market.JPY,
+              null,
+              SourceRow::getPriceJPY,
+              SourceRow::getAnnJPY,
+              SourceRow::getPreorderJPY,
+              SourceRow::getReleaseJPY),
+          new DistributionColumns(
+              Market.MXN,
+              SourceRow::getDistributorMXN,
+              SourceRow::getPriceMXN,
+              null,
+              SourceRow::getPreorderMXN,
+              SourceRow::getReleaseMXN));
+
+  private final ImageStore imageStore;
+  private final MetricsSink metrics;
+  private final boolean measured;
+
+  /** Creates a mapper that stores the image URLs of the figurines in a new ImageStore. */
+  public FigurineMapper() {
+    this(new ImageStore());
+  }
+
+  /**
+   * Creates a mapper that stores the image URLs of the figurines in the given store, so that
+   * several mappers, or a mapper and a catalog archive, share the same URLs.
+   *
+   * @param imageStore the store of the image URLs
+   */
+  public FigurineMapper(ImageStore imageStore) {
+    this(imageStore, MetricsSink.NOOP);
+  }
 
   /**
-   * Converts a SourceFigurine object to a Figurine object by mapping all relevant fields including
-   * distribution information for both JPY and MXN markets, figurine properties, and metadata. Sets
-   * distribution objects to null if they contain no meaningful data.
+   * Creates a mapper that stores the image URLs of the figurines in the given store and reports its
+   * measurements to the given sink.
+   *
+   * @param imageStore the store of the image URLs
+   * @param metrics the sink of the measurements, {@link MetricsSink#NOOP} to measure nothing
+   */
+  public FigurineMapper(ImageStore imageStore, MetricsSink metrics) {
+    this.imageStore = Objects.requireNonNull(imageStore, "imageStore");
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+    this.measured = metrics.isEnabled();
+  }
+
+  /**
+   * Converts a source row, usually a SourceFigurine object, to a Figurine object by mapping all
+   * relevant fields including distribution information for both JPY and MXN markets, figurine
+   * properties, and metadata. Markets whose columns contain no meaningful data have no
+   * distribution.
    *
    * @param catalog the source figurine data to convert
    * @return a fully populated Figurine object with mapped data from the source
    */
-  public Figurine toFigure(SourceFigurine catalog) {
-    Figurine figurine = new Figurine();
-    figurine.setBaseName(catalog.getBaseName());
-
-    getDistribution(figurine, true).setBasePrice(toBigDecimal(catalog.getPriceJPY()));
-    getDistribution(figurine, true).setFirstAnnouncementDate(toLocalDate(catalog.getAnnJPY()));
-    getDistribution(figurine, true).setPreOrderDate(toLocalDate(catalog.getPreorderJPY()));
-    getDistribution(figurine, true).setReleaseDate(toLocalDate(catalog.getReleaseJPY()));
-    getDistribution(figurine, true).setReleaseDateConfirmed(isConfirmed(catalog.getReleaseJPY()));
-
-    getDistribution(figurine, false).setDistributor(toDistributor(catalog.getDistributorMXN()));
-    getDistribution(figurine, false).setBasePrice(toBigDecimal(catalog.getPriceMXN()));
-    getDistribution(figurine, false).setPreOrderDate(toLocalDate(catalog.getPreorderMXN()));
-    getDistribution(figurine, false).setReleaseDate(toLocalDate(catalog.getReleaseMXN()));
-    getDistribution(figurine, false).setReleaseDateConfirmed(isConfirmed(catalog.getReleaseMXN()));
-
-    figurine.setTamashiiUrl(catalog.getLink());
-    figurine.setDistributionChannel(toDistributionChannel(catalog.getDist()));
-    figurine.setLineUp(toLineUp(catalog.getLineUp()));
-    figurine.setSeries(toSeries(catalog.getSeries()));
-    figurine.setCategory(toCategory(catalog.getGroup()));
-
-    figurine.setMetal(toBoolean(catalog.getMetal()));
-    figurine.setOce(toBoolean(catalog.getOce()));
-    figurine.setRevival(toBoolean(catalog.getRevival()));
-    figurine.setPlain(toBoolean(catalog.getPlainCloth()));
-    figurine.setBroken(toBoolean(catalog.getBroken()));
-    figurine.setGolden(toBoolean(catalog.getGolden()));
-    figurine.setGold(toBoolean(catalog.getGold()));
-    figurine.setHk(toBoolean(catalog.getHk()));
-    figurine.setComic(toBoolean(catalog.getManga()));
-    figurine.setSet(toBoolean(catalog.getSet()));
-
-    figurine.setAnniversary(toAnniversary(catalog.getAnniversary()));
-
-    figurine.setOfficialImages(toList(catalog.getOfficialImages()));
-    figurine.setOtherImages(toList(catalog.getOtherImages()));
-
-    figurine.setRemarks(catalog.getRemarks());
-
-    if (isDistributionEmpty(figurine.getDistributionJPY())) {
-      figurine.setDistributionJPY(null);
+  public Figurine toFigure(SourceRow catalog) {
+    return measure(catalog, null);
+  }
+
+  /**
+   * Converts a source row to a Figurine leniently: dates, prices, enum values and flags that cannot
+   * be converted are mapped to null, or to an unset flag, and added to the given list instead of
+   * failing the row. See {@link #toFigure(SourceRow)}.
+   *
+   * @param catalog the source figurine data to convert
+   * @param diagnostics the list to which the rejected values of the row are added
+   * @return the mapped figurine
+   */
+  public Figurine toFigure(SourceRow catalog, List<Diagnostic> diagnostics) {
+    return measure(catalog, Objects.requireNonNull(diagnostics, "diagnostics"));
+  }
+
+  /**
+   * Converts a source row to a Figurine, reporting the row to the metrics sink.
+   *
+   * @param catalog the source figurine data to convert
+   * @param diagnostics the list collecting the rejected values, or null to map strictly
+   * @return the mapped figurine
+   */
+  private Figurine measure(SourceRow catalog, List<Diagnostic> diagnostics) {
+    if (!measured) {
+      return map(catalog, diagnostics);
     }
-    if (isDistributionEmpty(figurine.getDistributionMXN())) {
-      figurine.setDistributionMXN(null);
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      Figurine figurine = map(catalog, diagnostics);
+      failed = false;
+      return figurine;
+    } finally {
+      metrics.rowsMapped(1, failed ? 1 : 0, System.nanoTime() - start);
     }
+  }
+
+  /**
+   * Converts a source row to a Figurine, see {@link #toFigure(SourceRow)}, without reporting the
+   * row to the metrics sink.
+   *
+   * @param catalog the source figurine data to convert
+   * @param diagnostics the list collecting the rejected values, or null to map strictly
+   * @return the mapped figurine
+   */
+  private Figurine map(SourceRow catalog, List<Diagnostic> diagnostics) {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName(toText(catalog.getBaseName()));
+
+    for (DistributionColumns columns : distributionColumns) {
+      Distribution distribution = toDistribution(catalog, columns, diagnostics);
+      if (Objects.nonNull(distribution)) {
+        figurine.setDistribution(columns.market, distribution);
+      }
+    }
+
+    figurine.setTamashiiUrl(toText(catalog.getLink()));
+    figurine.setDistributionChannel(toDistributionChannel(catalog.getDist(), diagnostics));
+    figurine.setLineUp(toLineUp(catalog.getLineUp(), diagnostics));
+    figurine.setSeries(toSeries(catalog.getSeries(), diagnostics));
+    figurine.setCategory(toCategory(catalog.getGroup(), diagnostics));
+
+    figurine.setFlags(
+        (short)
+            (toFlag(FigurineFlag.METAL, "Metal", catalog.getMetal(), diagnostics)
+                | toFlag(FigurineFlag.OCE, "OCE", catalog.getOce(), diagnostics)
+                | toFlag(FigurineFlag.REVIVAL, "Revival", catalog.getRevival(), diagnostics)
+                | toFlag(FigurineFlag.PLAIN, "PlainCloth", catalog.getPlainCloth(), diagnostics)
+                | toFlag(FigurineFlag.BROKEN, "Broken", catalog.getBroken(), diagnostics)
+                | toFlag(FigurineFlag.GOLDEN, "Golden", catalog.getGolden(), diagnostics)
+                | toFlag(FigurineFlag.GOLD, "Gold", catalog.getGold(), diagnostics)
+                | toFlag(FigurineFlag.HK, "HK", catalog.getHk(), diagnostics)
+                | toFlag(FigurineFlag.COMIC, "Manga", catalog.getManga(), diagnostics)
+                | toFlag(FigurineFlag.SET, "Set", catalog.getSet(), diagnostics)));
+
+    figurine.setAnniversary(toAnniversary(catalog.getAnniversary(), diagnostics));
+
+    figurine.setOfficialImages(toImages(catalog.getOfficialImages()));
+    figurine.setOtherImages(toImages(catalog.getOtherImages()));
+
+    figurine.setRemarks(toText(catalog.getRemarks()));
     return figurine;
   }
 
   /**
-   * Converts a comma-separated string to a list of strings. Returns null if the input string is
-   * null or empty.
+   * Maps a batch of source rows in parallel using the common fork-join pool. See {@link
+   * #toFigures(Collection, ForkJoinPool)}.
+   *
+   * @param catalog the source rows to convert
+   * @return one result per row, in the iteration order of the given collection
+   */
+  public List<MappingResult> toFigures(Collection<SourceFigurine> catalog) {
+    return toFigures(catalog, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Maps a stream of source rows in parallel using the common fork-join pool. The stream is fully
+   * consumed before mapping starts; use {@link #toFigure(SourceRow)} on the stream itself when
+   * bounded memory matters more than throughput.
+   *
+   * @param catalog the source rows to convert
+   * @return one result per row, in the encounter order of the given stream
+   */
+  public List<MappingResult> toFigures(Stream<SourceFigurine> catalog) {
+    return toFigures(catalog.toList());
+  }
+
+  /**
+   * Maps a batch of source rows in parallel on the given fork-join pool. The batch is split into
+   * chunks that are mapped independently, and the results are returned in the original row order. A
+   * row that fails to map (for example because of an invalid date) is reported as a failed result
+   * and does not abort the rest of the batch.
+   *
+   * @param catalog the source rows to convert
+   * @param pool the pool used to run the mapping tasks
+   * @return one result per row, in the iteration order of the given collection
+   */
+  public List<MappingResult> toFigures(Collection<SourceFigurine> catalog, ForkJoinPool pool) {
+    return Arrays.asList(map(new ArrayList<>(catalog), null, pool));
+  }
+
+  /**
+   * Maps a batch of source rows leniently and in parallel using the common fork-join pool. See
+   * {@link #toFiguresLeniently(Collection, int, ForkJoinPool)}.
+   *
+   * @param catalog the source rows to convert
+   * @param errorBudget the number of defective rows tolerated before the batch stops
+   * @return the results of the rows that were mapped, with the number of defective rows
+   * @throws IllegalArgumentException if the error budget is negative
+   */
+  public MappingReport toFiguresLeniently(Collection<SourceFigurine> catalog, int errorBudget) {
+    return toFiguresLeniently(catalog, errorBudget, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Maps a batch of source rows leniently and in parallel on the given fork-join pool, see {@link
+   * #toFigure(SourceRow, List)}: values that cannot be converted are mapped to null and reported as
+   * diagnostics of their row. A row is defective when it has diagnostics or fails for another
+   * reason, and once more rows than the error budget are defective the batch stops, skipping the
+   * rows not yet started, so a hopeless sheet is rejected without mapping all of it.
+   *
+   * @param catalog the source rows to convert
+   * @param errorBudget the number of defective rows tolerated before the batch stops, {@link
+   *     Integer#MAX_VALUE} to map every row
+   * @param pool the pool used to run the mapping tasks
+   * @return the results of the rows that were mapped, with the number of defective rows
+   * @throws IllegalArgumentException if the error budget is negative
+   */
+  public MappingReport toFiguresLeniently(
+      Collection<SourceFigurine> catalog, int errorBudget, ForkJoinPool pool) {
+    if (errorBudget < 0) {
+      throw new IllegalArgumentException("Negative error budget: " + errorBudget);
+    }
+    List<SourceFigurine> rows = new ArrayList<>(catalog);
+    Budget budget = new Budget(errorBudget);
+    List<MappingResult> mapped = new ArrayList<>(rows.size());
+    int defective = 0;
+    for (MappingResult result : map(rows, budget, pool)) {
+      if (Objects.nonNull(result)) {
+        mapped.add(result);
+        defective += result.isDefective() ? 1 : 0;
+      }
+    }
+    return new MappingReport(mapped, rows.size(), defective, errorBudget, budget.isExceeded());
+  }
+
+  /**
+   * Maps a batch on the given pool, recording the batch events and reporting the rows to the
+   * metrics sink.
+   *
+   * @param rows the source rows to convert
+   * @param budget the error budget of a lenient batch, or null to map strictly
+   * @param pool the pool used to run the mapping tasks
+   * @return the result of every row, null for rows skipped once the budget was exceeded
+   */
+  private MappingResult[] map(List<SourceFigurine> rows, Budget budget, ForkJoinPool pool) {
+    MappingResult[] results = new MappingResult[rows.size()];
+    MappingBatchStartedEvent started = new MappingBatchStartedEvent();
+    if (started.isEnabled()) {
+      started.rows = rows.size();
+      started.parallelism = pool.getParallelism();
+      started.commit();
+    }
+    MappingBatchEvent event = new MappingBatchEvent();
+    event.begin();
+    long start = measured ? System.nanoTime() : 0;
+    pool.invoke(new BatchTask(rows, results, budget, 0, rows.size()));
+    long nanos = measured ? System.nanoTime() - start : 0;
+    event.end();
+    boolean recorded = event.shouldCommit();
+    if (measured || recorded) {
+      int count = 0;
+      int failures = 0;
+      for (MappingResult result : results) {
+        if (Objects.nonNull(result)) {
+          count++;
+          failures += result.isSuccess() ? 0 : 1;
+        }
+      }
+      if (measured) {
+        metrics.rowsMapped(count, failures, nanos);
+      }
+      if (recorded) {
+        event.rows = count;
+        event.failures = failures;
+        event.parallelism = pool.getParallelism();
+        event.commit();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Maps a single row of a batch, capturing any failure in the returned result.
+   *
+   * @param row the zero-based position of the row in the batch
+   * @param source the source row to convert
+   * @param lenient true to map the row leniently and keep its diagnostics
+   * @return the mapping result for the row
+   */
+  private MappingResult toResult(int row, SourceFigurine source, boolean lenient) {
+    try {
+      if (!lenient) {
+        return MappingResult.success(row, source, map(source, null));
+      }
+      List<Diagnostic> diagnostics = new ArrayList<>();
+      return MappingResult.success(row, source, map(source, diagnostics), diagnostics);
+    } catch (RuntimeException e) {
+      RowMappingFailedEvent event = new RowMappingFailedEvent();
+      if (event.isEnabled()) {
+        event.row = row;
+        event.baseName = source.getBaseName();
+        event.error = e.getMessage();
+        event.commit();
+      }
+      return MappingResult.failure(row, source, e);
+    }
+  }
+
+  /**
+   * Converts a comma-separated list of image URLs to a read-only list stored in the ImageStore of
+   * this mapper. Returns null if the input string is null or empty. URLs are trimmed and blank
+   * items are skipped.
    *
-   * @param commaSeparatedItem the comma-separated string to convert
-   * @return a list of strings split by comma, or null if the input is null or empty
+   * @param commaSeparatedUrls the comma-separated URLs to convert
+   * @return a list of the URLs, or null if the input is null or empty
    */
-  private List<String> toList(String commaSeparatedItem) {
-    commaSeparatedItem = Optional.ofNullable(commaSeparatedItem).orElse("");
-    return commaSeparatedItem.isEmpty() ? null : Arrays.asList(commaSeparatedItem.split(","));
+  List<String> toImages(CharSequence commaSeparatedUrls) {
+    if (!measured) {
+      return imageStore.split(commaSeparatedUrls);
+    }
+    long start = System.nanoTime();
+    List<String> images = imageStore.split(commaSeparatedUrls);
+    metrics.converted(Converter.IMAGES, System.nanoTime() - start, false);
+    return images;
+  }
+
+  /**
+   * Converts a character sequence to a String, keeping null values.
+   *
+   * @param text the text to convert
+   * @return the text as a String, or null if the input is null
+   */
+  private String toText(CharSequence text) {
+    return Objects.isNull(text) ? null : text.toString();
   }
 
   /**
-   * Converts an anniversary string to an Anniversary enum value. Returns null if the input string
-   * is null, empty, or does not match any known anniversary.
+   * Converts an anniversary string to an Anniversary enum value, ignoring case and whitespace.
+   * Returns null if the input string is null, empty, or does not match any known anniversary.
    *
    * @param anniversary the anniversary string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding Anniversary enum value, or null if no match is found
    */
-  private Anniversary toAnniversary(String anniversary) {
-    return switch (Optional.ofNullable(anniversary).orElse("")) {
-      case "10" -> Anniversary.A_10;
-      case "15" -> Anniversary.A_15;
-      case "20" -> Anniversary.A_20;
-      case "30" -> Anniversary.A_30;
-      case "40" -> Anniversary.A_40;
-      case "50" -> Anniversary.A_50;
-      default -> null;
-    };
+  Anniversary toAnniversary(CharSequence anniversary, List<Diagnostic> diagnostics) {
+    return resolve(anniversaries, "Anniversary", anniversary, diagnostics);
   }
 
   /**
@@ -133,228 +430,393 @@ public class FigurineMapper {
    * @param value the string value to convert
    * @return true if the value equals "TRUE", false otherwise
    */
-  private boolean toBoolean(String value) {
-    return "TRUE".equals(value);
+  boolean toBoolean(CharSequence value) {
+    return Objects.nonNull(value) && "TRUE".contentEquals(value);
   }
 
   /**
-   * Converts a group string to a Category enum value. Returns null if the input string is null,
-   * empty, or does not match any known category.
+   * Converts a boolean column to the bit of the given flag. When mapping leniently, a value that is
+   * neither blank, "TRUE" nor "FALSE" is reported as unknown.
+   *
+   * @param flag the flag stored in the column
+   * @param column the name of the column in the source catalog
+   * @param value the string value to convert, see {@link #toBoolean(CharSequence)}
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
+   * @return the mask of the flag if the value is "TRUE", 0 otherwise
+   */
+  int toFlag(FigurineFlag flag, String column, CharSequence value, List<Diagnostic> diagnostics) {
+    if (toBoolean(value)) {
+      return flag.getMask();
+    }
+    if (Objects.nonNull(diagnostics) && !isBlank(value) && !"FALSE".contentEquals(value)) {
+      diagnostics.add(new Diagnostic(column, value, Diagnostic.Reason.UNKNOWN_VALUE));
+    }
+    return 0;
+  }
+
+  /**
+   * Converts a group string to a Category enum value, ignoring case and whitespace. Returns null if
+   * the input string is null, empty, or does not match any known category.
    *
    * @param group the group string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding Category enum value, or null if no match is found
    */
-  private Category toCategory(String group) {
-    return switch (Optional.ofNullable(group).orElse("")) {
-      case "Bronze Saint V1" -> Category.V1;
-      case "Bronze Saint V2" -> Category.V2;
-      case "Bronze Saint V3" -> Category.V3;
-      case "Bronze Saint V4" -> Category.V4;
-      case "Bronze Saint V5" -> Category.V5;
-      case "Bronze Secondary" -> Category.SECONDARY;
-      case "Black Saint" -> Category.BLACK;
-      case "Steel" -> Category.STEEL;
-      case "Silver Saint" -> Category.SILVER;
-      case "Gold Saint" -> Category.GOLD;
-      case "God Robe" -> Category.ROBE;
-      case "Poseidon Scale" -> Category.SCALE;
-      case "Surplice Saint" -> Category.SURPLICE;
-      case "Specter" -> Category.SPECTER;
-      case "Judge" -> Category.JUDGE;
-      case "God" -> Category.GOD;
-      case "Inheritor" -> Category.INHERITOR;
-      default -> null;
-    };
-  }
-
-  /**
-   * Converts a line-up string to a LineUp enum value. Returns null if the input string is null,
-   * empty, or does not match any known line up.
+  Category toCategory(CharSequence group, List<Diagnostic> diagnostics) {
+    return resolve(categories, "Group", group, diagnostics);
+  }
+
+  /**
+   * Converts a line-up string to a LineUp enum value, ignoring case and whitespace. Returns null if
+   * the input string is null, empty, or does not match any known line up.
    *
    * @param lineUp the line-up string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding LineUp enum value, or null if no match is found
    */
-  private LineUp toLineUp(String lineUp) {
-    return switch (Optional.ofNullable(lineUp).orElse("")) {
-      case "Myth Cloth EX" -> LineUp.MYTH_CLOTH_EX;
-      case "Myth Cloth" -> LineUp.MYTH_CLOTH;
-      case "Appendix" -> LineUp.APPENDIX;
-      case "Saint Cloth Legend" -> LineUp.SC_LEGEND;
-      case "Figuarts" -> LineUp.FIGUARTS;
-      case "Saint Cloth Crown" -> LineUp.SC_CROWN;
-      case "DD Panoramation" -> LineUp.DDP;
-      case "Figuarts Zero Metallic Touch" -> LineUp.FIGUARTS_ZERO;
-      default -> null;
-    };
+  LineUp toLineUp(CharSequence lineUp, List<Diagnostic> diagnostics) {
+    return resolve(lineUps, "LineUp", lineUp, diagnostics);
   }
 
   /**
-   * Converts a series string to a Series enum value. Returns null if the input string is null,
-   * empty, or does not match any known series.
+   * Converts a series string to a Series enum value, ignoring case and whitespace. Returns null if
+   * the input string is null, empty, or does not match any known series.
    *
    * @param series the series string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding Series enum value, or null if no match is found
    */
-  private Series toSeries(String series) {
-    return switch (Optional.ofNullable(series).orElse("")) {
-      case "Saint Seiya" -> Series.SAINT_SEIYA;
-      case "Saintia Sho" -> Series.SAINTIA_SHO;
-      case "Soul of Gold" -> Series.SOG;
-      case "Saint Seiya Legend Of Sanctuary" -> Series.SS_LEGEND_OF_SANCTUARY;
-      case "Saint Seiya Omega" -> Series.SS_OMEGA;
-      case "The Lost Canvas" -> Series.LOST_CANVAS;
-      case "Saint Seiya The Beginning" -> Series.SS_THE_BEGINNING;
-
-      default -> null;
-    };
+  Series toSeries(CharSequence series, List<Diagnostic> diagnostics) {
+    return resolve(seriesIndex, "Series", series, diagnostics);
   }
 
   /**
-   * Converts a distributor string to a Distributor enum value. Returns null if the input string is
-   * null, empty, or does not match any known distributor.
+   * Converts a distributor code (or description) to a Distributor enum value, ignoring case and
+   * whitespace. Returns null if the input string is null, empty, or does not match any known
+   * distributor.
    *
    * @param distributor the distributor string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding Distributor enum value, or null if no match is found
    */
-  private Distributor toDistributor(String distributor) {
-    return switch (Optional.ofNullable(distributor).orElse("")) {
-      case "DAM" -> Distributor.DAM;
-      case "DTM" -> Distributor.DTM;
-
-      default -> null;
-    };
+  Distributor toDistributor(CharSequence distributor, List<Diagnostic> diagnostics) {
+    return resolve(distributors, "Distributor (MXN)", distributor, diagnostics);
   }
 
   /**
-   * Converts a distribution channel string to a DistributionChannel enum value. Returns null if the
-   * input string is null, empty, or does not match any known distribution channel.
+   * Converts a distribution channel string to a DistributionChannel enum value, ignoring case and
+   * whitespace. Returns null if the input string is null, empty, or does not match any known
+   * distribution channel.
    *
    * @param distribution the distribution channel string to convert
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
    * @return the corresponding DistributionChannel enum value, or null if no match is found
    */
-  private DistributionChannel toDistributionChannel(String distribution) {
-    return switch (Optional.ofNullable(distribution).orElse("")) {
-      case "Stores" -> DistributionChannel.STORES;
-      case "Tamashii Web Shop" -> DistributionChannel.WS;
-      case "Tamashii World Tour" -> DistributionChannel.WT;
-      case "Tamashii Nations" -> DistributionChannel.TN;
-      case "Tamashii Store" -> DistributionChannel.TS;
-      case "Other Limited Edition" -> DistributionChannel.OTHER;
-
-      default -> null;
-    };
+  DistributionChannel toDistributionChannel(
+      CharSequence distribution, List<Diagnostic> diagnostics) {
+    return resolve(distributionChannels, "Distribution", distribution, diagnostics);
   }
 
   /**
-   * Determines if a Distribution object is considered empty by checking if it is null or if all its
-   * relevant fields are null. A distribution is considered empty when the distributor, base price,
-   * first announcement date, pre-order date, release date, and release date confirmation are all
-   * null.
+   * Resolves the value of an enum column, reporting the lookup to the metrics sink, and reporting
+   * the value as unmapped, and as unknown when mapping leniently, when it is not blank but matches
+   * no constant.
    *
-   * @param distribution the Distribution object to check for emptiness
-   * @return true if the distribution is null or all its relevant fields are null, false otherwise
+   * @param index the index of the constants of the column
+   * @param column the name of the column in the source catalog
+   * @param text the value of the column
+   * @param diagnostics the list collecting unknown values when mapping leniently, or null
+   * @param <E> the type of the constants
+   * @return the matching constant, or null if the text is null, empty or does not match any key
    */
-  private boolean isDistributionEmpty(Distribution distribution) {
-    return Objects.isNull(distribution)
-        || Objects.isNull(distribution.getDistributor())
-            && Objects.isNull(distribution.getBasePrice())
-            && Objects.isNull(distribution.getFirstAnnouncementDate())
-            && Objects.isNull(distribution.getPreOrderDate())
-            && Objects.isNull(distribution.getReleaseDate())
-            && Objects.isNull(distribution.getReleaseDateConfirmed());
+  private <E extends Enum<E> & Describable> E resolve(
+      DescribableIndex<E> index, String column, CharSequence text, List<Diagnostic> diagnostics) {
+    E value;
+    if (measured) {
+      long start = System.nanoTime();
+      value = index.find(text);
+      metrics.converted(Converter.ENUM, System.nanoTime() - start, false);
+    } else {
+      value = index.find(text);
+    }
+    if (Objects.isNull(value) && (measured || Objects.nonNull(diagnostics)) && !isBlank(text)) {
+      if (measured) {
+        metrics.unmapped(column, text);
+      }
+      if (Objects.nonNull(diagnostics)) {
+        diagnostics.add(new Diagnostic(column, text, Diagnostic.Reason.UNKNOWN_VALUE));
+      }
+    }
+    return value;
+  }
+
+  private static boolean isBlank(CharSequence text) {
+    if (Objects.nonNull(text)) {
+      for (int i = 0; i < text.length(); i++) {
+        if (!Character.isWhitespace(text.charAt(i))) {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 
   /**
-   * Determines if a date string represents a confirmed date based on its length. Returns null if
-   * the input string is null or empty. A date is considered confirmed if its length is not 6 or 7
-   * characters (which typically represent partial dates like M/yyyy or MM/yyyy formats).
+   * Converts the distribution columns of one market. A distribution is considered empty, and is not
+   * created, when the distributor, base price, first announcement date, pre-order date and release
+   * date are all absent.
    *
-   * @param date the date string to check for confirmation status
-   * @return true if the date is confirmed (length != 6 or 7), false if unconfirmed, or null if
-   *     input is empty
+   * @param catalog the source row
+   * @param columns the columns of the market
+   * @param diagnostics the list collecting the rejected values when mapping leniently, or null
+   * @return the distribution in the market, or null if its columns hold no value
    */
-  private Boolean isConfirmed(String date) {
-    date = Optional.ofNullable(date).orElse("");
-    if (date.isEmpty()) {
+  private Distribution toDistribution(
+      SourceRow catalog, DistributionColumns columns, List<Diagnostic> diagnostics) {
+    Distributor distributor =
+        Objects.isNull(columns.distributor)
+            ? null
+            : resolve(
+                distributors,
+                columns.distributorColumn,
+                columns.distributor.apply(catalog),
+                diagnostics);
+    Money price = toMoney(columns.price.apply(catalog), columns.market, diagnostics);
+    ParsedDate announcement =
+        Objects.isNull(columns.announcement)
+            ? null
+            : toParsedDate(
+                columns.announcement.apply(catalog), columns.announcementColumn, diagnostics);
+    ParsedDate preOrder =
+        toParsedDate(columns.preOrder.apply(catalog), columns.preOrderColumn, diagnostics);
+    ParsedDate release =
+        toParsedDate(columns.release.apply(catalog), columns.releaseColumn, diagnostics);
+    if (Objects.isNull(distributor)
+        && Objects.isNull(price)
+        && Objects.isNull(announcement)
+        && Objects.isNull(preOrder)
+        && Objects.isNull(release)) {
       return null;
-    } else {
-      return !(date.length() == 6 || date.length() == 7);
     }
+    Distribution distribution = new Distribution();
+    distribution.setDistributor(distributor);
+    distribution.setBaseMoney(price);
+    distribution.setFirstAnnouncementDate(toLocalDate(announcement));
+    distribution.setPreOrderDate(toLocalDate(preOrder));
+    distribution.setReleaseDate(toLocalDate(release));
+    distribution.setReleaseDateConfirmed(isConfirmed(release));
+    return distribution;
   }
 
   /**
-   * Converts a currency amount string to a BigDecimal object. Returns null if the input string is
-   * null, empty, or represents zero value (¥0). Otherwise, removes the currency symbol and commas
-   * before converting to BigDecimal.
+   * Returns the confirmation status of a parsed date. Returns null if there is no date. A date is
+   * considered confirmed when its day is known, that is, when it was written as M/d/yyyy rather
+   * than as a partial M/yyyy date.
    *
-   * @param amount the currency amount string to convert (expected format: ¥1,234)
-   * @return the converted BigDecimal, or null if the input is null, empty, or zero
+   * @param date the parsed date to check for confirmation status
+   * @return true if the date is confirmed, false if unconfirmed, or null if there is no date
    */
-  private BigDecimal toBigDecimal(String amount) {
-    amount = Optional.ofNullable(amount).orElse("");
-    return (amount.isEmpty() || amount.equals("¥0"))
-        ? null
-        : new BigDecimal(amount.substring(1).replaceAll(",", ""));
+  private Boolean isConfirmed(ParsedDate date) {
+    return Objects.isNull(date) ? null : date.isConfirmed();
+  }
+
+  /**
+   * Converts a currency amount string to a Money amount in the currency of a market. Returns null
+   * if the input string is null, empty, or represents zero value (¥0). Otherwise, reads an optional
+   * minus sign and currency symbol, then the digits with their grouping commas, in a single pass;
+   * any other text, such as "TBA", makes the amount invalid.
+   *
+   * <p>When mapping leniently, an amount that cannot be parsed is mapped to null and reported as an
+   * invalid price of the "Price" column of the market, such as "Price (JPY)".
+   *
+   * @param amount the currency amount string to convert (expected format: ¥1,234 or $1,234.50)
+   * @param market the market whose currency the amount is expressed in
+   * @param diagnostics the list collecting invalid amounts when mapping leniently, or null
+   * @return the converted amount, or null if the input is null, empty, or zero
+   * @throws IllegalArgumentException if the amount cannot be parsed and the mapping is strict
+   */
+  Money toMoney(CharSequence amount, Market market, List<Diagnostic> diagnostics) {
+    if (Objects.isNull(amount) || "¥0".contentEquals(amount)) {
+      return null;
+    }
+    if (Objects.nonNull(diagnostics)) {
+      long start = measured ? System.nanoTime() : 0;
+      Money money = Money.tryParse(amount, market);
+      boolean failed = Objects.isNull(money) && !amount.isEmpty();
+      if (measured) {
+        metrics.converted(Converter.PRICE, System.nanoTime() - start, failed);
+      }
+      if (failed) {
+        diagnostics.add(
+            new Diagnostic("Price (" + market + ")", amount, Diagnostic.Reason.INVALID_PRICE));
+      }
+      return money;
+    }
+    if (!measured) {
+      return Money.parse(amount, market);
+    }
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      Money money = Money.parse(amount, market);
+      failed = false;
+      return money;
+    } finally {
+      metrics.converted(Converter.PRICE, System.nanoTime() - start, failed);
+    }
   }
 
   /**
    * Converts a date string to a LocalDate object. Returns null if the input string is null or
-   * empty, otherwise attempts to parse the date using supported formats.
+   * empty, otherwise parses the date using the supported formats.
    *
    * @param date the date string to convert
    * @return the converted LocalDate, or null if the input is null or empty
    * @throws IllegalArgumentException if the date string cannot be parsed with any supported format
    */
-  private LocalDate toLocalDate(String date) {
-    date = Optional.ofNullable(date).orElse("");
-    return date.isEmpty() ? null : tryParse(date);
+  LocalDate toLocalDate(CharSequence date) {
+    return toLocalDate(toParsedDate(date, null, null));
   }
 
   /**
-   * Attempts to parse a date string using multiple date formats. First tries to parse as a full
-   * date (M/d/yyyy format), then falls back to year-month format (M/yyyy) with day set to 1 if the
-   * first attempt fails.
+   * Returns the LocalDate of a parsed date, or null if there is no date.
+   *
+   * @param date the parsed date
+   * @return the date, or null if there is no date
+   */
+  private LocalDate toLocalDate(ParsedDate date) {
+    return Objects.isNull(date) ? null : date.getDate();
+  }
+
+  /**
+   * Parses a date string written either as a full date (M/d/yyyy) or as a year-month (M/yyyy), in
+   * which case the day is set to 1 and the date is flagged as not confirmed. Returns null if the
+   * input string is null or empty. When mapping leniently, an input that cannot be parsed is mapped
+   * to null and reported as an invalid date.
    *
    * @param input the date string to parse
-   * @return the parsed LocalDate
-   * @throws IllegalArgumentException if the input cannot be parsed with any supported format
+   * @param column the name of the column in the source catalog
+   * @param diagnostics the list collecting invalid dates when mapping leniently, or null
+   * @return the parsed date, or null if the input is null or empty
+   * @throws IllegalArgumentException if the input cannot be parsed and the mapping is strict
    */
-  private LocalDate tryParse(String input) {
-    try {
-      // Try the first format
-      return LocalDate.parse(input, formatterMDY);
-    } catch (DateTimeParseException e1) {
-      try {
-        // If parsing fails, try the second format
-        return YearMonth.parse(input, formatterMY).atDay(1);
-      } catch (DateTimeParseException e2) {
-        // If both parsing attempts fail, throw an exception
-        throw new IllegalArgumentException("Invalid date format: " + input);
+  private ParsedDate toParsedDate(CharSequence input, String column, List<Diagnostic> diagnostics) {
+    if (Objects.isNull(input) || input.isEmpty()) {
+      return null;
+    }
+    long start = measured ? System.nanoTime() : 0;
+    ParsedDate date = dateCodec.parse(input);
+    if (measured) {
+      metrics.converted(Converter.DATE, System.nanoTime() - start, Objects.isNull(date));
+    }
+    if (Objects.isNull(date)) {
+      if (Objects.nonNull(diagnostics)) {
+        diagnostics.add(new Diagnostic(column, input, Diagnostic.Reason.INVALID_DATE));
+        return null;
       }
+      throw new IllegalArgumentException("Invalid date format: " + input);
     }
+    return date;
   }
 
   /**
-   * Retrieves or creates a Distribution object for the given figurine based on currency type. If
-   * the distribution doesn't exist for the specified currency, a new one is created and set.
-   *
-   * @param figurine the figurine to get or create distribution for
-   * @param jpy true to get JPY distribution, false to get MXN distribution
-   * @return the Distribution object for the specified currency
-   */
-  private Distribution getDistribution(Figurine figurine, boolean jpy) {
-    if (jpy) {
-      if (Objects.isNull(figurine.getDistributionJPY())) {
-        Distribution distribution = new Distribution();
-        figurine.setDistributionJPY(distribution);
-      }
-      return figurine.getDistributionJPY();
-    } else {
-      if (Objects.isNull(figurine.getDistributionMXN())) {
-        Distribution distribution = new Distribution();
-        figurine.setDistributionMXN(distribution);
+   * Fork-join task that maps a contiguous range of a batch, splitting it in halves until the range
+   * is small enough to be mapped directly. Each task writes to its own slots of the shared results
+   * array, which keeps the original row order without any further merging. Tasks of a lenient batch
+   * share its error budget and stop mapping rows once it is exceeded.
+   */
+  private class BatchTask extends RecursiveAction {
+
+    private final List<SourceFigurine> rows;
+    private final MappingResult[] results;
+    private final Budget budget;
+    private final int from;
+    private final int to;
+
+    BatchTask(List<SourceFigurine> rows, MappingResult[] results, Budget budget, int from, int to) {
+      this.rows = rows;
+      this.results = results;
+      this.budget = budget;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (Objects.isNull(budget)) {
+        if (to - from <= BATCH_THRESHOLD) {
+          for (int i = from; i < to; i++) {
+            results[i] = toResult(i, rows.get(i), false);
+          }
+          return;
+        }
+      } else if (budget.isExceeded()) {
+        return;
+      } else if (to - from <= BATCH_THRESHOLD) {
+        for (int i = from; i < to && !budget.isExceeded(); i++) {
+          results[i] = toResult(i, rows.get(i), true);
+          if (results[i].isDefective()) {
+            budget.defective.incrementAndGet();
+          }
+        }
+        return;
       }
-      return figurine.getDistributionMXN();
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new BatchTask(rows, results, budget, from, middle),
+          new BatchTask(rows, results, budget, middle, to));
+    }
+  }
+
+  /**
+   * The columns of the sheet holding the distribution of a market, with the names they are reported
+   * under. A market without a column for an attribute has null for it.
+   */
+  private static final class DistributionColumns {
+
+    private final Market market;
+    private final Function<SourceRow, CharSequence> distributor;
+    private final Function<SourceRow, CharSequence> price;
+    private final Function<SourceRow, CharSequence> announcement;
+    private final Function<SourceRow, CharSequence> preOrder;
+    private final Function<SourceRow, CharSequence> release;
+    private final String distributorColumn;
+    private final String announcementColumn;
+    private final String preOrderColumn;
+    private final String releaseColumn;
+
+    DistributionColumns(
+        Market market,
+        Function<SourceRow, CharSequence> distributor,
+        Function<SourceRow, CharSequence> price,
+        Function<SourceRow, CharSequence> announcement,
+        Function<SourceRow, CharSequence> preOrder,
+        Function<SourceRow, CharSequence> release) {
+      this.market = market;
+      this.distributor = distributor;
+      this.price = Objects.requireNonNull(price, "price");
+      this.announcement = announcement;
+      this.preOrder = Objects.requireNonNull(preOrder, "preOrder");
+      this.release = Objects.requireNonNull(release, "release");
+      this.distributorColumn = "Distributor (" + market + ")";
+      this.announcementColumn = "Announcement (" + market + ")";
+      this.preOrderColumn = "Preorder (" + market + ")";
+      this.releaseColumn = "Release (" + market + ")";
+    }
+  }
+
+  /** The number of defective rows a lenient batch tolerates, and the number found so far. */
+  private static final class Budget {
+
+    private final int limit;
+    private final AtomicInteger defective = new AtomicInteger();
+
+    Budget(int limit) {
+      this.limit = limit;
+    }
+
+    boolean isExceeded() {
+      return defective.get() > limit;
     }
   }
 }
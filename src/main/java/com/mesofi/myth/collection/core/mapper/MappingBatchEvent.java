@@ -0,0 +1,29 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the mapping of a batch by FigurineMapper, committed when the batch
+ * ends. Its duration is the elapsed time of the batch.
+ */
+@Name("com.mesofi.myth.MappingBatch")
+@Label("Mapping Batch")
+@Category({"Myth Collection", "Mapping"})
+@Description("A batch of source rows mapped to figurines")
+@StackTrace(false)
+final class MappingBatchEvent extends Event {
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Failures")
+  int failures;
+
+  @Label("Parallelism")
+  int parallelism;
+}
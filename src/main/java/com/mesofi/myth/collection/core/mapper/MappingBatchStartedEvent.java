@@ -0,0 +1,23 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event emitted when FigurineMapper starts mapping a batch. */
+@Name("com.mesofi.myth.MappingBatchStarted")
+@Label("Mapping Batch Started")
+@Category({"Myth Collection", "Mapping"})
+@Description("A batch of source rows is about to be mapped to figurines")
+@StackTrace(false)
+final class MappingBatchStartedEvent extends Event {
+
+  @Label("Rows")
+  int rows;
+
+  @Label("Parallelism")
+  int parallelism;
+}
@@ -0,0 +1,42 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Outcome of a lenient batch mapping: the result of every row that was mapped, in row order, the
+ * number of defective rows among them, and whether the batch stopped early because more rows than
+ * its error budget allowed were defective. A row is defective when it failed or when some of its
+ * values were rejected, see {@link MappingResult#isDefective()}.
+ *
+ * <p>Once the budget is exceeded, rows not yet started are skipped and have no result, so the
+ * results of an aborted batch cover a prefix of the batch, plus, when it is mapped in parallel,
+ * rows of other ranges that were already in progress.
+ */
+@Getter
+public final class MappingReport {
+
+  /** The results of the rows that were mapped, in row order. */
+  private final List<MappingResult> results;
+
+  /** The number of rows in the batch. */
+  private final int rows;
+
+  /** The number of defective rows among the results. */
+  private final int defectiveRows;
+
+  /** The number of defective rows the batch tolerated. */
+  private final int errorBudget;
+
+  /** Whether the batch stopped because the error budget was exceeded. */
+  private final boolean aborted;
+
+  MappingReport(
+      List<MappingResult> results, int rows, int defectiveRows, int errorBudget, boolean aborted) {
+    this.results = List.copyOf(results);
+    this.rows = rows;
+    this.defectiveRows = defectiveRows;
+    this.errorBudget = errorBudget;
+    this.aborted = aborted;
+  }
+}
@@ -0,0 +1,99 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Outcome of mapping a single row of a batch. A result either carries the mapped Figurine or the
+ * exception that prevented the row from being mapped, together with the position of the row in the
+ * original batch and the source data it was produced from.
+ *
+ * <p>Rows mapped leniently also carry the diagnostics of the values that could not be converted and
+ * were mapped to null; strict mapping fails the row instead, and its results have no diagnostics.
+ */
+@Getter
+public final class MappingResult {
+
+  /** Zero-based position of the row in the batch. */
+  private final int row;
+
+  private final SourceFigurine source;
+  private final Figurine figurine;
+  private final RuntimeException error;
+
+  /** The values of the row that lenient mapping rejected; empty for strict mapping. */
+  private final List<Diagnostic> diagnostics;
+
+  private MappingResult(
+      int row,
+      SourceFigurine source,
+      Figurine figurine,
+      RuntimeException error,
+      List<Diagnostic> diagnostics) {
+    this.row = row;
+    this.source = source;
+    this.figurine = figurine;
+    this.error = error;
+    this.diagnostics = diagnostics;
+  }
+
+  /**
+   * Creates a result for a row that was mapped successfully.
+   *
+   * @param row the zero-based position of the row in the batch
+   * @param source the source row
+   * @param figurine the mapped figurine
+   * @return a successful result
+   */
+  public static MappingResult success(int row, SourceFigurine source, Figurine figurine) {
+    return success(row, source, figurine, List.of());
+  }
+
+  /**
+   * Creates a result for a row that was mapped leniently, with the values that were rejected.
+   *
+   * @param row the zero-based position of the row in the batch
+   * @param source the source row
+   * @param figurine the mapped figurine
+   * @param diagnostics the rejected values, empty if the row was clean
+   * @return a successful result
+   */
+  public static MappingResult success(
+      int row, SourceFigurine source, Figurine figurine, List<Diagnostic> diagnostics) {
+    return new MappingResult(
+        row, source, Objects.requireNonNull(figurine, "figurine"), null, List.copyOf(diagnostics));
+  }
+
+  /**
+   * Creates a result for a row that could not be mapped.
+   *
+   * @param row the zero-based position of the row in the batch
+   * @param source the source row
+   * @param error the exception raised while mapping the row
+   * @return a failed result
+   */
+  public static MappingResult failure(int row, SourceFigurine source, RuntimeException error) {
+    return new MappingResult(row, source, null, Objects.requireNonNull(error, "error"), List.of());
+  }
+
+  /**
+   * Indicates whether the row was mapped successfully.
+   *
+   * @return true if a figurine is available, false if the row failed
+   */
+  public boolean isSuccess() {
+    return Objects.isNull(error);
+  }
+
+  /**
+   * Indicates whether the row failed or had values rejected by lenient mapping.
+   *
+   * @return true if the row failed or has diagnostics
+   */
+  public boolean isDefective() {
+    return !isSuccess() || !diagnostics.isEmpty();
+  }
+}
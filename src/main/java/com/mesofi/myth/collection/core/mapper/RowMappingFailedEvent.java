@@ -0,0 +1,26 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Flight Recorder event emitted for every row of a batch that FigurineMapper could not map. */
+@Name("com.mesofi.myth.RowMappingFailed")
+@Label("Row Mapping Failed")
+@Category({"Myth Collection", "Mapping"})
+@Description("A source row could not be mapped to a figurine")
+@StackTrace(false)
+final class RowMappingFailedEvent extends Event {
+
+  @Label("Row")
+  int row;
+
+  @Label("Base Name")
+  String baseName;
+
+  @Label("Error")
+  String error;
+}
@@ -0,0 +1,16 @@
+package com.mesofi.myth.collection.core.metrics;
+
+/** The field converters of the mapping path whose calls and latencies are measured. */
+public enum Converter {
+  /** Parsing of the announcement, pre-order and release dates. */
+  DATE,
+
+  /** Parsing of the JPY and MXN prices. */
+  PRICE,
+
+  /** Resolution of the enum columns, such as Group, LineUp or Distributor. */
+  ENUM,
+
+  /** Splitting and storing of the official and other image lists. */
+  IMAGES
+}
@@ -0,0 +1,121 @@
+package com.mesofi.myth.collection.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds with one bucket per power of two, so a value is
+ * recorded with a leading-zero count and two additions and percentiles are known within a factor of
+ * two. The exact count, total and maximum are kept beside the buckets.
+ */
+public final class LatencyHistogram {
+
+  private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /** Creates an empty histogram. */
+  public LatencyHistogram() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos the latency in nanoseconds; negative values are recorded as zero
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    buckets[bucket(value)].increment();
+    count.increment();
+    totalNanos.add(value);
+    if (value > maxNanos.get()) {
+      maxNanos.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   *
+   * @return the number of latencies
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the sum of the latencies recorded.
+   *
+   * @return the total in nanoseconds
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * Returns the largest latency recorded.
+   *
+   * @return the maximum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Returns the mean of the latencies recorded.
+   *
+   * @return the mean in nanoseconds, or 0 if nothing was recorded
+   */
+  public double getMeanNanos() {
+    long n = getCount();
+    return n == 0 ? 0 : (double) getTotalNanos() / n;
+  }
+
+  /**
+   * Returns an upper bound of a percentile of the latencies: the upper limit of the bucket holding
+   * it, capped by the maximum.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the bound in nanoseconds, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is not between 0 and 100
+   */
+  public long getPercentileNanos(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Invalid percentile: " + percentile);
+    }
+    long[] counts = new long[buckets.length];
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets[i].sum();
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        long limit = i >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        return Math.min(limit, getMaxNanos());
+      }
+    }
+    return getMaxNanos();
+  }
+
+  /** Returns the bucket of a value, the position of its highest bit; 0 and 1 share bucket 0. */
+  private static int bucket(long value) {
+    return value == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d mean=%.0fns p50<=%dns p99<=%dns max=%dns",
+        getCount(), getMeanNanos(), getPercentileNanos(50), getPercentileNanos(99), getMaxNanos());
+  }
+}
@@ -0,0 +1,152 @@
+package com.mesofi.myth.collection.core.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsSink keeping the measurements of the mapping path in memory: a latency histogram and a
+ * failure count per converter, the count of every unmapped enum value per column, and the number of
+ * rows mapped and time spent, from which the throughput is derived. Counters are LongAdders, so
+ * threads mapping a batch in parallel do not contend on them.
+ *
+ * <p>At most {@value #MAX_VALUES_PER_COLUMN} distinct unmapped values are kept per column; further
+ * values are counted under {@value #OTHER_VALUES}.
+ */
+public class MappingMetrics implements MetricsSink {
+
+  /** The number of distinct unmapped values kept per column. */
+  public static final int MAX_VALUES_PER_COLUMN = 64;
+
+  /** The key counting the unmapped values of a column beyond those kept. */
+  public static final String OTHER_VALUES = "(other)";
+
+  private final Map<Converter, LatencyHistogram> latencies = new EnumMap<>(Converter.class);
+  private final Map<Converter, LongAdder> failures = new EnumMap<>(Converter.class);
+  private final Map<String, Map<String, LongAdder>> unmapped = new ConcurrentHashMap<>();
+
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder failedRows = new LongAdder();
+  private final LongAdder mappingNanos = new LongAdder();
+
+  /** Creates empty metrics. */
+  public MappingMetrics() {
+    for (Converter converter : Converter.values()) {
+      latencies.put(converter, new LatencyHistogram());
+      failures.put(converter, new LongAdder());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void converted(Converter converter, long nanos, boolean failed) {
+    latencies.get(converter).record(nanos);
+    if (failed) {
+      failures.get(converter).increment();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void unmapped(String column, CharSequence value) {
+    Map<String, LongAdder> values =
+        unmapped.computeIfAbsent(column, k -> new ConcurrentHashMap<>());
+    String key = value.toString();
+    LongAdder count = values.get(key);
+    if (Objects.isNull(count)) {
+      count =
+          values.size() < MAX_VALUES_PER_COLUMN
+              ? values.computeIfAbsent(key, k -> new LongAdder())
+              : values.computeIfAbsent(OTHER_VALUES, k -> new LongAdder());
+    }
+    count.increment();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void rowsMapped(int rows, int failures, long nanos) {
+    this.rows.add(rows);
+    failedRows.add(failures);
+    mappingNanos.add(nanos);
+  }
+
+  /**
+   * Returns the latency histogram of a converter.
+   *
+   * @param converter the converter
+   * @return the live histogram of the calls of the converter
+   */
+  public LatencyHistogram getLatency(Converter converter) {
+    return latencies.get(converter);
+  }
+
+  /**
+   * Returns the number of values a converter could not convert.
+   *
+   * @param converter the converter
+   * @return the number of failed conversions
+   */
+  public long getFailures(Converter converter) {
+    return failures.get(converter).sum();
+  }
+
+  /**
+   * Returns the unmapped enum values found so far.
+   *
+   * @return an unmodifiable copy of the counts by column and value, sorted by column and value
+   */
+  public Map<String, Map<String, Long>> getUnmapped() {
+    Map<String, Map<String, Long>> result = new TreeMap<>();
+    unmapped.forEach(
+        (column, values) -> {
+          Map<String, Long> counts = new TreeMap<>();
+          values.forEach((value, count) -> counts.put(value, count.sum()));
+          result.put(column, Collections.unmodifiableMap(counts));
+        });
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Returns the number of unmapped values found in a column.
+   *
+   * @param column the name of the column
+   * @return the number of values of the column mapped to null although they were not blank
+   */
+  public long getUnmappedCount(String column) {
+    Map<String, LongAdder> values = unmapped.get(column);
+    return Objects.isNull(values) ? 0 : values.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /**
+   * Returns the number of rows mapped, failed ones included.
+   *
+   * @return the number of rows
+   */
+  public long getRows() {
+    return rows.sum();
+  }
+
+  /**
+   * Returns the number of rows that could not be mapped.
+   *
+   * @return the number of failed rows
+   */
+  public long getFailedRows() {
+    return failedRows.sum();
+  }
+
+  /**
+   * Returns the mapping throughput: the rows mapped divided by the time spent mapping them. Batches
+   * mapped in parallel count their elapsed time, not the time of every thread.
+   *
+   * @return the number of rows mapped per second, or 0 if no row was mapped
+   */
+  public double getRowsPerSecond() {
+    long nanos = mappingNanos.sum();
+    return nanos == 0 ? 0 : getRows() * 1e9 / nanos;
+  }
+}
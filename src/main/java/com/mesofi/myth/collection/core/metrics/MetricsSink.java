@@ -0,0 +1,66 @@
+package com.mesofi.myth.collection.core.metrics;
+
+/**
+ * Receiver of the measurements of the mapping path. A FigurineMapper reports to its sink the
+ * latency of every field conversion, the enum values that did not match any constant, and the
+ * number of rows and time spent mapping them.
+ *
+ * <p>Implementations are called concurrently by the threads mapping a batch and must be
+ * thread-safe. The mapper asks {@link #isEnabled()} once, when it is created; a disabled sink, such
+ * as {@link #NOOP}, is never called and no clock is read for it.
+ */
+public interface MetricsSink {
+
+  /** A sink ignoring every measurement, the default of the mapper. */
+  MetricsSink NOOP =
+      new MetricsSink() {
+        @Override
+        public boolean isEnabled() {
+          return false;
+        }
+
+        @Override
+        public void converted(Converter converter, long nanos, boolean failed) {}
+
+        @Override
+        public void unmapped(String column, CharSequence value) {}
+
+        @Override
+        public void rowsMapped(int rows, int failures, long nanos) {}
+      };
+
+  /**
+   * Indicates whether the sink wants measurements at all.
+   *
+   * @return true if the mapper must report to this sink
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Records a call of a field converter.
+   *
+   * @param converter the converter called
+   * @param nanos the duration of the call, in nanoseconds
+   * @param failed true if the value could not be converted and the row fails
+   */
+  void converted(Converter converter, long nanos, boolean failed);
+
+  /**
+   * Records a non-blank value of an enum column that matched no constant and was mapped to null.
+   *
+   * @param column the name of the column in the source catalog, such as "Group"
+   * @param value the value found in the column
+   */
+  void unmapped(String column, CharSequence value);
+
+  /**
+   * Records the mapping of rows, either a batch or a single row.
+   *
+   * @param rows the number of rows mapped, failed ones included
+   * @param failures the number of rows that could not be mapped
+   * @param nanos the elapsed time, in nanoseconds
+   */
+  void rowsMapped(int rows, int failures, long nanos);
+}
@@ -13,14 +13,18 @@ import lombok.Setter;
  *
  * <p>All fields except the core identifying properties are excluded from equality checks to focus
  * comparison on essential figurine characteristics rather than metadata.
+ *
+ * <p>The distributions of the figurine are kept in a {@link Distributions} container holding only
+ * the markets the figurine is sold in. The per-market accessors such as {@link
+ * #getDistributionJPY()} are views of that container.
  */
 @Setter
 @Getter
 @EqualsAndHashCode
 public class BaseFigurine {
 
-  @EqualsAndHashCode.Exclude @Valid private Distribution distributionJPY;
-  @EqualsAndHashCode.Exclude @Valid private Distribution distributionMXN;
+  /** The distributions of the figurine, keyed by market. */
+  @EqualsAndHashCode.Exclude @Valid private final Distributions distributions = new Distributions();
 
   @Size(max = 35)
   @EqualsAndHashCode.Exclude
@@ -31,4 +35,60 @@ public class BaseFigurine {
   @EqualsAndHashCode.Exclude private List<String> officialImages;
   @EqualsAndHashCode.Exclude private List<String> otherImages;
   @EqualsAndHashCode.Exclude private String remarks;
+
+  /**
+   * Returns the distribution of the figurine in the given market.
+   *
+   * @param market the market
+   * @return the distribution in the market, or null if the figurine is not distributed there
+   */
+  public Distribution getDistribution(Market market) {
+    return distributions.get(market);
+  }
+
+  /**
+   * Sets the distribution of the figurine in the given market.
+   *
+   * @param market the market
+   * @param distribution the distribution in the market, or null if not distributed there
+   */
+  public void setDistribution(Market market, Distribution distribution) {
+    distributions.put(market, distribution);
+  }
+
+  /**
+   * Returns the distribution of the figurine in Japan.
+   *
+   * @return the JPY distribution, or null if the figurine is not distributed there
+   */
+  public Distribution getDistributionJPY() {
+    return distributions.get(Market.JPY);
+  }
+
+  /**
+   * Sets the distribution of the figurine in Japan.
+   *
+   * @param distributionJPY the JPY distribution, or null if not distributed there
+   */
+  public void setDistributionJPY(Distribution distributionJPY) {
+    distributions.put(Market.JPY, distributionJPY);
+  }
+
+  /**
+   * Returns the distribution of the figurine in Mexico.
+   *
+   * @return the MXN distribution, or null if the figurine is not distributed there
+   */
+  public Distribution getDistributionMXN() {
+    return distributions.get(Market.MXN);
+  }
+
+  /**
+   * Sets the distribution of the figurine in Mexico.
+   *
+   * @param distributionMXN the MXN distribution, or null if not distributed there
+   */
+  public void setDistributionMXN(Distribution distributionMXN) {
+    distributions.put(Market.MXN, distributionMXN);
+  }
 }
@@ -4,7 +4,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import lombok.AllArgsConstructor;
+import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,18 +14,131 @@ import lombok.Setter;
 /**
  * Represents the distribution information for a collectible item, including pricing, distributor
  * details, and important dates in the distribution lifecycle.
+ *
+ * <p>Prices are stored as {@link Money} and exposed through {@link #getBaseMoney()} and {@link
+ * #getFinalMoney()}. The BigDecimal accessors are views of the same prices; a price set through
+ * them has no currency.
  */
 @Setter
 @Getter
 @EqualsAndHashCode
 @NoArgsConstructor
-@AllArgsConstructor
 public class Distribution {
   @Valid private Distributor distributor;
-  @NotNull private BigDecimal basePrice;
-  private BigDecimal finalPrice; // This field is calculated ...
+
+  @NotNull
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Money basePrice;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private Money finalPrice; // This field is calculated ...
+
   private LocalDate firstAnnouncementDate;
   @NotNull private LocalDate preOrderDate;
   @NotNull private LocalDate releaseDate;
   @NotNull private Boolean releaseDateConfirmed;
+
+  /**
+   * Constructs a Distribution with all of its attributes.
+   *
+   * @param distributor the distributor
+   * @param basePrice the base price
+   * @param finalPrice the calculated final price
+   * @param firstAnnouncementDate the date of the first announcement
+   * @param preOrderDate the date pre-orders open
+   * @param releaseDate the release date
+   * @param releaseDateConfirmed whether the day of the release date is known
+   */
+  public Distribution(
+      Distributor distributor,
+      BigDecimal basePrice,
+      BigDecimal finalPrice,
+      LocalDate firstAnnouncementDate,
+      LocalDate preOrderDate,
+      LocalDate releaseDate,
+      Boolean releaseDateConfirmed) {
+    this.distributor = distributor;
+    this.basePrice = Money.of(basePrice, null);
+    this.finalPrice = Money.of(finalPrice, null);
+    this.firstAnnouncementDate = firstAnnouncementDate;
+    this.preOrderDate = preOrderDate;
+    this.releaseDate = releaseDate;
+    this.releaseDateConfirmed = releaseDateConfirmed;
+  }
+
+  /**
+   * Returns the base price.
+   *
+   * @return the base price, or null if unknown
+   */
+  public Money getBaseMoney() {
+    return basePrice;
+  }
+
+  /**
+   * Sets the base price.
+   *
+   * @param basePrice the base price, or null if unknown
+   */
+  public void setBaseMoney(Money basePrice) {
+    this.basePrice = basePrice;
+  }
+
+  /**
+   * Returns the calculated final price.
+   *
+   * @return the final price, or null if not calculated
+   */
+  public Money getFinalMoney() {
+    return finalPrice;
+  }
+
+  /**
+   * Sets the calculated final price.
+   *
+   * @param finalPrice the final price, or null if not calculated
+   */
+  public void setFinalMoney(Money finalPrice) {
+    this.finalPrice = finalPrice;
+  }
+
+  /**
+   * Returns the base price as a BigDecimal.
+   *
+   * @return the base price, or null if unknown
+   */
+  public BigDecimal getBasePrice() {
+    return Objects.isNull(basePrice) ? null : basePrice.toBigDecimal();
+  }
+
+  /**
+   * Sets the base price from a BigDecimal, without a currency.
+   *
+   * @param basePrice the base price, or null if unknown
+   * @throws IllegalArgumentException if the price has more digits than a Money holds
+   */
+  public void setBasePrice(BigDecimal basePrice) {
+    this.basePrice = Money.of(basePrice, null);
+  }
+
+  /**
+   * Returns the calculated final price as a BigDecimal.
+   *
+   * @return the final price, or null if not calculated
+   */
+  public BigDecimal getFinalPrice() {
+    return Objects.isNull(finalPrice) ? null : finalPrice.toBigDecimal();
+  }
+
+  /**
+   * Sets the calculated final price from a BigDecimal, without a currency.
+   *
+   * @param finalPrice the final price, or null if not calculated
+   * @throws IllegalArgumentException if the price has more digits than a Money holds
+   */
+  public void setFinalPrice(BigDecimal finalPrice) {
+    this.finalPrice = Money.of(finalPrice, null);
+  }
 }
@@ -0,0 +1,192 @@
+package com.mesofi.myth.collection.core.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The distributions of a figurine, keyed by market. Like an EnumMap, entries are kept in the order
+ * of the markets, but only the markets a figurine is distributed in take space: the present markets
+ * are a bit set and their distributions are packed in an array sized to them, so a figurine sold in
+ * a single market holds a one-element array whatever the number of markets, and a figurine sold in
+ * none shares an empty one.
+ *
+ * <p>Null values are not stored: putting null removes the distribution of the market, as does
+ * {@link BaseFigurine#setDistribution(Market, Distribution)}. Instances are not thread-safe.
+ */
+public final class Distributions extends AbstractMap<Market, Distribution> {
+
+  private static final Market[] markets = Market.values();
+  private static final Distribution[] none = new Distribution[0];
+
+  /** The ordinals of the present markets, one bit each. */
+  private int present;
+
+  /** The distributions of the present markets, in ordinal order. */
+  private Distribution[] values = none;
+
+  /** Creates an empty container. */
+  public Distributions() {}
+
+  /**
+   * Returns the distribution in the given market.
+   *
+   * @param market the market
+   * @return the distribution in the market, or null if the figurine is not distributed there
+   */
+  public Distribution get(Market market) {
+    int bit = 1 << market.ordinal();
+    return (present & bit) == 0 ? null : values[Integer.bitCount(present & (bit - 1))];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Distribution get(Object key) {
+    return key instanceof Market market ? get(market) : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Market market && (present & 1 << market.ordinal()) != 0;
+  }
+
+  /**
+   * Sets the distribution in the given market, or removes it if the distribution is null.
+   *
+   * @param market the market
+   * @param distribution the distribution in the market, or null if not distributed there
+   * @return the previous distribution in the market, or null if there was none
+   */
+  @Override
+  public Distribution put(Market market, Distribution distribution) {
+    Objects.requireNonNull(market, "market");
+    if (Objects.isNull(distribution)) {
+      return remove(market);
+    }
+    int bit = 1 << market.ordinal();
+    int index = Integer.bitCount(present & (bit - 1));
+    if ((present & bit) != 0) {
+      Distribution previous = values[index];
+      values[index] = distribution;
+      return previous;
+    }
+    Distribution[] grown = new Distribution[values.length + 1];
+    System.arraycopy(values, 0, grown, 0, index);
+    System.arraycopy(values, index, grown, index + 1, values.length - index);
+    grown[index] = distribution;
+    values = grown;
+    present |= bit;
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Distribution remove(Object key) {
+    if (!containsKey(key)) {
+      return null;
+    }
+    int bit = 1 << ((Market) key).ordinal();
+    int index = Integer.bitCount(present & (bit - 1));
+    Distribution previous = values[index];
+    if (values.length == 1) {
+      values = none;
+    } else {
+      Distribution[] shrunk = new Distribution[values.length - 1];
+      System.arraycopy(values, 0, shrunk, 0, index);
+      System.arraycopy(values, index + 1, shrunk, index, values.length - index - 1);
+      values = shrunk;
+    }
+    present &= ~bit;
+    return previous;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    present = 0;
+    values = none;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return present == 0;
+  }
+
+  /**
+   * Calls the given action for each distribution in the order of the markets, without creating
+   * entries.
+   *
+   * @param action the action to call with each market and its distribution
+   */
+  @Override
+  public void forEach(BiConsumer<? super Market, ? super Distribution> action) {
+    int index = 0;
+    for (int rest = present; rest != 0; rest &= rest - 1) {
+      action.accept(markets[Integer.numberOfTrailingZeros(rest)], values[index++]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Map.Entry<Market, Distribution>> entrySet() {
+    return new EntrySet();
+  }
+
+  /** The entries of the container, in the order of the markets. */
+  private final class EntrySet extends AbstractSet<Map.Entry<Market, Distribution>> {
+
+    @Override
+    public Iterator<Map.Entry<Market, Distribution>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  /** Iterator over the present markets; removing an entry removes its market from the container. */
+  private final class EntryIterator implements Iterator<Map.Entry<Market, Distribution>> {
+
+    private int rest = present;
+    private Market last;
+
+    @Override
+    public boolean hasNext() {
+      return rest != 0;
+    }
+
+    @Override
+    public Map.Entry<Market, Distribution> next() {
+      if (rest == 0) {
+        throw new NoSuchElementException();
+      }
+      last = markets[Integer.numberOfTrailingZeros(rest)];
+      rest &= rest - 1;
+      return new SimpleImmutableEntry<>(last, get(last));
+    }
+
+    @Override
+    public void remove() {
+      if (Objects.isNull(last)) {
+        throw new IllegalStateException();
+      }
+      Distributions.this.remove(last);
+      last = null;
+    }
+  }
+}
@@ -3,7 +3,7 @@ package com.mesofi.myth.collection.core.model;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,14 +13,21 @@ import lombok.Setter;
  * Represents a Saint Seiya Myth Cloth figurine with various attributes and characteristics. This
  * entity contains information about the figurine's type, condition, special editions, and
  * associated restocking history.
+ *
+ * <p>The boolean characteristics of the figurine are packed into a single {@code flags} value, one
+ * bit per {@link FigurineFlag}. The individual accessors such as {@link #isMetal()} read and write
+ * that value, while {@link #hasFlags(short, short)} tests any combination of flags with one mask
+ * comparison.
  */
 @Setter
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
-@AllArgsConstructor
 public class Figurine extends BaseFigurine {
 
+  /** The bits of all the defined flags. */
+  private static final short DEFINED_FLAGS = FigurineFlag.mask(FigurineFlag.values());
+
   @NotBlank
   @Size(min = 3, max = 20)
   private String baseName;
@@ -32,18 +39,313 @@ public class Figurine extends BaseFigurine {
   private Category category;
   private Status status; // This field is calculated ...
 
-  private boolean revival;
-  private boolean oce;
-  private boolean metal;
-  private boolean golden;
-  private boolean gold;
-  private boolean broken;
-  private boolean plain;
-  private boolean hk;
-  private boolean comic;
-  private boolean set;
+  /** The packed boolean characteristics, one bit per {@link FigurineFlag}. */
+  @Setter(AccessLevel.NONE)
+  private short flags;
 
   private Anniversary anniversary;
 
   @EqualsAndHashCode.Exclude private List<Restock> restocks; // This field is calculated
+
+  /**
+   * Constructs a Figurine with all of its attributes.
+   *
+   * @param baseName the base name of the figurine
+   * @param displayableName the calculated displayable name
+   * @param lineUp the line-up
+   * @param series the series
+   * @param category the category
+   * @param status the calculated status
+   * @param revival whether the figurine is a revival (re-release) of an earlier figurine
+   * @param oce whether the figurine is an original color edition
+   * @param metal whether the figurine has metal parts
+   * @param golden whether the figurine is a golden version
+   * @param gold whether the figurine is a gold version
+   * @param broken whether the figurine is a broken version
+   * @param plain whether the figurine is a plain cloth version
+   * @param hk whether the figurine is a Hong Kong version
+   * @param comic whether the figurine is a comic (manga) version
+   * @param set whether the figurine is sold as a set
+   * @param anniversary the anniversary
+   * @param restocks the calculated restocks
+   */
+  public Figurine(
+      String baseName,
+      String displayableName,
+      LineUp lineUp,
+      Series series,
+      Category category,
+      Status status,
+      boolean revival,
+      boolean oce,
+      boolean metal,
+      boolean golden,
+      boolean gold,
+      boolean broken,
+      boolean plain,
+      boolean hk,
+      boolean comic,
+      boolean set,
+      Anniversary anniversary,
+      List<Restock> restocks) {
+    this.baseName = baseName;
+    this.displayableName = displayableName;
+    this.lineUp = lineUp;
+    this.series = series;
+    this.category = category;
+    this.status = status;
+    this.flags =
+        (short)
+            (bit(FigurineFlag.REVIVAL, revival)
+                | bit(FigurineFlag.OCE, oce)
+                | bit(FigurineFlag.METAL, metal)
+                | bit(FigurineFlag.GOLDEN, golden)
+                | bit(FigurineFlag.GOLD, gold)
+                | bit(FigurineFlag.BROKEN, broken)
+                | bit(FigurineFlag.PLAIN, plain)
+                | bit(FigurineFlag.HK, hk)
+                | bit(FigurineFlag.COMIC, comic)
+                | bit(FigurineFlag.SET, set));
+    this.anniversary = anniversary;
+    this.restocks = restocks;
+  }
+
+  private static int bit(FigurineFlag flag, boolean value) {
+    return value ? flag.getMask() : 0;
+  }
+
+  /**
+   * Sets all the flags at once from a packed value, such as one returned by {@link #getFlags()}.
+   * Bits that belong to no {@link FigurineFlag} are cleared.
+   *
+   * @param flags the packed flags, one bit per {@link FigurineFlag}
+   */
+  public void setFlags(short flags) {
+    this.flags = (short) (flags & DEFINED_FLAGS);
+  }
+
+  /**
+   * Indicates whether the given flag is set.
+   *
+   * @param flag the flag to test
+   * @return true if the flag is set
+   */
+  public boolean is(FigurineFlag flag) {
+    return (flags & flag.getMask()) != 0;
+  }
+
+  /**
+   * Sets or clears the given flag.
+   *
+   * @param flag the flag to change
+   * @param value true to set the flag, false to clear it
+   */
+  public void set(FigurineFlag flag, boolean value) {
+    flags = (short) (value ? flags | flag.getMask() : flags & ~flag.getMask());
+  }
+
+  /**
+   * Tests a combination of flags with a single mask comparison: every flag of {@code required} must
+   * be set and every flag of {@code forbidden} must be clear. For example, metal revivals that are
+   * not Hong Kong versions are matched by {@code hasFlags(mask(METAL, REVIVAL), mask(HK))}.
+   *
+   * @param required the flags that must be set
+   * @param forbidden the flags that must be clear
+   * @return true if the flags of this figurine match
+   */
+  public boolean hasFlags(short required, short forbidden) {
+    return matches(flags, required, forbidden);
+  }
+
+  /**
+   * Tests a packed flags value against the given required and forbidden flags.
+   *
+   * @param flags the packed flags to test
+   * @param required the flags that must be set
+   * @param forbidden the flags that must be clear
+   * @return true if every required flag is set and every forbidden flag is clear
+   */
+  public static boolean matches(short flags, short required, short forbidden) {
+    return (flags & (required | forbidden)) == required && (required & forbidden) == 0;
+  }
+
+  /**
+   * Indicates whether the figurine is a revival (re-release) of an earlier figurine.
+   *
+   * @return true if the {@link FigurineFlag#REVIVAL} flag is set
+   */
+  public boolean isRevival() {
+    return is(FigurineFlag.REVIVAL);
+  }
+
+  /**
+   * Sets whether the figurine is a revival (re-release) of an earlier figurine.
+   *
+   * @param revival true to set the {@link FigurineFlag#REVIVAL} flag, false to clear it
+   */
+  public void setRevival(boolean revival) {
+    set(FigurineFlag.REVIVAL, revival);
+  }
+
+  /**
+   * Indicates whether the figurine is an original color edition.
+   *
+   * @return true if the {@link FigurineFlag#OCE} flag is set
+   */
+  public boolean isOce() {
+    return is(FigurineFlag.OCE);
+  }
+
+  /**
+   * Sets whether the figurine is an original color edition.
+   *
+   * @param oce true to set the {@link FigurineFlag#OCE} flag, false to clear it
+   */
+  public void setOce(boolean oce) {
+    set(FigurineFlag.OCE, oce);
+  }
+
+  /**
+   * Indicates whether the figurine has metal parts.
+   *
+   * @return true if the {@link FigurineFlag#METAL} flag is set
+   */
+  public boolean isMetal() {
+    return is(FigurineFlag.METAL);
+  }
+
+  /**
+   * Sets whether the figurine has metal parts.
+   *
+   * @param metal true to set the {@link FigurineFlag#METAL} flag, false to clear it
+   */
+  public void setMetal(boolean metal) {
+    set(FigurineFlag.METAL, metal);
+  }
+
+  /**
+   * Indicates whether the figurine is a golden version.
+   *
+   * @return true if the {@link FigurineFlag#GOLDEN} flag is set
+   */
+  public boolean isGolden() {
+    return is(FigurineFlag.GOLDEN);
+  }
+
+  /**
+   * Sets whether the figurine is a golden version.
+   *
+   * @param golden true to set the {@link FigurineFlag#GOLDEN} flag, false to clear it
+   */
+  public void setGolden(boolean golden) {
+    set(FigurineFlag.GOLDEN, golden);
+  }
+
+  /**
+   * Indicates whether the figurine is a gold version.
+   *
+   * @return true if the {@link FigurineFlag#GOLD} flag is set
+   */
+  public boolean isGold() {
+    return is(FigurineFlag.GOLD);
+  }
+
+  /**
+   * Sets whether the figurine is a gold version.
+   *
+   * @param gold true to set the {@link FigurineFlag#GOLD} flag, false to clear it
+   */
+  public void setGold(boolean gold) {
+    set(FigurineFlag.GOLD, gold);
+  }
+
+  /**
+   * Indicates whether the figurine is a broken version.
+   *
+   * @return true if the {@link FigurineFlag#BROKEN} flag is set
+   */
+  public boolean isBroken() {
+    return is(FigurineFlag.BROKEN);
+  }
+
+  /**
+   * Sets whether the figurine is a broken version.
+   *
+   * @param broken true to set the {@link FigurineFlag#BROKEN} flag, false to clear it
+   */
+  public void setBroken(boolean broken) {
+    set(FigurineFlag.BROKEN, broken);
+  }
+
+  /**
+   * Indicates whether the figurine is a plain cloth version.
+   *
+   * @return true if the {@link FigurineFlag#PLAIN} flag is set
+   */
+  public boolean isPlain() {
+    return is(FigurineFlag.PLAIN);
+  }
+
+  /**
+   * Sets whether the figurine is a plain cloth version.
+   *
+   * @param plain true to set the {@link FigurineFlag#PLAIN} flag, false to clear it
+   */
+  public void setPlain(boolean plain) {
+    set(FigurineFlag.PLAIN, plain);
+  }
+
+  /**
+   * Indicates whether the figurine is a Hong Kong version.
+   *
+   * @return true if the {@link FigurineFlag#HK} flag is set
+   */
+  public boolean isHk() {
+    return is(FigurineFlag.HK);
+  }
+
+  /**
+   * Sets whether the figurine is a Hong Kong version.
+   *
+   * @param hk true to set the {@link FigurineFlag#HK} flag, false to clear it
+   */
+  public void setHk(boolean hk) {
+    set(FigurineFlag.HK, hk);
+  }
+
+  /**
+   * Indicates whether the figurine is a comic (manga) version.
+   *
+   * @return true if the {@link FigurineFlag#COMIC} flag is set
+   */
+  public boolean isComic() {
+    return is(FigurineFlag.COMIC);
+  }
+
+  /**
+   * Sets whether the figurine is a comic (manga) version.
+   *
+   * @param comic true to set the {@link FigurineFlag#COMIC} flag, false to clear it
+   */
+  public void setComic(boolean comic) {
+    set(FigurineFlag.COMIC, comic);
+  }
+
+  /**
+   * Indicates whether the figurine is sold as a set.
+   *
+   * @return true if the {@link FigurineFlag#SET} flag is set
+   */
+  public boolean isSet() {
+    return is(FigurineFlag.SET);
+  }
+
+  /**
+   * Sets whether the figurine is sold as a set.
+   *
+   * @param set true to set the {@link FigurineFlag#SET} flag, false to clear it
+   */
+  public void setSet(boolean set) {
+    set(FigurineFlag.SET, set);
+  }
 }
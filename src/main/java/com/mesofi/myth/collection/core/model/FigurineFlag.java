@@ -0,0 +1,64 @@
+package com.mesofi.myth.collection.core.model;
+
+/**
+ * Enumeration of the boolean characteristics of a figurine, such as being a revival or having metal
+ * parts. Each flag owns one bit of the packed flags of a Figurine, so combinations of flags can be
+ * tested with a single mask comparison.
+ */
+public enum FigurineFlag implements Describable {
+  REVIVAL("Revival"),
+  OCE("OCE"),
+  METAL("Metal"),
+  GOLDEN("Golden"),
+  GOLD("Gold"),
+  BROKEN("Broken"),
+  PLAIN("Plain Cloth"),
+  HK("HK"),
+  COMIC("Comic"),
+  SET("Set");
+
+  /** The descriptive name of the flag. */
+  private final String description;
+
+  /** The bit of the flag in a packed flags value. */
+  private final short mask;
+
+  /**
+   * Constructs a FigurineFlag with the specified description.
+   *
+   * @param description the descriptive name of the flag
+   */
+  FigurineFlag(String description) {
+    this.description = description;
+    this.mask = (short) (1 << ordinal());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns the bit of this flag in a packed flags value.
+   *
+   * @return the mask of this flag
+   */
+  public short getMask() {
+    return mask;
+  }
+
+  /**
+   * Combines the given flags into a packed flags value.
+   *
+   * @param flags the flags to combine
+   * @return the mask with the bit of every given flag set
+   */
+  public static short mask(FigurineFlag... flags) {
+    int mask = 0;
+    for (FigurineFlag flag : flags) {
+      mask |= flag.mask;
+    }
+    return (short) mask;
+  }
+}
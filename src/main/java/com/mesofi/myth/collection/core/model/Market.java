@@ -0,0 +1,61 @@
+package com.mesofi.myth.collection.core.model;
+
+import java.util.Currency;
+
+/**
+ * Enumeration of the markets in which figurines are distributed. Each market has its own
+ * Distribution on a figurine and prices expressed in the currency of the market.
+ */
+public enum Market implements Describable {
+  JPY("Japan", "JPY", "¥"),
+  MXN("Mexico", "MXN", "$"),
+  USD("United States", "USD", "US$"),
+  EUR("Europe", "EUR", "€");
+
+  /** The descriptive name of the market. */
+  private final String description;
+
+  /** The currency of the prices in the market. */
+  private final Currency currency;
+
+  /** The symbol written before the prices of the market in the catalog sheets. */
+  private final String symbol;
+
+  /**
+   * Constructs a Market with the specified description and currency.
+   *
+   * @param description the descriptive name of the market
+   * @param currencyCode the ISO 4217 code of the currency of the market
+   * @param symbol the symbol written before the prices of the market in the catalog sheets
+   */
+  Market(String description, String currencyCode, String symbol) {
+    this.description = description;
+    this.currency = Currency.getInstance(currencyCode);
+    this.symbol = symbol;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns the currency of the prices in this market.
+   *
+   * @return the currency of the market
+   */
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Returns the symbol written before the prices of this market in the catalog sheets, such as
+   * {@code ¥} in {@code ¥12,100}.
+   *
+   * @return the currency symbol of the market
+   */
+  public String getSymbol() {
+    return symbol;
+  }
+}
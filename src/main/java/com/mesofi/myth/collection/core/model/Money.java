@@ -0,0 +1,382 @@
+package com.mesofi.myth.collection.core.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * An amount of money stored as a long number of units of 10<sup>-scale</sup> of its currency, such
+ * as 12100 at scale 0 for ¥12,100 or 123450 at scale 2 for $1,234.50. Amounts can be parsed from
+ * the price cells of the source catalog in a single pass, and compared and added with primitive
+ * arithmetic, while {@link #toBigDecimal()} gives the equivalent BigDecimal for existing code.
+ *
+ * <p>Amounts parsed for a market carry its currency. Amounts created from a BigDecimal without a
+ * currency, such as those set through the BigDecimal views of {@link Distribution}, have none; they
+ * are taken to be in the currency of the amount they are compared with or added to, so prices of
+ * existing code can be sorted and summed with parsed ones.
+ *
+ * <p>Two amounts are equal when they have the same currency, units and scale, so ¥12,100 and
+ * ¥12,100.00 are not equal although they compare as the same amount, as with BigDecimal.
+ */
+@Getter
+@EqualsAndHashCode
+public final class Money implements Comparable<Money> {
+
+  private static final int MAX_SCALE = 18;
+
+  private static final long[] powersOfTen = new long[MAX_SCALE + 1];
+
+  static {
+    powersOfTen[0] = 1;
+    for (int i = 1; i < powersOfTen.length; i++) {
+      powersOfTen[i] = powersOfTen[i - 1] * 10;
+    }
+  }
+
+  // markers returned by read(), compared by identity and never handed out
+  private static final Money outOfRange = new Money(0, 0, null);
+  private static final Money invalid = new Money(0, 0, null);
+
+  /** The number of units of 10<sup>-scale</sup> of the currency. */
+  private final long unscaledAmount;
+
+  /** The number of decimal places of the units. */
+  private final int scale;
+
+  /** The currency of the amount, or null if unknown. */
+  private final Currency currency;
+
+  private Money(long unscaledAmount, int scale, Currency currency) {
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("Unsupported scale " + scale);
+    }
+    this.unscaledAmount = unscaledAmount;
+    this.scale = scale;
+    this.currency = currency;
+  }
+
+  /**
+   * Creates an amount from a number of units of 10<sup>-scale</sup> of a currency.
+   *
+   * @param unscaledAmount the number of units
+   * @param scale the number of decimal places of the units, from 0 to 18
+   * @param currency the currency, or null if unknown
+   * @return the amount
+   * @throws IllegalArgumentException if the scale is out of range
+   */
+  public static Money of(long unscaledAmount, int scale, Currency currency) {
+    return new Money(unscaledAmount, scale, currency);
+  }
+
+  /**
+   * Creates an amount from a decimal value.
+   *
+   * @param amount the decimal value
+   * @param currency the currency, or null if unknown
+   * @return the amount, or null if the value is null
+   * @throws IllegalArgumentException if the value has more than 18 decimal places or more digits
+   *     than a long holds
+   */
+  public static Money of(BigDecimal amount, Currency currency) {
+    if (Objects.isNull(amount)) {
+      return null;
+    }
+    BigDecimal value = amount.scale() < 0 ? amount.setScale(0) : amount;
+    if (value.unscaledValue().bitLength() >= Long.SIZE) {
+      throw new IllegalArgumentException("Amount out of range: " + amount);
+    }
+    return new Money(value.unscaledValue().longValue(), value.scale(), currency);
+  }
+
+  /**
+   * Parses a price such as {@code ¥12,100} or {@code $1,234.50} in a single pass. The digits may be
+   * preceded by a minus sign and by a single currency symbol, such as {@code ¥}, {@code $} or
+   * {@code €}, each optionally followed by whitespace; any other text before the digits makes the
+   * price invalid. Commas are ignored as grouping separators, a period starts the decimal places,
+   * and the scale of the amount is the number of decimal places written.
+   *
+   * @param text the price to parse
+   * @param currency the currency of the price, or null if unknown
+   * @return the amount, or null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a price or has more than 18 digits
+   */
+  public static Money parse(CharSequence text, Currency currency) {
+    return parse(text, currency, null);
+  }
+
+  /**
+   * Parses a price of a market like {@link #parse(CharSequence, Currency)}, also accepting the
+   * symbol of the market before the digits, such as {@code US$} in {@code US$1,234.50}.
+   *
+   * @param text the price to parse
+   * @param market the market of the price
+   * @return the amount in the currency of the market, or null if the text is null or empty
+   * @throws IllegalArgumentException if the text is not a price or has more than 18 digits
+   */
+  public static Money parse(CharSequence text, Market market) {
+    return parse(text, market.getCurrency(), market.getSymbol());
+  }
+
+  private static Money parse(CharSequence text, Currency currency, String symbol) {
+    Money amount = read(text, currency, symbol);
+    if (amount == outOfRange) {
+      throw new IllegalArgumentException("Amount out of range: " + text);
+    }
+    if (amount == invalid) {
+      throw new IllegalArgumentException("Invalid amount: " + text);
+    }
+    return amount;
+  }
+
+  /**
+   * Parses a price like {@link #parse(CharSequence, Currency)}, returning null instead of throwing
+   * when the text is not a price, for callers that report invalid values rather than fail.
+   *
+   * @param text the price to parse
+   * @param currency the currency of the price, or null if unknown
+   * @return the amount, or null if the text is null, empty, not a price or has more than 18 digits
+   */
+  public static Money tryParse(CharSequence text, Currency currency) {
+    return tryParse(text, currency, null);
+  }
+
+  /**
+   * Parses a price of a market like {@link #parse(CharSequence, Market)}, returning null instead of
+   * throwing when the text is not a price.
+   *
+   * @param text the price to parse
+   * @param market the market of the price
+   * @return the amount in the currency of the market, or null if the text is null, empty, not a
+   *     price or has more than 18 digits
+   */
+  public static Money tryParse(CharSequence text, Market market) {
+    return tryParse(text, market.getCurrency(), market.getSymbol());
+  }
+
+  private static Money tryParse(CharSequence text, Currency currency, String symbol) {
+    Money amount = read(text, currency, symbol);
+    return amount == outOfRange || amount == invalid ? null : amount;
+  }
+
+  /**
+   * Reads a price, returning one of the marker instances when the text is not a valid price. Before
+   * the digits, only an optional minus sign and one currency symbol are accepted, either the given
+   * symbol or a single currency symbol character, in any order and each followed by optional
+   * whitespace.
+   */
+  private static Money read(CharSequence text, Currency currency, String symbol) {
+    if (Objects.isNull(text) || text.isEmpty()) {
+      return null;
+    }
+    int length = text.length();
+    int i = skipWhitespace(text, 0);
+    boolean negative = false;
+    boolean symbolRead = false;
+    while (i < length) {
+      char c = text.charAt(i);
+      int end;
+      if (c == '-' && !negative) {
+        negative = true;
+        end = i + 1;
+      } else if (symbolRead) {
+        break;
+      } else if ((end = symbolEnd(text, i, symbol)) > i) {
+        symbolRead = true;
+      } else {
+        break;
+      }
+      i = skipWhitespace(text, end);
+    }
+    char c;
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < length; i++) {
+      c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        if (++digits > MAX_SCALE) {
+          return outOfRange;
+        }
+        unscaled = unscaled * 10 + (c - '0');
+        scale = scale < 0 ? scale : scale + 1;
+      } else if (c == '.' && scale < 0) {
+        scale = 0;
+      } else if (c != ',' || scale >= 0) {
+        break;
+      }
+    }
+    i = skipWhitespace(text, i);
+    if (digits == 0 || i < length) {
+      return invalid;
+    }
+    return new Money(negative ? -unscaled : unscaled, Math.max(scale, 0), currency);
+  }
+
+  /**
+   * Returns the index after the currency symbol starting at an index, or the index itself if there
+   * is none there. The symbol is either the given one or a single currency symbol character.
+   */
+  private static int symbolEnd(CharSequence text, int start, String symbol) {
+    if (Objects.nonNull(symbol) && text.length() - start >= symbol.length()) {
+      int i = 0;
+      while (i < symbol.length() && text.charAt(start + i) == symbol.charAt(i)) {
+        i++;
+      }
+      if (i == symbol.length()) {
+        return start + i;
+      }
+    }
+    return Character.getType(text.charAt(start)) == Character.CURRENCY_SYMBOL ? start + 1 : start;
+  }
+
+  private static int skipWhitespace(CharSequence text, int start) {
+    int i = start;
+    while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the amount as a number of units of 10<sup>-scale</sup> for another scale.
+   *
+   * @param scale the scale of the result, from 0 to 18
+   * @return the unscaled amount at the given scale
+   * @throws ArithmeticException if the amount has more decimal places than the scale or does not
+   *     fit a long at that scale
+   */
+  public long toUnscaled(int scale) {
+    if (scale == this.scale) {
+      return unscaledAmount;
+    }
+    if (scale > this.scale) {
+      return Math.multiplyExact(unscaledAmount, powersOfTen[scale - this.scale]);
+    }
+    long divisor = powersOfTen[this.scale - scale];
+    if (unscaledAmount % divisor != 0) {
+      throw new ArithmeticException("Rounding necessary for " + this + " at scale " + scale);
+    }
+    return unscaledAmount / divisor;
+  }
+
+  /**
+   * Returns the amount as a number of units of 10<sup>-scale</sup> for another scale, rounding the
+   * decimal places the scale cannot hold with the given mode. Amounts that fit the scale exactly
+   * are converted with primitive arithmetic.
+   *
+   * @param scale the scale of the result, from 0 to 18
+   * @param rounding the rounding mode applied to the dropped decimal places
+   * @return the unscaled amount at the given scale
+   * @throws ArithmeticException if the amount does not fit a long at that scale, or rounding is
+   *     necessary and the mode is {@link RoundingMode#UNNECESSARY}
+   */
+  public long toUnscaled(int scale, RoundingMode rounding) {
+    if (scale >= this.scale || unscaledAmount % powersOfTen[this.scale - scale] == 0) {
+      return toUnscaled(scale);
+    }
+    return BigDecimal.valueOf(unscaledAmount, this.scale)
+        .setScale(scale, rounding)
+        .unscaledValue()
+        .longValueExact();
+  }
+
+  /**
+   * Appends the amount as a price of the catalog sheets, the reverse of {@link #parse(CharSequence,
+   * Currency)}: a minus sign for negative amounts, the symbol, the integer digits with commas as
+   * grouping separators, and the decimal places of the scale, as in {@code ¥12,100} or {@code
+   * $1,234.50}. Nothing but the digits is allocated.
+   *
+   * @param symbol the currency symbol written before the digits
+   * @param out the builder to append to
+   */
+  public void formatTo(String symbol, StringBuilder out) {
+    if (unscaledAmount < 0) {
+      out.append('-');
+    }
+    out.append(symbol);
+    int start = out.length();
+    out.append(unscaledAmount);
+    if (unscaledAmount < 0) {
+      out.deleteCharAt(start);
+    }
+    while (out.length() - start <= scale) {
+      out.insert(start, '0');
+    }
+    int integerEnd = out.length() - scale;
+    if (scale > 0) {
+      out.insert(integerEnd, '.');
+    }
+    for (int i = integerEnd - 3; i > start; i -= 3) {
+      out.insert(i, ',');
+    }
+  }
+
+  /**
+   * Returns the amount as a BigDecimal with the same scale.
+   *
+   * @return the decimal value of the amount
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(unscaledAmount, scale);
+  }
+
+  /**
+   * Adds an amount of the same currency. The scale of the sum is the larger of both scales, and its
+   * currency is the currency of either amount, if any.
+   *
+   * @param other the amount to add
+   * @return the sum of both amounts
+   * @throws IllegalArgumentException if both amounts have a currency and the currencies differ
+   * @throws ArithmeticException if the sum does not fit a long
+   */
+  public Money plus(Money other) {
+    checkCurrency(other);
+    int sumScale = Math.max(scale, other.scale);
+    return new Money(
+        Math.addExact(toUnscaled(sumScale), other.toUnscaled(sumScale)),
+        sumScale,
+        Objects.isNull(currency) ? other.currency : currency);
+  }
+
+  /**
+   * Compares the values of two amounts of the same currency, ignoring their scales. An amount
+   * without a currency is compared as an amount of the currency of the other.
+   *
+   * @param other the amount to compare with
+   * @return a negative number, zero or a positive number if this amount is less than, equal to or
+   *     greater than the other
+   * @throws IllegalArgumentException if both amounts have a currency and the currencies differ
+   */
+  @Override
+  public int compareTo(Money other) {
+    checkCurrency(other);
+    if (scale == other.scale) {
+      return Long.compare(unscaledAmount, other.unscaledAmount);
+    }
+    int commonScale = Math.max(scale, other.scale);
+    try {
+      return Long.compare(toUnscaled(commonScale), other.toUnscaled(commonScale));
+    } catch (ArithmeticException e) {
+      return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+  }
+
+  private void checkCurrency(Money other) {
+    if (Objects.nonNull(currency)
+        && Objects.nonNull(other.currency)
+        && !currency.equals(other.currency)) {
+      throw new IllegalArgumentException(
+          "Currency mismatch: " + currency + " and " + other.currency);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    String amount = toBigDecimal().toPlainString();
+    return Objects.isNull(currency) ? amount : amount + " " + currency.getCurrencyCode();
+  }
+}
@@ -1,7 +1,18 @@
 package com.mesofi.myth.collection.core.model;
 
+import lombok.Getter;
+import lombok.Setter;
+
 /**
  * Represents a restock item in the collection system. Extends BaseFigurine to inherit common
  * figurine properties and behaviors.
+ *
+ * <p>A restock refers to the figurine it restocks by base name, which is used to link it to that
+ * figurine.
  */
-public class Restock extends BaseFigurine {}
+@Setter
+@Getter
+public class Restock extends BaseFigurine {
+
+  private String baseName;
+}
@@ -12,7 +12,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-public class SourceFigurine {
+public class SourceFigurine implements SourceRow {
   @CsvBindByName(required = true, column = "Base Name")
   private String baseName;
 
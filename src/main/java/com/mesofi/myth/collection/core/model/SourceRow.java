@@ -0,0 +1,210 @@
+package com.mesofi.myth.collection.core.model;
+
+/**
+ * Read-only view of the raw columns of a catalog row. SourceFigurine is the canonical
+ * implementation; readers that tokenize the source themselves can expose each column as a character
+ * sequence over their own buffers, so rows can be mapped without first materializing every column
+ * as a String.
+ *
+ * <p>Each method returns null when the column is not present in the source and an empty sequence
+ * when the column is present but empty. Returned sequences may be reused by the implementation and
+ * are only guaranteed to be valid until the next row is read.
+ */
+public interface SourceRow {
+
+  /**
+   * Returns the "Base Name" column.
+   *
+   * @return the base name of the figurine
+   */
+  CharSequence getBaseName();
+
+  /**
+   * Returns the "Price (JPY)" column.
+   *
+   * @return the price in yen, for example {@code ¥12,100}
+   */
+  CharSequence getPriceJPY();
+
+  /**
+   * Returns the "Announcement (JPY)" column.
+   *
+   * @return the announcement date in the Japanese market
+   */
+  CharSequence getAnnJPY();
+
+  /**
+   * Returns the "Preorder (JPY)" column.
+   *
+   * @return the pre-order date in the Japanese market
+   */
+  CharSequence getPreorderJPY();
+
+  /**
+   * Returns the "Release (JPY)" column.
+   *
+   * @return the release date in the Japanese market
+   */
+  CharSequence getReleaseJPY();
+
+  /**
+   * Returns the "Distributor (MXN)" column.
+   *
+   * @return the distributor code in the Mexican market
+   */
+  CharSequence getDistributorMXN();
+
+  /**
+   * Returns the "Price (MXN)" column.
+   *
+   * @return the price in Mexican pesos
+   */
+  CharSequence getPriceMXN();
+
+  /**
+   * Returns the "Preorder (MXN)" column.
+   *
+   * @return the pre-order date in the Mexican market
+   */
+  CharSequence getPreorderMXN();
+
+  /**
+   * Returns the "Release (MXN)" column.
+   *
+   * @return the release date in the Mexican market
+   */
+  CharSequence getReleaseMXN();
+
+  /**
+   * Returns the "Link" column.
+   *
+   * @return the Tamashii web page of the figurine
+   */
+  CharSequence getLink();
+
+  /**
+   * Returns the "Distribution" column.
+   *
+   * @return the distribution channel description
+   */
+  CharSequence getDist();
+
+  /**
+   * Returns the "LineUp" column.
+   *
+   * @return the line-up description
+   */
+  CharSequence getLineUp();
+
+  /**
+   * Returns the "Series" column.
+   *
+   * @return the series description
+   */
+  CharSequence getSeries();
+
+  /**
+   * Returns the "Group" column.
+   *
+   * @return the category description
+   */
+  CharSequence getGroup();
+
+  /**
+   * Returns the "Metal" column.
+   *
+   * @return {@code TRUE} if the figurine has metal parts
+   */
+  CharSequence getMetal();
+
+  /**
+   * Returns the "OCE" column.
+   *
+   * @return {@code TRUE} if the figurine is an original color edition
+   */
+  CharSequence getOce();
+
+  /**
+   * Returns the "Revival" column.
+   *
+   * @return {@code TRUE} if the figurine is a revival
+   */
+  CharSequence getRevival();
+
+  /**
+   * Returns the "PlainCloth" column.
+   *
+   * @return {@code TRUE} if the figurine is a plain cloth
+   */
+  CharSequence getPlainCloth();
+
+  /**
+   * Returns the "Broken" column.
+   *
+   * @return {@code TRUE} if the figurine is a broken version
+   */
+  CharSequence getBroken();
+
+  /**
+   * Returns the "Golden" column.
+   *
+   * @return {@code TRUE} if the figurine is a golden version
+   */
+  CharSequence getGolden();
+
+  /**
+   * Returns the "Gold" column.
+   *
+   * @return {@code TRUE} if the figurine is a gold version
+   */
+  CharSequence getGold();
+
+  /**
+   * Returns the "HK" column.
+   *
+   * @return {@code TRUE} if the figurine is a Hong Kong version
+   */
+  CharSequence getHk();
+
+  /**
+   * Returns the "Manga" column.
+   *
+   * @return {@code TRUE} if the figurine is a comic version
+   */
+  CharSequence getManga();
+
+  /**
+   * Returns the "Set" column.
+   *
+   * @return {@code TRUE} if the figurine is a set
+   */
+  CharSequence getSet();
+
+  /**
+   * Returns the "Anniversary" column.
+   *
+   * @return the anniversary description
+   */
+  CharSequence getAnniversary();
+
+  /**
+   * Returns the "Official Images" column.
+   *
+   * @return the comma-separated official image URLs
+   */
+  CharSequence getOfficialImages();
+
+  /**
+   * Returns the "Other Images" column.
+   *
+   * @return the comma-separated additional image URLs
+   */
+  CharSequence getOtherImages();
+
+  /**
+   * Returns the "Remarks" column.
+   *
+   * @return free-form remarks
+   */
+  CharSequence getRemarks();
+}
@@ -0,0 +1,362 @@
+package com.mesofi.myth.collection.core.rollup;
+
+import com.mesofi.myth.collection.core.catalog.ChangeSet;
+import com.mesofi.myth.collection.core.catalog.ColumnarCatalog;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Materialized rollup of a set of figurines: the figurines are grouped by a key, typically a
+ * combination of enum attributes and release months, and every group holds the number of figurines
+ * and the count and sum of their base prices in one market, from which averages are derived. For
+ * example:
+ *
+ * <pre>{@code
+ * CatalogRollup<List<Object>> releases =
+ *     new CatalogRollup<>(
+ *         CatalogRollup.by(CatalogRollup.releaseMonth(Market.JPY), Figurine::getCategory),
+ *         Market.JPY);
+ * CatalogRollup<LineUp> prices = new CatalogRollup<>(Figurine::getLineUp, Market.JPY);
+ * }</pre>
+ *
+ * <p>The groups are maintained incrementally instead of being rebuilt. The rollup remembers the key
+ * and price every figurine contributed, so a removed figurine is subtracted from the group it was
+ * added to, and a modified one is moved between groups by {@link #update(Figurine)} or {@link
+ * #apply(ChangeSet)}, even after its attributes changed. Groups whose last figurine leaves them are
+ * dropped. Figurines are tracked by identity.
+ *
+ * <p>The statistics of a group are plain counts and sums: they are built in a single pass, partial
+ * results computed in parallel by {@link #addAll(Collection, ForkJoinPool)} are merged by adding
+ * them, and a contribution is removed by subtracting it. Statistics that cannot be undone, such as
+ * minimum and maximum prices, are deliberately not kept.
+ *
+ * <p>A rollup is safe for concurrent use; updates and reads are serialized.
+ *
+ * @param <K> the type of the keys of the groups
+ */
+public class CatalogRollup<K> {
+
+  private static final int BATCH_THRESHOLD = 4096;
+
+  private final Function<Figurine, ? extends K> key;
+  private final Market market;
+
+  private final Map<K, Accumulator> groups = new HashMap<>();
+  private final Map<Figurine, Contribution<K>> contributions = new IdentityHashMap<>();
+
+  /**
+   * Creates an empty rollup.
+   *
+   * @param key the function computing the key of the group of a figurine; null keys are allowed
+   * @param market the market of the prices
+   */
+  public CatalogRollup(Function<Figurine, ? extends K> key, Market market) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.market = Objects.requireNonNull(market, "market");
+  }
+
+  /**
+   * Returns a key function reading the month of the release date of a figurine in a market.
+   *
+   * @param market the market of the distribution
+   * @return a function returning the release month, or null if the release date is unknown
+   */
+  public static Function<Figurine, YearMonth> releaseMonth(Market market) {
+    Objects.requireNonNull(market, "market");
+    return figurine -> {
+      Distribution distribution = figurine.getDistribution(market);
+      LocalDate date = Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+      return Objects.isNull(date) ? null : YearMonth.from(date);
+    };
+  }
+
+  /**
+   * Returns a key function combining several dimensions. The keys are lists of the values of the
+   * dimensions in the given order, null values included, and are equal when all values are equal.
+   *
+   * @param dimensions the functions reading the dimensions of a figurine
+   * @return a function returning the combined key of a figurine
+   */
+  @SafeVarargs
+  public static Function<Figurine, List<Object>> by(Function<Figurine, ?>... dimensions) {
+    List<Function<Figurine, ?>> copy = new ArrayList<>(dimensions.length);
+    for (Function<Figurine, ?> dimension : dimensions) {
+      copy.add(Objects.requireNonNull(dimension, "dimension"));
+    }
+    return figurine -> {
+      Object[] values = new Object[copy.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = copy.get(i).apply(figurine);
+      }
+      return Collections.unmodifiableList(Arrays.asList(values));
+    };
+  }
+
+  /**
+   * Adds a figurine to the rollup. A figurine already in the rollup is updated instead.
+   *
+   * @param figurine the figurine to add
+   */
+  public synchronized void add(Figurine figurine) {
+    update(figurine);
+  }
+
+  /**
+   * Adds the given figurines to the rollup. Figurines already in the rollup are updated instead.
+   *
+   * @param figurines the figurines to add
+   */
+  public synchronized void addAll(Collection<Figurine> figurines) {
+    for (Figurine figurine : figurines) {
+      update(figurine);
+    }
+  }
+
+  /**
+   * Adds the given figurines to the rollup, computing their contributions and partial groups in
+   * parallel on the given fork-join pool and merging the partial groups into the rollup. Figurines
+   * already in the rollup are updated instead.
+   *
+   * @param figurines the figurines to add
+   * @param pool the pool computing the contributions
+   */
+  public synchronized void addAll(Collection<Figurine> figurines, ForkJoinPool pool) {
+    List<Figurine> rows = new ArrayList<>(figurines.size());
+    for (Figurine figurine : figurines) {
+      Objects.requireNonNull(figurine, "figurine");
+      if (contributions.containsKey(figurine)) {
+        update(figurine);
+      } else {
+        rows.add(figurine);
+      }
+    }
+    List<Contribution<K>> computed = new ArrayList<>(Collections.nCopies(rows.size(), null));
+    Map<K, Accumulator> partial = pool.invoke(new BatchTask(rows, computed, 0, rows.size()));
+    partial.forEach((group, accumulator) -> groups.merge(group, accumulator, Accumulator::merge));
+    for (int i = 0; i < computed.size(); i++) {
+      Contribution<K> previous = contributions.put(rows.get(i), computed.get(i));
+      if (Objects.nonNull(previous)) {
+        // the same figurine was listed twice; only its last contribution is kept
+        subtract(previous);
+      }
+    }
+  }
+
+  /**
+   * Refreshes the contribution of a figurine whose attributes may have been modified, moving it to
+   * its current group. A figurine not in the rollup is added.
+   *
+   * @param figurine the figurine to refresh
+   * @return true if the key or the price of the figurine changed
+   */
+  public synchronized boolean update(Figurine figurine) {
+    Contribution<K> current = contribution(Objects.requireNonNull(figurine, "figurine"));
+    Contribution<K> previous = contributions.put(figurine, current);
+    if (current.equals(previous)) {
+      return false;
+    }
+    if (Objects.nonNull(previous)) {
+      subtract(previous);
+    }
+    groups.computeIfAbsent(current.key, k -> new Accumulator()).add(current);
+    return true;
+  }
+
+  /**
+   * Removes a figurine from the rollup, subtracting the contribution it was last added with.
+   *
+   * @param figurine the figurine to remove
+   * @return true if the figurine was removed, false if it was not in the rollup
+   */
+  public synchronized boolean remove(Figurine figurine) {
+    Contribution<K> previous = contributions.remove(figurine);
+    if (Objects.isNull(previous)) {
+      return false;
+    }
+    subtract(previous);
+    return true;
+  }
+
+  /**
+   * Applies the changes of an incremental import: removed figurines are subtracted, modified ones
+   * are replaced by their current figurine, and added ones are added.
+   *
+   * @param changes the changes to apply
+   */
+  public synchronized void apply(ChangeSet changes) {
+    for (ChangeSet.Modification modification : changes.getModified()) {
+      remove(modification.getPrevious());
+      update(modification.getCurrent());
+    }
+    changes.getAdded().forEach(this::update);
+    changes.getRemoved().forEach(this::remove);
+  }
+
+  /**
+   * Returns the statistics of one group.
+   *
+   * @param group the key of the group
+   * @return the statistics of the group, or null if no figurine has that key
+   */
+  public synchronized RollupStatistics get(K group) {
+    Accumulator accumulator = groups.get(group);
+    return Objects.isNull(accumulator) ? null : accumulator.snapshot();
+  }
+
+  /**
+   * Returns the statistics of every group.
+   *
+   * @return an unmodifiable copy of the statistics by key
+   */
+  public synchronized Map<K, RollupStatistics> snapshot() {
+    Map<K, RollupStatistics> result = new HashMap<>(groups.size() * 2);
+    groups.forEach((group, accumulator) -> result.put(group, accumulator.snapshot()));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Returns the number of figurines in the rollup.
+   *
+   * @return the number of figurines
+   */
+  public synchronized int size() {
+    return contributions.size();
+  }
+
+  private void subtract(Contribution<K> contribution) {
+    Accumulator accumulator = groups.get(contribution.key);
+    accumulator.remove(contribution);
+    if (accumulator.count == 0) {
+      groups.remove(contribution.key);
+    }
+  }
+
+  /**
+   * Computes the key and price a figurine contributes.
+   *
+   * @throws IllegalArgumentException if the price does not fit in a long once scaled
+   */
+  private Contribution<K> contribution(Figurine figurine) {
+    Distribution distribution = figurine.getDistribution(market);
+    Money price = Objects.isNull(distribution) ? null : distribution.getBaseMoney();
+    if (Objects.isNull(price)) {
+      return new Contribution<>(key.apply(figurine), false, 0);
+    }
+    try {
+      return new Contribution<>(
+          key.apply(figurine),
+          true,
+          price.toUnscaled(ColumnarCatalog.PRICE_SCALE, ColumnarCatalog.priceRounding));
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Invalid price for a rollup: " + price, e);
+    }
+  }
+
+  /** The key and the price a figurine was added with. */
+  @EqualsAndHashCode
+  private static final class Contribution<K> {
+
+    private final K key;
+    private final boolean priced;
+    private final long price;
+
+    Contribution(K key, boolean priced, long price) {
+      this.key = key;
+      this.priced = priced;
+      this.price = price;
+    }
+  }
+
+  /** Running counts and sums of a group, to which contributions are added and subtracted. */
+  private static final class Accumulator {
+
+    private long count;
+    private long pricedCount;
+    private long priceSum;
+
+    void add(Contribution<?> contribution) {
+      count++;
+      if (contribution.priced) {
+        pricedCount++;
+        priceSum += contribution.price;
+      }
+    }
+
+    void remove(Contribution<?> contribution) {
+      count--;
+      if (contribution.priced) {
+        pricedCount--;
+        priceSum -= contribution.price;
+      }
+    }
+
+    Accumulator merge(Accumulator other) {
+      count += other.count;
+      pricedCount += other.pricedCount;
+      priceSum += other.priceSum;
+      return this;
+    }
+
+    RollupStatistics snapshot() {
+      return new RollupStatistics(count, pricedCount, priceSum);
+    }
+  }
+
+  /** Fork-join task computing the contributions and partial groups of a range of figurines. */
+  private class BatchTask extends RecursiveTask<Map<K, Accumulator>> {
+
+    private final List<Figurine> rows;
+
+    /** The contributions of the rows, set by index by the tasks of disjoint ranges. */
+    private final List<Contribution<K>> computed;
+
+    private final int from;
+    private final int to;
+
+    BatchTask(List<Figurine> rows, List<Contribution<K>> computed, int from, int to) {
+      this.rows = rows;
+      this.computed = computed;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Map<K, Accumulator> compute() {
+      if (to - from <= BATCH_THRESHOLD) {
+        Map<K, Accumulator> partial = new HashMap<>();
+        for (int i = from; i < to; i++) {
+          Contribution<K> contribution = contribution(rows.get(i));
+          computed.set(i, contribution);
+          partial.computeIfAbsent(contribution.key, k -> new Accumulator()).add(contribution);
+        }
+        return partial;
+      }
+      int middle = (from + to) >>> 1;
+      BatchTask left = new BatchTask(rows, computed, from, middle);
+      BatchTask right = new BatchTask(rows, computed, middle, to);
+      right.fork();
+      Map<K, Accumulator> lower = left.compute();
+      right
+          .join()
+          .forEach((group, accumulator) -> lower.merge(group, accumulator, Accumulator::merge));
+      return lower;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.mesofi.myth.collection.core.rollup;
+
+import com.mesofi.myth.collection.core.catalog.ColumnarCatalog;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Immutable statistics of one group of a CatalogRollup: the number of figurines in the group, and
+ * the number and total of the base prices the group has in the market of the rollup. Prices are
+ * held in units of 10<sup>-{@value ColumnarCatalog#PRICE_SCALE}</sup> of the currency of the
+ * market; prices with more decimal places are rounded with {@link ColumnarCatalog#priceRounding}.
+ */
+@Getter
+@EqualsAndHashCode
+public final class RollupStatistics {
+
+  /** The number of figurines in the group. */
+  private final long count;
+
+  /** The number of figurines of the group having a base price in the market. */
+  private final long pricedCount;
+
+  /** The sum of the base prices, in units of 10<sup>-2</sup> of the currency. */
+  private final long priceSum;
+
+  RollupStatistics(long count, long pricedCount, long priceSum) {
+    this.count = count;
+    this.pricedCount = pricedCount;
+    this.priceSum = priceSum;
+  }
+
+  /**
+   * Returns the sum of the base prices.
+   *
+   * @return the total price, zero if no figurine of the group has a price
+   */
+  public BigDecimal getTotalPrice() {
+    return ColumnarCatalog.toDecimal(priceSum);
+  }
+
+  /**
+   * Returns the average of the base prices, rounded half-even to the scale of the prices.
+   *
+   * @return the average price, or null if no figurine of the group has a price
+   */
+  public BigDecimal getAveragePrice() {
+    if (pricedCount == 0) {
+      return null;
+    }
+    return getTotalPrice().divide(BigDecimal.valueOf(pricedCount), RoundingMode.HALF_EVEN);
+  }
+
+  @Override
+  public String toString() {
+    return count + " figurines, " + pricedCount + " priced, total " + getTotalPrice();
+  }
+}
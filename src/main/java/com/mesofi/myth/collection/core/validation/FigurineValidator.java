@@ -0,0 +1,471 @@
+package com.mesofi.myth.collection.core.validation;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Checks the Jakarta Bean Validation constraints declared on Figurine and the classes it cascades
+ * to with {@code @Valid}, without a Bean Validation provider. The constraint annotations are read
+ * once, when the validator is created, and compiled into a plan of property checks; validating a
+ * figurine then only reads its properties and tests their values, with no reflection.
+ *
+ * <p>Properties are read through their getter, bound with LambdaMetafactory, or directly from the
+ * field when the getter exposes a different type, as the BigDecimal views of Distribution prices
+ * do. {@code @NotNull}, {@code @NotBlank}, {@code @NotEmpty} and {@code @Size} constraints of the
+ * default group are supported, and {@code @Valid} cascades into objects, the elements of
+ * collections and the values of maps. Constraints of other groups are ignored, and any other
+ * constraint fails the creation of the validator with an IllegalArgumentException rather than being
+ * skipped silently. Messages are the default English messages of Bean Validation unless the
+ * constraint sets its own.
+ *
+ * <p>A validator is immutable and safe for concurrent use.
+ */
+public class FigurineValidator {
+
+  /** The number of figurines above which a batch is split between fork-join tasks. */
+  static final int BATCH_THRESHOLD = 256;
+
+  private final Plan plan;
+
+  /**
+   * Creates a validator, compiling the constraints of Figurine and of the classes it cascades to.
+   *
+   * @throws IllegalArgumentException if a constraint is not supported or is declared on a property
+   *     of an unsupported type
+   */
+  public FigurineValidator() {
+    this(Figurine.class);
+  }
+
+  /**
+   * Creates a validator of a subclass of Figurine, compiling the constraints it declares along with
+   * those it inherits, so that tests can declare constraints the model does not use.
+   *
+   * @param type the class whose constraints are checked
+   * @throws IllegalArgumentException if a constraint is not supported or is declared on a property
+   *     of an unsupported type
+   */
+  FigurineValidator(Class<? extends Figurine> type) {
+    this.plan = compile(type, new HashMap<>());
+  }
+
+  /**
+   * Validates a figurine.
+   *
+   * @param figurine the figurine to validate
+   * @return the violations of the figurine, empty if it is valid
+   */
+  public List<Violation> validate(Figurine figurine) {
+    Objects.requireNonNull(figurine, "figurine");
+    List<Violation> violations = new ArrayList<>(0);
+    plan.check(figurine, "", violations);
+    return violations;
+  }
+
+  /**
+   * Validates a batch of figurines in parallel using the common fork-join pool. See {@link
+   * #validateAll(Collection, ForkJoinPool)}.
+   *
+   * @param figurines the figurines to validate
+   * @return one result per invalid figurine, in the iteration order of the given collection
+   */
+  public List<ValidationResult> validateAll(Collection<Figurine> figurines) {
+    return validateAll(figurines, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Validates a batch of figurines in parallel on the given fork-join pool. The batch is split into
+   * chunks that are validated independently, and every violation of every figurine is reported.
+   *
+   * @param figurines the figurines to validate
+   * @param pool the pool used to run the validation tasks
+   * @return one result per invalid figurine, in the iteration order of the given collection
+   */
+  public List<ValidationResult> validateAll(Collection<Figurine> figurines, ForkJoinPool pool) {
+    List<Figurine> rows = new ArrayList<>(figurines);
+    ValidationResult[] results = new ValidationResult[rows.size()];
+    pool.invoke(new BatchTask(rows, results, 0, rows.size()));
+    List<ValidationResult> invalid = new ArrayList<>();
+    for (ValidationResult result : results) {
+      if (Objects.nonNull(result)) {
+        invalid.add(result);
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * Compiles the constraints declared on the fields of a class and its superclasses. Plans are
+   * registered before their properties are compiled, so cyclic cascades end.
+   */
+  private static Plan compile(Class<?> type, Map<Class<?>, Plan> plans) {
+    Plan plan = plans.get(type);
+    if (Objects.nonNull(plan)) {
+      return plan;
+    }
+    plan = new Plan();
+    plans.put(type, plan);
+    List<Property> properties = new ArrayList<>();
+    for (Class<?> owner = type; owner != Object.class; owner = owner.getSuperclass()) {
+      for (Field field : owner.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        List<Constraint> constraints = new ArrayList<>();
+        boolean cascade = false;
+        for (Annotation annotation : field.getAnnotations()) {
+          if (annotation instanceof Valid) {
+            cascade = true;
+          } else if (annotation
+              .annotationType()
+              .getPackageName()
+              .equals(NotNull.class.getPackageName())) {
+            Constraint constraint = constraint(annotation, field);
+            if (Objects.nonNull(constraint)) {
+              constraints.add(constraint);
+            }
+          }
+        }
+        Class<?> target = cascade ? cascadeTarget(field) : null;
+        if (constraints.isEmpty() && Objects.isNull(target)) {
+          continue;
+        }
+        properties.add(
+            new Property(
+                field.getName(),
+                accessor(owner, field),
+                constraints.toArray(new Constraint[0]),
+                Objects.isNull(target) ? null : compile(target, plans),
+                Collection.class.isAssignableFrom(field.getType())
+                    || Map.class.isAssignableFrom(field.getType())));
+      }
+    }
+    plan.properties = properties.toArray(new Property[0]);
+    return plan;
+  }
+
+  /**
+   * Returns the class whose constraints a {@code @Valid} field cascades to, or null if that class
+   * cannot declare constraints, as enums and JDK classes. Collections cascade to their elements and
+   * maps to their values.
+   */
+  private static Class<?> cascadeTarget(Field field) {
+    Class<?> type = field.getType();
+    if (Collection.class.isAssignableFrom(type)
+        && field.getGenericType() instanceof ParameterizedType parameterized
+        && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+      type = element;
+    } else if (Map.class.isAssignableFrom(type)
+        && mapValueType(field.getGenericType()) instanceof Class<?> value) {
+      type = value;
+    } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+      throw new IllegalArgumentException("Unsupported @Valid container on " + describe(field));
+    }
+    return type.isEnum() || type.isPrimitive() || type.getName().startsWith("java.") ? null : type;
+  }
+
+  /**
+   * Returns the type of the values of a map type, declared either as its own type arguments, such
+   * as {@code Map<Market, Distribution>}, or by a superclass of a map class, such as {@code
+   * AbstractMap<Market, Distribution>}.
+   */
+  private static Type mapValueType(Type type) {
+    if (type instanceof ParameterizedType parameterized
+        && parameterized.getRawType() instanceof Class<?> raw
+        && Map.class.isAssignableFrom(raw)
+        && parameterized.getActualTypeArguments().length == 2) {
+      return parameterized.getActualTypeArguments()[1];
+    }
+    if (type instanceof Class<?> owner && Objects.nonNull(owner.getGenericSuperclass())) {
+      return mapValueType(owner.getGenericSuperclass());
+    }
+    return null;
+  }
+
+  /** Compiles a constraint annotation, or returns null if it belongs to a non-default group. */
+  private static Constraint constraint(Annotation annotation, Field field) {
+    Class<?> type = field.getType();
+    return switch (annotation) {
+      case NotNull notNull -> isDefaultGroup(notNull.groups())
+          ? new Constraint(
+              "NotNull", message(notNull.message(), "must not be null"), Objects::nonNull)
+          : null;
+      case NotBlank notBlank -> {
+        requireType(annotation, field, CharSequence.class.isAssignableFrom(type));
+        yield isDefaultGroup(notBlank.groups())
+            ? new Constraint(
+                "NotBlank",
+                message(notBlank.message(), "must not be blank"),
+                value -> Objects.nonNull(value) && !isBlank((CharSequence) value))
+            : null;
+      }
+      case NotEmpty notEmpty -> {
+        requireType(annotation, field, isSized(type));
+        yield isDefaultGroup(notEmpty.groups())
+            ? new Constraint(
+                "NotEmpty",
+                message(notEmpty.message(), "must not be empty"),
+                value -> Objects.nonNull(value) && size(value) > 0)
+            : null;
+      }
+      case Size size -> {
+        requireType(annotation, field, isSized(type));
+        int min = size.min();
+        int max = size.max();
+        String message =
+            message(size.message(), "size must be between {min} and {max}")
+                .replace("{min}", String.valueOf(min))
+                .replace("{max}", String.valueOf(max));
+        yield isDefaultGroup(size.groups())
+            ? new Constraint(
+                "Size",
+                message,
+                value -> Objects.isNull(value) || size(value) >= min && size(value) <= max)
+            : null;
+      }
+      default -> throw new IllegalArgumentException(
+          "Unsupported constraint @"
+              + annotation.annotationType().getSimpleName()
+              + " on "
+              + describe(field));
+    };
+  }
+
+  /**
+   * Binds a function reading a field. The getter of the field is bound with LambdaMetafactory when
+   * it returns the type of the field; otherwise the field is read through a method handle.
+   */
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> accessor(Class<?> owner, Field field) {
+    String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+    Method getter = getter(owner, "get" + suffix, field.getType());
+    if (Objects.isNull(getter)) {
+      getter = getter(owner, "is" + suffix, field.getType());
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      if (Objects.isNull(getter)) {
+        MethodHandle handle =
+            MethodHandles.privateLookupIn(owner, lookup)
+                .unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+          try {
+            return handle.invokeExact(bean);
+          } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read " + describe(field), e);
+          }
+        };
+      }
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "apply",
+              MethodType.methodType(Function.class),
+              MethodType.methodType(Object.class, Object.class),
+              lookup.unreflect(getter),
+              MethodType.methodType(
+                  MethodType.methodType(getter.getReturnType()).wrap().returnType(), owner));
+      return (Function<Object, Object>) site.getTarget().invokeExact();
+    } catch (Throwable e) {
+      throw new IllegalArgumentException("Cannot access " + describe(field), e);
+    }
+  }
+
+  private static Method getter(Class<?> owner, String name, Class<?> type) {
+    try {
+      Method method = owner.getMethod(name);
+      return method.getReturnType() == type ? method : null;
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static boolean isDefaultGroup(Class<?>[] groups) {
+    return groups.length == 0;
+  }
+
+  private static String message(String message, String defaultMessage) {
+    return message.startsWith("{jakarta.validation.constraints.") ? defaultMessage : message;
+  }
+
+  private static void requireType(Annotation annotation, Field field, boolean supported) {
+    if (!supported) {
+      throw new IllegalArgumentException(
+          "Constraint @"
+              + annotation.annotationType().getSimpleName()
+              + " does not apply to "
+              + describe(field));
+    }
+  }
+
+  private static boolean isSized(Class<?> type) {
+    return CharSequence.class.isAssignableFrom(type)
+        || Collection.class.isAssignableFrom(type)
+        || Map.class.isAssignableFrom(type)
+        || type.isArray();
+  }
+
+  private static int size(Object value) {
+    return switch (value) {
+      case CharSequence text -> text.length();
+      case Collection<?> collection -> collection.size();
+      case Map<?, ?> map -> map.size();
+      default -> Array.getLength(value);
+    };
+  }
+
+  private static boolean isBlank(CharSequence value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (!Character.isWhitespace(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String describe(Field field) {
+    return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+  }
+
+  /** The compiled constraints of a class. */
+  private static final class Plan {
+
+    private Property[] properties;
+
+    void check(Object bean, String prefix, List<Violation> violations) {
+      for (Property property : properties) {
+        property.check(bean, prefix, violations);
+      }
+    }
+  }
+
+  /** A property with its constraints and, when it cascades, the plan of its value. */
+  private static final class Property {
+
+    private final String name;
+    private final Function<Object, Object> accessor;
+    private final Constraint[] constraints;
+    private final Plan cascade;
+    private final boolean container;
+
+    Property(
+        String name,
+        Function<Object, Object> accessor,
+        Constraint[] constraints,
+        Plan cascade,
+        boolean container) {
+      this.name = name;
+      this.accessor = accessor;
+      this.constraints = constraints;
+      this.cascade = cascade;
+      this.container = container;
+    }
+
+    void check(Object bean, String prefix, List<Violation> violations) {
+      Object value = accessor.apply(bean);
+      for (Constraint constraint : constraints) {
+        if (!constraint.test.test(value)) {
+          violations.add(new Violation(prefix + name, constraint.name, constraint.message, value));
+        }
+      }
+      if (Objects.isNull(cascade) || Objects.isNull(value)) {
+        return;
+      }
+      if (container && value instanceof Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          if (Objects.nonNull(entry.getValue())) {
+            cascade.check(
+                entry.getValue(), prefix + name + "[" + entry.getKey() + "].", violations);
+          }
+        }
+      } else if (container) {
+        int index = 0;
+        for (Object element : (Collection<?>) value) {
+          if (Objects.nonNull(element)) {
+            cascade.check(element, prefix + name + "[" + index + "].", violations);
+          }
+          index++;
+        }
+      } else {
+        cascade.check(value, prefix + name + ".", violations);
+      }
+    }
+  }
+
+  /** A compiled constraint: its name, its message and the test of a value. */
+  private static final class Constraint {
+
+    private final String name;
+    private final String message;
+    private final Predicate<Object> test;
+
+    Constraint(String name, String message, Predicate<Object> test) {
+      this.name = name;
+      this.message = message;
+      this.test = test;
+    }
+  }
+
+  /**
+   * Fork-join task that validates a contiguous range of a batch, splitting it in halves until the
+   * range is small enough to be validated directly. Each task writes to its own slots of the shared
+   * results array, which keeps the original row order without any further merging.
+   */
+  private class BatchTask extends RecursiveAction {
+
+    private final List<Figurine> rows;
+    private final ValidationResult[] results;
+    private final int from;
+    private final int to;
+
+    BatchTask(List<Figurine> rows, ValidationResult[] results, int from, int to) {
+      this.rows = rows;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= BATCH_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          List<Violation> violations = validate(rows.get(i));
+          if (!violations.isEmpty()) {
+            results[i] = new ValidationResult(i, rows.get(i), violations);
+          }
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new BatchTask(rows, results, from, middle), new BatchTask(rows, results, middle, to));
+      }
+    }
+  }
+}
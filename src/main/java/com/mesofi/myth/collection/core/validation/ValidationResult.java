@@ -0,0 +1,34 @@
+package com.mesofi.myth.collection.core.validation;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Outcome of validating a single figurine of a batch: the figurine, its position in the batch and
+ * every constraint it violates.
+ */
+@Getter
+public final class ValidationResult {
+
+  /** Zero-based position of the figurine in the batch. */
+  private final int row;
+
+  private final Figurine figurine;
+  private final List<Violation> violations;
+
+  ValidationResult(int row, Figurine figurine, List<Violation> violations) {
+    this.row = row;
+    this.figurine = figurine;
+    this.violations = List.copyOf(violations);
+  }
+
+  /**
+   * Indicates whether the figurine satisfies every constraint.
+   *
+   * @return true if there is no violation
+   */
+  public boolean isValid() {
+    return violations.isEmpty();
+  }
+}
@@ -0,0 +1,36 @@
+package com.mesofi.myth.collection.core.validation;
+
+import lombok.Getter;
+
+/**
+ * A constraint that a value of a figurine does not satisfy, such as a blank base name or a
+ * distribution without a release date.
+ */
+@Getter
+public final class Violation {
+
+  /** The property path of the value, such as {@code distributions[JPY].releaseDate}. */
+  private final String path;
+
+  /** The simple name of the constraint annotation, such as {@code NotNull}. */
+  private final String constraint;
+
+  /** The description of the violation. */
+  private final String message;
+
+  /** The value that violates the constraint. */
+  private final Object invalidValue;
+
+  Violation(String path, String constraint, String message, Object invalidValue) {
+    this.path = path;
+    this.constraint = constraint;
+    this.message = message;
+    this.invalidValue = invalidValue;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return path + ": " + message;
+  }
+}
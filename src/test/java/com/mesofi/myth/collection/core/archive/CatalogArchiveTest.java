@@ -0,0 +1,107 @@
+package com.mesofi.myth.collection.core.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.testing.FigurineFixtures;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CatalogArchiveTest {
+
+  @TempDir Path directory;
+
+  private final CatalogArchive archive = new CatalogArchive();
+
+  @Test
+  void readsWhatItWrites() throws IOException {
+    List<Figurine> figurines = FigurineFixtures.catalog(2_000);
+    Path path = directory.resolve("catalog.bin");
+
+    archive.write(figurines, path);
+
+    assertEquals(FigurineSnapshot.of(figurines), FigurineSnapshot.of(archive.read(path)));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(List.of(path), files.toList());
+    }
+  }
+
+  @Test
+  void readsAnEmptyCatalog() throws IOException {
+    Path path = directory.resolve("empty.bin");
+
+    archive.write(List.of(), path);
+
+    assertTrue(archive.read(path).isEmpty());
+  }
+
+  @Test
+  void replacesAnExistingArchive() throws IOException {
+    Path path = directory.resolve("catalog.bin");
+    archive.write(FigurineFixtures.catalog(10), path);
+    List<Figurine> figurines = FigurineFixtures.catalog(3);
+
+    archive.write(figurines, path);
+
+    assertEquals(FigurineSnapshot.of(figurines), FigurineSnapshot.of(archive.read(path)));
+  }
+
+  @Test
+  void rejectsACorruptedArchive() throws IOException {
+    Path path = directory.resolve("catalog.bin");
+    archive.write(FigurineFixtures.catalog(50), path);
+    byte[] bytes = Files.readAllBytes(path);
+
+    for (int position : new int[] {6, bytes.length / 2, bytes.length - 5, bytes.length - 1}) {
+      byte[] corrupted = bytes.clone();
+      corrupted[position] ^= 0x10;
+      Files.write(path, corrupted);
+
+      CatalogFormatException e =
+          assertThrows(CatalogFormatException.class, () -> archive.read(path));
+      assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+    }
+  }
+
+  @Test
+  void rejectsAnotherVersionOrFormat() throws IOException {
+    Path path = directory.resolve("catalog.bin");
+    archive.write(FigurineFixtures.catalog(5), path);
+    byte[] bytes = Files.readAllBytes(path);
+
+    byte[] older = bytes.clone();
+    ByteBuffer.wrap(older).putShort(4, (short) (CatalogArchive.VERSION - 1));
+    Files.write(path, older);
+    CatalogFormatException version =
+        assertThrows(CatalogFormatException.class, () -> archive.read(path));
+    assertTrue(version.getMessage().contains("version"), version.getMessage());
+
+    byte[] foreign = bytes.clone();
+    ByteBuffer.wrap(foreign).putInt(0, 0x504B0304);
+    Files.write(path, foreign);
+    assertThrows(CatalogFormatException.class, () -> archive.read(path));
+  }
+
+  @Test
+  void rejectsATruncatedArchive() throws IOException {
+    Path path = directory.resolve("catalog.bin");
+    archive.write(FigurineFixtures.catalog(5), path);
+    byte[] bytes = Files.readAllBytes(path);
+
+    for (int length : new int[] {0, 3, 9, bytes.length - 1}) {
+      Files.write(path, Arrays.copyOf(bytes, length));
+
+      assertThrows(CatalogFormatException.class, () -> archive.read(path));
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.mesofi.myth.collection.core.benchmark;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Describable;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.bean.CsvBindByName;
+import java.lang.reflect.Field;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Deterministic generator of synthetic catalog rows for benchmarks and tests. The generated rows
+ * follow the shape of the real catalog sheets: full and partial dates, yen prices with grouping
+ * separators such as {@code ¥12,100}, MXN prices, comma-separated image lists and rows without any
+ * JPY or MXN distribution data. The same seed always produces the same catalog, which keeps
+ * benchmark runs and tests reproducible.
+ */
+public class CatalogGenerator {
+
+  private static final String[] CHARACTERS = {
+    "Pegasus Seiya", "Dragon Shiryu", "Cygnus Hyoga", "Andromeda Shun", "Phoenix Ikki",
+    "Aries Mu", "Taurus Aldebaran", "Gemini Saga", "Cancer Deathmask", "Leo Aiolia",
+    "Virgo Shaka", "Libra Dohko", "Scorpio Milo", "Sagittarius Aiolos", "Capricorn Shura",
+    "Aquarius Camus", "Pisces Aphrodite", "Poseidon", "Hades", "Athena"
+  };
+
+  private static final String[] SUFFIXES = {"", " V2", " V3", " OCE", " Revival", " EX"};
+
+  private static final String IMAGE_PREFIX = "https://imagizer.imageshack.com/img92";
+
+  private final Random random;
+  private final DecimalFormat grouping =
+      new DecimalFormat("#,##0", DecimalFormatSymbols.getInstance(Locale.US));
+
+  /**
+   * Creates a generator with the given seed.
+   *
+   * @param seed the seed of the pseudo-random sequence
+   */
+  public CatalogGenerator(long seed) {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * Generates the given number of rows.
+   *
+   * @param rows the number of rows to generate
+   * @return the generated rows
+   */
+  public List<SourceFigurine> generate(int rows) {
+    List<SourceFigurine> catalog = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      catalog.add(next());
+    }
+    return catalog;
+  }
+
+  /**
+   * Generates a single row.
+   *
+   * @return the generated row
+   */
+  public SourceFigurine next() {
+    SourceFigurine row = new SourceFigurine();
+    row.setBaseName(pick(CHARACTERS) + pick(SUFFIXES));
+    if (chance(0.9)) {
+      row.setPriceJPY(chance(0.05) ? "¥0" : "¥" + grouping.format(price(5_000, 40_000)));
+      row.setAnnJPY(optionalDate(0.7, 0.1));
+      row.setPreorderJPY(optionalDate(0.8, 0.1));
+      row.setReleaseJPY(optionalDate(0.9, 0.3));
+    }
+    if (chance(0.4)) {
+      row.setDistributorMXN(chance(0.5) ? "DAM" : "DTM");
+      row.setPriceMXN("$" + grouping.format(price(1_500, 9_000)) + (chance(0.3) ? ".50" : ""));
+      row.setPreorderMXN(optionalDate(0.7, 0.1));
+      row.setReleaseMXN(optionalDate(0.8, 0.3));
+    }
+    row.setLink("https://tamashiiweb.com/item/" + (10_000 + random.nextInt(5_000)));
+    row.setDist(description(DistributionChannel.values()));
+    row.setLineUp(description(LineUp.values()));
+    row.setSeries(description(Series.values()));
+    row.setGroup(description(Category.values()));
+    row.setMetal(flag(0.1));
+    row.setOce(flag(0.1));
+    row.setRevival(flag(0.2));
+    row.setPlainCloth(flag(0.05));
+    row.setBroken(flag(0.05));
+    row.setGolden(flag(0.05));
+    row.setGold(flag(0.05));
+    row.setHk(flag(0.1));
+    row.setManga(flag(0.05));
+    row.setSet(flag(0.05));
+    row.setAnniversary(chance(0.1) ? description(Anniversary.values()) : "");
+    row.setOfficialImages(images(1 + random.nextInt(6)));
+    row.setOtherImages(chance(0.5) ? images(random.nextInt(4)) : "");
+    row.setRemarks(chance(0.2) ? "Includes effect parts and display stand" : "");
+    return row;
+  }
+
+  /**
+   * Writes the given rows as CSV text, with a header row taken from the {@link CsvBindByName}
+   * annotations of SourceFigurine.
+   *
+   * @param rows the rows to write
+   * @return the CSV text
+   */
+  public static String toCsv(List<SourceFigurine> rows) {
+    List<Field> fields = new ArrayList<>();
+    StringJoiner header = new StringJoiner(",", "", "\n");
+    for (Field field : SourceFigurine.class.getDeclaredFields()) {
+      CsvBindByName binding = field.getAnnotation(CsvBindByName.class);
+      if (binding != null) {
+        field.setAccessible(true);
+        fields.add(field);
+        header.add(binding.column());
+      }
+    }
+    StringBuilder csv = new StringBuilder(header.toString());
+    for (SourceFigurine row : rows) {
+      StringJoiner line = new StringJoiner(",", "", "\n");
+      for (Field field : fields) {
+        line.add(quote(read(field, row)));
+      }
+      csv.append(line);
+    }
+    return csv.toString();
+  }
+
+  private static String read(Field field, SourceFigurine row) {
+    try {
+      Object value = field.get(row);
+      return value == null ? "" : value.toString();
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String quote(String value) {
+    return value.indexOf(',') < 0 && value.indexOf('"') < 0
+        ? value
+        : '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private String optionalDate(double presence, double partial) {
+    if (!chance(presence)) {
+      return "";
+    }
+    int month = 1 + random.nextInt(12);
+    int year = 2003 + random.nextInt(23);
+    return chance(partial)
+        ? month + "/" + year
+        : month + "/" + (1 + random.nextInt(28)) + "/" + year;
+  }
+
+  private String images(int count) {
+    StringJoiner images = new StringJoiner(",");
+    for (int i = 0; i < count; i++) {
+      images.add(
+          IMAGE_PREFIX
+              + random.nextInt(10)
+              + "/"
+              + random.nextInt(10_000)
+              + "/"
+              + Integer.toHexString(random.nextInt())
+              + ".jpg");
+    }
+    return images.toString();
+  }
+
+  private int price(int min, int max) {
+    return (min + random.nextInt(max - min)) / 100 * 100;
+  }
+
+  private String flag(double probability) {
+    return chance(probability) ? "TRUE" : "FALSE";
+  }
+
+  private boolean chance(double probability) {
+    return random.nextDouble() < probability;
+  }
+
+  private String description(Describable[] values) {
+    return pick(values).getDescription();
+  }
+
+  private <T> T pick(T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
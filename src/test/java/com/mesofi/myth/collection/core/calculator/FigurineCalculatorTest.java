@@ -0,0 +1,180 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class FigurineCalculatorTest {
+
+  private static final LocalDate today = LocalDate.of(2025, 6, 15);
+
+  private final FigurineCalculator calculator = new FigurineCalculator();
+
+  @ParameterizedTest
+  @CsvSource({
+    ",,,, PROTOTYPE",
+    "2024-01-10,,,, UNRELEASED",
+    ",, 2025-06-15, true, RELEASED",
+    ",, 2025-06-16, true, FUTURE_RELEASE",
+    ",, 2025-05-01, false, RELEASED",
+    ",, 2025-06-01, false, RELEASE_TBD",
+    ",, 2025-06-01,, RELEASE_TBD"
+  })
+  void derivesTheStatusFromTheDates(
+      LocalDate announced,
+      LocalDate preOrder,
+      LocalDate release,
+      Boolean confirmed,
+      Status status) {
+    Distribution distribution = new Distribution();
+    distribution.setFirstAnnouncementDate(announced);
+    distribution.setPreOrderDate(preOrder);
+    distribution.setReleaseDate(release);
+    distribution.setReleaseDateConfirmed(confirmed);
+    Figurine figurine = new Figurine();
+    figurine.setDistribution(Market.JPY, distribution);
+
+    assertEquals(status, FigurineCalculator.status(figurine, today));
+  }
+
+  @Test
+  void derivesTheStatusFromTheFirstMarketTheFigurineWasDistributedIn() {
+    Figurine figurine = new Figurine();
+    assertEquals(Status.PROTOTYPE, FigurineCalculator.status(figurine, today));
+
+    figurine.setDistribution(Market.MXN, released("$1,000", "2025-01-10"));
+    assertEquals(Status.RELEASED, FigurineCalculator.status(figurine, today));
+
+    figurine.setDistribution(Market.JPY, released("¥12,100", "2025-07-10"));
+    assertEquals(Status.RELEASE_TBD, FigurineCalculator.status(figurine, today));
+  }
+
+  @Test
+  void namesTheFigurineAfterItsFlagsAndAnniversaryExceptMetal() {
+    Figurine figurine = new Figurine();
+    assertNull(FigurineCalculator.displayableName(figurine));
+
+    figurine.setBaseName("Pegasus Seiya");
+    assertEquals("Pegasus Seiya", FigurineCalculator.displayableName(figurine));
+
+    figurine.set(FigurineFlag.OCE, true);
+    figurine.set(FigurineFlag.REVIVAL, true);
+    figurine.set(FigurineFlag.METAL, true);
+    figurine.setAnniversary(Anniversary.A_10);
+    assertEquals(
+        "Pegasus Seiya (Revival, OCE, 10th Anniversary)",
+        FigurineCalculator.displayableName(figurine));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "'¥12,100', 2019-09-30, 13068",
+    "'¥12,100', 2019-10-01, 13310",
+    "¥999, 2014-04-01, 1078",
+    "¥999, 2014-03-31, 1048",
+    "'¥5,000', 1989-03-31, 5000"
+  })
+  void addsTheConsumptionTaxOfTheReleaseDateToYenPrices(
+      String basePrice, LocalDate release, long finalPrice) {
+    Distribution distribution = released(basePrice, release.toString());
+
+    Money result = FigurineCalculator.finalPrice(Market.JPY, distribution, today);
+
+    assertEquals(Money.of(finalPrice, 0, Market.JPY.getCurrency()), result);
+  }
+
+  @Test
+  void taxesYenPricesAtTheFirstKnownDateOfSale() {
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(Money.parse("¥10,000", Market.JPY.getCurrency()));
+    assertEquals(
+        11000, FigurineCalculator.finalPrice(Market.JPY, distribution, today).getUnscaledAmount());
+
+    distribution.setFirstAnnouncementDate(LocalDate.of(2013, 1, 1));
+    assertEquals(
+        10500, FigurineCalculator.finalPrice(Market.JPY, distribution, today).getUnscaledAmount());
+
+    distribution.setPreOrderDate(LocalDate.of(2014, 5, 1));
+    assertEquals(
+        10800, FigurineCalculator.finalPrice(Market.JPY, distribution, today).getUnscaledAmount());
+  }
+
+  @Test
+  void keepsOtherPricesAsTheyAre() {
+    Distribution distribution = released("$1,234.50", "2025-01-10");
+
+    assertEquals(
+        distribution.getBaseMoney(),
+        FigurineCalculator.finalPrice(Market.MXN, distribution, today));
+    assertNull(FigurineCalculator.finalPrice(Market.JPY, new Distribution(), today));
+  }
+
+  @Test
+  void derivesAgainOnlyWhenTheInputsOrTheDayChange() {
+    Figurine figurine = figurine("Pegasus Seiya", "¥12,100", "2025-06-01");
+    List<Figurine> catalog = List.of(figurine, figurine("Dragon Shiryu", "¥12,100", null));
+
+    assertEquals(2, calculator.calculate(catalog, today));
+    assertEquals(0, calculator.calculate(catalog, today));
+    assertFalse(calculator.calculate(figurine, today));
+
+    figurine.getDistribution(Market.JPY).setReleaseDateConfirmed(true);
+    assertEquals(1, calculator.calculate(catalog, today));
+    assertEquals(Status.RELEASED, figurine.getStatus());
+    assertEquals(2, calculator.calculate(catalog, today.plusDays(1)));
+  }
+
+  @Test
+  void remembersOnlyTheLastCatalog() {
+    List<Figurine> first = List.of(figurine("Pegasus Seiya", "¥12,100", "2025-06-01"));
+    List<Figurine> second = List.of(figurine("Dragon Shiryu", "¥12,100", "2025-06-01"));
+
+    calculator.calculate(first, today);
+    calculator.calculate(second, today);
+
+    assertEquals(1, calculator.calculate(first, today));
+    assertEquals(1, calculator.calculate(second, today));
+  }
+
+  @Test
+  void derivesFigurinesOutsideTheLastCatalogEveryTime() {
+    Figurine figurine = figurine("Pegasus Seiya", "¥12,100", "2025-06-01");
+
+    assertTrue(calculator.calculate(figurine, today));
+    assertTrue(calculator.calculate(figurine, today));
+    assertEquals(Status.RELEASE_TBD, figurine.getStatus());
+    assertEquals("Pegasus Seiya", figurine.getDisplayableName());
+    assertEquals(13310, figurine.getDistribution(Market.JPY).getFinalMoney().getUnscaledAmount());
+  }
+
+  private static Figurine figurine(String baseName, String basePrice, String release) {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName(baseName);
+    figurine.setDistribution(Market.JPY, released(basePrice, release));
+    return figurine;
+  }
+
+  private static Distribution released(String basePrice, String release) {
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(Money.parse(basePrice, Market.JPY.getCurrency()));
+    if (Objects.nonNull(release)) {
+      distribution.setReleaseDate(LocalDate.parse(release));
+    }
+    return distribution;
+  }
+}
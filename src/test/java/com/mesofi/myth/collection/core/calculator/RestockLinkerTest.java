@@ -0,0 +1,89 @@
+package com.mesofi.myth.collection.core.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.BaseFigurine;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Restock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+class RestockLinkerTest {
+
+  private final RestockLinker linker = new RestockLinker();
+
+  @Test
+  void linksToTheLastFigurineReleasedBeforeTheRestock() {
+    Figurine original = figurine("Pegasus Seiya", "2003-11-01");
+    Figurine revival = figurine("Pegasus Seiya", "2013-09-01");
+    Restock early = restock("ＰＥＧＡＳＵＳ  seiya ", "2008-05-01");
+    Restock late = restock("Pegasus Seiya", "2020-01-01");
+
+    RestockLinker.Linkage linkage = linker.link(List.of(revival, original), List.of(late, early));
+
+    assertEquals(2, linkage.getLinked());
+    assertEquals(List.of(early), original.getRestocks());
+    assertEquals(List.of(late), revival.getRestocks());
+  }
+
+  @Test
+  void reportsRestocksOfFigurinesReleasedTheSameDayAsAmbiguous() {
+    Figurine first = figurine("Gemini Saga", "2010-04-01");
+    Figurine second = figurine("Gemini Saga", "2010-04-01");
+    Figurine later = figurine("Gemini Saga", "2016-08-01");
+    Restock tied = restock("Gemini Saga", "2012-01-01");
+    Restock afterLater = restock("Gemini Saga", "2018-01-01");
+
+    RestockLinker.Linkage linkage =
+        linker.link(List.of(first, second, later), List.of(tied, afterLater));
+
+    assertEquals(1, linkage.getLinked());
+    assertEquals(List.of(tied), linkage.getAmbiguous());
+    assertTrue(first.getRestocks().isEmpty());
+    assertTrue(second.getRestocks().isEmpty());
+    assertEquals(List.of(afterLater), later.getRestocks());
+  }
+
+  @Test
+  void reportsRestocksWithoutAMatchOrADate() {
+    Figurine first = figurine("Andromeda Shun", "2004-01-01");
+    Figurine second = figurine("Andromeda Shun", "2014-01-01");
+    Restock unknown = restock("Phoenix Ikki", "2015-01-01");
+    Restock undated = restock("Andromeda Shun", null);
+    Restock beforeAll = restock("Andromeda Shun", "2000-01-01");
+
+    RestockLinker.Linkage linkage =
+        linker.link(List.of(first, second), List.of(unknown, undated, beforeAll));
+
+    assertEquals(0, linkage.getLinked());
+    assertEquals(List.of(unknown), linkage.getUnmatched());
+    assertEquals(List.of(undated, beforeAll), linkage.getAmbiguous());
+  }
+
+  private static Figurine figurine(String baseName, String releaseDate) {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName(baseName);
+    release(figurine, releaseDate);
+    return figurine;
+  }
+
+  private static Restock restock(String baseName, String releaseDate) {
+    Restock restock = new Restock();
+    restock.setBaseName(baseName);
+    release(restock, releaseDate);
+    return restock;
+  }
+
+  private static void release(BaseFigurine figurine, String releaseDate) {
+    if (Objects.nonNull(releaseDate)) {
+      Distribution distribution = new Distribution();
+      distribution.setReleaseDate(LocalDate.parse(releaseDate));
+      figurine.setDistribution(Market.JPY, distribution);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+class ColumnarCatalogTest {
+
+  @Test
+  void roundsPricesWithMoreDecimalPlacesThanTheColumns() {
+    List<Figurine> figurines =
+        List.of(priced("1234.565"), priced("0.335"), priced("12100"), priced(null));
+
+    ColumnarCatalog columnar = new ColumnarCatalog(figurines);
+    ColumnarCatalog.PriceColumn prices = columnar.getMarket(Market.JPY).getBasePrice();
+
+    assertEquals(123456, prices.get(0));
+    assertEquals(new BigDecimal("0.34"), prices.getDecimal(1));
+    assertEquals(new BigDecimal("12100.00"), prices.getDecimal(2));
+    assertFalse(prices.isPresent(3));
+    assertNull(prices.getDecimal(3));
+  }
+
+  @Test
+  void aggregatesLikeALinearScan() {
+    FigurineMapper mapper = new FigurineMapper();
+    List<Figurine> figurines =
+        new CatalogGenerator(23)
+            .generate(3 * ColumnarCatalog.SPLIT_THRESHOLD).stream().map(mapper::toFigure).toList();
+
+    ColumnarCatalog columnar = new ColumnarCatalog(figurines);
+
+    for (Market market : Market.values()) {
+      LongSummaryStatistics expected = new LongSummaryStatistics();
+      Map<Category, LongSummaryStatistics> expectedByCategory = new EnumMap<>(Category.class);
+      for (Figurine figurine : figurines) {
+        Distribution distribution = figurine.getDistribution(market);
+        if (Objects.nonNull(distribution) && Objects.nonNull(distribution.getBaseMoney())) {
+          long price =
+              distribution
+                  .getBaseMoney()
+                  .toUnscaled(ColumnarCatalog.PRICE_SCALE, ColumnarCatalog.priceRounding);
+          expected.accept(price);
+          if (Objects.nonNull(figurine.getCategory())) {
+            expectedByCategory
+                .computeIfAbsent(figurine.getCategory(), c -> new LongSummaryStatistics())
+                .accept(price);
+          }
+        }
+      }
+
+      assertEquals(expected.toString(), columnar.basePriceStatistics(market).toString());
+      Map<Category, LongSummaryStatistics> byCategory =
+          columnar.basePriceStatisticsBy(market, columnar.getCategory());
+      assertEquals(expectedByCategory.keySet(), byCategory.keySet());
+      expectedByCategory.forEach(
+          (category, statistics) ->
+              assertEquals(statistics.toString(), byCategory.get(category).toString()));
+    }
+  }
+
+  private static Figurine priced(String price) {
+    Figurine figurine = new Figurine();
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(
+        Objects.isNull(price) ? null : Money.of(new BigDecimal(price), Market.JPY.getCurrency()));
+    figurine.setDistribution(Market.JPY, distribution);
+    return figurine;
+  }
+}
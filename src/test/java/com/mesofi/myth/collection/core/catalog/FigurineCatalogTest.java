@@ -0,0 +1,170 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class FigurineCatalogTest {
+
+  private final Random random = new Random(3);
+
+  @Test
+  void findsWhatALinearScanFinds() {
+    List<Figurine> figurines = catalog(3_000, random);
+    FigurineCatalog catalog = new FigurineCatalog(figurines);
+
+    for (int i = 0; i < 500; i++) {
+      CatalogFilter filter = filter(random);
+
+      List<Figurine> expected = scan(figurines, filter);
+
+      assertSameFigurines(expected, catalog.find(filter));
+      assertEquals(expected.size(), catalog.count(filter));
+    }
+    assertSameFigurines(figurines, catalog.find(CatalogFilter.ALL));
+  }
+
+  @Test
+  void keepsFindingWhatALinearScanFindsAfterChanges() {
+    List<Figurine> figurines = new ArrayList<>(catalog(3_000, random));
+    FigurineCatalog catalog = new FigurineCatalog(figurines);
+
+    for (int round = 0; round < 3_000; round++) {
+      int index = random.nextInt(figurines.size());
+      Figurine figurine = figurines.get(index);
+      switch (random.nextInt(4)) {
+        case 0 -> {
+          figurines.remove(index);
+          assertTrue(catalog.remove(figurine));
+          assertFalse(catalog.remove(figurine));
+          assertFalse(catalog.contains(figurine));
+        }
+        case 1 -> {
+          Figurine added = catalog(1, random).getFirst();
+          figurines.add(added);
+          assertTrue(catalog.add(added));
+          assertFalse(catalog.add(added));
+        }
+        default -> {
+          randomize(figurine, random);
+          assertTrue(catalog.reindex(figurine));
+        }
+      }
+    }
+
+    assertEquals(figurines.size(), catalog.size());
+    for (int i = 0; i < 300; i++) {
+      CatalogFilter filter = filter(random);
+      assertSameFigurines(scan(figurines, filter), catalog.find(filter));
+    }
+    assertSameFigurines(figurines, catalog.find(CatalogFilter.ALL));
+  }
+
+  /**
+   * Generates figurines with random values of the attributes that the generated sheets leave empty,
+   * so that every index has entries to intersect.
+   */
+  static List<Figurine> catalog(int size, Random random) {
+    FigurineMapper mapper = new FigurineMapper();
+    List<Figurine> figurines =
+        new CatalogGenerator(random.nextLong())
+            .generate(size).stream().map(mapper::toFigure).toList();
+    for (Figurine figurine : figurines) {
+      randomize(figurine, random);
+    }
+    return figurines;
+  }
+
+  static void randomize(Figurine figurine, Random random) {
+    figurine.setCategory(pick(random, Category.values()));
+    figurine.setStatus(pick(random, Status.values()));
+    if (random.nextInt(4) == 0) {
+      figurine.setAnniversary(pick(random, Anniversary.values()));
+    }
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      figurine.set(flag, random.nextInt(5) == 0);
+    }
+  }
+
+  static CatalogFilter filter(Random random) {
+    CatalogFilter.Builder filter = CatalogFilter.builder();
+    if (random.nextBoolean()) {
+      filter.category(pick(random, Category.values()), pick(random, Category.values()));
+    }
+    if (random.nextInt(3) == 0) {
+      filter.series(pick(random, Series.values()));
+    }
+    if (random.nextInt(3) == 0) {
+      filter.lineUp(pick(random, LineUp.values()), pick(random, LineUp.values()));
+    }
+    if (random.nextInt(4) == 0) {
+      filter.distributionChannel(pick(random, DistributionChannel.values()));
+    }
+    if (random.nextInt(4) == 0) {
+      filter.anniversary(pick(random, Anniversary.values()));
+    }
+    if (random.nextInt(3) == 0) {
+      filter.status(pick(random, Status.values()), pick(random, Status.values()));
+    }
+    if (random.nextInt(3) == 0) {
+      filter.withFlags(pick(random, FigurineFlag.values()));
+    }
+    if (random.nextInt(3) == 0) {
+      filter.withoutFlags(pick(random, FigurineFlag.values()), pick(random, FigurineFlag.values()));
+    }
+    return filter.build();
+  }
+
+  /** Tests a figurine against a filter attribute by attribute. */
+  static boolean matches(CatalogFilter filter, Figurine figurine) {
+    return accepts(filter.getCategories(), figurine.getCategory())
+        && accepts(filter.getSeries(), figurine.getSeries())
+        && accepts(filter.getLineUps(), figurine.getLineUp())
+        && accepts(filter.getDistributionChannels(), figurine.getDistributionChannel())
+        && accepts(filter.getAnniversaries(), figurine.getAnniversary())
+        && accepts(filter.getStatuses(), figurine.getStatus())
+        && figurine.hasFlags(filter.getRequiredFlags(), filter.getForbiddenFlags());
+  }
+
+  static List<Figurine> scan(List<Figurine> figurines, CatalogFilter filter) {
+    return scan(figurines, figurine -> matches(filter, figurine));
+  }
+
+  static List<Figurine> scan(List<Figurine> figurines, Predicate<Figurine> predicate) {
+    return figurines.stream().filter(predicate).toList();
+  }
+
+  static void assertSameFigurines(List<Figurine> expected, List<Figurine> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), actual.get(i));
+    }
+  }
+
+  private static <E> boolean accepts(Set<E> values, E value) {
+    return Objects.isNull(values) || values.contains(value);
+  }
+
+  private static <T> T pick(Random random, T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
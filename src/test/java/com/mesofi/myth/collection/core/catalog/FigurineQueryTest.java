@@ -0,0 +1,172 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import static com.mesofi.myth.collection.core.catalog.FigurineCatalogTest.assertSameFigurines;
+import static com.mesofi.myth.collection.core.catalog.FigurineCatalogTest.matches;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.Status;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FigurineQueryTest {
+
+  private final Random random = new Random(19);
+
+  @Test
+  void findsWhatALinearScanFinds() {
+    List<Figurine> figurines = FigurineCatalogTest.catalog(6_000, random);
+    FigurineCatalog catalog = new FigurineCatalog(figurines);
+
+    for (int i = 0; i < 300; i++) {
+      CatalogFilter filter = FigurineCatalogTest.filter(random);
+      List<Predicate<Figurine>> conditions = new ArrayList<>();
+      FigurineQuery query = query(filter, conditions);
+      Predicate<Figurine> expected =
+          figurine ->
+              matches(filter, figurine)
+                  && conditions.stream().allMatch(condition -> condition.test(figurine));
+
+      List<Figurine> matching = FigurineCatalogTest.scan(figurines, expected);
+
+      assertSameFigurines(matching, catalog.find(query));
+      assertSameFigurines(matching, catalog.find(query, ForkJoinPool.commonPool()));
+      assertEquals(matching.size(), catalog.count(query));
+      assertEquals(matching.size(), catalog.count(query, ForkJoinPool.commonPool()));
+    }
+  }
+
+  @Test
+  void testsCheapSelectiveConditionsFirst() {
+    List<Figurine> figurines = FigurineCatalogTest.catalog(500, random);
+    int[] candidates = IntStream.range(0, figurines.size()).toArray();
+    FigurineQuery query =
+        FigurineQuery.builder()
+            .where("always", figurine -> true)
+            .releasedBetween(Market.JPY, LocalDate.of(2100, 1, 1), null)
+            .where("never", figurine -> false)
+            .build();
+
+    QueryPlan plan = new QueryPlan(query.getConditions(), figurines, candidates);
+
+    assertEquals(
+        List.of("released in JPY between 2100-01-01 and null", "never", "always"),
+        plan.getConditions().stream().map(FigurineQuery.Condition::getDescription).toList());
+  }
+
+  @Test
+  void comparesPricesOfAnyScaleWithTheBounds() {
+    Figurine cheap = priced(Money.of(new BigDecimal("9999.99"), null));
+    Figurine bound = priced(Money.parse("¥10,000", Market.JPY));
+    Figurine dear = priced(Money.of(1_000_001, 2, Market.JPY.getCurrency()));
+    FigurineCatalog catalog = new FigurineCatalog(List.of(cheap, bound, dear, new Figurine()));
+
+    FigurineQuery query =
+        FigurineQuery.builder()
+            .basePriceBetween(Market.JPY, new BigDecimal("10000"), new BigDecimal("10000.00"))
+            .build();
+
+    assertSameFigurines(List.of(bound), catalog.find(query));
+  }
+
+  /**
+   * Adds random conditions to a query of the given filter, and their plain predicates to a list.
+   */
+  private FigurineQuery query(CatalogFilter filter, List<Predicate<Figurine>> conditions) {
+    FigurineQuery.Builder query = FigurineQuery.builder();
+    copy(filter, query);
+    Market market = Market.values()[random.nextInt(2)];
+    if (random.nextBoolean()) {
+      LocalDate from = random.nextBoolean() ? null : LocalDate.of(2003 + random.nextInt(22), 1, 1);
+      LocalDate to = random.nextBoolean() ? null : LocalDate.of(2005 + random.nextInt(22), 6, 30);
+      query.releasedBetween(market, from, to);
+      conditions.add(
+          figurine -> {
+            Distribution distribution = figurine.getDistribution(market);
+            LocalDate date = Objects.isNull(distribution) ? null : distribution.getReleaseDate();
+            return Objects.nonNull(date)
+                && (Objects.isNull(from) || date.compareTo(from) >= 0)
+                && (Objects.isNull(to) || date.compareTo(to) <= 0);
+          });
+    }
+    if (random.nextBoolean()) {
+      BigDecimal min = random.nextBoolean() ? null : BigDecimal.valueOf(random.nextInt(20_000));
+      BigDecimal max =
+          random.nextBoolean() ? null : BigDecimal.valueOf(5_000 + random.nextInt(30_000));
+      query.basePriceBetween(market, min, max);
+      conditions.add(
+          figurine -> {
+            Distribution distribution = figurine.getDistribution(market);
+            BigDecimal price = Objects.isNull(distribution) ? null : distribution.getBasePrice();
+            return Objects.nonNull(price)
+                && (Objects.isNull(min) || price.compareTo(min) >= 0)
+                && (Objects.isNull(max) || price.compareTo(max) <= 0);
+          });
+    }
+    if (random.nextInt(3) == 0) {
+      int parity = random.nextInt(2);
+      Predicate<Figurine> predicate =
+          figurine ->
+              Objects.nonNull(figurine.getBaseName())
+                  && figurine.getBaseName().length() % 2 == parity;
+      query.where("name length parity " + parity, predicate);
+      conditions.add(predicate);
+    }
+    return query.build();
+  }
+
+  private static void copy(CatalogFilter filter, FigurineQuery.Builder query) {
+    if (Objects.nonNull(filter.getCategories())) {
+      query.category(filter.getCategories().toArray(new Category[0]));
+    }
+    if (Objects.nonNull(filter.getSeries())) {
+      query.series(filter.getSeries().toArray(new Series[0]));
+    }
+    if (Objects.nonNull(filter.getLineUps())) {
+      query.lineUp(filter.getLineUps().toArray(new LineUp[0]));
+    }
+    if (Objects.nonNull(filter.getDistributionChannels())) {
+      query.distributionChannel(
+          filter.getDistributionChannels().toArray(new DistributionChannel[0]));
+    }
+    if (Objects.nonNull(filter.getAnniversaries())) {
+      query.anniversary(filter.getAnniversaries().toArray(new Anniversary[0]));
+    }
+    if (Objects.nonNull(filter.getStatuses())) {
+      query.status(filter.getStatuses().toArray(new Status[0]));
+    }
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      if ((filter.getRequiredFlags() & flag.getMask()) != 0) {
+        query.withFlags(flag);
+      }
+      if ((filter.getForbiddenFlags() & flag.getMask()) != 0) {
+        query.withoutFlags(flag);
+      }
+    }
+  }
+
+  private static Figurine priced(Money price) {
+    Figurine figurine = new Figurine();
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(price);
+    figurine.setDistribution(Market.JPY, distribution);
+    return figurine;
+  }
+}
@@ -0,0 +1,167 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import static com.mesofi.myth.collection.core.catalog.FigurineCatalogTest.assertSameFigurines;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.csv.SourceFigurineBinder;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class IncrementalImporterTest {
+
+  private final FigurineMapper mapper = new FigurineMapper();
+  private final IncrementalImporter importer = new IncrementalImporter(mapper);
+
+  @Test
+  void reportsEveryRowOfTheFirstImportAsAdded() {
+    List<SourceFigurine> rows = new CatalogGenerator(1).generate(100);
+
+    ChangeSet changes = importer.importRows(rows);
+
+    assertEquals(100, changes.getAdded().size());
+    assertEquals(100, changes.size());
+    assertSameFigurines(changes.getAdded(), importer.getFigurines());
+  }
+
+  @Test
+  void keepsTheFigurinesOfUnchangedRows() {
+    List<SourceFigurine> rows = new CatalogGenerator(2).generate(100);
+    importer.importRows(rows);
+    List<Figurine> figurines = importer.getFigurines();
+
+    ChangeSet changes = importer.importRows(copy(rows));
+
+    assertTrue(changes.isEmpty());
+    assertSameFigurines(figurines, importer.getFigurines());
+  }
+
+  @Test
+  void matchesAFullImportAfterRandomEdits() {
+    Random random = new Random(12);
+    List<SourceFigurine> rows = new CatalogGenerator(3).generate(1_000);
+    FigurineCatalog catalog = new FigurineCatalog(importer.importRows(rows).getAdded());
+
+    for (int round = 0; round < 5; round++) {
+      List<Figurine> before = importer.getFigurines();
+      rows = edit(rows, random);
+
+      ChangeSet changes = importer.importRows(rows);
+      catalog.apply(changes);
+
+      List<Figurine> after = importer.getFigurines();
+      assertEquals(
+          FigurineSnapshot.of(rows.stream().map(mapper::toFigure).toList()),
+          FigurineSnapshot.of(after));
+      assertTrue(changes.getFailures().isEmpty());
+      Set<Figurine> expected = identitySet(before);
+      changes.getRemoved().forEach(expected::remove);
+      for (ChangeSet.Modification modification : changes.getModified()) {
+        assertTrue(expected.remove(modification.getPrevious()));
+        expected.add(modification.getCurrent());
+      }
+      expected.addAll(changes.getAdded());
+      assertEquals(expected, identitySet(after));
+      assertEquals(expected, identitySet(catalog.find(CatalogFilter.ALL)));
+    }
+  }
+
+  @Test
+  void replacesTheRowThatChangedAmongRowsSharingABaseName() {
+    List<SourceFigurine> rows = new ArrayList<>();
+    for (String remarks : List.of("first", "second", "third")) {
+      SourceFigurine row = new SourceFigurine();
+      row.setBaseName("Pegasus Seiya");
+      row.setRemarks(remarks);
+      rows.add(row);
+    }
+    importer.importRows(rows);
+    List<Figurine> figurines = importer.getFigurines();
+
+    List<SourceFigurine> edited = copy(rows);
+    Collections.reverse(edited);
+    edited.get(1).setRemarks("second, revised");
+    ChangeSet changes = importer.importRows(edited);
+
+    assertEquals(1, changes.getModified().size());
+    assertSame(figurines.get(1), changes.getModified().getFirst().getPrevious());
+    assertEquals("second, revised", changes.getModified().getFirst().getCurrent().getRemarks());
+    assertSame(figurines.get(2), importer.getFigurines().get(0));
+    assertSame(figurines.get(0), importer.getFigurines().get(2));
+  }
+
+  @Test
+  void keepsThePreviousFigurineOfARowThatNoLongerMaps() {
+    List<SourceFigurine> rows = new CatalogGenerator(4).generate(10);
+    importer.importRows(rows);
+    List<Figurine> figurines = importer.getFigurines();
+
+    List<SourceFigurine> edited = copy(rows);
+    edited.get(4).setPriceJPY("TBA");
+    ChangeSet changes = importer.importRows(edited);
+
+    assertEquals(1, changes.getFailures().size());
+    assertEquals(4, changes.getFailures().getFirst().getRow());
+    assertEquals(0, changes.getAdded().size() + changes.getModified().size());
+    assertEquals(0, changes.getRemoved().size());
+    assertSameFigurines(figurines, importer.getFigurines());
+  }
+
+  @Test
+  void tellsAbsentValuesFromEmptyOnes() {
+    SourceFigurine absent = new SourceFigurine();
+    SourceFigurine empty = new SourceFigurine();
+    empty.setRemarks("");
+
+    assertNotEquals(
+        IncrementalImporter.fingerprint(absent), IncrementalImporter.fingerprint(empty));
+  }
+
+  /** Copies the rows, removes, inserts, edits and moves a few of them. */
+  private static List<SourceFigurine> edit(List<SourceFigurine> rows, Random random) {
+    List<SourceFigurine> edited = copy(rows);
+    List<SourceFigurine> fresh = new CatalogGenerator(random.nextLong()).generate(20);
+    for (int i = 0; i < 20; i++) {
+      edited.remove(random.nextInt(edited.size()));
+      edited.add(random.nextInt(edited.size() + 1), fresh.get(i));
+    }
+    for (int i = 0; i < 30; i++) {
+      SourceFigurine row = edited.get(random.nextInt(edited.size()));
+      row.setRemarks("edited " + random.nextInt(1_000));
+    }
+    for (int i = 0; i < 10; i++) {
+      edited.add(random.nextInt(edited.size()), edited.remove(random.nextInt(edited.size())));
+    }
+    return edited;
+  }
+
+  private static List<SourceFigurine> copy(List<SourceFigurine> rows) {
+    List<SourceFigurine> copies = new ArrayList<>(rows.size());
+    for (SourceFigurine row : rows) {
+      SourceFigurine copy = new SourceFigurine();
+      for (SourceFigurineBinder.Column column : SourceFigurineBinder.columns()) {
+        column.set(copy, column.get(row));
+      }
+      copies.add(copy);
+    }
+    return copies;
+  }
+
+  private static Set<Figurine> identitySet(List<Figurine> figurines) {
+    Set<Figurine> set = Collections.newSetFromMap(new IdentityHashMap<>());
+    set.addAll(figurines);
+    return set;
+  }
+}
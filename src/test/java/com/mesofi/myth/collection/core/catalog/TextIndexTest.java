@@ -0,0 +1,117 @@
+package com.mesofi.myth.collection.core.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TextIndexTest {
+
+  @Test
+  void tokenizesIntoDistinctNormalizedTokensInOrder() {
+    assertEquals(
+        List.of("saint", "seiya", "pegasus", "7"),
+        TextIndex.tokenize("Saint SEIYA: Pégasus, seiya & saint #7"));
+    assertEquals(List.of(), TextIndex.tokenize("  -- "));
+  }
+
+  @Test
+  void findsMisspellingsOfShortTokens() {
+    TextIndex index = new TextIndex();
+    index.add(0, figurine("Aries Mu"));
+    index.add(1, figurine("Hyoga"));
+    index.add(2, figurine("Ikki"));
+
+    assertEquals(List.of(0), ids(index.search("muu", all(3), 10)));
+    assertEquals(List.of(1), ids(index.search("hyuga", all(3), 10)));
+    assertEquals(List.of(2), ids(index.search("ikky", all(3), 10)));
+  }
+
+  @Test
+  void matchesLikeALinearScan() {
+    Random random = new Random(11);
+    TextIndex index = new TextIndex();
+    List<List<String>> names = new ArrayList<>();
+    for (int id = 0; id < 2_000; id++) {
+      String name = word(random) + " " + word(random) + " " + word(random);
+      index.add(id, figurine(name));
+      names.add(TextIndex.tokenize(name));
+    }
+    for (int id = 0; id < names.size(); id += 7) {
+      index.remove(id);
+      names.set(id, List.of());
+    }
+
+    for (int q = 0; q < 300; q++) {
+      String query = word(random);
+      Set<Integer> expected = new TreeSet<>();
+      for (int id = 0; id < names.size(); id++) {
+        for (String token : names.get(id)) {
+          if (matches(query, token)) {
+            expected.add(id);
+          }
+        }
+      }
+
+      List<TextIndex.ScoredId> hits = index.search(query, all(names.size()), names.size());
+
+      assertEquals(expected, hits.stream().map(TextIndex.ScoredId::id).collect(Collectors.toSet()));
+    }
+  }
+
+  @Test
+  void indexesTheDescriptionsOfTheFlags() {
+    TextIndex index = new TextIndex();
+    Figurine figurine = figurine("Pegasus Seiya");
+    figurine.set(FigurineFlag.REVIVAL, true);
+    index.add(0, figurine);
+    index.add(1, figurine("Pegasus Seiya"));
+
+    List<TextIndex.ScoredId> hits = index.search("seiya revival", all(2), 10);
+
+    assertEquals(List.of(0), ids(hits));
+    assertTrue(hits.get(0).score() > 0);
+  }
+
+  private static boolean matches(String query, String token) {
+    if (token.equals(query) || query.length() >= 2 && token.startsWith(query)) {
+      return true;
+    }
+    int maxEdits = query.length() <= 5 ? 1 : 2;
+    return query.length() >= 3 && TextIndex.distance(query, token, maxEdits) <= maxEdits;
+  }
+
+  private static String word(Random random) {
+    int length = 1 + random.nextInt(9);
+    StringBuilder word = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      word.append((char) ('a' + random.nextInt(4)));
+    }
+    return word.toString();
+  }
+
+  private static Figurine figurine(String baseName) {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName(baseName);
+    return figurine;
+  }
+
+  private static BitSet all(int size) {
+    BitSet ids = new BitSet();
+    ids.set(0, size);
+    return ids;
+  }
+
+  private static List<Integer> ids(List<TextIndex.ScoredId> hits) {
+    return hits.stream().map(TextIndex.ScoredId::id).toList();
+  }
+}
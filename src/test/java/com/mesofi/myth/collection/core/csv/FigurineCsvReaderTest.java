@@ -0,0 +1,229 @@
+package com.mesofi.myth.collection.core.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FigurineCsvReaderTest {
+
+  private static final List<SourceFigurine> rows = new CatalogGenerator(3).generate(1_000);
+  private static final String csv = CatalogGenerator.toCsv(rows);
+
+  private final FigurineMapper mapper = new FigurineMapper();
+  private final FigurineCsvReader reader = new FigurineCsvReader(mapper);
+
+  @TempDir Path directory;
+
+  @Test
+  void readsWhatTheMapperMaps() throws IOException {
+    Path file = write("catalog.csv", csv);
+
+    assertEquals(expected(), read(file));
+  }
+
+  @Test
+  void readsLikeTheMappedReader() throws IOException {
+    Path file = write("catalog.csv", csv);
+    List<String> expected = read(file);
+
+    for (long window : new long[] {MappedFigurineReader.DEFAULT_WINDOW_SIZE, 8_192, 2_048}) {
+      try (Stream<Figurine> figurines = new MappedFigurineReader(mapper, window).read(file)) {
+        assertEquals(expected, FigurineSnapshot.of(figurines.toList()), "window " + window);
+      }
+    }
+  }
+
+  @Test
+  void skipsAByteOrderMarkLikeTheMappedReader() throws IOException {
+    Path file = write("bom.csv", "\uFEFF" + csv);
+
+    assertEquals(expected(), read(file));
+    try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(expected(), FigurineSnapshot.of(figurines.toList()));
+    }
+  }
+
+  @Test
+  void closesTheReaderWhenTheHeaderIsRejected() {
+    TrackedReader source = new TrackedReader("Price (JPY),Series\n¥100,Saint Seiya\n");
+
+    assertThrows(IllegalArgumentException.class, () -> reader.read(source));
+    assertTrue(source.closed);
+  }
+
+  @Test
+  void closesTheFileWhenTheHeaderIsRejected() throws IOException {
+    Path file = write("headless.csv", "Price (JPY),Series\n¥100,Saint Seiya\n");
+
+    assertThrows(IllegalArgumentException.class, () -> reader.read(file));
+    Files.delete(file);
+  }
+
+  @Test
+  void reportsThePhysicalLineOfARecordAfterMultilineFields() throws IOException {
+    Path file =
+        write(
+            "multiline.csv",
+            "Base Name,Remarks\n"
+                + "Pegasus Seiya,\"First line\nSecond line\nThird line\"\n"
+                + ",Blank base name\n");
+    String expected = "Required field 'Base Name' is empty at line 5";
+
+    try (Stream<Figurine> figurines = reader.read(file)) {
+      assertEquals(
+          expected, assertThrows(IllegalArgumentException.class, figurines::toList).getMessage());
+    }
+    try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(
+          expected, assertThrows(IllegalArgumentException.class, figurines::toList).getMessage());
+    }
+  }
+
+  @Test
+  void reportsThePhysicalLineOfAFieldCountMismatch() throws IOException {
+    Path file =
+        write(
+            "mismatch.csv",
+            "Base Name,Remarks\r\n\"Pegasus\r\nSeiya\",Remarks\r\nDragon Shiryu\r\n");
+
+    try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(
+          "Number of data fields does not match number of headers at line 4",
+          assertThrows(IllegalArgumentException.class, figurines::toList).getMessage());
+    }
+  }
+
+  @Test
+  void readsLineBreaksWithinQuotedFieldsLikeTheMappedReader() throws IOException {
+    Path file =
+        write(
+            "breaks.csv",
+            "Base Name,Remarks\r\n"
+                + "Pegasus Seiya,\"First\r\nSecond\rThird\nFourth\"\r\n"
+                + "Dragon Shiryu,\"\"\"Quoted\"\"\r\"\r\n");
+    List<String> remarks = List.of("First\nSecond\nThird\nFourth", "\"Quoted\"\n");
+
+    try (Stream<Figurine> figurines = reader.read(file)) {
+      assertEquals(remarks, figurines.map(Figurine::getRemarks).toList());
+    }
+    try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(remarks, figurines.map(Figurine::getRemarks).toList());
+    }
+  }
+
+  @Test
+  void rejectsMalformedUtf8LikeTheMappedReader() throws IOException {
+    byte[][] malformed = {
+      {0x58, (byte) 0xC3, 0x41, 0x42},
+      {(byte) 0x80},
+      {(byte) 0xC0, (byte) 0xAF},
+      {(byte) 0xE0, (byte) 0x80, (byte) 0xAF},
+      {(byte) 0xED, (byte) 0xA0, (byte) 0x80},
+      {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+      {(byte) 0xF8, (byte) 0x88, (byte) 0x80, (byte) 0x80, (byte) 0x80},
+      {0x58, (byte) 0xE2, (byte) 0x82}
+    };
+    for (byte[] remarks : malformed) {
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      content.writeBytes("Base Name,Remarks\nPegasus Seiya,".getBytes(StandardCharsets.UTF_8));
+      content.writeBytes(remarks);
+      content.writeBytes("\n".getBytes(StandardCharsets.UTF_8));
+      Path file = Files.write(directory.resolve("malformed.csv"), content.toByteArray());
+      String bytes = HexFormat.ofDelimiter(" ").formatHex(remarks);
+
+      UncheckedIOException csv =
+          assertThrows(
+              UncheckedIOException.class,
+              () -> {
+                try (Stream<Figurine> figurines = reader.read(file)) {
+                  figurines.toList();
+                }
+              },
+              bytes);
+      assertInstanceOf(MalformedInputException.class, csv.getCause(), bytes);
+      UncheckedIOException mapped =
+          assertThrows(
+              UncheckedIOException.class,
+              () -> {
+                try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+                  figurines.toList();
+                }
+              },
+              bytes);
+      assertInstanceOf(MalformedInputException.class, mapped.getCause(), bytes);
+    }
+  }
+
+  @Test
+  void decodesMultibyteSequencesLikeTheMappedReader() throws IOException {
+    Path file =
+        write(
+            "multibyte.csv",
+            "Base Name,Remarks\nPegasus Seiya,\"é ߿ ࠀ 星矢 \uD7FF \uE000 \uFFFD 😀 \uDBFF\uDFFF\"\n");
+
+    String remarks = "é ߿ ࠀ 星矢 \uD7FF \uE000 \uFFFD 😀 \uDBFF\uDFFF";
+
+    try (Stream<Figurine> figurines = reader.read(file)) {
+      assertEquals(List.of(remarks), figurines.map(Figurine::getRemarks).toList());
+    }
+    try (Stream<Figurine> figurines = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(List.of(remarks), figurines.map(Figurine::getRemarks).toList());
+    }
+  }
+
+  @Test
+  void readsAnEmptySource() {
+    try (Stream<Figurine> figurines = reader.read(new StringReader(""))) {
+      assertEquals(0, figurines.count());
+    }
+  }
+
+  private List<String> expected() {
+    return FigurineSnapshot.of(rows.stream().map(mapper::toFigure).toList());
+  }
+
+  private List<String> read(Path file) throws IOException {
+    try (Stream<Figurine> figurines = reader.read(file)) {
+      return FigurineSnapshot.of(figurines.toList());
+    }
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+  }
+
+  private static final class TrackedReader extends StringReader {
+
+    private boolean closed;
+
+    TrackedReader(String content) {
+      super(content);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      super.close();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.mesofi.myth.collection.core.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineFormatter;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FigurineCsvWriterTest {
+
+  private final FigurineMapper mapper = new FigurineMapper();
+  private final FigurineCsvReader reader = new FigurineCsvReader(mapper);
+  private final FigurineCsvWriter writer = new FigurineCsvWriter();
+
+  @TempDir Path directory;
+
+  @Test
+  void writesWhatTheReadersRead() throws IOException {
+    List<Figurine> figurines =
+        new CatalogGenerator(23).generate(5_000).stream().map(mapper::toFigure).toList();
+    Path file = directory.resolve("catalog.csv");
+
+    assertEquals(figurines.size(), writer.write(file, figurines.stream()));
+
+    List<String> expected = FigurineSnapshot.of(figurines);
+    try (Stream<Figurine> read = reader.read(file)) {
+      assertEquals(expected, FigurineSnapshot.of(read.toList()));
+    }
+    try (Stream<Figurine> read = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(expected, FigurineSnapshot.of(read.toList()));
+    }
+  }
+
+  @Test
+  void writesTheColumnsOfTheFormatter() throws IOException {
+    List<Figurine> figurines =
+        new CatalogGenerator(5).generate(500).stream().map(mapper::toFigure).toList();
+
+    List<SourceFigurine> rows;
+    try (Stream<SourceFigurine> read = reader.readSource(new StringReader(write(figurines)))) {
+      rows = read.toList();
+    }
+
+    assertEquals(figurines.size(), rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      SourceFigurine expected = FigurineFormatter.toSource(figurines.get(i));
+      for (SourceFigurineBinder.Column column : SourceFigurineBinder.columns()) {
+        assertEquals(
+            blankToNull(column.get(expected)),
+            blankToNull(column.get(rows.get(i))),
+            column.getName() + " of row " + i);
+      }
+    }
+  }
+
+  @Test
+  void quotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+    SourceFigurine row = new CatalogGenerator(7).generate(1).getFirst();
+    row.setBaseName("Pegasus Seiya, \"Final\" Bronze Cloth");
+    row.setRemarks("First line\nSecond, \"quoted\" line\nThird line");
+    List<Figurine> figurines = List.of(mapper.toFigure(row));
+    Path file = directory.resolve("quoted.csv");
+    writer.write(file, figurines.stream());
+
+    try (Stream<Figurine> read = reader.read(file)) {
+      assertEquals(FigurineSnapshot.of(figurines), FigurineSnapshot.of(read.toList()));
+    }
+    try (Stream<Figurine> read = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals(FigurineSnapshot.of(figurines), FigurineSnapshot.of(read.toList()));
+    }
+  }
+
+  @Test
+  void readsLineBreaksInValuesBackAsLineFeeds() throws IOException {
+    SourceFigurine row = new CatalogGenerator(11).generate(1).getFirst();
+    row.setRemarks("First line\r\nSecond line\rThird line");
+    Path file = directory.resolve("breaks.csv");
+    writer.write(file, Stream.of(mapper.toFigure(row)));
+
+    try (Stream<Figurine> read = reader.read(file)) {
+      assertEquals("First line\nSecond line\nThird line", read.toList().getFirst().getRemarks());
+    }
+    try (Stream<Figurine> read = new MappedFigurineReader(mapper).read(file)) {
+      assertEquals("First line\nSecond line\nThird line", read.toList().getFirst().getRemarks());
+    }
+  }
+
+  @Test
+  void writesOnlyTheHeaderOfAnEmptyCatalog() throws IOException {
+    String csv = write(List.of());
+
+    assertEquals(1, csv.lines().count());
+    try (Stream<Figurine> read = reader.read(new StringReader(csv))) {
+      assertEquals(0, read.count());
+    }
+  }
+
+  private String write(List<Figurine> figurines) throws IOException {
+    StringWriter out = new StringWriter();
+    assertEquals(figurines.size(), writer.write(out, figurines.stream()));
+    return out.toString();
+  }
+
+  private static String blankToNull(String value) {
+    return Objects.isNull(value) || value.isEmpty() ? null : value;
+  }
+}
@@ -0,0 +1,107 @@
+package com.mesofi.myth.collection.core.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.csv.SourceFigurineBinder.Column;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvToBeanBuilder;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class SourceFigurineBinderTest {
+
+  private final FigurineCsvReader reader = new FigurineCsvReader();
+
+  @Test
+  void listsTheAnnotatedFieldsInDeclarationOrder() {
+    List<String> expected = new ArrayList<>();
+    for (Field field : SourceFigurine.class.getDeclaredFields()) {
+      CsvBindByName binding = field.getAnnotation(CsvBindByName.class);
+      if (Objects.nonNull(binding)) {
+        expected.add(binding.column() + "/" + field.getName() + "/" + binding.required());
+      }
+    }
+
+    assertEquals(
+        expected,
+        SourceFigurineBinder.columns().stream()
+            .map(c -> c.getName() + "/" + c.getField() + "/" + c.isRequired())
+            .toList());
+  }
+
+  @Test
+  void bindsLikeOpenCsv() {
+    String csv = CatalogGenerator.toCsv(new CatalogGenerator(11).generate(2_000));
+    List<SourceFigurine> expected =
+        new CsvToBeanBuilder<SourceFigurine>(new StringReader(csv))
+            .withType(SourceFigurine.class)
+            .build()
+            .parse();
+
+    List<SourceFigurine> actual;
+    try (Stream<SourceFigurine> rows = reader.readSource(new StringReader(csv))) {
+      actual = rows.toList();
+    }
+
+    assertEquals(values(expected), values(actual));
+  }
+
+  @Test
+  void matchesHeadersIgnoringCaseAndOrder() {
+    String csv = "remarks, base name ,Unknown,price (jpy)\nNone,Pegasus Seiya,x,\"¥12,100\"\n";
+
+    SourceFigurine row;
+    try (Stream<SourceFigurine> rows = reader.readSource(new StringReader(csv))) {
+      row = rows.findFirst().orElseThrow();
+    }
+
+    assertEquals("Pegasus Seiya", row.getBaseName());
+    assertEquals("¥12,100", row.getPriceJPY());
+    assertEquals("None", row.getRemarks());
+    assertNull(row.getSeries());
+  }
+
+  @Test
+  void rejectsAHeaderWithoutTheRequiredColumn() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> SourceFigurineBinder.forHeader(new String[] {"Price (JPY)", "Series"}));
+  }
+
+  @Test
+  void rejectsABlankRequiredValue() {
+    SourceFigurineBinder binder = SourceFigurineBinder.forHeader(new String[] {"Base Name", "OCE"});
+
+    IllegalArgumentException error =
+        assertThrows(
+            IllegalArgumentException.class, () -> binder.bind(new String[] {" ", "TRUE"}, 3));
+    assertEquals("Required field 'Base Name' is empty at line 3", error.getMessage());
+  }
+
+  @Test
+  void rejectsALineWithAnotherNumberOfFields() {
+    SourceFigurineBinder binder = SourceFigurineBinder.forHeader(new String[] {"Base Name", "OCE"});
+
+    assertThrows(
+        IllegalArgumentException.class, () -> binder.bind(new String[] {"Pegasus Seiya"}, 2));
+  }
+
+  static List<List<String>> values(List<SourceFigurine> rows) {
+    List<Column> columns = SourceFigurineBinder.columns();
+    return rows.stream()
+        .map(
+            row ->
+                columns.stream().map(column -> column.get(row)).map(v -> Objects.toString(v, "")))
+        .map(Stream::toList)
+        .toList();
+  }
+}
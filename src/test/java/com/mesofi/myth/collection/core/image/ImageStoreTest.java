@@ -0,0 +1,149 @@
+package com.mesofi.myth.collection.core.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ImageStoreTest {
+
+  private final ImageStore store = new ImageStore();
+
+  @Test
+  void splitsTrimmedUrlsSkippingBlankItems() {
+    List<String> urls =
+        store.split(
+            " https://imagizer.imageshack.com/img922/a.jpg ,,\t, "
+                + "https://imagizer.imageshack.com/img923/b.jpg\n,");
+
+    assertEquals(
+        List.of(
+            "https://imagizer.imageshack.com/img922/a.jpg",
+            "https://imagizer.imageshack.com/img923/b.jpg"),
+        urls);
+    assertTrue(store.split(" , ,\t").isEmpty());
+    assertNull(store.split(null));
+    assertNull(store.split(""));
+    assertNull(store.intern(null));
+  }
+
+  @Test
+  void splitsOnCommasOnly() {
+    List<String> urls = store.split("https://a.com/x/[a-z]+.jpg|b.jpg,https://a.com/x/\\,.*?");
+
+    assertEquals(List.of("https://a.com/x/[a-z]+.jpg|b.jpg", "https://a.com/x/\\", ".*?"), urls);
+  }
+
+  @Test
+  void storesEveryDistinctUrlOnce() {
+    store.split("https://a.com/x/1.jpg,https://a.com/x/2.jpg,https://a.com/x/1.jpg");
+    store.split(new StringBuilder("https://a.com/x/2.jpg, https://a.com/x/3.jpg"));
+    store.intern(List.of("https://a.com/x/3.jpg", "https://a.com/x/1.jpg"));
+
+    assertEquals(3, store.size());
+    assertEquals(1, store.prefixCount());
+  }
+
+  @Test
+  void sharesPrefixesOfTheSameHostAndFirstSegment() {
+    store.split(
+        "https://imagizer.imageshack.com/img922/a.jpg,"
+            + "https://imagizer.imageshack.com/img922/b.jpg,"
+            + "https://imagizer.imageshack.com/img923/a.jpg,"
+            + "https://imagizer.imageshack.com/img923/sub/c.jpg,"
+            + "https://tamashiiweb.com/a.jpg,"
+            + "https://tamashiiweb.com/b.jpg,"
+            + "http://tamashiiweb.com/a.jpg");
+
+    assertEquals(7, store.size());
+    assertEquals(4, store.prefixCount());
+  }
+
+  @Test
+  void storesNonAsciiAndRelativeUrls() {
+    List<String> urls =
+        List.of(
+            "https://例え.jp/画像/星矢.jpg",
+            "https://例え.jp/画像/星矢2.jpg",
+            "https://example.com/imágenes/é.jpg",
+            "https://example.com/imágenes/e.jpg",
+            "https://example.com/imagenes/éé.jpg",
+            "images/a.jpg",
+            "/images/a.jpg",
+            "a.jpg",
+            "//cdn.example.com/a.jpg");
+
+    List<String> stored = store.intern(urls);
+
+    assertEquals(urls, stored);
+    assertEquals(urls, store.intern(new ArrayList<>(urls)));
+    assertEquals(urls, store.split(String.join(",", urls)));
+    assertEquals(urls.size(), store.size());
+  }
+
+  @Test
+  void joinsWhatItSplits() {
+    String text =
+        "https://imagizer.imageshack.com/img922/a.jpg,https://例え.jp/画像/星矢.jpg,images/b.jpg";
+
+    StringBuilder joined = new StringBuilder("[");
+    ImageStore.join(store.split(text), joined);
+    StringBuilder plain = new StringBuilder();
+    ImageStore.join(List.of("a", "b"), plain);
+    StringBuilder empty = new StringBuilder();
+    ImageStore.join(store.split(" , "), empty);
+
+    assertEquals("[" + text, joined.toString());
+    assertEquals("a,b", plain.toString());
+    assertEquals("", empty.toString());
+    assertEquals(store.split(text), store.split(joined.substring(1)));
+  }
+
+  @Test
+  void growsPastItsInitialCapacity() {
+    Random random = new Random(17);
+    Set<String> distinct = new LinkedHashSet<>();
+    List<List<String>> lists = new ArrayList<>();
+    List<List<String>> expected = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      List<String> urls = new ArrayList<>();
+      for (int j = random.nextInt(4); j >= 0; j--) {
+        String url =
+            "https://host"
+                + random.nextInt(5)
+                + ".com/img"
+                + random.nextInt(10)
+                + "/"
+                + Integer.toHexString(random.nextInt(3_000))
+                + (random.nextInt(10) == 0 ? "ñ" : "")
+                + ".jpg";
+        urls.add(url);
+        distinct.add(url);
+      }
+      expected.add(urls);
+      lists.add(store.split(String.join(" , ", urls)));
+    }
+
+    assertTrue(distinct.size() > 1_000);
+    assertEquals(distinct.size(), store.size());
+    assertEquals(50, store.prefixCount());
+    assertEquals(expected, lists);
+    store.intern(distinct);
+    assertEquals(distinct.size(), store.size());
+  }
+
+  @Test
+  void returnsReadOnlyLists() {
+    List<String> urls = store.split("https://a.com/x/1.jpg");
+
+    assertThrows(UnsupportedOperationException.class, () -> urls.add("https://a.com/x/2.jpg"));
+    assertThrows(IndexOutOfBoundsException.class, () -> urls.get(1));
+  }
+}
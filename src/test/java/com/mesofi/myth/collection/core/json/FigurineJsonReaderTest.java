@@ -0,0 +1,142 @@
+package com.mesofi.myth.collection.core.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Distributor;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.FigurineFlag;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Status;
+import com.mesofi.myth.collection.core.testing.FigurineFixtures;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class FigurineJsonReaderTest {
+
+  private final FigurineJsonReader reader = new FigurineJsonReader();
+
+  @Test
+  void readsWhatTheWriterWrites() throws IOException {
+    List<Figurine> figurines = FigurineFixtures.catalog(2_000);
+
+    for (boolean omitNulls : new boolean[] {false, true}) {
+      byte[] json = write(new FigurineJsonWriter(omitNulls), figurines);
+
+      assertEquals(FigurineSnapshot.of(figurines), read(json), "omitNulls " + omitNulls);
+    }
+  }
+
+  @Test
+  void readsASingleFigurine() throws IOException {
+    Figurine figurine = FigurineFixtures.catalog(1).getFirst();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    new FigurineJsonWriter().write(out, figurine);
+
+    assertEquals(
+        FigurineSnapshot.of(List.of(figurine)),
+        FigurineSnapshot.of(
+            List.of(reader.readFigurine(new ByteArrayInputStream(out.toByteArray())))));
+  }
+
+  @Test
+  void keepsEveryAttributeOfAFigurine() throws IOException {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName("Pegasus \"Seiya\" \\ 星矢\t\u0001 😀");
+    figurine.setRemarks("First line\nSecond line");
+    figurine.setStatus(Status.RELEASED);
+    figurine.set(FigurineFlag.values()[0], true);
+    figurine.setOfficialImages(List.of("https://imagizer.imageshack.com/v2/a.jpg"));
+    Distribution distribution = new Distribution();
+    distribution.setDistributor(Distributor.DAM);
+    distribution.setBaseMoney(Money.of(new BigDecimal("1234.50"), Market.MXN.getCurrency()));
+    distribution.setReleaseDate(LocalDate.of(2024, 2, 29));
+    distribution.setReleaseDateConfirmed(false);
+    figurine.setDistribution(Market.MXN, distribution);
+
+    byte[] json = write(new FigurineJsonWriter(true), List.of(figurine));
+    Figurine read;
+    try (Stream<Figurine> figurines = reader.read(new ByteArrayInputStream(json))) {
+      read = figurines.toList().getFirst();
+    }
+
+    assertEquals(figurine.getBaseName(), read.getBaseName());
+    assertEquals(figurine.getRemarks(), read.getRemarks());
+    assertEquals(Status.RELEASED, read.getStatus());
+    assertTrue(read.is(FigurineFlag.values()[0]));
+    assertFalse(read.is(FigurineFlag.values()[1]));
+    assertEquals(figurine.getOfficialImages(), read.getOfficialImages());
+    assertNull(read.getDistribution(Market.JPY));
+    Distribution readDistribution = read.getDistribution(Market.MXN);
+    assertEquals(Distributor.DAM, readDistribution.getDistributor());
+    assertEquals(new BigDecimal("1234.50"), readDistribution.getBasePrice());
+    assertEquals(Market.MXN.getCurrency(), readDistribution.getBaseMoney().getCurrency());
+    assertEquals(LocalDate.of(2024, 2, 29), readDistribution.getReleaseDate());
+    assertEquals(Boolean.FALSE, readDistribution.getReleaseDateConfirmed());
+    assertNull(readDistribution.getPreOrderDate());
+  }
+
+  @Test
+  void skipsUnknownFieldsInAnyOrder() {
+    String json =
+        "[{\"unknown\":{\"nested\":[1,2.5e3,\"x\",null,true]},\"remarks\":null,"
+            + "\"baseName\":\"Dragon Shiryu\"}]";
+
+    List<Figurine> figurines;
+    try (Stream<Figurine> stream =
+        reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+      figurines = stream.toList();
+    }
+
+    assertEquals(1, figurines.size());
+    assertEquals("Dragon Shiryu", figurines.getFirst().getBaseName());
+    assertNull(figurines.getFirst().getRemarks());
+  }
+
+  @Test
+  void rejectsMalformedInput() {
+    for (String json :
+        new String[] {
+          "[{\"baseName\":\"Seiya\"",
+          "[{\"baseName\":Seiya}]",
+          "[{\"status\":\"NOT_A_STATUS\"}]",
+          "[{\"distributionJPY\":{\"releaseDate\":\"2024-02-30\"}}]",
+          "{\"baseName\":\"Seiya\"}"
+        }) {
+      assertThrows(
+          IllegalArgumentException.class, () -> read(json.getBytes(StandardCharsets.UTF_8)), json);
+    }
+  }
+
+  @Test
+  void readsAnEmptyArray() throws IOException {
+    assertTrue(read(write(new FigurineJsonWriter(), List.of())).isEmpty());
+  }
+
+  private List<String> read(byte[] json) {
+    try (Stream<Figurine> figurines = reader.read(new ByteArrayInputStream(json))) {
+      return FigurineSnapshot.of(figurines.toList());
+    }
+  }
+
+  private static byte[] write(FigurineJsonWriter writer, List<Figurine> figurines)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(figurines.size(), writer.write(out, figurines.stream()));
+    return out.toByteArray();
+  }
+}
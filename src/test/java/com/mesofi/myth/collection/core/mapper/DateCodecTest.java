@@ -0,0 +1,149 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DateCodecTest {
+
+  private static final DateTimeFormatter fullDate = DateTimeFormatter.ofPattern("M/d/yyyy");
+  private static final DateTimeFormatter partialDate = DateTimeFormatter.ofPattern("M/yyyy");
+
+  private final DateCodec codec = new DateCodec();
+
+  @ParameterizedTest
+  @CsvSource({
+    "4/18/2025, 2025-04-18, true",
+    "04/08/2025, 2025-04-08, true",
+    "4/08/2025, 2025-04-08, true",
+    "12/1/2003, 2003-12-01, true",
+    "2/30/2025, 2025-02-28, true",
+    "2/31/2024, 2024-02-29, true",
+    "4/31/2025, 2025-04-30, true",
+    "5/2025, 2025-05-01, false",
+    "05/2025, 2025-05-01, false",
+    "12/0001, 0001-12-01, false"
+  })
+  void decodesFullAndPartialDates(String text, LocalDate date, boolean confirmed) {
+    DateCodec.ParsedDate parsed = codec.parse(text);
+
+    assertEquals(date, parsed.getDate());
+    assertEquals(confirmed, parsed.isConfirmed());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "2025",
+        "/2025",
+        "13/2025",
+        "0/2025",
+        "4/0/2025",
+        "4/32/2025",
+        "4//2025",
+        "4/1/25",
+        "4/1/20250",
+        "123/1/2025",
+        "4/123/2025",
+        "4-1-2025",
+        "4/1/2025 ",
+        "a/1/2025",
+        "4/b/2025",
+        "4/1/2o25",
+        "1/1/0000"
+      })
+  void rejectsOtherText(String text) {
+    assertNull(codec.parse(text));
+  }
+
+  @Test
+  void decodesLikeTheFormattersItReplaces() {
+    List<String> texts = new ArrayList<>();
+    for (int month = 0; month <= 13; month++) {
+      for (String m : List.of(String.valueOf(month), String.format("%02d", month))) {
+        for (String year : List.of("2023", "2024", "1900", "2000", "0001")) {
+          texts.add(m + "/" + year);
+          for (int day = 0; day <= 32; day++) {
+            texts.add(m + "/" + day + "/" + year);
+            texts.add(m + "/" + String.format("%02d", day) + "/" + year);
+          }
+        }
+      }
+    }
+
+    for (String text : texts) {
+      DateCodec.ParsedDate parsed = codec.parse(text);
+      LocalDate expected = formatterDate(text);
+      assertEquals(expected, Objects.isNull(parsed) ? null : parsed.getDate(), text);
+    }
+  }
+
+  @Test
+  void formatsWhatItDecodes() {
+    StringBuilder out = new StringBuilder();
+    for (LocalDate date = LocalDate.of(2023, 12, 25);
+        date.isBefore(LocalDate.of(2025, 1, 5));
+        date = date.plusDays(1)) {
+      for (boolean confirmed : new boolean[] {true, false}) {
+        out.setLength(0);
+        DateCodec.format(date, confirmed, out);
+        DateCodec.ParsedDate parsed = codec.parse(out);
+
+        assertEquals(confirmed ? date : date.withDayOfMonth(1), parsed.getDate());
+        assertEquals(confirmed, parsed.isConfirmed());
+      }
+    }
+    out.setLength(0);
+    DateCodec.format(LocalDate.of(7, 3, 1), false, out);
+    assertEquals("3/0007", out.toString());
+  }
+
+  @Test
+  void servesRepeatedTextFromTheCache() {
+    DateCodec.ParsedDate first = codec.parse("4/18/2025");
+
+    assertSame(first, codec.parse(new StringBuilder("4/18/2025")));
+    assertEquals(LocalDate.of(2025, 4, 19), codec.parse("4/19/2025").getDate());
+  }
+
+  @Test
+  void decodesWithoutACache() {
+    DateCodec uncached = new DateCodec(0);
+
+    DateCodec.ParsedDate first = uncached.parse("4/18/2025");
+
+    assertEquals(LocalDate.of(2025, 4, 18), first.getDate());
+    assertTrue(first.isConfirmed());
+    assertFalse(uncached.parse("4/2025").isConfirmed());
+    assertThrows(IllegalArgumentException.class, () -> new DateCodec(-1));
+  }
+
+  /** Parses like the mapper did before the codec: a full date first, then a partial one. */
+  private static LocalDate formatterDate(String text) {
+    try {
+      return LocalDate.parse(text, fullDate);
+    } catch (DateTimeParseException e) {
+      try {
+        return YearMonth.parse(text, partialDate).atDay(1);
+      } catch (DateTimeParseException f) {
+        return null;
+      }
+    }
+  }
+}
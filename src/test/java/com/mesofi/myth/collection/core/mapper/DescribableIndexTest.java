@@ -0,0 +1,196 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mesofi.myth.collection.core.model.Anniversary;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.DistributionChannel;
+import com.mesofi.myth.collection.core.model.Distributor;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.LineUp;
+import com.mesofi.myth.collection.core.model.Series;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DescribableIndexTest {
+
+  private final FigurineMapper mapper = new FigurineMapper();
+
+  @ParameterizedTest
+  @CsvSource({"10, A_10", "15, A_15", "20, A_20", "30, A_30", "40, A_40", "50, A_50"})
+  void resolvesTheAnniversariesOfTheSheet(String text, Anniversary expected) {
+    SourceFigurine row = row();
+    row.setAnniversary(text);
+
+    assertSame(expected, mapper.toFigure(row).getAnniversary());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "Bronze Saint V1, V1",
+    "Bronze Saint V2, V2",
+    "Bronze Saint V3, V3",
+    "Bronze Saint V4, V4",
+    "Bronze Saint V5, V5",
+    "Bronze Secondary, SECONDARY",
+    "Black Saint, BLACK",
+    "Steel, STEEL",
+    "Silver Saint, SILVER",
+    "Gold Saint, GOLD",
+    "God Robe, ROBE",
+    "Poseidon Scale, SCALE",
+    "Surplice Saint, SURPLICE",
+    "Specter, SPECTER",
+    "Judge, JUDGE",
+    "God, GOD",
+    "Inheritor, INHERITOR"
+  })
+  void resolvesTheGroupsOfTheSheet(String text, Category expected) {
+    SourceFigurine row = row();
+    row.setGroup(text);
+
+    assertSame(expected, mapper.toFigure(row).getCategory());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "Myth Cloth EX, MYTH_CLOTH_EX",
+    "Myth Cloth, MYTH_CLOTH",
+    "Appendix, APPENDIX",
+    "Saint Cloth Legend, SC_LEGEND",
+    "Figuarts, FIGUARTS",
+    "Saint Cloth Crown, SC_CROWN",
+    "DD Panoramation, DDP",
+    "Figuarts Zero Metallic Touch, FIGUARTS_ZERO"
+  })
+  void resolvesTheLineUpsOfTheSheet(String text, LineUp expected) {
+    SourceFigurine row = row();
+    row.setLineUp(text);
+
+    assertSame(expected, mapper.toFigure(row).getLineUp());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "Saint Seiya, SAINT_SEIYA",
+    "Saintia Sho, SAINTIA_SHO",
+    "Soul of Gold, SOG",
+    "Saint Seiya Legend Of Sanctuary, SS_LEGEND_OF_SANCTUARY",
+    "Saint Seiya Omega, SS_OMEGA",
+    "The Lost Canvas, LOST_CANVAS",
+    "Saint Seiya The Beginning, SS_THE_BEGINNING"
+  })
+  void resolvesTheSeriesOfTheSheet(String text, Series expected) {
+    SourceFigurine row = row();
+    row.setSeries(text);
+
+    assertSame(expected, mapper.toFigure(row).getSeries());
+  }
+
+  @ParameterizedTest
+  @CsvSource({"DAM, DAM", "DTM, DTM"})
+  void resolvesTheDistributorsOfTheSheet(String text, Distributor expected) {
+    SourceFigurine row = row();
+    row.setDistributorMXN(text);
+
+    assertSame(expected, mapper.toFigure(row).getDistributionMXN().getDistributor());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "Stores, STORES",
+    "Tamashii Web Shop, WS",
+    "Tamashii World Tour, WT",
+    "Tamashii Nations, TN",
+    "Tamashii Store, TS",
+    "Other Limited Edition, OTHER"
+  })
+  void resolvesTheDistributionChannelsOfTheSheet(String text, DistributionChannel expected) {
+    SourceFigurine row = row();
+    row.setDist(text);
+
+    assertSame(expected, mapper.toFigure(row).getDistributionChannel());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"Gold Saint", "gold saint", "GOLDSAINT", " Gold\tSaint ", "g o l d s a i n t"})
+  void ignoresCaseAndWhitespace(String text) {
+    DescribableIndex<Category> index =
+        DescribableIndex.builder(Category.class).alias("Gold Saint", Category.GOLD).build();
+
+    assertSame(Category.GOLD, index.find(text));
+    assertSame(Category.GOLD, index.find(new StringBuilder(text)));
+  }
+
+  @Test
+  void ignoresCaseAndWhitespaceOfTheSheet() {
+    SourceFigurine row = row();
+    row.setGroup("  bronze saint v1 ");
+    row.setLineUp("MYTH CLOTH EX");
+    row.setDistributorMXN("dam");
+
+    Figurine figurine = mapper.toFigure(row);
+
+    assertSame(Category.V1, figurine.getCategory());
+    assertSame(LineUp.MYTH_CLOTH_EX, figurine.getLineUp());
+    assertSame(Distributor.DAM, figurine.getDistributionMXN().getDistributor());
+  }
+
+  @Test
+  void resolvesDistributorsByTheirNames() {
+    DescribableIndex<Distributor> byDescription = DescribableIndex.of(Distributor.class);
+    DescribableIndex<Distributor> byName =
+        DescribableIndex.builder(Distributor.class).names().build();
+
+    assertNull(byDescription.find("DAM"));
+    assertSame(Distributor.DAM, byName.find("DAM"));
+    assertSame(Distributor.DTM, byName.find("dtm"));
+    assertSame(Distributor.DAM, byName.find("Distribuidora Animexico"));
+    assertSame(Distributor.DTM, byName.find("Distribuidora TM"));
+  }
+
+  @Test
+  void findsNothingForUnknownOrMissingText() {
+    DescribableIndex<LineUp> index = DescribableIndex.of(LineUp.class);
+
+    assertNull(index.find(null));
+    assertNull(index.find(""));
+    assertNull(index.find("   "));
+    assertNull(index.find("Myth Cloth EXX"));
+    assertNull(index.find("Myth Clot"));
+    assertSame(index, DescribableIndex.of(LineUp.class));
+    assertEquals(LineUp.class, index.getType());
+  }
+
+  @Test
+  void rejectsKeysOfTwoConstants() {
+    DescribableIndex.Builder<LineUp> builder = DescribableIndex.builder(LineUp.class);
+
+    IllegalArgumentException duplicate =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.alias("myth cloth", LineUp.MYTH_CLOTH_EX));
+    IllegalArgumentException blank =
+        assertThrows(IllegalArgumentException.class, () -> builder.alias(" ", LineUp.DDP));
+
+    assertEquals(
+        "Key 'myth cloth' resolves to both MYTH_CLOTH and MYTH_CLOTH_EX", duplicate.getMessage());
+    assertEquals("Blank key for DDP", blank.getMessage());
+    assertSame(
+        LineUp.MYTH_CLOTH,
+        builder.alias("MythCloth", LineUp.MYTH_CLOTH).build().find("Myth Cloth"));
+  }
+
+  private static SourceFigurine row() {
+    SourceFigurine row = new SourceFigurine();
+    row.setBaseName("Pegasus Seiya");
+    return row;
+  }
+}
@@ -0,0 +1,106 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import com.mesofi.myth.collection.core.testing.FigurineSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+class FigurineMapperBatchTest {
+
+  private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+  private final FigurineMapper mapper = new FigurineMapper();
+
+  @AfterAll
+  static void shutdown() {
+    pool.shutdown();
+  }
+
+  @Test
+  void keepsTheOrderOfTheRowsAboveTheForkThreshold() {
+    List<SourceFigurine> rows = new CatalogGenerator(2).generate(1_000);
+    List<Figurine> expected = rows.stream().map(mapper::toFigure).toList();
+
+    List<MappingResult> results = mapper.toFigures(rows, pool);
+
+    assertResults(rows, results);
+    assertEquals(FigurineSnapshot.of(expected), FigurineSnapshot.of(figurines(results)));
+    assertEquals(
+        FigurineSnapshot.of(expected), FigurineSnapshot.of(figurines(mapper.toFigures(rows))));
+    assertEquals(
+        FigurineSnapshot.of(expected),
+        FigurineSnapshot.of(figurines(mapper.toFigures(rows.stream()))));
+  }
+
+  @Test
+  void reportsStrictFailuresWithoutAbortingTheBatch() {
+    List<SourceFigurine> rows = new CatalogGenerator(3).generate(1_000);
+    for (int i = 7; i < rows.size(); i += 97) {
+      rows.get(i).setReleaseJPY("31/31/2024");
+    }
+    SourceFigurine invalid = rows.get(7);
+    IllegalArgumentException thrown =
+        assertThrows(IllegalArgumentException.class, () -> mapper.toFigure(invalid));
+
+    List<MappingResult> results = mapper.toFigures(rows, pool);
+
+    assertResults(rows, results);
+    for (MappingResult result : results) {
+      boolean failed = result.getRow() % 97 == 7;
+      assertEquals(!failed, result.isSuccess(), "row " + result.getRow());
+      if (failed) {
+        assertNull(result.getFigurine());
+        assertInstanceOf(IllegalArgumentException.class, result.getError());
+        assertEquals(thrown.getMessage(), result.getError().getMessage());
+      } else {
+        assertNull(result.getError());
+        assertEquals(result.getSource().getBaseName(), result.getFigurine().getBaseName());
+      }
+      assertTrue(result.getDiagnostics().isEmpty());
+    }
+    assertEquals(11, results.stream().filter(result -> !result.isSuccess()).count());
+    assertEquals(
+        FigurineSnapshot.of(figurines(results)),
+        FigurineSnapshot.of(figurines(mapper.toFigures(rows.stream()))));
+  }
+
+  @Test
+  void mapsEmptyAndSmallBatches() {
+    List<SourceFigurine> rows = new CatalogGenerator(4).generate(3);
+
+    assertTrue(mapper.toFigures(List.of(), pool).isEmpty());
+    assertResults(rows, mapper.toFigures(rows, pool));
+  }
+
+  /** Checks that every row has one result, at its own position and with its own source. */
+  private static void assertResults(List<SourceFigurine> rows, List<MappingResult> results) {
+    assertEquals(rows.size(), results.size());
+    for (int i = 0; i < rows.size(); i++) {
+      assertEquals(i, results.get(i).getRow());
+      assertSame(rows.get(i), results.get(i).getSource());
+    }
+  }
+
+  /** Returns the figurines of the successful results, in order. */
+  private static List<Figurine> figurines(List<MappingResult> results) {
+    List<Figurine> figurines = new ArrayList<>();
+    for (MappingResult result : results) {
+      if (result.isSuccess()) {
+        figurines.add(result.getFigurine());
+      }
+    }
+    return figurines;
+  }
+}
@@ -0,0 +1,148 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FigurineMapperLenientTest {
+
+  private static final ForkJoinPool sequential = new ForkJoinPool(1);
+
+  private final FigurineMapper mapper = new FigurineMapper();
+
+  @AfterAll
+  static void shutdown() {
+    sequential.shutdown();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"TBA 2025", "N/A 5", "Pre-order 3", "¥12,100 approx.", "?"})
+  void reportsCellsThatAreNotPrices(String price) {
+    SourceFigurine row = row("Pegasus Seiya");
+    row.setPriceJPY(price);
+    row.setReleaseJPY("4/18/2025");
+    row.setPriceMXN(price);
+    row.setReleaseMXN("5/2025");
+    List<Diagnostic> diagnostics = new ArrayList<>();
+
+    Figurine figurine = mapper.toFigure(row, diagnostics);
+
+    assertNull(figurine.getDistribution(Market.JPY).getBaseMoney());
+    assertNull(figurine.getDistribution(Market.MXN).getBaseMoney());
+    assertEquals(
+        List.of(
+            new Diagnostic("Price (JPY)", price, Diagnostic.Reason.INVALID_PRICE),
+            new Diagnostic("Price (MXN)", price, Diagnostic.Reason.INVALID_PRICE)),
+        diagnostics);
+    assertThrows(IllegalArgumentException.class, () -> mapper.toFigure(row));
+  }
+
+  @Test
+  void mapsValidPricesWithoutDiagnostics() {
+    SourceFigurine row = row("Pegasus Seiya");
+    row.setPriceJPY("¥12,100");
+    row.setPriceMXN("$1,234.50");
+    List<Diagnostic> diagnostics = new ArrayList<>();
+
+    Figurine figurine = mapper.toFigure(row, diagnostics);
+
+    assertEquals(12100, figurine.getDistribution(Market.JPY).getBaseMoney().getUnscaledAmount());
+    assertEquals(123450, figurine.getDistribution(Market.MXN).getBaseMoney().getUnscaledAmount());
+    assertTrue(diagnostics.isEmpty());
+  }
+
+  @Test
+  void reportsEveryRejectedValueOfARow() {
+    SourceFigurine row = row("Pegasus Seiya");
+    row.setPriceJPY("TBA");
+    row.setReleaseJPY("13/2025");
+    row.setSeries("Unknown series");
+    row.setMetal("maybe");
+    List<Diagnostic> diagnostics = new ArrayList<>();
+
+    mapper.toFigure(row, diagnostics);
+
+    assertEquals(
+        List.of(
+            Diagnostic.Reason.INVALID_PRICE,
+            Diagnostic.Reason.INVALID_DATE,
+            Diagnostic.Reason.UNKNOWN_VALUE,
+            Diagnostic.Reason.UNKNOWN_VALUE),
+        diagnostics.stream().map(Diagnostic::getReason).toList());
+  }
+
+  @Test
+  void mapsEveryRowWithinTheErrorBudget() {
+    List<SourceFigurine> rows = catalogWithDefects(200, 10, 20, 30);
+
+    MappingReport report = mapper.toFiguresLeniently(rows, 3, sequential);
+
+    assertFalse(report.isAborted());
+    assertEquals(200, report.getResults().size());
+    assertEquals(3, report.getDefectiveRows());
+    assertEquals(
+        List.of(10, 20, 30),
+        report.getResults().stream()
+            .filter(MappingResult::isDefective)
+            .map(MappingResult::getRow)
+            .toList());
+  }
+
+  @Test
+  void stopsOnceTheErrorBudgetIsExceeded() {
+    List<SourceFigurine> rows = catalogWithDefects(200, 10, 20, 30, 40);
+
+    MappingReport report = mapper.toFiguresLeniently(rows, 2, sequential);
+
+    assertTrue(report.isAborted());
+    assertEquals(200, report.getRows());
+    assertEquals(3, report.getDefectiveRows());
+    assertEquals(31, report.getResults().size());
+    assertEquals(30, report.getResults().get(30).getRow());
+  }
+
+  @Test
+  void stopsAtTheFirstDefectiveRowWithAZeroBudget() {
+    List<SourceFigurine> rows = catalogWithDefects(200, 0);
+
+    MappingReport report = mapper.toFiguresLeniently(rows, 0, ForkJoinPool.commonPool());
+
+    assertTrue(report.isAborted());
+    assertTrue(report.getResults().size() < rows.size());
+    assertTrue(report.getResults().get(0).isDefective());
+  }
+
+  @Test
+  void rejectsANegativeErrorBudget() {
+    assertThrows(
+        IllegalArgumentException.class, () -> mapper.toFiguresLeniently(List.of(), -1, sequential));
+  }
+
+  private static List<SourceFigurine> catalogWithDefects(int size, int... defectiveRows) {
+    List<SourceFigurine> rows = new CatalogGenerator(7).generate(size);
+    for (int row : defectiveRows) {
+      rows.get(row).setPriceJPY("TBA");
+    }
+    return rows;
+  }
+
+  private static SourceFigurine row(String baseName) {
+    SourceFigurine row = new SourceFigurine();
+    row.setBaseName(baseName);
+    return row;
+  }
+}
@@ -0,0 +1,169 @@
+package com.mesofi.myth.collection.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.image.ImageStore;
+import com.mesofi.myth.collection.core.metrics.Converter;
+import com.mesofi.myth.collection.core.metrics.MappingMetrics;
+import com.mesofi.myth.collection.core.metrics.MetricsSink;
+import com.mesofi.myth.collection.core.model.SourceFigurine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FigurineMapperMetricsTest {
+
+  private final MappingMetrics metrics = new MappingMetrics();
+  private final FigurineMapper mapper = new FigurineMapper(new ImageStore(), metrics);
+
+  @Test
+  void measuresEveryConverterOfARow() {
+    mapper.toFigure(row());
+
+    assertEquals(2, metrics.getLatency(Converter.DATE).getCount());
+    assertEquals(1, metrics.getLatency(Converter.PRICE).getCount());
+    assertEquals(2, metrics.getLatency(Converter.IMAGES).getCount());
+    assertEquals(6, metrics.getLatency(Converter.ENUM).getCount());
+    for (Converter converter : Converter.values()) {
+      assertEquals(0, metrics.getFailures(converter), converter.name());
+    }
+    assertEquals(1, metrics.getRows());
+    assertEquals(0, metrics.getFailedRows());
+  }
+
+  @Test
+  void countsTheFailedDatesOfStrictRows() {
+    SourceFigurine row = row();
+    row.setReleaseJPY("31/31/2024");
+
+    assertThrows(IllegalArgumentException.class, () -> mapper.toFigure(row));
+
+    assertEquals(1, metrics.getFailures(Converter.DATE));
+    assertEquals(1, metrics.getRows());
+    assertEquals(1, metrics.getFailedRows());
+  }
+
+  @Test
+  void countsTheFailedPricesOfStrictAndLenientRows() {
+    SourceFigurine row = row();
+    row.setPriceJPY("TBA");
+
+    assertThrows(IllegalArgumentException.class, () -> mapper.toFigure(row));
+    List<Diagnostic> diagnostics = new ArrayList<>();
+    assertNull(mapper.toFigure(row, diagnostics).getDistributionJPY().getBaseMoney());
+
+    assertEquals(2, metrics.getFailures(Converter.PRICE));
+    assertEquals(2, metrics.getLatency(Converter.PRICE).getCount());
+    assertEquals(1, diagnostics.size());
+    assertEquals(2, metrics.getRows());
+    assertEquals(1, metrics.getFailedRows());
+  }
+
+  @Test
+  void reportsUnknownEnumValuesAsUnmapped() {
+    SourceFigurine row = row();
+    row.setGroup("Platinum Saint");
+    row.setLineUp("Myth Cloth EXX");
+    mapper.toFigure(row);
+    row.setGroup(" ");
+    mapper.toFigure(row);
+
+    assertEquals(
+        Map.of("Group", Map.of("Platinum Saint", 1L), "LineUp", Map.of("Myth Cloth EXX", 2L)),
+        metrics.getUnmapped());
+    assertEquals(0, metrics.getFailures(Converter.ENUM));
+  }
+
+  @Test
+  void capsTheUnmappedValuesOfAColumn() {
+    SourceFigurine row = row();
+    for (int i = 0; i < MappingMetrics.MAX_VALUES_PER_COLUMN + 5; i++) {
+      row.setGroup("Group " + i);
+      mapper.toFigure(row);
+    }
+
+    Map<String, Long> groups = metrics.getUnmapped().get("Group");
+
+    assertEquals(MappingMetrics.MAX_VALUES_PER_COLUMN + 1, groups.size());
+    assertEquals(5, groups.get(MappingMetrics.OTHER_VALUES));
+    assertEquals(MappingMetrics.MAX_VALUES_PER_COLUMN + 5, metrics.getUnmappedCount("Group"));
+  }
+
+  @Test
+  void countsTheFailedRowsOfStrictBatches() {
+    List<SourceFigurine> rows = new CatalogGenerator(21).generate(1_000);
+    for (int i = 0; i < rows.size(); i += 100) {
+      rows.get(i).setReleaseJPY("not a date");
+    }
+
+    List<MappingResult> results = mapper.toFigures(rows);
+
+    assertEquals(10, results.stream().filter(result -> !result.isSuccess()).count());
+    assertEquals(1_000, metrics.getRows());
+    assertEquals(10, metrics.getFailedRows());
+    assertEquals(10, metrics.getFailures(Converter.DATE));
+  }
+
+  @Test
+  void neverCallsADisabledSink() {
+    MetricsSink disabled =
+        new MetricsSink() {
+          @Override
+          public boolean isEnabled() {
+            return false;
+          }
+
+          @Override
+          public void converted(Converter converter, long nanos, boolean failed) {
+            fail("converted called");
+          }
+
+          @Override
+          public void unmapped(String column, CharSequence value) {
+            fail("unmapped called");
+          }
+
+          @Override
+          public void rowsMapped(int rows, int failures, long nanos) {
+            fail("rowsMapped called");
+          }
+        };
+    FigurineMapper quiet = new FigurineMapper(new ImageStore(), disabled);
+    SourceFigurine invalid = row();
+    invalid.setGroup("Platinum Saint");
+    invalid.setPriceJPY("TBA");
+    List<SourceFigurine> rows = new ArrayList<>(new CatalogGenerator(22).generate(600));
+    rows.add(invalid);
+
+    quiet.toFigure(row());
+    assertThrows(IllegalArgumentException.class, () -> quiet.toFigure(invalid));
+    quiet.toFigure(invalid, new ArrayList<>());
+    assertEquals(600, quiet.toFigures(rows).stream().filter(MappingResult::isSuccess).count());
+    assertEquals(1, quiet.toFiguresLeniently(rows, 10).getDefectiveRows());
+  }
+
+  /**
+   * Returns a row with two dates, a JPY price, six enum columns and two image lists, so each
+   * converter is called a known number of times.
+   */
+  private static SourceFigurine row() {
+    SourceFigurine row = new SourceFigurine();
+    row.setBaseName("Pegasus Seiya");
+    row.setPriceJPY("¥12,100");
+    row.setPreorderJPY("1/15/2024");
+    row.setReleaseJPY("7/2024");
+    row.setDist("Tamashii Web Shop");
+    row.setLineUp("Myth Cloth EX");
+    row.setSeries("Saint Seiya");
+    row.setGroup("Bronze Saint V1");
+    row.setAnniversary("20");
+    row.setOfficialImages("https://imagizer.imageshack.com/img922/a.jpg");
+    row.setOtherImages("https://imagizer.imageshack.com/img922/b.jpg");
+    return row;
+  }
+}
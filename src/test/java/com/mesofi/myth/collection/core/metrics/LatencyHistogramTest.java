@@ -0,0 +1,86 @@
+package com.mesofi.myth.collection.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  void boundsPercentilesByTheUpperLimitOfTheirBucket() {
+    for (long nanos : new long[] {0, 3, 5, 1_000, 1_000_000}) {
+      histogram.record(nanos);
+    }
+
+    assertEquals(1, histogram.getPercentileNanos(0));
+    assertEquals(1, histogram.getPercentileNanos(20));
+    assertEquals(3, histogram.getPercentileNanos(20.1));
+    assertEquals(3, histogram.getPercentileNanos(40));
+    assertEquals(7, histogram.getPercentileNanos(60));
+    assertEquals(1_023, histogram.getPercentileNanos(80));
+    assertEquals(1_000_000, histogram.getPercentileNanos(100));
+  }
+
+  @Test
+  void capsPercentilesByTheMaximum() {
+    histogram.record(600);
+    histogram.record(700);
+    histogram.record(Long.MAX_VALUE);
+
+    assertEquals(1_023, histogram.getPercentileNanos(0));
+    assertEquals(1_023, histogram.getPercentileNanos(50));
+    assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100));
+    assertEquals(Long.MAX_VALUE, histogram.getMaxNanos());
+
+    LatencyHistogram small = new LatencyHistogram();
+    small.record(600);
+    small.record(700);
+
+    assertEquals(700, small.getPercentileNanos(0));
+    assertEquals(700, small.getPercentileNanos(100));
+  }
+
+  @Test
+  void keepsTheExactCountTotalAndMaximum() {
+    histogram.record(10);
+    histogram.record(-5);
+    histogram.record(30);
+
+    assertEquals(3, histogram.getCount());
+    assertEquals(40, histogram.getTotalNanos());
+    assertEquals(30, histogram.getMaxNanos());
+    assertEquals(40 / 3.0, histogram.getMeanNanos());
+    assertEquals(1, histogram.getPercentileNanos(0));
+  }
+
+  @Test
+  void reportsZeroWhenEmpty() {
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMeanNanos());
+    assertEquals(0, histogram.getMaxNanos());
+    assertEquals(0, histogram.getPercentileNanos(0));
+    assertEquals(0, histogram.getPercentileNanos(100));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-0.1, 100.1, Double.NaN, Double.NEGATIVE_INFINITY})
+  void rejectsPercentilesOutsideZeroToHundred(double percentile) {
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(percentile));
+  }
+
+  @Test
+  void recordsFromManyThreads() {
+    IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+
+    assertEquals(100_000, histogram.getCount());
+    assertEquals(99_999L * 100_000 / 2, histogram.getTotalNanos());
+    assertEquals(99_999, histogram.getMaxNanos());
+    assertEquals(65_535, histogram.getPercentileNanos(50));
+  }
+}
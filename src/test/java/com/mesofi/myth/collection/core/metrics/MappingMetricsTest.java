@@ -0,0 +1,63 @@
+package com.mesofi.myth.collection.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MappingMetricsTest {
+
+  private final MappingMetrics metrics = new MappingMetrics();
+
+  @Test
+  void countsFailuresAndLatenciesPerConverter() {
+    metrics.converted(Converter.DATE, 100, false);
+    metrics.converted(Converter.DATE, 300, true);
+    metrics.converted(Converter.PRICE, 50, true);
+
+    assertEquals(2, metrics.getLatency(Converter.DATE).getCount());
+    assertEquals(400, metrics.getLatency(Converter.DATE).getTotalNanos());
+    assertEquals(1, metrics.getFailures(Converter.DATE));
+    assertEquals(1, metrics.getLatency(Converter.PRICE).getCount());
+    assertEquals(1, metrics.getFailures(Converter.PRICE));
+    assertEquals(0, metrics.getLatency(Converter.ENUM).getCount());
+    assertEquals(0, metrics.getFailures(Converter.IMAGES));
+  }
+
+  @Test
+  void capsTheDistinctUnmappedValuesOfAColumn() {
+    for (int i = 0; i < MappingMetrics.MAX_VALUES_PER_COLUMN + 10; i++) {
+      metrics.unmapped("LineUp", new StringBuilder("Line ").append(i));
+    }
+    metrics.unmapped("LineUp", "Line 0");
+    metrics.unmapped("LineUp", "Line " + (MappingMetrics.MAX_VALUES_PER_COLUMN + 20));
+    metrics.unmapped("Group", "Unknown Saint");
+
+    Map<String, Map<String, Long>> unmapped = metrics.getUnmapped();
+
+    assertEquals(2, unmapped.size());
+    Map<String, Long> lineUps = unmapped.get("LineUp");
+    assertEquals(MappingMetrics.MAX_VALUES_PER_COLUMN + 1, lineUps.size());
+    assertEquals(2, lineUps.get("Line 0"));
+    assertEquals(11, lineUps.get(MappingMetrics.OTHER_VALUES));
+    assertEquals(MappingMetrics.MAX_VALUES_PER_COLUMN + 12, metrics.getUnmappedCount("LineUp"));
+    assertEquals(Map.of("Unknown Saint", 1L), unmapped.get("Group"));
+    assertEquals(0, metrics.getUnmappedCount("Series"));
+    assertThrows(UnsupportedOperationException.class, () -> unmapped.remove("Group"));
+  }
+
+  @Test
+  void derivesTheThroughputOfTheRowsMapped() {
+    assertEquals(0, metrics.getRowsPerSecond());
+
+    metrics.rowsMapped(300, 2, 1_000_000_000);
+    metrics.rowsMapped(1, 1, 500_000_000);
+
+    assertEquals(301, metrics.getRows());
+    assertEquals(3, metrics.getFailedRows());
+    assertEquals(301 / 1.5, metrics.getRowsPerSecond(), 1e-9);
+    assertTrue(metrics.isEnabled());
+  }
+}
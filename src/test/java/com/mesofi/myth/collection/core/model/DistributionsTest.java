@@ -0,0 +1,149 @@
+package com.mesofi.myth.collection.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DistributionsTest {
+
+  private final Distributions distributions = new Distributions();
+
+  @Test
+  void behavesLikeAnEnumMapWhateverTheOrderOfTheMarkets() {
+    Random random = new Random(25);
+    Map<Market, Distribution> expected = new EnumMap<>(Market.class);
+    for (int i = 0; i < 5_000; i++) {
+      Market market = Market.values()[random.nextInt(Market.values().length)];
+      switch (random.nextInt(3)) {
+        case 0 -> {
+          Distribution distribution = new Distribution();
+          assertSame(expected.put(market, distribution), distributions.put(market, distribution));
+        }
+        case 1 -> assertSame(expected.remove(market), distributions.remove(market));
+        default -> assertSame(expected.get(market), distributions.get(market));
+      }
+      assertEquals(expected.size(), distributions.size());
+      assertEquals(expected.isEmpty(), distributions.isEmpty());
+      assertEquals(expected.containsKey(market), distributions.containsKey(market));
+      assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(distributions.entrySet()));
+      assertEquals(expected, distributions);
+      assertEquals(distributions, expected);
+      assertEquals(expected.hashCode(), distributions.hashCode());
+    }
+  }
+
+  @Test
+  void putsAndRemovesEveryMarket() {
+    Map<Market, Distribution> all = new EnumMap<>(Market.class);
+    for (Market market : List.of(Market.EUR, Market.JPY, Market.USD, Market.MXN)) {
+      Distribution distribution = new Distribution();
+      all.put(market, distribution);
+      assertNull(distributions.put(market, distribution));
+    }
+
+    assertEquals(4, distributions.size());
+    assertEquals(List.of(Market.values()), new ArrayList<>(distributions.keySet()));
+    for (Market market : Market.values()) {
+      assertSame(all.get(market), distributions.get(market));
+      assertSame(all.get(market), distributions.get((Object) market));
+    }
+    for (Market market : List.of(Market.MXN, Market.EUR, Market.JPY, Market.USD)) {
+      assertSame(all.get(market), distributions.remove(market));
+      assertNull(distributions.remove(market));
+      assertFalse(distributions.containsKey(market));
+    }
+    assertTrue(distributions.isEmpty());
+    assertNull(distributions.get("JPY"));
+    assertNull(distributions.remove("JPY"));
+    assertFalse(distributions.containsKey(null));
+  }
+
+  @Test
+  void removesTheMarketWhenPuttingNull() {
+    Distribution jpy = new Distribution();
+    distributions.put(Market.JPY, jpy);
+    distributions.put(Market.USD, new Distribution());
+
+    assertSame(jpy, distributions.put(Market.JPY, null));
+    assertNull(distributions.put(Market.MXN, null));
+
+    assertEquals(Map.of(Market.USD, distributions.get(Market.USD)), distributions);
+    assertFalse(distributions.containsKey(Market.JPY));
+    assertFalse(distributions.containsKey(Market.MXN));
+    assertThrows(NullPointerException.class, () -> distributions.put(null, jpy));
+  }
+
+  @Test
+  void removesEntriesThroughTheIterator() {
+    for (Market market : Market.values()) {
+      distributions.put(market, new Distribution());
+    }
+    Distribution usd = distributions.get(Market.USD);
+
+    Iterator<Map.Entry<Market, Distribution>> entries = distributions.entrySet().iterator();
+    assertThrows(IllegalStateException.class, entries::remove);
+    List<Market> visited = new ArrayList<>();
+    while (entries.hasNext()) {
+      Market market = entries.next().getKey();
+      visited.add(market);
+      if (market != Market.USD) {
+        entries.remove();
+        assertThrows(IllegalStateException.class, entries::remove);
+      }
+    }
+
+    assertEquals(List.of(Market.values()), visited);
+    assertThrows(NoSuchElementException.class, entries::next);
+    assertEquals(Map.of(Market.USD, usd), distributions);
+    assertEquals(1, distributions.entrySet().size());
+  }
+
+  @Test
+  void visitsTheMarketsInOrder() {
+    distributions.put(Market.EUR, new Distribution());
+    distributions.put(Market.JPY, new Distribution());
+    distributions.put(Market.USD, new Distribution());
+
+    List<Market> visited = new ArrayList<>();
+    distributions.forEach((market, distribution) -> visited.add(market));
+
+    assertEquals(List.of(Market.JPY, Market.USD, Market.EUR), visited);
+    distributions.clear();
+    assertTrue(distributions.isEmpty());
+    assertEquals(0, distributions.size());
+    assertEquals(new EnumMap<>(Market.class), distributions);
+  }
+
+  @Test
+  void keepsTheViewsOfTheFigurineInSync() {
+    Figurine figurine = new Figurine();
+    Distribution jpy = new Distribution();
+    Distribution mxn = new Distribution();
+
+    figurine.setDistributionJPY(jpy);
+    figurine.setDistribution(Market.MXN, mxn);
+
+    assertSame(jpy, figurine.getDistribution(Market.JPY));
+    assertSame(mxn, figurine.getDistributionMXN());
+    assertEquals(Map.of(Market.JPY, jpy, Market.MXN, mxn), figurine.getDistributions());
+
+    figurine.setDistribution(Market.JPY, null);
+    figurine.setDistributionMXN(null);
+
+    assertNull(figurine.getDistributionJPY());
+    assertNull(figurine.getDistribution(Market.MXN));
+    assertTrue(figurine.getDistributions().isEmpty());
+  }
+}
@@ -0,0 +1,89 @@
+package com.mesofi.myth.collection.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FigurineTest {
+
+  @Test
+  void packsTheConstructorFlags() {
+    Figurine figurine =
+        new Figurine(
+            "Pegasus Seiya",
+            null,
+            null,
+            null,
+            null,
+            null,
+            true,
+            false,
+            true,
+            false,
+            false,
+            false,
+            false,
+            true,
+            false,
+            false,
+            null,
+            List.of());
+
+    assertEquals(
+        FigurineFlag.mask(FigurineFlag.REVIVAL, FigurineFlag.METAL, FigurineFlag.HK),
+        figurine.getFlags());
+    assertTrue(figurine.isRevival());
+    assertTrue(figurine.isMetal());
+    assertTrue(figurine.isHk());
+    assertFalse(figurine.isOce());
+  }
+
+  @Test
+  void clearsBitsOfNoFlag() {
+    Figurine figurine = new Figurine();
+
+    figurine.setFlags((short) -1);
+
+    assertEquals(FigurineFlag.mask(FigurineFlag.values()), figurine.getFlags());
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      assertTrue(figurine.is(flag), flag.name());
+    }
+  }
+
+  @Test
+  void setsAndClearsEachFlagAlone() {
+    for (FigurineFlag flag : FigurineFlag.values()) {
+      Figurine figurine = new Figurine();
+      figurine.set(flag, true);
+
+      assertEquals(flag.getMask(), figurine.getFlags());
+      for (FigurineFlag other : EnumSet.complementOf(EnumSet.of(flag))) {
+        assertFalse(figurine.is(other), other.name());
+      }
+
+      figurine.set(flag, false);
+      assertEquals(0, figurine.getFlags());
+    }
+  }
+
+  @Test
+  void matchesRequiredAndForbiddenFlags() {
+    short flags = FigurineFlag.mask(FigurineFlag.METAL, FigurineFlag.REVIVAL);
+
+    assertTrue(
+        Figurine.matches(
+            flags,
+            FigurineFlag.mask(FigurineFlag.METAL, FigurineFlag.REVIVAL),
+            FigurineFlag.mask(FigurineFlag.HK)));
+    assertFalse(
+        Figurine.matches(
+            flags, FigurineFlag.mask(FigurineFlag.METAL), FigurineFlag.mask(FigurineFlag.REVIVAL)));
+    assertFalse(
+        Figurine.matches(
+            flags, FigurineFlag.mask(FigurineFlag.HK), FigurineFlag.mask(FigurineFlag.HK)));
+  }
+}
@@ -0,0 +1,189 @@
+package com.mesofi.myth.collection.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MoneyTest {
+
+  private static final Currency yen = Market.JPY.getCurrency();
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "¥12,100|12100|0",
+        "$1,234.50|123450|2",
+        "€5|5|0",
+        "-¥300|-300|0",
+        "¥-300|-300|0",
+        "- ¥ 300|-300|0",
+        "' ¥12,100 '|12100|0",
+        "12100|12100|0",
+        ".5|5|1",
+        "¥0.05|5|2"
+      })
+  void parsesPrices(String text, long unscaled, int scale) {
+    Money money = Money.parse(text, yen);
+
+    assertEquals(unscaled, money.getUnscaledAmount());
+    assertEquals(scale, money.getScale());
+    assertEquals(yen, money.getCurrency());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "TBA 2025",
+        "N/A 5",
+        "Pre-order 3",
+        "¥¥5",
+        "--5",
+        "¥ -",
+        "¥",
+        "5 yen",
+        "1.2.3",
+        "¥1,234.5,6",
+        "US$5"
+      })
+  void rejectsTextThatIsNotAPrice(String text) {
+    assertNull(Money.tryParse(text, yen));
+    assertThrows(IllegalArgumentException.class, () -> Money.parse(text, yen));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US$1,234.50", "-US$1,234.50", "$1,234.50"})
+  void acceptsTheSymbolOfTheMarket(String text) {
+    Money money = Money.parse(text, Market.USD);
+
+    assertEquals(123450, Math.abs(money.getUnscaledAmount()));
+    assertEquals(Market.USD.getCurrency(), money.getCurrency());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US5", "USD 5", "U$5"})
+  void rejectsPartialSymbolsOfTheMarket(String text) {
+    assertNull(Money.tryParse(text, Market.USD));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "1234567890123456789"})
+  void returnsNullForEmptyOrOutOfRangeText(String text) {
+    assertNull(Money.tryParse(text, yen));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"¥0", "¥12,100", "-¥1,234,567", "$0.05", "$1,234.50", "-$999,999.999"})
+  void formatsWhatItParses(String text) {
+    StringBuilder out = new StringBuilder();
+    String symbol = text.substring(text.indexOf('-') + 1, text.indexOf('-') + 2);
+
+    Money.parse(text, yen).formatTo(symbol, out);
+
+    assertEquals(text, out.toString());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, -1, 999, 1000, -1000, 123456789, Long.MAX_VALUE, Long.MIN_VALUE + 1})
+  void parsesWhatItFormats(long unscaled) {
+    for (int scale = 0; scale <= 4; scale++) {
+      Money money = Money.of(unscaled, scale, yen);
+      StringBuilder out = new StringBuilder();
+      money.formatTo("¥", out);
+
+      Money parsed = Money.tryParse(out, yen);
+
+      if (Long.toString(Math.abs(unscaled)).length() > 18) {
+        assertNull(parsed);
+      } else {
+        assertEquals(money, parsed);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({"100, 100.00, 0", "99.99, 100, -1", "-1, -0.5, -1"})
+  void comparesAmountsOfDifferentScales(String left, String right, int expected) {
+    assertEquals(
+        expected,
+        Integer.signum(
+            Money.of(new BigDecimal(left), yen).compareTo(Money.of(new BigDecimal(right), yen))));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"100, 0.5, 100.5", "1.25, -0.25, 1.00"})
+  void addsAmountsOfDifferentScales(String left, String right, String sum) {
+    Money total = Money.of(new BigDecimal(left), yen).plus(Money.of(new BigDecimal(right), yen));
+
+    assertEquals(new BigDecimal(sum), total.toBigDecimal());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"12100", "-0.01", "1234567.891"})
+  void convertsToAndFromBigDecimal(String amount) {
+    BigDecimal value = new BigDecimal(amount);
+
+    assertEquals(value, Money.of(value, yen).toBigDecimal());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "1234.5, 123450",
+    "1234.565, 123456",
+    "1234.575, 123458",
+    "-0.005, 0",
+    "-0.015, -2",
+    "7, 700"
+  })
+  void roundsToAScaleHalfEven(String amount, long unscaled) {
+    Money money = Money.of(new BigDecimal(amount), yen);
+
+    assertEquals(unscaled, money.toUnscaled(2, RoundingMode.HALF_EVEN));
+  }
+
+  @Test
+  void rejectsRoundingWhenItIsNotAllowed() {
+    Money money = Money.of(new BigDecimal("1.005"), yen);
+
+    assertThrows(ArithmeticException.class, () -> money.toUnscaled(2));
+    assertThrows(ArithmeticException.class, () -> money.toUnscaled(2, RoundingMode.UNNECESSARY));
+    assertEquals(100, Money.of(new BigDecimal("1.000"), yen).toUnscaled(2));
+  }
+
+  @Test
+  void sortsAndSumsAmountsWithoutACurrencyWithParsedOnes() {
+    Distribution legacy = new Distribution();
+    legacy.setBasePrice(new BigDecimal("9800"));
+    List<Money> prices =
+        new ArrayList<>(
+            List.of(Money.parse("¥12,100", yen), legacy.getBaseMoney(), Money.parse("¥500", yen)));
+
+    Collections.sort(prices);
+    Money total = prices.stream().reduce(Money::plus).orElseThrow();
+
+    assertEquals(
+        List.of(500L, 9800L, 12100L), prices.stream().map(Money::getUnscaledAmount).toList());
+    assertEquals(Money.of(22400, 0, yen), total);
+    assertEquals(Money.of(9800, 0, yen), legacy.getBaseMoney().plus(Money.of(0, 0, yen)));
+  }
+
+  @Test
+  void rejectsDifferentCurrencies() {
+    Money yenAmount = Money.of(1, 0, yen);
+    Money pesoAmount = Money.of(1, 0, Market.MXN.getCurrency());
+
+    assertThrows(IllegalArgumentException.class, () -> yenAmount.compareTo(pesoAmount));
+    assertThrows(IllegalArgumentException.class, () -> yenAmount.plus(pesoAmount));
+  }
+}
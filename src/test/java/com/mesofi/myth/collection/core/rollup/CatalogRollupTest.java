@@ -0,0 +1,155 @@
+package com.mesofi.myth.collection.core.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Category;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class CatalogRollupTest {
+
+  private static final Function<Figurine, List<Object>> key =
+      CatalogRollup.by(CatalogRollup.releaseMonth(Market.JPY), Figurine::getCategory);
+
+  private final List<Figurine> figurines = catalog(5_000);
+
+  @Test
+  void addsInParallelLikeOneByOne() {
+    CatalogRollup<List<Object>> sequential = new CatalogRollup<>(key, Market.JPY);
+    CatalogRollup<List<Object>> parallel = new CatalogRollup<>(key, Market.JPY);
+
+    figurines.forEach(sequential::add);
+    parallel.addAll(figurines, ForkJoinPool.commonPool());
+
+    assertEquals(sequential.snapshot(), parallel.snapshot());
+    assertEquals(figurines.size(), parallel.size());
+  }
+
+  @Test
+  void matchesARebuildAfterUpdatesAndRemovals() {
+    CatalogRollup<List<Object>> rollup = new CatalogRollup<>(key, Market.JPY);
+    rollup.addAll(figurines, ForkJoinPool.commonPool());
+    Random random = new Random(5);
+    List<Figurine> remaining = new ArrayList<>(figurines);
+
+    for (int round = 0; round < 2_000; round++) {
+      int index = random.nextInt(remaining.size());
+      Figurine figurine = remaining.get(index);
+      switch (random.nextInt(4)) {
+        case 0 -> figurine.setCategory(pick(random, Category.values()));
+        case 1 -> reprice(figurine, random);
+        case 2 -> redate(figurine, random);
+        default -> {
+          remaining.remove(index);
+          assertTrue(rollup.remove(figurine));
+          assertFalse(rollup.remove(figurine));
+          continue;
+        }
+      }
+      rollup.update(figurine);
+    }
+
+    assertEquals(rebuild(remaining), rollup.snapshot());
+    assertEquals(remaining.size(), rollup.size());
+  }
+
+  @Test
+  void dropsGroupsWhoseLastFigurineLeft() {
+    CatalogRollup<Category> rollup = new CatalogRollup<>(Figurine::getCategory, Market.JPY);
+    Figurine figurine = figurines.get(0);
+    rollup.add(figurine);
+    Category category = figurine.getCategory();
+
+    figurine.setCategory(category == Category.GOLD ? Category.SILVER : Category.GOLD);
+
+    assertTrue(rollup.update(figurine));
+    assertFalse(rollup.update(figurine));
+    assertNull(rollup.get(category));
+    assertEquals(1, rollup.get(figurine.getCategory()).getCount());
+  }
+
+  @Test
+  void sumsAndAveragesThePrices() {
+    CatalogRollup<String> rollup = new CatalogRollup<>(f -> "all", Market.JPY);
+    rollup.add(priced("¥1,000"));
+    rollup.add(priced("¥2,001"));
+    rollup.add(priced(null));
+
+    RollupStatistics statistics = rollup.get("all");
+
+    assertEquals(3, statistics.getCount());
+    assertEquals(2, statistics.getPricedCount());
+    assertEquals(0, new BigDecimal("3001").compareTo(statistics.getTotalPrice()));
+    assertEquals(new BigDecimal("1500.50"), statistics.getAveragePrice());
+  }
+
+  @Test
+  void roundsPricesWithMoreDecimalPlacesThanTheRollupKeeps() {
+    CatalogRollup<String> rollup = new CatalogRollup<>(f -> "all", Market.JPY);
+    rollup.add(withPrice(Money.of(new BigDecimal("10.125"), Market.JPY.getCurrency())));
+    rollup.add(withPrice(Money.of(new BigDecimal("0.335"), Market.JPY.getCurrency())));
+
+    assertEquals(new BigDecimal("10.46"), rollup.get("all").getTotalPrice());
+  }
+
+  private static Map<List<Object>, RollupStatistics> rebuild(List<Figurine> figurines) {
+    CatalogRollup<List<Object>> rollup = new CatalogRollup<>(key, Market.JPY);
+    rollup.addAll(figurines);
+    return rollup.snapshot();
+  }
+
+  private static void reprice(Figurine figurine, Random random) {
+    Distribution distribution = figurine.getDistribution(Market.JPY);
+    if (Objects.nonNull(distribution)) {
+      distribution.setBaseMoney(
+          random.nextInt(5) == 0
+              ? null
+              : Money.of(random.nextInt(4_000_000), 2, Market.JPY.getCurrency()));
+    }
+  }
+
+  private static void redate(Figurine figurine, Random random) {
+    Distribution distribution = figurine.getDistribution(Market.JPY);
+    if (Objects.nonNull(distribution)) {
+      distribution.setReleaseDate(LocalDate.of(2010 + random.nextInt(15), 1, 1));
+    }
+  }
+
+  private static Figurine priced(String price) {
+    return withPrice(Objects.isNull(price) ? null : Money.parse(price, Market.JPY.getCurrency()));
+  }
+
+  private static Figurine withPrice(Money price) {
+    Figurine figurine = new Figurine();
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(price);
+    figurine.setDistribution(Market.JPY, distribution);
+    return figurine;
+  }
+
+  private static <T> T pick(Random random, T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  static List<Figurine> catalog(int size) {
+    FigurineMapper mapper = new FigurineMapper();
+    return new CatalogGenerator(17).generate(size).stream().map(mapper::toFigure).toList();
+  }
+}
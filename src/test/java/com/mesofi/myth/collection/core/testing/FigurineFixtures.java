@@ -0,0 +1,53 @@
+package com.mesofi.myth.collection.core.testing;
+
+import com.mesofi.myth.collection.core.benchmark.CatalogGenerator;
+import com.mesofi.myth.collection.core.mapper.FigurineMapper;
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import com.mesofi.myth.collection.core.model.Restock;
+import com.mesofi.myth.collection.core.model.Status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/** Catalogs of figurines for tests that write and read back every attribute of a figurine. */
+public final class FigurineFixtures {
+
+  private FigurineFixtures() {}
+
+  /**
+   * Generates mapped figurines with the calculated fields and restocks the generated sheets leave
+   * empty, so that every stored attribute is exercised. The same size always gives the same
+   * figurines.
+   *
+   * @param size the number of figurines
+   * @return the figurines
+   */
+  public static List<Figurine> catalog(int size) {
+    Random random = new Random(size);
+    FigurineMapper mapper = new FigurineMapper();
+    List<Figurine> figurines =
+        new CatalogGenerator(size).generate(size).stream().map(mapper::toFigure).toList();
+    for (Figurine figurine : figurines) {
+      figurine.setStatus(Status.values()[random.nextInt(Status.values().length)]);
+      figurine.setDisplayableName(figurine.getBaseName() + " \"" + random.nextInt(100) + "\"");
+      Distribution distribution = figurine.getDistribution(Market.JPY);
+      if (random.nextInt(4) == 0 && Objects.nonNull(distribution)) {
+        distribution.setFinalMoney(Money.of(random.nextInt(50_000), 2, Market.JPY.getCurrency()));
+        Restock restock = new Restock();
+        restock.setBaseName(figurine.getBaseName());
+        Distribution restocked = new Distribution();
+        restocked.setReleaseDate(
+            LocalDate.of(2015 + random.nextInt(10), 1 + random.nextInt(12), 1));
+        restocked.setReleaseDateConfirmed(random.nextBoolean());
+        restocked.setBaseMoney(distribution.getBaseMoney());
+        restock.setDistribution(Market.JPY, restocked);
+        figurine.setRestocks(List.of(restock));
+      }
+    }
+    return figurines;
+  }
+}
@@ -0,0 +1,42 @@
+package com.mesofi.myth.collection.core.testing;
+
+import com.mesofi.myth.collection.core.json.FigurineJsonWriter;
+import com.mesofi.myth.collection.core.model.Figurine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Snapshots of figurines for tests: every field of every figurine written as JSON, nulls included,
+ * so two lists of figurines are compared field by field, unlike Figurine.equals, which only
+ * compares the identifying properties.
+ */
+public final class FigurineSnapshot {
+
+  private FigurineSnapshot() {}
+
+  /**
+   * Returns the snapshot of the given figurines.
+   *
+   * @param figurines the figurines, in order
+   * @return the JSON of each figurine, in order
+   */
+  public static List<String> of(Collection<Figurine> figurines) {
+    FigurineJsonWriter writer = new FigurineJsonWriter();
+    List<String> snapshot = new ArrayList<>(figurines.size());
+    for (Figurine figurine : figurines) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try {
+        writer.write(out, figurine);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      snapshot.add(out.toString(StandardCharsets.UTF_8));
+    }
+    return snapshot;
+  }
+}
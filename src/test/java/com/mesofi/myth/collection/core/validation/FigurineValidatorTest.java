@@ -0,0 +1,240 @@
+package com.mesofi.myth.collection.core.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mesofi.myth.collection.core.model.Distribution;
+import com.mesofi.myth.collection.core.model.Figurine;
+import com.mesofi.myth.collection.core.model.Market;
+import com.mesofi.myth.collection.core.model.Money;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FigurineValidatorTest {
+
+  private final FigurineValidator validator = new FigurineValidator();
+
+  @Test
+  void acceptsAValidFigurine() {
+    Figurine figurine = figurine("Pegasus Seiya");
+    figurine.setDistribution(Market.JPY, distribution());
+    figurine.setTamashiiUrl("https://tamashiiweb.com/item/12004");
+
+    assertTrue(validator.validate(figurine).isEmpty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"Shun", "Pegasus Seiya", "Pegasus Seiya (God)"})
+  void acceptsBaseNamesOfThreeToTwentyCharacters(String baseName) {
+    assertTrue(validator.validate(figurine(baseName)).isEmpty());
+  }
+
+  @Test
+  void checksTheSizeOfTheBaseName() {
+    assertEquals(
+        List.of("baseName Size size must be between 3 and 20 Ab"),
+        describe(validator.validate(figurine("Ab"))));
+    assertEquals(
+        List.of("baseName Size size must be between 3 and 20 Pegasus Seiya (Final)"),
+        describe(validator.validate(figurine("Pegasus Seiya (Final)"))));
+  }
+
+  @Test
+  void rejectsABlankBaseName() {
+    assertEquals(
+        List.of("baseName NotBlank must not be blank null"),
+        describe(validator.validate(figurine(null))));
+    assertEquals(
+        List.of("baseName NotBlank must not be blank    "),
+        describe(validator.validate(figurine("   "))));
+    assertEquals(
+        List.of(
+            "baseName NotBlank must not be blank  ",
+            "baseName Size size must be between 3 and 20  "),
+        describe(validator.validate(figurine(" "))));
+  }
+
+  @Test
+  void checksTheSizeOfTheTamashiiUrl() {
+    Figurine figurine = figurine("Pegasus Seiya");
+    figurine.setTamashiiUrl("https://tamashiiweb.com/item/123456");
+    assertTrue(validator.validate(figurine).isEmpty());
+
+    figurine.setTamashiiUrl("https://tamashiiweb.com/item/1234567");
+
+    assertEquals(
+        List.of("tamashiiUrl Size size must be between 0 and 35 " + figurine.getTamashiiUrl()),
+        describe(validator.validate(figurine)));
+  }
+
+  @Test
+  void cascadesIntoTheDistributionsOfEveryMarket() {
+    Figurine figurine = figurine("Pegasus Seiya");
+    figurine.setDistribution(Market.JPY, new Distribution());
+    Distribution mxn = distribution();
+    mxn.setReleaseDate(null);
+    figurine.setDistribution(Market.MXN, mxn);
+
+    List<Violation> violations = validator.validate(figurine);
+
+    assertEquals(
+        List.of(
+            "distributions[JPY].basePrice NotNull must not be null null",
+            "distributions[JPY].preOrderDate NotNull must not be null null",
+            "distributions[JPY].releaseDate NotNull must not be null null",
+            "distributions[JPY].releaseDateConfirmed NotNull must not be null null",
+            "distributions[MXN].releaseDate NotNull must not be null null"),
+        describe(violations));
+  }
+
+  @Test
+  void readsTheMoneyOfThePriceRatherThanItsDecimalView() {
+    Figurine figurine = figurine("Pegasus Seiya");
+    Distribution distribution = distribution();
+    figurine.setDistribution(Market.JPY, distribution);
+    assertTrue(validator.validate(figurine).isEmpty());
+
+    distribution.setBaseMoney(null);
+
+    assertEquals(
+        List.of("distributions[JPY].basePrice NotNull must not be null null"),
+        describe(validator.validate(figurine)));
+  }
+
+  @Test
+  void ignoresConstraintsOfOtherGroupsAndCascadesIntoCollections() {
+    FigurineValidator extended = new FigurineValidator(ExtendedFigurine.class);
+    ExtendedFigurine figurine = new ExtendedFigurine();
+    figurine.setBaseName("Pegasus Seiya");
+    figurine.extras.add(distribution());
+    figurine.extras.add(null);
+    Distribution unreleased = distribution();
+    unreleased.setReleaseDate(null);
+    figurine.extras.add(unreleased);
+
+    assertEquals(
+        List.of("extras[2].releaseDate NotNull must not be null null"),
+        describe(extended.validate(figurine)));
+
+    figurine.extras.clear();
+
+    assertEquals(
+        List.of("extras NotEmpty must not be empty []"), describe(extended.validate(figurine)));
+  }
+
+  @Test
+  void rejectsUnsupportedConstraints() {
+    IllegalArgumentException unsupported =
+        assertThrows(
+            IllegalArgumentException.class, () -> new FigurineValidator(PatternFigurine.class));
+    assertEquals(
+        "Unsupported constraint @Pattern on PatternFigurine.code", unsupported.getMessage());
+
+    IllegalArgumentException misplaced =
+        assertThrows(
+            IllegalArgumentException.class, () -> new FigurineValidator(SizedFigurine.class));
+    assertEquals("Constraint @Size does not apply to SizedFigurine.count", misplaced.getMessage());
+  }
+
+  @Test
+  void reportsOnlyTheInvalidFigurinesOfABatchInOrder() {
+    Random random = new Random(16);
+    for (int size :
+        new int[] {
+          0, 1, FigurineValidator.BATCH_THRESHOLD, FigurineValidator.BATCH_THRESHOLD + 1, 5_000
+        }) {
+      List<Figurine> figurines = new ArrayList<>(size);
+      List<Integer> invalid = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        boolean valid = random.nextInt(5) > 0;
+        figurines.add(figurine(valid ? "Pegasus Seiya " + (i % 100) : "No"));
+        if (!valid) {
+          invalid.add(i);
+        }
+      }
+
+      List<ValidationResult> common = validator.validateAll(figurines);
+      List<ValidationResult> forked;
+      try (ForkJoinPool pool = new ForkJoinPool(4)) {
+        forked = validator.validateAll(figurines, pool);
+      }
+
+      for (List<ValidationResult> results : List.of(common, forked)) {
+        assertEquals(invalid, results.stream().map(ValidationResult::getRow).toList());
+        for (ValidationResult result : results) {
+          assertSame(figurines.get(result.getRow()), result.getFigurine());
+          assertEquals(
+              describe(validator.validate(result.getFigurine())), describe(result.getViolations()));
+        }
+      }
+    }
+  }
+
+  private static Figurine figurine(String baseName) {
+    Figurine figurine = new Figurine();
+    figurine.setBaseName(baseName);
+    return figurine;
+  }
+
+  private static Distribution distribution() {
+    Distribution distribution = new Distribution();
+    distribution.setBaseMoney(Money.parse("¥12,100", Market.JPY));
+    distribution.setPreOrderDate(LocalDate.of(2024, 1, 15));
+    distribution.setReleaseDate(LocalDate.of(2024, 7, 7));
+    distribution.setReleaseDateConfirmed(true);
+    return distribution;
+  }
+
+  private static List<String> describe(List<Violation> violations) {
+    return violations.stream()
+        .map(
+            violation ->
+                violation.getPath()
+                    + " "
+                    + violation.getConstraint()
+                    + " "
+                    + violation.getMessage()
+                    + " "
+                    + violation.getInvalidValue())
+        .toList();
+  }
+
+  /** A constraint group other than the default one. */
+  private interface Extended {}
+
+  /** A figurine with constraints of another group and a cascaded collection. */
+  private static final class ExtendedFigurine extends Figurine {
+
+    @NotNull(groups = Extended.class)
+    private String extra;
+
+    @Valid @NotEmpty private final List<Distribution> extras = new ArrayList<>();
+  }
+
+  /** A figurine with a constraint the validator does not support. */
+  private static final class PatternFigurine extends Figurine {
+
+    @Pattern(regexp = "[A-Z]+")
+    private String code;
+  }
+
+  /** A figurine with a supported constraint on a property it does not apply to. */
+  private static final class SizedFigurine extends Figurine {
+
+    @Size(max = 3)
+    private Integer count;
+  }
+}